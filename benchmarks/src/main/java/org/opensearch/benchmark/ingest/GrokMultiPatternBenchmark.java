@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.ingest;
+
+import org.opensearch.grok.Grok;
+import org.opensearch.grok.MatcherWatchdog;
+import org.opensearch.grok.MultiPatternGrok;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares, in lines per second, matching log lines against a grok processor's list of patterns as a single
+ * alternation with matching them through {@link MultiPatternGrok}, which prefilters the patterns on their required
+ * literals. The corpus mixes access, syslog and application log lines, a share of which no pattern matches.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class GrokMultiPatternBenchmark {
+
+    private static final int NUM_LINES = 1000;
+    private static final String[] SERVICES = {
+        "auth",
+        "billing",
+        "catalog",
+        "checkout",
+        "gateway",
+        "indexer",
+        "inventory",
+        "mailer",
+        "notifier",
+        "orders",
+        "payments",
+        "profile",
+        "recommend",
+        "reports",
+        "scheduler",
+        "search",
+        "session",
+        "shipping",
+        "storage",
+        "users" };
+
+    /**
+     * Percentage of lines that no pattern matches.
+     */
+    @Param({ "0", "25", "75" })
+    public int missPercentage;
+
+    private Grok alternation;
+    private MultiPatternGrok multiPatternGrok;
+    private String[] lines;
+
+    @Setup
+    public void setUp() {
+        List<String> patterns = new ArrayList<>();
+        patterns.add("%{IPORHOST:client} %{USER:ident} %{USER:auth} \\[%{HTTPDATE:timestamp}\\] \"%{WORD:verb} %{NOTSPACE:request}\"");
+        patterns.add("%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} sshd\\[%{POSINT:pid}\\]: %{GREEDYDATA:message}");
+        patterns.add("%{SYSLOGTIMESTAMP:timestamp} %{SYSLOGHOST:host} CRON\\[%{POSINT:pid}\\]: %{GREEDYDATA:message}");
+        for (int i = 0; i < SERVICES.length - 3; i++) {
+            patterns.add(
+                "%{TIMESTAMP_ISO8601:timestamp} %{LOGLEVEL:level} \\[service=" + SERVICES[i] + "\\] %{GREEDYDATA:message}"
+            );
+        }
+
+        alternation = new Grok(Grok.BUILTIN_PATTERNS, "(?:" + String.join(")|(?:", patterns) + ")", MatcherWatchdog.noop(), s -> {});
+        multiPatternGrok = new MultiPatternGrok(Grok.BUILTIN_PATTERNS, patterns, MatcherWatchdog.noop(), s -> {}, false);
+
+        Random random = new Random(42);
+        lines = new String[NUM_LINES];
+        for (int i = 0; i < NUM_LINES; i++) {
+            boolean miss = random.nextInt(100) < missPercentage;
+            lines[i] = miss ? missingLine(random) : matchingLine(random);
+        }
+    }
+
+    private static String matchingLine(Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> String.format(
+                Locale.ROOT,
+                "10.0.%d.%d - - [12/Jun/2024:10:%02d:%02d +0000] \"GET /api/items/%d\"",
+                random.nextInt(256),
+                random.nextInt(256),
+                random.nextInt(60),
+                random.nextInt(60),
+                random.nextInt(100000)
+            );
+            case 1 -> String.format(
+                Locale.ROOT,
+                "Jun 12 10:%02d:%02d web-%d sshd[%d]: Accepted publickey for deploy",
+                random.nextInt(60),
+                random.nextInt(60),
+                random.nextInt(10),
+                random.nextInt(65536)
+            );
+            default -> String.format(
+                Locale.ROOT,
+                "2024-06-12T10:%02d:%02d.%03dZ INFO [service=%s] request completed in %d ms",
+                random.nextInt(60),
+                random.nextInt(60),
+                random.nextInt(1000),
+                SERVICES[random.nextInt(SERVICES.length - 3)],
+                random.nextInt(500)
+            );
+        };
+    }
+
+    private static String missingLine(Random random) {
+        // lines of services and daemons that the patterns don't cover
+        return random.nextBoolean()
+            ? String.format(
+                Locale.ROOT,
+                "2024-06-12T10:%02d:%02d.%03dZ WARN [service=%s] queue depth %d above threshold",
+                random.nextInt(60),
+                random.nextInt(60),
+                random.nextInt(1000),
+                SERVICES[SERVICES.length - 1 - random.nextInt(3)],
+                random.nextInt(10000)
+            )
+            : String.format(
+                Locale.ROOT,
+                "Jun 12 10:%02d:%02d web-%d kernel: [%d.%06d] eth0: link up",
+                random.nextInt(60),
+                random.nextInt(60),
+                random.nextInt(10),
+                random.nextInt(100000),
+                random.nextInt(1000000)
+            );
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_LINES)
+    public void alternation(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(alternation.captures(line));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_LINES)
+    public void multiPattern(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(multiPatternGrok.match(line));
+        }
+    }
+}
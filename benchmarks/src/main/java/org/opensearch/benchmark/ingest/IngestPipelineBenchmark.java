@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.ingest;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.grok.Grok;
+import org.opensearch.grok.MatcherWatchdog;
+import org.opensearch.ingest.CompoundProcessor;
+import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
+import org.opensearch.ingest.Pipeline;
+import org.opensearch.ingest.Processor;
+import org.opensearch.ingest.common.ConvertProcessor;
+import org.opensearch.ingest.common.DateProcessor;
+import org.opensearch.ingest.common.GrokProcessor;
+import org.opensearch.ingest.common.RemoveProcessor;
+import org.opensearch.script.ScriptService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput, in documents per second, of a typical log parsing pipeline
+ * ({@code grok -> date -> convert -> remove}) executed one document at a time and in batches.
+ */
+@Fork(2)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class IngestPipelineBenchmark {
+
+    private static final int NUM_DOCS = 1000;
+
+    private Pipeline pipeline;
+    private String[] messages;
+
+    @Setup
+    public void setUp() throws Exception {
+        ScriptService scriptService = new ScriptService(Settings.EMPTY, Collections.emptyMap(), Collections.emptyMap());
+        Map<String, Processor.Factory> registry = Collections.emptyMap();
+
+        Map<String, Object> grokConfig = new HashMap<>();
+        grokConfig.put("field", "message");
+        grokConfig.put("patterns", List.of("%{IPORHOST:client} %{WORD:method} %{URIPATHPARAM:path} %{NUMBER:bytes} %{HTTPDATE:time}"));
+        Processor grok = new GrokProcessor.Factory(Grok.BUILTIN_PATTERNS, MatcherWatchdog.noop()).create(registry, null, null, grokConfig);
+
+        Map<String, Object> dateConfig = new HashMap<>();
+        dateConfig.put("field", "time");
+        dateConfig.put("formats", List.of("dd/MMM/yyyy:HH:mm:ss Z"));
+        dateConfig.put("timezone", "UTC");
+        dateConfig.put("locale", "en");
+        Processor date = new DateProcessor.Factory(scriptService).create(registry, null, null, dateConfig);
+
+        Map<String, Object> convertConfig = new HashMap<>();
+        convertConfig.put("field", "bytes");
+        convertConfig.put("type", "long");
+        Processor convert = new ConvertProcessor.Factory().create(registry, null, null, convertConfig);
+
+        Map<String, Object> removeConfig = new HashMap<>();
+        removeConfig.put("field", List.of("message", "time"));
+        Processor remove = new RemoveProcessor.Factory(scriptService).create(registry, null, null, removeConfig);
+
+        pipeline = new Pipeline("logs", null, null, new CompoundProcessor(grok, date, convert, remove));
+
+        messages = new String[NUM_DOCS];
+        for (int i = 0; i < NUM_DOCS; i++) {
+            messages[i] = String.format(
+                Locale.ROOT,
+                "10.0.%d.%d GET /index.html?page=%d %d %02d/Jun/2024:%02d:%02d:%02d +0000",
+                i / 256 % 256,
+                i % 256,
+                i,
+                1000 + i,
+                1 + i % 28,
+                i % 24,
+                i % 60,
+                (i * 7) % 60
+            );
+        }
+    }
+
+    private IngestDocument newDocument(int i) {
+        Map<String, Object> source = new HashMap<>();
+        source.put("message", messages[i]);
+        return new IngestDocument("logs", String.valueOf(i), null, null, null, source);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_DOCS)
+    public void executePerDocument(Blackhole blackhole) {
+        for (int i = 0; i < NUM_DOCS; i++) {
+            pipeline.execute(newDocument(i), (result, e) -> {
+                if (e != null) {
+                    throw new AssertionError(e);
+                }
+                blackhole.consume(result);
+            });
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_DOCS)
+    public void executeInBatch(Blackhole blackhole) {
+        List<IngestDocumentWrapper> batch = new ArrayList<>(NUM_DOCS);
+        for (int i = 0; i < NUM_DOCS; i++) {
+            batch.add(new IngestDocumentWrapper(i, 0, newDocument(i), null));
+        }
+        pipeline.batchExecute(batch, results -> {
+            for (IngestDocumentWrapper result : results) {
+                if (result.getException() != null) {
+                    throw new AssertionError(result.getException());
+                }
+            }
+            blackhole.consume(results);
+        });
+    }
+}
@@ -129,7 +129,10 @@ public class AllocationBenchmark {
 
         "       50|      60|       1|     100|    100|      6|",
         "       50|      60|       1|     100|     40|      6|",
-        "       50|      60|       1|      40|    100|      6|" })
+        "       50|      60|       1|      40|    100|      6|",
+
+        "      1000|     25|       1|     100|    100|     12|",
+        "      5000|      5|       1|     100|    100|     12|" })
     public String indicesShardsReplicasSourceTargetRecoveries = "10|1|0|1|1|1";
 
     public int numTags = 2;
@@ -261,6 +264,12 @@ public class AllocationBenchmark {
         return clusterState;
     }
 
+    @Benchmark
+    public ClusterState measureBalancedReroute() throws Exception {
+        // a reroute on a cluster that is balanced already, as triggered by every cluster state update that changes shard routing
+        return initialClusterStrategy.reroute(initialClusterState, "reroute");
+    }
+
     private DiscoveryNodes.Builder setUpClusterNodes(int sourceNodes, int targetNodes) {
         DiscoveryNodes.Builder nb = DiscoveryNodes.builder();
         for (int i = 1; i <= sourceNodes; i++) {
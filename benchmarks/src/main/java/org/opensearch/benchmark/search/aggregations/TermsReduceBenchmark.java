@@ -56,6 +56,8 @@ import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.aggregations.bucket.terms.InternalTerms;
+import org.opensearch.search.aggregations.bucket.terms.LongTerms;
 import org.opensearch.search.aggregations.bucket.terms.StringTerms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregator;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
@@ -76,6 +78,7 @@ import org.openjdk.jmh.annotations.Warmup;
 import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
@@ -87,6 +90,10 @@ import java.util.concurrent.TimeUnit;
 
 import static java.util.Collections.emptyList;
 
+/**
+ * Measures the coordinator side reduction of a terms aggregation with a nested terms aggregation, for string and long terms
+ * and for various numbers of shards. Run with {@code -prof gc} to also report the allocation per reduction.
+ */
 @Warmup(iterations = 5)
 @Measurement(iterations = 7)
 @BenchmarkMode(Mode.AverageTime)
@@ -134,6 +141,9 @@ public class TermsReduceBenchmark {
         @Param({ "1", "10", "100" })
         int cardinalityFactor;
 
+        @Param({ "string", "long" })
+        String termsType;
+
         List<InternalAggregations> aggsList;
 
         @Setup
@@ -141,32 +151,60 @@ public class TermsReduceBenchmark {
             this.aggsList = new ArrayList<>();
             Random rand = new Random(seed);
             int cardinality = cardinalityFactor * topNSize;
-            BytesRef[] dict = new BytesRef[cardinality];
+            long[] dict = new long[cardinality];
             for (int i = 0; i < dict.length; i++) {
-                dict[i] = new BytesRef(Long.toString(rand.nextLong()));
+                dict[i] = rand.nextLong();
             }
             for (int i = 0; i < numShards; i++) {
                 aggsList.add(InternalAggregations.from(Collections.singletonList(newTerms(rand, dict, true))));
             }
         }
 
-        private StringTerms newTerms(Random rand, BytesRef[] dict, boolean withNested) {
-            Set<BytesRef> randomTerms = new HashSet<>();
+        private InternalTerms<?, ?> newTerms(Random rand, long[] dict, boolean withNested) {
+            Set<Long> randomTerms = new HashSet<>();
             for (int i = 0; i < topNSize; i++) {
                 randomTerms.add(dict[rand.nextInt(dict.length)]);
             }
-            List<StringTerms.Bucket> buckets = new ArrayList<>();
-            for (BytesRef term : randomTerms) {
-                InternalAggregations subAggs;
+            List<Long> sortedTerms = new ArrayList<>(randomTerms);
+            // shards return their buckets sorted by key
+            Comparator<Long> keyOrder = Long::compare;
+            if ("long".equals(termsType) == false) {
+                keyOrder = (a, b) -> toBytesRef(a).compareTo(toBytesRef(b));
+            }
+            sortedTerms.sort(keyOrder);
+            List<InternalAggregations> subAggs = new ArrayList<>(sortedTerms.size());
+            for (int i = 0; i < sortedTerms.size(); i++) {
                 if (withNested) {
-                    subAggs = InternalAggregations.from(Collections.singletonList(newTerms(rand, dict, false)));
+                    subAggs.add(InternalAggregations.from(Collections.singletonList(newTerms(rand, dict, false))));
                 } else {
-                    subAggs = InternalAggregations.EMPTY;
+                    subAggs.add(InternalAggregations.EMPTY);
                 }
-                buckets.add(new StringTerms.Bucket(term, rand.nextInt(10000), subAggs, true, 0L, DocValueFormat.RAW));
             }
-
-            Collections.sort(buckets, (a, b) -> a.compareKey(b));
+            if ("long".equals(termsType)) {
+                List<LongTerms.Bucket> buckets = new ArrayList<>(sortedTerms.size());
+                for (int i = 0; i < sortedTerms.size(); i++) {
+                    long term = sortedTerms.get(i);
+                    buckets.add(new LongTerms.Bucket(term, rand.nextInt(10000), subAggs.get(i), true, 0L, DocValueFormat.RAW));
+                }
+                return new LongTerms(
+                    "terms",
+                    BucketOrder.key(true),
+                    BucketOrder.count(false),
+                    Collections.emptyMap(),
+                    DocValueFormat.RAW,
+                    numShards,
+                    true,
+                    0,
+                    buckets,
+                    0,
+                    new TermsAggregator.BucketCountThresholds(1, 0, topNSize, numShards)
+                );
+            }
+            List<StringTerms.Bucket> buckets = new ArrayList<>(sortedTerms.size());
+            for (int i = 0; i < sortedTerms.size(); i++) {
+                BytesRef term = toBytesRef(sortedTerms.get(i));
+                buckets.add(new StringTerms.Bucket(term, rand.nextInt(10000), subAggs.get(i), true, 0L, DocValueFormat.RAW));
+            }
             return new StringTerms(
                 "terms",
                 BucketOrder.key(true),
@@ -182,6 +220,10 @@ public class TermsReduceBenchmark {
             );
         }
 
+        private static BytesRef toBytesRef(long term) {
+            return new BytesRef(Long.toString(term));
+        }
+
         @Override
         public InternalAggregations get(int index) {
             return aggsList.get(index);
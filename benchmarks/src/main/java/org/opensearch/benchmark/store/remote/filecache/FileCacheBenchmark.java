@@ -12,6 +12,8 @@ import org.apache.lucene.store.IndexInput;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -34,7 +36,8 @@ import java.util.concurrent.TimeUnit;
 /**
  * Simple benchmark test of {@link FileCache}. It uses a uniform random distribution
  * of keys, which is very simple but unlikely to be representative of any real life
- * workload.
+ * workload. {@link #scan} mixes lookups of a small hot set with a scan over files that
+ * are read only once, and reports the hit count on the hot set per eviction policy.
  */
 @Warmup(iterations = 1)
 @Measurement(iterations = 1)
@@ -67,6 +70,29 @@ public class FileCacheBenchmark {
         parameters.fileCache.remove(randomKeyInCache(parameters));
     }
 
+    @Benchmark
+    public void scan(CacheParameters parameters, ScanCounters counters, Blackhole blackhole) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Path key;
+        if (random.nextInt(100) < parameters.scanPercentage) {
+            // a file that was never seen before and will never be read again
+            key = Paths.get("scan-" + random.nextLong(Long.MAX_VALUE));
+            blackhole.consume(parameters.fileCache.put(key, INDEX_INPUT));
+        } else {
+            // the hot set is a tenth of the cache
+            key = Paths.get(Integer.toString(random.nextInt(parameters.maximumNumberOfEntries / 10)));
+            final CachedIndexInput indexInput = parameters.fileCache.get(key);
+            if (indexInput == null) {
+                counters.hotMisses++;
+                blackhole.consume(parameters.fileCache.put(key, INDEX_INPUT));
+            } else {
+                counters.hotHits++;
+                blackhole.consume(indexInput);
+            }
+        }
+        parameters.fileCache.decRef(key);
+    }
+
     private static Path randomKeyInCache(CacheParameters parameters) {
         int i = ThreadLocalRandom.current().nextInt(parameters.maximumNumberOfEntries);
         return Paths.get(Integer.toString(i));
@@ -85,13 +111,21 @@ public class FileCacheBenchmark {
         @Param({ "1", "8" })
         int concurrencyLevel;
 
+        @Param({ "lru", "w_tinylfu" })
+        String evictionPolicy;
+
+        /** percentage of the operations of {@link #scan} that read a file which is never read again */
+        @Param({ "50" })
+        int scanPercentage;
+
         FileCache fileCache;
 
         @Setup
         public void setup() {
-            fileCache = FileCacheFactory.createConcurrentLRUFileCache(
+            fileCache = FileCacheFactory.createConcurrentFileCache(
                 (long) maximumNumberOfEntries * INDEX_INPUT.length(),
-                concurrencyLevel
+                concurrencyLevel,
+                SegmentedCache.EvictionPolicy.fromString(evictionPolicy)
             );
             for (long i = 0; i < maximumNumberOfEntries; i++) {
                 final Path key = Paths.get(Long.toString(i));
@@ -101,6 +135,16 @@ public class FileCacheBenchmark {
         }
     }
 
+    /**
+     * Hits and misses on the hot set of {@link #scan}, reported as secondary results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ScanCounters {
+        public long hotHits;
+        public long hotMisses;
+    }
+
     /**
      * Stubbed out IndexInput that does nothing but report a fixed size
      */
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.reduce;
+
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.search.aggregations.metrics.CompensatedSum;
+import org.opensearch.search.startree.StarTreeQueryHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Compares reducing the metric values of matching star-tree entries one value at a time, the way star-tree metric
+ * aggregations used to, with reducing them in blocks of {@link StarTreeQueryHelper#METRIC_VALUES_BLOCK_SIZE} values.
+ */
+@Fork(value = 3)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.Throughput)
+public class BlockReducerBenchmark {
+
+    @Benchmark
+    public void sum(Blackhole bh, Options opts) {
+        if (opts.reducer == null) {
+            CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+            forEachValue(opts, value -> kahanSummation.add(NumericUtils.sortableLongToDouble(value)));
+            bh.consume(kahanSummation.value());
+        } else {
+            double[] sumAndDelta = new double[2];
+            for (int offset = 0; offset < opts.values.length; offset += opts.blockSize) {
+                opts.reducer.sumSortableDoubles(block(opts, offset), opts.blockSize, sumAndDelta);
+            }
+            bh.consume(sumAndDelta[0]);
+        }
+    }
+
+    @Benchmark
+    public void max(Blackhole bh, Options opts) {
+        double[] max = new double[] { Double.NEGATIVE_INFINITY };
+        if (opts.reducer == null) {
+            forEachValue(opts, value -> max[0] = Math.max(max[0], NumericUtils.sortableLongToDouble(value)));
+        } else {
+            for (int offset = 0; offset < opts.values.length; offset += opts.blockSize) {
+                max[0] = Math.max(max[0], opts.reducer.maxSortableDoubles(block(opts, offset), opts.blockSize));
+            }
+        }
+        bh.consume(max[0]);
+    }
+
+    @Benchmark
+    public void valueCount(Blackhole bh, Options opts) {
+        long[] count = new long[1];
+        if (opts.reducer == null) {
+            forEachValue(opts, value -> count[0] += value);
+        } else {
+            for (int offset = 0; offset < opts.values.length; offset += opts.blockSize) {
+                count[0] += opts.reducer.sum(block(opts, offset), opts.blockSize);
+            }
+        }
+        bh.consume(count[0]);
+    }
+
+    private static void forEachValue(Options opts, Consumer<Long> valueConsumer) {
+        for (long value : opts.values) {
+            valueConsumer.accept(value);
+        }
+    }
+
+    /**
+     * Copies the block the way the star-tree values iterator fills it, so that both modes pay for reading every value.
+     */
+    private static long[] block(Options opts, int offset) {
+        System.arraycopy(opts.values, offset, opts.block, 0, opts.blockSize);
+        return opts.block;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Options {
+        @Param({ "per_value", "scalar", "vectorized" })
+        public String type;
+
+        @Param({ "1024", "65536", "1048576" })
+        public Integer matchingEntries;
+
+        long[] values;
+        long[] block;
+        int blockSize;
+        BlockReducer reducer;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(matchingEntries);
+            values = new long[matchingEntries];
+            for (int i = 0; i < matchingEntries; i++) {
+                values[i] = NumericUtils.doubleToSortableLong(random.nextDouble() * 1000);
+            }
+            blockSize = Math.min(StarTreeQueryHelper.METRIC_VALUES_BLOCK_SIZE, matchingEntries);
+            block = new long[blockSize];
+            switch (type) {
+                case "per_value":
+                    reducer = null;
+                    break;
+                case "scalar":
+                    reducer = ScalarBlockReducer.INSTANCE;
+                    break;
+                case "vectorized":
+                    reducer = VectorizedBlockReducer.INSTANCE;
+                    break;
+                default:
+                    throw new IllegalArgumentException("invalid type: " + type);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.breaker.CircuitBreaker;
+
+import java.util.function.Supplier;
+
+/**
+ * Supplies the {@link BigArrays} that hash table benchmarks allocate their arrays from, depending on where their pages live.
+ */
+public class BigArraysSupplier implements Supplier<BigArrays> {
+    private final BigArrays bigArrays;
+
+    BigArraysSupplier(String pages) {
+        switch (pages) {
+            case "non_recycling":
+                bigArrays = BigArrays.NON_RECYCLING_INSTANCE;
+                break;
+            case "heap":
+                bigArrays = new BigArrays(new PageCacheRecycler(Settings.EMPTY), null, CircuitBreaker.REQUEST);
+                break;
+            case "off_heap":
+                bigArrays = new BigArrays(
+                    new PageCacheRecycler(Settings.builder().put(PageCacheRecycler.LIMIT_OFF_HEAP_SETTING.getKey(), "2gb").build()),
+                    null,
+                    CircuitBreaker.REQUEST
+                );
+                break;
+            default:
+                throw new IllegalArgumentException("invalid pages: " + pages);
+        }
+    }
+
+    @Override
+    public BigArrays get() {
+        return bigArrays;
+    }
+}
@@ -57,10 +57,15 @@ public class LongHashBenchmark {
         @Param({ "0.6" })
         public float loadFactor;
 
+        @Param({ "non_recycling", "heap", "off_heap" })
+        public String pages;
+
         private Supplier<HashTable> supplier;
+        private BigArrays bigArrays;
 
         @Setup
         public void setup() {
+            bigArrays = new BigArraysSupplier(pages).get();
             switch (type) {
                 case "LongHash":
                     supplier = this::newLongHash;
@@ -79,7 +84,7 @@ public class LongHashBenchmark {
 
         private HashTable newLongHash() {
             return new HashTable() {
-                private final LongHash table = new LongHash(initialCapacity, loadFactor, BigArrays.NON_RECYCLING_INSTANCE);
+                private final LongHash table = new LongHash(initialCapacity, loadFactor, bigArrays);
 
                 @Override
                 public long add(long key) {
@@ -95,11 +100,7 @@ public class LongHashBenchmark {
 
         private HashTable newReorganizingLongHash() {
             return new HashTable() {
-                private final ReorganizingLongHash table = new ReorganizingLongHash(
-                    initialCapacity,
-                    loadFactor,
-                    BigArrays.NON_RECYCLING_INSTANCE
-                );
+                private final ReorganizingLongHash table = new ReorganizingLongHash(initialCapacity, loadFactor, bigArrays);
 
                 @Override
                 public long add(long key) {
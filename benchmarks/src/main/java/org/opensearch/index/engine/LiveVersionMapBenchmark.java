@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time it takes for {@code threads} concurrent writers to each apply {@code opsPerThread} index operations with
+ * explicit ids to a {@link LiveVersionMap}, the same way {@code InternalEngine#index} does: acquire the uid lock, look up the
+ * current version and put the new one. {@code stripes = 0} is the per-uid {@link org.opensearch.common.util.concurrent.KeyedLock}
+ * and any other value uses a {@link org.opensearch.common.util.concurrent.StripedLock} with that many stripes.
+ */
+@Fork(value = 1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LiveVersionMapBenchmark {
+
+    @Param({ "0", "64", "1024" })
+    public int stripes;
+
+    @Param({ "1", "4", "16", "64" })
+    public int threads;
+
+    @Param({ "100000" })
+    public int numIds;
+
+    @Param({ "10000" })
+    public int opsPerThread;
+
+    private BytesRef[] uids;
+    private int[][] workload;
+    private ExecutorService executor;
+    private LiveVersionMap versionMap;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(0);
+        uids = new BytesRef[numIds];
+        for (int i = 0; i < numIds; i++) {
+            uids[i] = new BytesRef(("doc-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        workload = new int[threads][opsPerThread];
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < opsPerThread; i++) {
+                workload[t][i] = random.nextInt(numIds);
+            }
+        }
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @Setup(Level.Iteration)
+    public void setupMap() {
+        versionMap = new LiveVersionMap(stripes);
+        versionMap.enforceSafeAccess();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long index() throws Exception {
+        final List<Future<Long>> futures = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            final int[] ids = workload[t];
+            futures.add(executor.submit(() -> {
+                long seqNo = 0;
+                for (int id : ids) {
+                    final BytesRef uid = uids[id];
+                    try (Releasable ignored = versionMap.acquireLock(uid)) {
+                        final VersionValue current = versionMap.getUnderLock(uid);
+                        final long version = current == null ? 1 : current.version + 1;
+                        versionMap.putIndexUnderLock(uid, new IndexVersionValue(null, version, seqNo++, 1));
+                    }
+                }
+                return seqNo;
+            }));
+        }
+        long total = 0;
+        for (Future<Long> future : futures) {
+            total += future.get();
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long indexWithRefresh() throws Exception {
+        // same as index() but with a concurrent refresh cycle swapping the maps underneath the writers
+        final Future<?> refresher = executor.submit(() -> {
+            try {
+                versionMap.beforeRefresh();
+                versionMap.afterRefresh(true);
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+        final long total = index();
+        refresher.get();
+        return total;
+    }
+}
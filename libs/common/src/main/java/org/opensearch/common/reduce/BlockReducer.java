@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.reduce;
+
+import org.opensearch.common.annotation.InternalApi;
+
+/**
+ * Reduces a block of values, read from the first {@code size} elements of an array, to a single value.
+ * <p>
+ * The "sortable doubles" variants expect doubles that are encoded as sortable longs (see Lucene's
+ * {@code NumericUtils#doubleToSortableLong}), which is how numeric doc values store them, so that callers can hand
+ * over the raw doc values without decoding them first.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+public interface BlockReducer {
+
+    /**
+     * Returns the sum of the values, overflowing silently like {@code +} does.
+     */
+    long sum(long[] values, int size);
+
+    /**
+     * Adds the decoded values to the compensated (Kahan) sum held by {@code sumAndDelta}, whose first element is the sum and
+     * second element the correction term, with the semantics of the server's {@code CompensatedSum}. The running sum and its
+     * correction term carry over from one block to the next, so reducing values in blocks is as precise as adding them one
+     * at a time. If any value is infinite or NaN, the sum becomes infinite or NaN like a plain sum would.
+     */
+    void sumSortableDoubles(long[] values, int size, double[] sumAndDelta);
+
+    /**
+     * Returns the minimum of the decoded values with the semantics of {@link Math#min(double, double)}, or
+     * {@link Double#POSITIVE_INFINITY} if the block is empty.
+     */
+    double minSortableDoubles(long[] values, int size);
+
+    /**
+     * Returns the maximum of the decoded values with the semantics of {@link Math#max(double, double)}, or
+     * {@link Double#NEGATIVE_INFINITY} if the block is empty.
+     */
+    double maxSortableDoubles(long[] values, int size);
+}
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.reduce;
+
+import org.opensearch.common.annotation.InternalApi;
+
+/**
+ * Factory class to return the fastest implementation of {@link BlockReducer}.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+public final class BlockReducerFactory {
+    /**
+     * Indicates whether the vectorized (SIMD) implementation is to be used.
+     * It is true when either:
+     * 1. The feature flag is set to "forced", or
+     * 2. The platform has a minimum of 4 long vector lanes and the feature flag is set to "true".
+     */
+    private static final boolean USE_VECTORIZED_REDUCER;
+
+    /**
+     * This class is initialized only when:
+     *  - JDK-20+
+     *  - jdk.incubator.vector.LongVector is available (--add-modules=jdk.incubator.vector is passed)
+     */
+    private static final class VectorCheck {
+        final static int SPECIES_PREFERRED = jdk.incubator.vector.LongVector.SPECIES_PREFERRED.length();
+    }
+
+    static {
+        String simdAggregationFeatureFlag = System.getProperty("opensearch.experimental.feature.simd.aggregation.enabled");
+        boolean useVectorizedReducer = false;
+
+        try {
+            final Class<?> incubator = Class.forName("jdk.incubator.vector.LongVector");
+
+            useVectorizedReducer = "forced".equalsIgnoreCase(simdAggregationFeatureFlag)
+                || (VectorCheck.SPECIES_PREFERRED >= 4 && "true".equalsIgnoreCase(simdAggregationFeatureFlag));
+
+        } catch (final ClassNotFoundException ex) {
+            /* do not use VectorizedBlockReducer */
+        }
+
+        USE_VECTORIZED_REDUCER = useVectorizedReducer;
+    }
+
+    private BlockReducerFactory() {}
+
+    /**
+     * Returns the fastest implementation of {@link BlockReducer}.
+     */
+    public static BlockReducer get() {
+        return USE_VECTORIZED_REDUCER ? VectorizedBlockReducer.INSTANCE : ScalarBlockReducer.INSTANCE;
+    }
+}
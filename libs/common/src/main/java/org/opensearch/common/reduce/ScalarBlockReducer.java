@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.reduce;
+
+import org.opensearch.common.annotation.InternalApi;
+
+/**
+ * It reduces the values one at a time.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+final class ScalarBlockReducer implements BlockReducer {
+
+    static final ScalarBlockReducer INSTANCE = new ScalarBlockReducer();
+
+    private ScalarBlockReducer() {}
+
+    @Override
+    public long sum(long[] values, int size) {
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public void sumSortableDoubles(long[] values, int size, double[] sumAndDelta) {
+        double sum = sumAndDelta[0];
+        double delta = sumAndDelta[1];
+        for (int i = 0; i < size; i++) {
+            double value = decode(values[i]);
+            if (Double.isFinite(value) == false) {
+                sum = value + sum;
+            } else if (Double.isFinite(sum)) {
+                double corrected = value + delta;
+                double updated = sum + corrected;
+                delta = corrected - (updated - sum);
+                sum = updated;
+            }
+        }
+        sumAndDelta[0] = sum;
+        sumAndDelta[1] = delta;
+    }
+
+    @Override
+    public double minSortableDoubles(long[] values, int size) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, decode(values[i]));
+        }
+        return min;
+    }
+
+    @Override
+    public double maxSortableDoubles(long[] values, int size) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, decode(values[i]));
+        }
+        return max;
+    }
+
+    static double plainSum(double sum, long[] values, int size) {
+        for (int i = 0; i < size; i++) {
+            sum += decode(values[i]);
+        }
+        return sum;
+    }
+
+    /**
+     * Same as Lucene's {@code NumericUtils#sortableLongToDouble}, which is not available to this library.
+     */
+    static double decode(long encoded) {
+        return Double.longBitsToDouble(encoded ^ (encoded >> 63) & 0x7fffffffffffffffL);
+    }
+}
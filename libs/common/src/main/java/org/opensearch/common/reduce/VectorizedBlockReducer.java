@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.reduce;
+
+import org.opensearch.common.annotation.InternalApi;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * It uses vector instructions to reduce as many values at a time as the platform has long vector lanes, and reduces
+ * the remaining tail one value at a time.
+ * <p>
+ * Sums are compensated per lane, so the result may differ from the one of {@link ScalarBlockReducer} in the last bits
+ * since the values are added in a different order.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+final class VectorizedBlockReducer implements BlockReducer {
+    private static final VectorSpecies<Long> LONG_VECTOR_SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final int LANES = LONG_VECTOR_SPECIES.length();
+
+    static final VectorizedBlockReducer INSTANCE = new VectorizedBlockReducer();
+
+    private VectorizedBlockReducer() {}
+
+    @Override
+    public long sum(long[] values, int size) {
+        int upperBound = LONG_VECTOR_SPECIES.loopBound(size);
+        LongVector sums = LongVector.zero(LONG_VECTOR_SPECIES);
+        int i = 0;
+        for (; i < upperBound; i += LANES) {
+            sums = sums.add(LongVector.fromArray(LONG_VECTOR_SPECIES, values, i));
+        }
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        for (; i < size; i++) {
+            sum += values[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public void sumSortableDoubles(long[] values, int size, double[] sumAndDelta) {
+        int upperBound = LONG_VECTOR_SPECIES.loopBound(size);
+        DoubleVector sums = decode(LongVector.zero(LONG_VECTOR_SPECIES));
+        DoubleVector compensations = sums;
+        int i = 0;
+        for (; i < upperBound; i += LANES) {
+            DoubleVector corrected = decode(LongVector.fromArray(LONG_VECTOR_SPECIES, values, i)).sub(compensations);
+            DoubleVector updated = sums.add(corrected);
+            compensations = updated.sub(sums).sub(corrected);
+            sums = updated;
+        }
+
+        // combine the lanes and the tail into the running compensated sum, the lane compensations are subtracted while the
+        // running correction term is added
+        final double initialSum = sumAndDelta[0];
+        double sum = initialSum;
+        double delta = sumAndDelta[1];
+        for (int lane = 0; lane < LANES; lane++) {
+            double corrected = sums.lane(lane) + (delta - compensations.lane(lane));
+            double updated = sum + corrected;
+            delta = corrected - (updated - sum);
+            sum = updated;
+        }
+        for (; i < size; i++) {
+            double corrected = ScalarBlockReducer.decode(values[i]) + delta;
+            double updated = sum + corrected;
+            delta = corrected - (updated - sum);
+            sum = updated;
+        }
+
+        if (Double.isFinite(sum)) {
+            sumAndDelta[0] = sum;
+            sumAndDelta[1] = delta;
+        } else {
+            // an infinite or NaN value turns the compensations into NaN, fall back to a plain sum to get the expected result
+            sumAndDelta[0] = ScalarBlockReducer.plainSum(initialSum, values, size);
+        }
+    }
+
+    @Override
+    public double minSortableDoubles(long[] values, int size) {
+        int upperBound = LONG_VECTOR_SPECIES.loopBound(size);
+        DoubleVector mins = DoubleVector.broadcast(DoubleVector.SPECIES_PREFERRED, Double.POSITIVE_INFINITY);
+        int i = 0;
+        for (; i < upperBound; i += LANES) {
+            mins = mins.min(decode(LongVector.fromArray(LONG_VECTOR_SPECIES, values, i)));
+        }
+        double min = Double.POSITIVE_INFINITY;
+        for (int lane = 0; lane < LANES; lane++) {
+            min = Math.min(min, mins.lane(lane));
+        }
+        for (; i < size; i++) {
+            min = Math.min(min, ScalarBlockReducer.decode(values[i]));
+        }
+        return min;
+    }
+
+    @Override
+    public double maxSortableDoubles(long[] values, int size) {
+        int upperBound = LONG_VECTOR_SPECIES.loopBound(size);
+        DoubleVector maxes = DoubleVector.broadcast(DoubleVector.SPECIES_PREFERRED, Double.NEGATIVE_INFINITY);
+        int i = 0;
+        for (; i < upperBound; i += LANES) {
+            maxes = maxes.max(decode(LongVector.fromArray(LONG_VECTOR_SPECIES, values, i)));
+        }
+        double max = Double.NEGATIVE_INFINITY;
+        for (int lane = 0; lane < LANES; lane++) {
+            max = Math.max(max, maxes.lane(lane));
+        }
+        for (; i < size; i++) {
+            max = Math.max(max, ScalarBlockReducer.decode(values[i]));
+        }
+        return max;
+    }
+
+    /**
+     * Vectorized form of {@link ScalarBlockReducer#decode(long)}.
+     */
+    private static DoubleVector decode(LongVector encoded) {
+        LongVector mask = encoded.lanewise(VectorOperators.ASHR, 63).lanewise(VectorOperators.AND, Long.MAX_VALUE);
+        return encoded.lanewise(VectorOperators.XOR, mask).reinterpretAsDoubles();
+    }
+}
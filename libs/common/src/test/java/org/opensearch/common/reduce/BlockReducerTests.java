@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.reduce;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class BlockReducerTests extends OpenSearchTestCase {
+
+    public void testFactory() {
+        boolean useVectorizedReducer = "forced".equalsIgnoreCase(
+            System.getProperty("opensearch.experimental.feature.simd.aggregation.enabled")
+        );
+        assertEquals(
+            useVectorizedReducer ? "VectorizedBlockReducer" : "ScalarBlockReducer",
+            BlockReducerFactory.get().getClass().getSimpleName()
+        );
+    }
+
+    public void testEmptyBlock() {
+        for (BlockReducer reducer : reducers()) {
+            long[] values = new long[randomIntBetween(0, 16)];
+            assertEquals(0, reducer.sum(values, 0));
+            assertEquals(0, sum(reducer, values, 0), 0);
+            assertEquals(Double.POSITIVE_INFINITY, reducer.minSortableDoubles(values, 0), 0);
+            assertEquals(Double.NEGATIVE_INFINITY, reducer.maxSortableDoubles(values, 0), 0);
+        }
+    }
+
+    public void testSum() {
+        for (BlockReducer reducer : reducers()) {
+            int size = randomIntBetween(1, 1024);
+            // values beyond the size must be ignored
+            long[] values = new long[size + randomIntBetween(0, 8)];
+            long expected = 0;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = randomLong();
+                if (i < size) {
+                    expected += values[i];
+                }
+            }
+            assertEquals(expected, reducer.sum(values, size));
+        }
+    }
+
+    public void testSortableDoubles() {
+        for (BlockReducer reducer : reducers()) {
+            int size = randomIntBetween(1, 1024);
+            long[] values = new long[size + randomIntBetween(0, 8)];
+            double sum = 0;
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < values.length; i++) {
+                double value = randomDoubleBetween(-1e6, 1e6, true);
+                values[i] = sortableLong(value);
+                if (i < size) {
+                    sum += value;
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+            assertEquals(sum, sum(reducer, values, size), 1e-6);
+            assertEquals(min, reducer.minSortableDoubles(values, size), 0);
+            assertEquals(max, reducer.maxSortableDoubles(values, size), 0);
+        }
+    }
+
+    public void testCompensatedSum() {
+        for (BlockReducer reducer : reducers()) {
+            // a plain sum loses the small values next to the large one
+            int size = 1 + 64 * randomIntBetween(1, 4);
+            long[] values = new long[size];
+            values[0] = sortableLong(1e16);
+            for (int i = 1; i < size; i++) {
+                values[i] = sortableLong(1.0);
+            }
+            assertEquals(1e16 + size - 1, sum(reducer, values, size), 0);
+        }
+    }
+
+    public void testCompensationCarriesOverBlocks() {
+        for (BlockReducer reducer : reducers()) {
+            // the first block leaves its low-order bits in the correction term, later blocks must build on it
+            double[] sumAndDelta = new double[2];
+            reducer.sumSortableDoubles(new long[] { sortableLong(1e16), sortableLong(1.0) }, 2, sumAndDelta);
+            int blocks = 2 * randomIntBetween(0, 50) + 1;
+            for (int i = 0; i < blocks; i++) {
+                reducer.sumSortableDoubles(new long[] { sortableLong(1.0) }, 1, sumAndDelta);
+            }
+            assertEquals(1e16 + blocks + 1, sumAndDelta[0], 0);
+        }
+    }
+
+    public void testBlocksSumLikeSingleValues() {
+        int size = randomIntBetween(1, 2048);
+        long[] values = new long[size];
+        double absSum = 0;
+        for (int i = 0; i < size; i++) {
+            double value = randomDoubleBetween(-1e12, 1e12, true) * (randomBoolean() ? 1e-6 : 1);
+            values[i] = sortableLong(value);
+            absSum += Math.abs(value);
+        }
+        double[] expected = new double[2];
+        for (int i = 0; i < size; i++) {
+            ScalarBlockReducer.INSTANCE.sumSortableDoubles(new long[] { values[i] }, 1, expected);
+        }
+        for (BlockReducer reducer : reducers()) {
+            double[] sumAndDelta = new double[2];
+            long[] block = new long[randomIntBetween(1, 128)];
+            for (int offset = 0; offset < size; offset += block.length) {
+                int blockSize = Math.min(block.length, size - offset);
+                System.arraycopy(values, offset, block, 0, blockSize);
+                reducer.sumSortableDoubles(block, blockSize, sumAndDelta);
+            }
+            if (reducer == ScalarBlockReducer.INSTANCE) {
+                // same additions in the same order
+                assertEquals(expected[0], sumAndDelta[0], 0);
+                assertEquals(expected[1], sumAndDelta[1], 0);
+            } else {
+                // the lanes add the values in a different order
+                assertEquals(expected[0], sumAndDelta[0], 4 * Math.ulp(absSum));
+            }
+        }
+    }
+
+    public void testNonFiniteValues() {
+        for (BlockReducer reducer : reducers()) {
+            int size = randomIntBetween(1, 64);
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = sortableLong(randomDouble());
+            }
+            values[randomIntBetween(0, size - 1)] = sortableLong(Double.POSITIVE_INFINITY);
+            assertEquals(Double.POSITIVE_INFINITY, sum(reducer, values, size), 0);
+            assertEquals(Double.POSITIVE_INFINITY, reducer.maxSortableDoubles(values, size), 0);
+
+            values[randomIntBetween(0, size - 1)] = sortableLong(Double.NaN);
+            assertTrue(Double.isNaN(sum(reducer, values, size)));
+            assertTrue(Double.isNaN(reducer.minSortableDoubles(values, size)));
+            assertTrue(Double.isNaN(reducer.maxSortableDoubles(values, size)));
+        }
+    }
+
+    public void testNegativeZero() {
+        for (BlockReducer reducer : reducers()) {
+            long[] values = new long[] { sortableLong(0.0), sortableLong(-0.0) };
+            assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(reducer.minSortableDoubles(values, 2)));
+            assertEquals(Double.doubleToLongBits(0.0), Double.doubleToLongBits(reducer.maxSortableDoubles(values, 2)));
+        }
+    }
+
+    private static double sum(BlockReducer reducer, long[] values, int size) {
+        double[] sumAndDelta = new double[2];
+        reducer.sumSortableDoubles(values, size, sumAndDelta);
+        return sumAndDelta[0];
+    }
+
+    private static BlockReducer[] reducers() {
+        return new BlockReducer[] { ScalarBlockReducer.INSTANCE, VectorizedBlockReducer.INSTANCE };
+    }
+
+    /**
+     * Same as Lucene's {@code NumericUtils#doubleToSortableLong}, which is not available to this library.
+     */
+    private static long sortableLong(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ (bits >> 63) & 0x7fffffffffffffffL;
+    }
+}
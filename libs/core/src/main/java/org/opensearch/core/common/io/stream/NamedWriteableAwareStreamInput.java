@@ -32,6 +32,8 @@
 
 package org.opensearch.core.common.io.stream;
 
+import org.opensearch.core.common.bytes.BytesReference;
+
 import java.io.IOException;
 
 /**
@@ -75,6 +77,11 @@ public class NamedWriteableAwareStreamInput extends FilterStreamInput {
         return c;
     }
 
+    @Override
+    public BytesReference readZeroCopyBytesReference(int length) throws IOException {
+        return delegate.readZeroCopyBytesReference(length);
+    }
+
     @Override
     public NamedWriteableRegistry namedWriteableRegistry() {
         return namedWriteableRegistry;
@@ -180,6 +180,23 @@ public abstract class StreamInput extends InputStream {
         return new BytesArray(bytes, 0, length);
     }
 
+    /**
+     * Reads a bytes reference like {@link #readBytesReference()}, but allows streams over transport messages to return a
+     * slice of the message instead of a copy. Such a slice stays valid until the response to the request it was read from
+     * is sent, so use this only for large payloads that are not held on to beyond that point.
+     */
+    public BytesReference readZeroCopyBytesReference() throws IOException {
+        int length = readArraySize();
+        return readZeroCopyBytesReference(length);
+    }
+
+    /**
+     * Reads a bytes reference of the given length, see {@link #readZeroCopyBytesReference()}. This implementation copies.
+     */
+    public BytesReference readZeroCopyBytesReference(int length) throws IOException {
+        return readBytesReference(length);
+    }
+
     public BytesRef readBytesRef() throws IOException {
         int length = readArraySize();
         return readBytesRef(length);
@@ -0,0 +1,395 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Selects which of a list of grok patterns can possibly match a text, without running any regular expression.
+ * <p>
+ * For every pattern, the longest run of literal characters that any match of the pattern must contain is extracted
+ * from the top level of the pattern. All these literals are then searched for at once in a single pass over the text
+ * with an Aho-Corasick automaton. A pattern whose literal doesn't occur in the text can't match it. Patterns for which
+ * no required literal can be proven, for instance because of a top level alternation or an inline option such as
+ * {@code (?i)}, are always candidates.
+ */
+public final class GrokPrefilter {
+
+    private final int patternCount;
+    private final String[] requiredLiterals;
+    private final BitSet alwaysCandidates;
+
+    // Aho-Corasick automaton, node 0 is the root
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<int[]> outputs = new ArrayList<>();
+    private int[] failureLinks;
+
+    private GrokPrefilter(List<String> grokPatterns) {
+        this.patternCount = grokPatterns.size();
+        this.requiredLiterals = new String[patternCount];
+        this.alwaysCandidates = new BitSet(patternCount);
+        newNode();
+        for (int i = 0; i < patternCount; i++) {
+            String literal = requiredLiteral(grokPatterns.get(i));
+            requiredLiterals[i] = literal;
+            if (literal == null) {
+                alwaysCandidates.set(i);
+            } else {
+                addLiteral(literal, i);
+            }
+        }
+        buildFailureLinks();
+    }
+
+    /**
+     * Builds a prefilter for the provided grok patterns.
+     *
+     * @param grokPatterns the patterns, in the order in which they are tried
+     */
+    public static GrokPrefilter compile(List<String> grokPatterns) {
+        return new GrokPrefilter(grokPatterns);
+    }
+
+    /**
+     * Returns the indices of the patterns that may match the provided text. Patterns that are not part of the result
+     * are guaranteed not to match it.
+     */
+    public BitSet candidates(String text) {
+        BitSet candidates = (BitSet) alwaysCandidates.clone();
+        int remaining = patternCount - candidates.cardinality();
+        int state = 0;
+        for (int i = 0; i < text.length() && remaining > 0; i++) {
+            char c = text.charAt(i);
+            Integer next;
+            while ((next = transitions.get(state).get(c)) == null && state != 0) {
+                state = failureLinks[state];
+            }
+            state = next == null ? 0 : next;
+            for (int pattern : outputs.get(state)) {
+                if (candidates.get(pattern) == false) {
+                    candidates.set(pattern);
+                    remaining--;
+                }
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the number of patterns of this prefilter.
+     */
+    public int patternCount() {
+        return patternCount;
+    }
+
+    /**
+     * Returns the literal that any match of the pattern at the provided index must contain, or {@code null} if the
+     * pattern is always a candidate.
+     */
+    public String requiredLiteral(int pattern) {
+        return requiredLiterals[pattern];
+    }
+
+    private int newNode() {
+        transitions.add(new HashMap<>());
+        outputs.add(new int[0]);
+        return transitions.size() - 1;
+    }
+
+    private void addLiteral(String literal, int pattern) {
+        int state = 0;
+        for (int i = 0; i < literal.length(); i++) {
+            Integer next = transitions.get(state).get(literal.charAt(i));
+            if (next == null) {
+                next = newNode();
+                transitions.get(state).put(literal.charAt(i), next);
+            }
+            state = next;
+        }
+        outputs.set(state, appendOutput(outputs.get(state), pattern));
+    }
+
+    private void buildFailureLinks() {
+        failureLinks = new int[transitions.size()];
+        Deque<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+        while (queue.isEmpty() == false) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                int child = transition.getValue();
+                if (state != 0) {
+                    int fallback = failureLinks[state];
+                    Integer next;
+                    while ((next = transitions.get(fallback).get(transition.getKey())) == null && fallback != 0) {
+                        fallback = failureLinks[fallback];
+                    }
+                    failureLinks[child] = next == null ? 0 : next;
+                }
+                // a literal that ends at the failure state also ends at this one
+                for (int pattern : outputs.get(failureLinks[child])) {
+                    outputs.set(child, appendOutput(outputs.get(child), pattern));
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    private static int[] appendOutput(int[] output, int pattern) {
+        for (int existing : output) {
+            if (existing == pattern) {
+                return output;
+            }
+        }
+        int[] result = new int[output.length + 1];
+        System.arraycopy(output, 0, result, 0, output.length);
+        result[output.length] = pattern;
+        return result;
+    }
+
+    /**
+     * Extracts the longest run of literal characters that every match of the grok pattern must contain, or returns
+     * {@code null} if none can be proven. Only the top level of the pattern is considered: groups, character classes,
+     * references to other patterns and quantified characters all end a run without contributing to it.
+     */
+    static String requiredLiteral(String grokPattern) {
+        String best = null;
+        StringBuilder run = new StringBuilder();
+        int depth = 0;
+        int i = 0;
+        while (i < grokPattern.length()) {
+            char c = grokPattern.charAt(i);
+            if (grokPattern.startsWith("%{", i)) {
+                int end = grokPattern.indexOf('}', i);
+                if (end == -1) {
+                    return null;
+                }
+                best = longest(best, run);
+                i = end + 1;
+            } else if (c == '\\') {
+                if (i + 1 >= grokPattern.length()) {
+                    return null;
+                }
+                char escaped = grokPattern.charAt(i + 1);
+                if (Character.isLetterOrDigit(escaped)) {
+                    // character classes, anchors, back references, hex and unicode escapes, \Q..\E quoting
+                    if (escaped == 'Q') {
+                        return null;
+                    }
+                    best = longest(best, run);
+                    // the payload of the escape, such as the digits of \x41 or the name of \k<name>, isn't a literal
+                    i = escapeEnd(grokPattern, i);
+                    if (i == -1) {
+                        return null;
+                    }
+                    continue;
+                } else if (depth == 0) {
+                    if (isQuantifier(grokPattern, i + 2)) {
+                        best = longest(best, run);
+                    } else {
+                        run.append(escaped);
+                    }
+                }
+                i += 2;
+            } else if (c == '[') {
+                i = skipCharacterClass(grokPattern, i);
+                if (i == -1) {
+                    return null;
+                }
+                best = longest(best, run);
+            } else if (c == '(') {
+                if (grokPattern.startsWith("(?", i) && i + 2 < grokPattern.length() && isInlineOption(grokPattern.charAt(i + 2))) {
+                    // options such as (?i) or (?x) change how the rest of the pattern matches literals
+                    return null;
+                }
+                best = longest(best, run);
+                depth++;
+                i++;
+            } else if (c == ')') {
+                best = longest(best, run);
+                depth--;
+                i++;
+            } else if (c == '|') {
+                if (depth == 0) {
+                    return null;
+                }
+                i++;
+            } else if (depth > 0) {
+                i++;
+            } else if (c == '{') {
+                best = longest(best, run);
+                int end = intervalEnd(grokPattern, i);
+                i = end == -1 ? i + 1 : end;
+            } else if (c == '.' || c == '^' || c == '$' || c == '?' || c == '*' || c == '+' || c == '}') {
+                best = longest(best, run);
+                i++;
+            } else {
+                if (isQuantifier(grokPattern, i + 1)) {
+                    // the quantified character may be absent or repeated
+                    best = longest(best, run);
+                } else {
+                    run.append(c);
+                }
+                i++;
+            }
+        }
+        return longest(best, run);
+    }
+
+    /**
+     * Returns the index right after the escape sequence with a letter or a digit that starts at {@code start}, including its
+     * payload, or -1 if the end of the escape sequence isn't known.
+     */
+    static int escapeEnd(String grokPattern, int start) {
+        final char escaped = grokPattern.charAt(start + 1);
+        final int i = start + 2;
+        final char next = i < grokPattern.length() ? grokPattern.charAt(i) : 0;
+        switch (escaped) {
+            case 'x':
+                // \xhh or \x{h...}
+                return next == '{' ? closingIndex(grokPattern, i, '}') : skipHexDigits(grokPattern, i, 2);
+            case 'u':
+                // \uhhhh
+                return skipHexDigits(grokPattern, i, 4);
+            case 'p':
+            case 'P':
+                // \pL or \p{Name}
+                if (next == '{') {
+                    return closingIndex(grokPattern, i, '}');
+                }
+                return i < grokPattern.length() ? i + 1 : -1;
+            case 'k':
+            case 'g':
+                // named or numbered back references and subexpression calls: \k<name>, \k'name', \k{name}, \g<1>, \g1
+                if (next == '<') {
+                    return closingIndex(grokPattern, i, '>');
+                } else if (next == '\'') {
+                    return closingIndex(grokPattern, i, '\'');
+                } else if (next == '{') {
+                    return closingIndex(grokPattern, i, '}');
+                } else if (Character.isDigit(next) || next == '-' || next == '+') {
+                    int end = i + 1;
+                    while (end < grokPattern.length() && Character.isDigit(grokPattern.charAt(end))) {
+                        end++;
+                    }
+                    return end;
+                }
+                return -1;
+            case 'c':
+            case 'C':
+            case 'M':
+            case 'N':
+            case 'o':
+                // control, meta, named and octal escapes with payloads of various forms
+                return -1;
+            default:
+                if (Character.isDigit(escaped)) {
+                    // back references and octal escapes
+                    int end = i;
+                    while (end < grokPattern.length() && Character.isDigit(grokPattern.charAt(end))) {
+                        end++;
+                    }
+                    return end;
+                }
+                // character classes and anchors such as \d or \b have no payload
+                return i;
+        }
+    }
+
+    private static int closingIndex(String grokPattern, int open, char closing) {
+        int end = grokPattern.indexOf(closing, open + 1);
+        return end == -1 ? -1 : end + 1;
+    }
+
+    private static int skipHexDigits(String grokPattern, int start, int maxDigits) {
+        int i = start;
+        while (i < grokPattern.length() && i - start < maxDigits && Character.digit(grokPattern.charAt(i), 16) != -1) {
+            i++;
+        }
+        return i == start ? -1 : i;
+    }
+
+    private static boolean isQuantifier(String grokPattern, int i) {
+        if (i >= grokPattern.length()) {
+            return false;
+        }
+        char c = grokPattern.charAt(i);
+        return c == '?' || c == '*' || c == '+' || c == '{';
+    }
+
+    /**
+     * Returns the index right after the interval quantifier such as {@code {2,5}} that starts at {@code start}, or -1
+     * if there is no interval quantifier there.
+     */
+    private static int intervalEnd(String grokPattern, int start) {
+        int i = start + 1;
+        while (i < grokPattern.length()) {
+            char c = grokPattern.charAt(i);
+            if (c == '}') {
+                return i + 1;
+            }
+            if (Character.isDigit(c) == false && c != ',') {
+                return -1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static boolean isInlineOption(char c) {
+        return Character.isLetter(c) || c == '-';
+    }
+
+    /**
+     * Returns the index right after the character class that starts at {@code start}, or -1 if it isn't closed.
+     */
+    private static int skipCharacterClass(String grokPattern, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < grokPattern.length()) {
+            char c = grokPattern.charAt(i);
+            if (c == '\\') {
+                i += 2;
+                continue;
+            }
+            if (c == '[') {
+                depth++;
+                i++;
+                // a closing bracket right after the opening one, or after a negation, is a literal
+                if (i < grokPattern.length() && grokPattern.charAt(i) == '^') {
+                    i++;
+                }
+                if (i < grokPattern.length() && grokPattern.charAt(i) == ']') {
+                    i++;
+                }
+                continue;
+            }
+            if (c == ']') {
+                depth--;
+                if (depth == 0) {
+                    return i + 1;
+                }
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static String longest(String best, StringBuilder run) {
+        if (run.length() > 0 && (best == null || run.length() > best.length())) {
+            best = run.toString();
+        }
+        run.setLength(0);
+        return best;
+    }
+}
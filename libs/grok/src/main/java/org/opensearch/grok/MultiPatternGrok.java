@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * Matches a text against a list of grok patterns, returning the captures of the first pattern that matches at the
+ * leftmost position, exactly like a single alternation of all the patterns would.
+ * <p>
+ * A {@link GrokPrefilter} first selects the patterns that can possibly match the text. Texts for which no pattern is
+ * a candidate are rejected without running any regular expression, and patterns that can't match are dropped from
+ * the alternation that is run. The expressions compiled for subsets of the patterns are cached, up to
+ * {@link #MAX_CANDIDATE_EXPRESSIONS}, after which the alternation of all patterns is used.
+ */
+public final class MultiPatternGrok {
+
+    static final int MAX_CANDIDATE_EXPRESSIONS = 64;
+    private static final String PATTERN_GROUP_PREFIX = "_grok_pattern_";
+
+    private final Map<String, String> patternBank;
+    private final List<String> patterns;
+    private final MatcherWatchdog matcherWatchdog;
+    private final Consumer<String> logCallBack;
+    private final boolean captureAllMatches;
+    private final GrokPrefilter prefilter;
+    private final BitSet allPatterns;
+    private final Grok grok;
+    private final ConcurrentMap<BitSet, Grok> candidateGroks = new ConcurrentHashMap<>();
+
+    public MultiPatternGrok(
+        Map<String, String> patternBank,
+        List<String> patterns,
+        MatcherWatchdog matcherWatchdog,
+        Consumer<String> logCallBack,
+        boolean captureAllMatches
+    ) {
+        if (patterns.isEmpty()) {
+            throw new IllegalArgumentException("at least one grok pattern is required");
+        }
+        this.patternBank = patternBank;
+        this.patterns = List.copyOf(patterns);
+        this.matcherWatchdog = matcherWatchdog;
+        this.logCallBack = logCallBack;
+        this.captureAllMatches = captureAllMatches;
+        this.prefilter = GrokPrefilter.compile(this.patterns);
+        this.allPatterns = new BitSet(this.patterns.size());
+        this.allPatterns.set(0, this.patterns.size());
+        this.grok = newGrok(allPatterns);
+    }
+
+    /**
+     * The result of a successful match.
+     *
+     * @param patternIndex the index of the pattern that matched
+     * @param captures the named captures of the pattern that matched
+     */
+    public record Match(int patternIndex, Map<String, Object> captures) {}
+
+    /**
+     * Returns the indices of the patterns that may match the provided text, see {@link GrokPrefilter#candidates}.
+     */
+    public BitSet candidates(String text) {
+        return prefilter.candidates(text);
+    }
+
+    /**
+     * Matches the text against all the patterns.
+     *
+     * @return the match, or {@code null} if no pattern matched
+     */
+    public Match match(String text) {
+        return match(text, candidates(text));
+    }
+
+    /**
+     * Matches the text against the patterns that were selected for it by {@link #candidates(String)}.
+     *
+     * @return the match, or {@code null} if no pattern matched
+     */
+    public Match match(String text, BitSet candidates) {
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        Map<String, Object> captures = candidateGrok(candidates).captures(text);
+        if (captures == null) {
+            return null;
+        }
+        if (patterns.size() == 1) {
+            return new Match(0, captures);
+        }
+        int patternIndex = -1;
+        for (Iterator<String> it = captures.keySet().iterator(); it.hasNext();) {
+            String name = it.next();
+            if (name.startsWith(PATTERN_GROUP_PREFIX)) {
+                patternIndex = Integer.parseInt(name.substring(PATTERN_GROUP_PREFIX.length()));
+                it.remove();
+                break;
+            }
+        }
+        assert patternIndex >= 0 : "no pattern group captured for [" + text + "]";
+        return new Match(patternIndex, captures);
+    }
+
+    /**
+     * The expression that combines all the patterns.
+     */
+    public Grok grok() {
+        return grok;
+    }
+
+    /**
+     * The prefilter that selects the candidate patterns.
+     */
+    public GrokPrefilter prefilter() {
+        return prefilter;
+    }
+
+    private Grok candidateGrok(BitSet candidates) {
+        if (candidates.equals(allPatterns)) {
+            return grok;
+        }
+        Grok candidateGrok = candidateGroks.get(candidates);
+        if (candidateGrok == null) {
+            if (candidateGroks.size() >= MAX_CANDIDATE_EXPRESSIONS) {
+                return grok;
+            }
+            candidateGrok = candidateGroks.computeIfAbsent((BitSet) candidates.clone(), this::newGrok);
+        }
+        return candidateGrok;
+    }
+
+    private Grok newGrok(BitSet candidates) {
+        return new Grok(patternBank, combinePatterns(patterns, candidates), matcherWatchdog, logCallBack, captureAllMatches);
+    }
+
+    /**
+     * Combines the patterns whose indices are set in {@code candidates} into an alternation, wrapping each of them in a
+     * group named after its index so that the pattern that matched is known. A single pattern is used as is.
+     */
+    static String combinePatterns(List<String> patterns, BitSet candidates) {
+        if (patterns.size() == 1) {
+            return patterns.get(0);
+        }
+        StringBuilder combinedPattern = new StringBuilder();
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            if (combinedPattern.length() > 0) {
+                combinedPattern.append('|');
+            }
+            combinedPattern.append("(?<").append(PATTERN_GROUP_PREFIX).append(i).append('>').append(patterns.get(i)).append(')');
+        }
+        return combinedPattern.toString();
+    }
+}
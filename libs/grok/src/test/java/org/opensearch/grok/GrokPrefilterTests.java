@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.BitSet;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class GrokPrefilterTests extends OpenSearchTestCase {
+
+    public void testRequiredLiteral() {
+        assertThat(GrokPrefilter.requiredLiteral("%{IP:client} GET %{URIPATH:path}"), equalTo(" GET "));
+        assertThat(GrokPrefilter.requiredLiteral("sshd\\[%{POSINT:pid}\\]: Failed password"), equalTo("]: Failed password"));
+        assertThat(GrokPrefilter.requiredLiteral("%{WORD:a}-%{WORD:b}"), equalTo("-"));
+        assertThat(GrokPrefilter.requiredLiteral("err(s)? in %{WORD:module}"), equalTo(" in "));
+        assertThat(GrokPrefilter.requiredLiteral("abcd?e"), equalTo("abc"));
+        assertThat(GrokPrefilter.requiredLiteral("ab+cd"), equalTo("cd"));
+        assertThat(GrokPrefilter.requiredLiteral("ab{2,3}cd"), equalTo("cd"));
+        assertThat(GrokPrefilter.requiredLiteral("[a-z]+ value [^]]"), equalTo(" value "));
+        assertThat(GrokPrefilter.requiredLiteral("%{NUMBER:n}\\.%{NUMBER:m}"), equalTo("."));
+        assertThat(GrokPrefilter.requiredLiteral("foo\\d+bar"), equalTo("foo"));
+    }
+
+    public void testRequiredLiteralSkipsEscapePayloads() {
+        assertThat(GrokPrefilter.requiredLiteral("ab\\x41cd"), equalTo("ab"));
+        assertThat(GrokPrefilter.requiredLiteral("a\\x{263a}bcd"), equalTo("bcd"));
+        assertThat(GrokPrefilter.requiredLiteral("\\u00e9t"), equalTo("t"));
+        assertThat(GrokPrefilter.requiredLiteral("\\p{Alnum}+:"), equalTo(":"));
+        assertThat(GrokPrefilter.requiredLiteral("\\pLxy"), equalTo("xy"));
+        assertThat(GrokPrefilter.requiredLiteral("(?<name>a)-\\k<name>"), equalTo("-"));
+        assertThat(GrokPrefilter.requiredLiteral("(?<name>a)-\\k'name'"), equalTo("-"));
+        assertThat(GrokPrefilter.requiredLiteral("(a)-\\g<1>"), equalTo("-"));
+        assertThat(GrokPrefilter.requiredLiteral("(a)-\\1234"), equalTo("-"));
+        assertThat(GrokPrefilter.requiredLiteral("ab\\0101"), equalTo("ab"));
+        assertThat(GrokPrefilter.requiredLiteral("ab\\cAcd"), nullValue());
+    }
+
+    public void testNoRequiredLiteral() {
+        assertThat(GrokPrefilter.requiredLiteral("%{IP:client}"), nullValue());
+        assertThat(GrokPrefilter.requiredLiteral("GET|POST"), nullValue());
+        assertThat(GrokPrefilter.requiredLiteral("(?i)error"), nullValue());
+        assertThat(GrokPrefilter.requiredLiteral("(?<a>(?i)A)"), nullValue());
+        assertThat(GrokPrefilter.requiredLiteral("\\Qa.b\\E"), nullValue());
+        assertThat(GrokPrefilter.requiredLiteral("(GET|POST)"), nullValue());
+        assertThat(GrokPrefilter.requiredLiteral(".*"), nullValue());
+        assertThat(GrokPrefilter.requiredLiteral(""), nullValue());
+    }
+
+    public void testCandidates() {
+        GrokPrefilter prefilter = GrokPrefilter.compile(
+            List.of("%{WORD:a} ERROR %{GREEDYDATA:b}", "%{WORD:a} WARN %{GREEDYDATA:b}", "%{IP:ip}", "RR")
+        );
+        assertThat(prefilter.patternCount(), equalTo(4));
+        assertThat(prefilter.requiredLiteral(0), equalTo(" ERROR "));
+        assertThat(prefilter.requiredLiteral(2), nullValue());
+
+        assertThat(prefilter.candidates("node ERROR disk full"), equalTo(bits(0, 2, 3)));
+        assertThat(prefilter.candidates("node WARN disk full"), equalTo(bits(1, 2)));
+        assertThat(prefilter.candidates("10.0.0.1"), equalTo(bits(2)));
+        assertThat(prefilter.candidates(""), equalTo(bits(2)));
+    }
+
+    public void testCandidatesWithOverlappingLiterals() {
+        GrokPrefilter prefilter = GrokPrefilter.compile(List.of("abcd", "bc", "c", "bcx"));
+        assertThat(prefilter.candidates("xabcd"), equalTo(bits(0, 1, 2)));
+        assertThat(prefilter.candidates("abcx"), equalTo(bits(1, 2, 3)));
+        assertThat(prefilter.candidates("ab"), equalTo(bits()));
+    }
+
+    public void testCandidatesNeverExcludeMatchingPatterns() {
+        List<String> patterns = List.of(
+            "%{IP:client} %{WORD:method} %{URIPATHPARAM:request}",
+            "%{SYSLOGTIMESTAMP:ts} %{SYSLOGHOST:host} sshd\\[%{POSINT:pid}\\]: %{GREEDYDATA:msg}",
+            "\\[%{LOGLEVEL:level}\\] %{GREEDYDATA:msg}",
+            "%{WORD:key}=%{NUMBER:value}",
+            "user(name)? %{USERNAME:user} logged (in|out)"
+        );
+        List<String> texts = List.of(
+            "10.0.0.1 GET /index.html",
+            "Jun  3 12:00:01 host1 sshd[123]: Accepted publickey",
+            "[ERROR] disk full",
+            "count=42",
+            "username bob logged out",
+            "user alice logged in",
+            "nothing to see here",
+            ""
+        );
+        GrokPrefilter prefilter = GrokPrefilter.compile(patterns);
+        for (String text : texts) {
+            BitSet candidates = prefilter.candidates(text);
+            for (int i = 0; i < patterns.size(); i++) {
+                Grok grok = new Grok(Grok.BUILTIN_PATTERNS, patterns.get(i), logger::warn);
+                if (grok.captures(text) != null) {
+                    assertTrue("pattern [" + i + "] matches [" + text + "] but was excluded", candidates.get(i));
+                }
+            }
+        }
+        // only the pattern that requires a single space remains
+        assertThat(prefilter.candidates("nothing to see here"), equalTo(bits(0)));
+    }
+
+    public void testCandidatesNeverExcludePatternsWithEscapes() {
+        List<String> patterns = List.of(
+            "\\x41BC",
+            "\\p{Alnum}+:",
+            "(?<name>ab)-\\k<name>",
+            "(?<name>ab)=\\g<name>",
+            "(x)y\\1z",
+            "caf\\u00e9"
+        );
+        List<String> texts = List.of("ABC", "abc:", "ab-ab", "ab=ab", "xyxz", "café", "41", "Alnum", "<name>", "00e9");
+        GrokPrefilter prefilter = GrokPrefilter.compile(patterns);
+        for (String text : texts) {
+            BitSet candidates = prefilter.candidates(text);
+            for (int i = 0; i < patterns.size(); i++) {
+                Grok grok = new Grok(Grok.BUILTIN_PATTERNS, patterns.get(i), logger::warn);
+                if (grok.captures(text) != null) {
+                    assertTrue("pattern [" + i + "] matches [" + text + "] but was excluded", candidates.get(i));
+                }
+            }
+        }
+    }
+
+    private static BitSet bits(int... indices) {
+        BitSet bits = new BitSet();
+        for (int index : indices) {
+            bits.set(index);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class MultiPatternGrokTests extends OpenSearchTestCase {
+
+    public void testCombinePatterns() {
+        BitSet candidates = new BitSet();
+        candidates.set(1);
+        candidates.set(3);
+        assertThat(
+            MultiPatternGrok.combinePatterns(List.of("foo", "bar", "baz", "qux"), candidates),
+            equalTo("(?<_grok_pattern_1>bar)|(?<_grok_pattern_3>qux)")
+        );
+        candidates = new BitSet();
+        candidates.set(0);
+        assertThat(MultiPatternGrok.combinePatterns(List.of("foo"), candidates), equalTo("foo"));
+    }
+
+    public void testMatch() {
+        MultiPatternGrok grok = new MultiPatternGrok(
+            Grok.BUILTIN_PATTERNS,
+            List.of("%{WORD:service} ERROR %{GREEDYDATA:message}", "%{WORD:service} WARN %{GREEDYDATA:message}", "%{IP:ip}"),
+            MatcherWatchdog.noop(),
+            logger::warn,
+            false
+        );
+
+        MultiPatternGrok.Match match = grok.match("indexer WARN disk almost full");
+        assertThat(match.patternIndex(), equalTo(1));
+        assertThat(match.captures(), equalTo(Map.of("service", "indexer", "message", "disk almost full")));
+
+        match = grok.match("from 10.0.0.1");
+        assertThat(match.patternIndex(), equalTo(2));
+        assertThat(match.captures(), equalTo(Map.of("ip", "10.0.0.1")));
+
+        assertThat(grok.match("indexer DEBUG starting"), nullValue());
+    }
+
+    public void testMatchAgreesWithAlternation() {
+        List<String> patterns = List.of(
+            "%{IP:client} %{WORD:method} %{URIPATHPARAM:request}",
+            "\\[%{LOGLEVEL:level}\\] %{GREEDYDATA:message}",
+            "%{WORD:key}=%{NUMBER:value}",
+            "%{WORD:first} %{WORD:second}"
+        );
+        MultiPatternGrok multiPatternGrok = new MultiPatternGrok(Grok.BUILTIN_PATTERNS, patterns, MatcherWatchdog.noop(), logger::warn, false);
+        Grok alternation = new Grok(
+            Grok.BUILTIN_PATTERNS,
+            "(?:" + String.join(")|(?:", patterns) + ")",
+            MatcherWatchdog.noop(),
+            logger::warn
+        );
+        for (String text : List.of(
+            "10.0.0.1 GET /index.html",
+            "[ERROR] disk full",
+            "count=42",
+            "count=42 and more words",
+            "hello world",
+            "x",
+            ""
+        )) {
+            MultiPatternGrok.Match match = multiPatternGrok.match(text);
+            Map<String, Object> expected = alternation.captures(text);
+            if (expected == null) {
+                assertThat(text, match, nullValue());
+            } else {
+                assertThat(text, match.captures(), equalTo(expected));
+            }
+        }
+    }
+
+    public void testSinglePattern() {
+        MultiPatternGrok grok = new MultiPatternGrok(
+            Grok.BUILTIN_PATTERNS,
+            List.of("sshd\\[%{POSINT:pid}\\]"),
+            MatcherWatchdog.noop(),
+            logger::warn,
+            false
+        );
+        assertThat(grok.prefilter().requiredLiteral(0), equalTo("sshd["));
+        MultiPatternGrok.Match match = grok.match("host sshd[42]: accepted");
+        assertThat(match.patternIndex(), equalTo(0));
+        assertThat(match.captures(), equalTo(Map.of("pid", "42")));
+        assertThat(grok.match("host cron[42]: started"), nullValue());
+    }
+
+    public void testNoPatterns() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new MultiPatternGrok(Grok.BUILTIN_PATTERNS, List.of(), MatcherWatchdog.noop(), logger::warn, false)
+        );
+    }
+}
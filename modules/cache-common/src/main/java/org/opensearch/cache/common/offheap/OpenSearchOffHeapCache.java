@@ -0,0 +1,630 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.offheap;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.stats.CacheStatsHolder;
+import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
+import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
+import org.opensearch.common.cache.stats.NoopCacheStatsHolder;
+import org.opensearch.common.cache.store.builders.ICacheBuilder;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.monitor.jvm.JvmInfo;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.opensearch.cache.common.offheap.OpenSearchOffHeapCacheSettings.BLOCK_SIZE_KEY;
+import static org.opensearch.cache.common.offheap.OpenSearchOffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
+import static org.opensearch.cache.common.offheap.OpenSearchOffHeapCacheSettings.SEGMENTS_KEY;
+
+/**
+ * A cache that keeps its keys on heap but stores its values serialized in direct memory, so that large caches neither add
+ * to GC pressure nor pay for disk reads on every hit. It is meant to be used either on its own or as the lower tier of a
+ * {@code TieredSpilloverCache}.
+ * <p>
+ * The cache is split into segments, each guarded by its own lock and backed by a single direct buffer that is divided into
+ * fixed size blocks. The buffers are allocated when the cache is built, which fails if they don't fit into the direct memory
+ * of the JVM. A value occupies as many (not necessarily contiguous) blocks as needed, so
+ * the memory never fragments. Eviction follows a segmented LRU policy: new entries are admitted to a probationary segment
+ * and are promoted to a protected segment on their first hit, which keeps one-hit wonders from flushing out the entries
+ * that are actually reused.
+ *
+ * @param <K> Type of key.
+ * @param <V> Type of value.
+ *
+ * @opensearch.experimental
+ */
+public class OpenSearchOffHeapCache<K, V> implements ICache<K, V> {
+
+    /** The largest direct buffer a single segment allocates, more memory is handled by adding segments. */
+    static final long MAX_SEGMENT_SIZE_IN_BYTES = 1L << 30;
+    /** The share of a segment's blocks that may be used by protected entries. */
+    static final double PROTECTED_RATIO = 0.8;
+
+    private final Segment<K>[] segments;
+    private final Serializer<V, byte[]> valueSerializer;
+    private final CacheStatsHolder cacheStatsHolder;
+    private final RemovalListener<ICacheKey<K>, V> removalListener;
+    private final ConcurrentMap<ICacheKey<K>, CompletableFuture<V>> pendingLoads = ConcurrentCollections.newConcurrentMap();
+    private final long maximumWeight;
+    private final int blockSize;
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    OpenSearchOffHeapCache(Builder<K, V> builder) {
+        this.valueSerializer = Objects.requireNonNull(builder.valueSerializer, "Value serializer can't be null");
+        this.removalListener = Objects.requireNonNull(builder.getRemovalListener(), "Removal listener can't be null");
+        List<String> dimensionNames = Objects.requireNonNull(builder.dimensionNames, "Dimension names can't be null");
+        if (builder.getStatsTrackingEnabled()) {
+            this.cacheStatsHolder = new DefaultCacheStatsHolder(dimensionNames, OpenSearchOffHeapCacheFactory.NAME);
+        } else {
+            this.cacheStatsHolder = NoopCacheStatsHolder.getInstance();
+        }
+        final int blockSize = builder.blockSize;
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be greater than 0 but was [" + blockSize + "]");
+        }
+        final long maxWeight = builder.getMaxWeightInBytes();
+        if (maxWeight < blockSize) {
+            throw new IllegalArgumentException(
+                "Maximum size [" + maxWeight + "] must be at least the block size [" + blockSize + "] for the off-heap cache"
+            );
+        }
+        final long totalBlocks = maxWeight / blockSize;
+        final int numberOfSegments = numberOfSegments(maxWeight, blockSize, builder.getNumberOfSegments());
+        final int blocksPerSegment = (int) (totalBlocks / numberOfSegments);
+        this.blockSize = blockSize;
+        this.maximumWeight = (long) numberOfSegments * blocksPerSegment * blockSize;
+        final long maxDirectMemory = builder.maxDirectMemoryInBytes >= 0 ? builder.maxDirectMemoryInBytes : maxDirectMemoryInBytes();
+        if (maxDirectMemory > 0 && maximumWeight > maxDirectMemory) {
+            throw new IllegalArgumentException(
+                "Maximum size ["
+                    + maximumWeight
+                    + "] of the off-heap cache exceeds the direct memory limit ["
+                    + maxDirectMemory
+                    + "] of the JVM, lower the cache size or raise -XX:MaxDirectMemorySize"
+            );
+        }
+        this.segments = new Segment[numberOfSegments];
+        try {
+            for (int i = 0; i < numberOfSegments; i++) {
+                segments[i] = new Segment<>(blockSize, blocksPerSegment);
+            }
+        } catch (OutOfMemoryError e) {
+            // other users of direct memory may leave less than the limit to this cache
+            close();
+            throw new IllegalStateException("Failed to allocate [" + maximumWeight + "] bytes of direct memory for the off-heap cache", e);
+        }
+    }
+
+    /**
+     * Returns the number of segments of a cache of the given size. A segment is backed by a single direct buffer of at most
+     * {@link #MAX_SEGMENT_SIZE_IN_BYTES}, so large caches get more segments rather than failing, and every segment has at
+     * least one block.
+     */
+    static int numberOfSegments(long maxWeight, int blockSize, int configuredSegments) {
+        final long totalBlocks = maxWeight / blockSize;
+        final long minSegments = (maxWeight + MAX_SEGMENT_SIZE_IN_BYTES - 1) / MAX_SEGMENT_SIZE_IN_BYTES;
+        return (int) Math.min(totalBlocks, Math.max(minSegments, Math.max(1, configuredSegments)));
+    }
+
+    /**
+     * Returns the maximum amount of direct memory of this JVM, or {@code 0} if it is unknown.
+     */
+    static long maxDirectMemoryInBytes() {
+        return JvmInfo.jvmInfo().getMem().getDirectMemoryMax().getBytes();
+    }
+
+    /**
+     * Returns the direct memory that a value of the given length occupies, which is a whole number of blocks.
+     */
+    private long occupiedBytes(int length) {
+        return (long) Math.max(1, (length + blockSize - 1) / blockSize) * blockSize;
+    }
+
+    // pkg-private for testing
+    long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    // pkg-private for testing
+    int getNumberOfSegments() {
+        return segments.length;
+    }
+
+    @Override
+    public V get(ICacheKey<K> key) {
+        V value = getInternal(key);
+        if (value != null) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V getInternal(ICacheKey<K> key) {
+        byte[] bytes = segmentFor(key).get(key);
+        return bytes == null ? null : valueSerializer.deserialize(bytes);
+    }
+
+    @Override
+    public void put(ICacheKey<K> key, V value) {
+        byte[] bytes = valueSerializer.serialize(value);
+        List<Removal<K>> removals = new ArrayList<>();
+        boolean added = segmentFor(key).put(key, bytes, removals);
+        notifyRemovals(removals);
+        if (added) {
+            cacheStatsHolder.incrementItems(key.dimensions);
+            cacheStatsHolder.incrementSizeInBytes(key.dimensions, occupiedBytes(bytes.length));
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        V value = getInternal(key);
+        if (value == null) {
+            value = compute(key, loader);
+        }
+        if (!loader.isLoaded()) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V compute(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        // only one of the concurrent callers for the same key loads the value, the others wait for its result
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = pendingLoads.putIfAbsent(key, future);
+        if (existing != null) {
+            try {
+                return existing.get();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+        try {
+            // the value may have been loaded by a caller that completed after our lookup
+            V value = getInternal(key);
+            if (value != null) {
+                future.complete(value);
+                return value;
+            }
+            value = loader.load(key);
+            if (value == null) {
+                throw new NullPointerException("loader returned a null value");
+            }
+            put(key, value);
+            future.complete(value);
+            return value;
+        } catch (Exception ex) {
+            future.completeExceptionally(ex);
+            throw new ExecutionException(ex);
+        } finally {
+            pendingLoads.remove(key, future);
+        }
+    }
+
+    @Override
+    public void invalidate(ICacheKey<K> key) {
+        if (key.getDropStatsForDimensions()) {
+            cacheStatsHolder.removeDimensions(key.dimensions);
+        }
+        if (key.key != null) {
+            byte[] bytes = segmentFor(key).remove(key);
+            if (bytes != null) {
+                notifyRemovals(List.of(new Removal<>(key, bytes, RemovalReason.INVALIDATED)));
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (Segment<K> segment : segments) {
+            List<Removal<K>> removals = new ArrayList<>();
+            segment.clear(removals);
+            notifyRemovals(removals);
+        }
+        cacheStatsHolder.reset();
+    }
+
+    @Override
+    public Iterable<ICacheKey<K>> keys() {
+        List<ICacheKey<K>> keys = new ArrayList<>();
+        for (Segment<K> segment : segments) {
+            segment.collectKeys(keys);
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    @Override
+    public long count() {
+        long count = 0;
+        for (Segment<K> segment : segments) {
+            count += segment.count();
+        }
+        return count;
+    }
+
+    @Override
+    public void refresh() {
+        // entries never expire, so there is nothing to refresh
+    }
+
+    @Override
+    public void close() {
+        for (Segment<K> segment : segments) {
+            if (segment != null) {
+                segment.release();
+            }
+        }
+    }
+
+    @Override
+    public ImmutableCacheStatsHolder stats(String[] levels) {
+        return cacheStatsHolder.getImmutableCacheStatsHolder(levels);
+    }
+
+    private Segment<K> segmentFor(ICacheKey<K> key) {
+        return segments[Math.floorMod(key.hashCode(), segments.length)];
+    }
+
+    private void notifyRemovals(List<Removal<K>> removals) {
+        // called outside of the segment locks since deserializing the values and running the listener may be costly
+        for (Removal<K> removal : removals) {
+            V value = valueSerializer.deserialize(removal.bytes);
+            removalListener.onRemoval(new RemovalNotification<>(removal.key, value, removal.reason));
+            cacheStatsHolder.decrementItems(removal.key.dimensions);
+            cacheStatsHolder.decrementSizeInBytes(removal.key.dimensions, occupiedBytes(removal.bytes.length));
+            if (RemovalReason.EVICTED.equals(removal.reason) || RemovalReason.CAPACITY.equals(removal.reason)) {
+                cacheStatsHolder.incrementEvictions(removal.key.dimensions);
+            }
+        }
+    }
+
+    /**
+     * An entry that left a segment, to be passed to the removal listener once the segment lock is released.
+     */
+    private static final class Removal<K> {
+        private final ICacheKey<K> key;
+        private final byte[] bytes;
+        private final RemovalReason reason;
+
+        private Removal(ICacheKey<K> key, byte[] bytes, RemovalReason reason) {
+            this.key = key;
+            this.bytes = bytes;
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * The location of a value in its segment's buffer.
+     */
+    private static final class Entry {
+        private final int[] blocks;
+        private final int length;
+
+        private Entry(int[] blocks, int length) {
+            this.blocks = blocks;
+            this.length = length;
+        }
+    }
+
+    /**
+     * A segment of the cache, all its state is guarded by its lock.
+     */
+    private static final class Segment<K> {
+        private final ReentrantLock lock = new ReentrantLock();
+        // both maps are in access order, so their first entry is the least recently used one
+        private final LinkedHashMap<ICacheKey<K>, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<ICacheKey<K>, Entry> protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+        private final int blockSize;
+        private final int blockCount;
+        private final int maxProtectedBlocks;
+        private int protectedBlocks;
+        private ByteBuffer buffer;
+        private int[] freeBlocks;
+        private int freeCount;
+
+        Segment(int blockSize, int blockCount) {
+            this.blockSize = blockSize;
+            this.blockCount = blockCount;
+            this.maxProtectedBlocks = (int) (blockCount * PROTECTED_RATIO);
+            allocate();
+        }
+
+        byte[] get(ICacheKey<K> key) {
+            lock.lock();
+            try {
+                Entry entry = probation.remove(key);
+                if (entry != null) {
+                    // second access, promote to the protected segment
+                    protectedEntries.put(key, entry);
+                    protectedBlocks += entry.blocks.length;
+                    demoteProtectedOverflow();
+                } else {
+                    entry = protectedEntries.get(key);
+                    if (entry == null) {
+                        return null;
+                    }
+                }
+                return read(entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Stores the value, evicting as many entries as needed to make room for it. Returns <code>false</code> if the value
+         * is larger than the whole segment or the segment was released, and thus was not stored.
+         */
+        boolean put(ICacheKey<K> key, byte[] bytes, List<Removal<K>> removals) {
+            final int needed = Math.max(1, (bytes.length + blockSize - 1) / blockSize);
+            lock.lock();
+            try {
+                Entry previous = removeEntry(key);
+                if (previous != null) {
+                    removals.add(new Removal<>(key, read(previous), RemovalReason.REPLACED));
+                    free(previous);
+                }
+                if (needed > blockCount || buffer == null) {
+                    return false;
+                }
+                while (freeCount < needed) {
+                    Map<ICacheKey<K>, Entry> victims = probation.isEmpty() ? protectedEntries : probation;
+                    Iterator<Map.Entry<ICacheKey<K>, Entry>> iterator = victims.entrySet().iterator();
+                    Map.Entry<ICacheKey<K>, Entry> eldest = iterator.next();
+                    iterator.remove();
+                    if (victims == protectedEntries) {
+                        protectedBlocks -= eldest.getValue().blocks.length;
+                    }
+                    removals.add(new Removal<>(eldest.getKey(), read(eldest.getValue()), RemovalReason.EVICTED));
+                    free(eldest.getValue());
+                }
+                final int[] blocks = new int[needed];
+                for (int i = 0; i < needed; i++) {
+                    blocks[i] = freeBlocks[--freeCount];
+                }
+                Entry entry = new Entry(blocks, bytes.length);
+                write(entry, bytes);
+                probation.put(key, entry);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        byte[] remove(ICacheKey<K> key) {
+            lock.lock();
+            try {
+                Entry entry = removeEntry(key);
+                if (entry == null) {
+                    return null;
+                }
+                byte[] bytes = read(entry);
+                free(entry);
+                return bytes;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear(List<Removal<K>> removals) {
+            lock.lock();
+            try {
+                for (Map<ICacheKey<K>, Entry> entries : List.of(probation, protectedEntries)) {
+                    for (Map.Entry<ICacheKey<K>, Entry> entry : entries.entrySet()) {
+                        removals.add(new Removal<>(entry.getKey(), read(entry.getValue()), RemovalReason.INVALIDATED));
+                        free(entry.getValue());
+                    }
+                    entries.clear();
+                }
+                protectedBlocks = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void release() {
+            lock.lock();
+            try {
+                probation.clear();
+                protectedEntries.clear();
+                protectedBlocks = 0;
+                // the direct memory is returned once the buffer is garbage collected
+                buffer = null;
+                freeBlocks = null;
+                freeCount = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void collectKeys(List<ICacheKey<K>> keys) {
+            lock.lock();
+            try {
+                keys.addAll(probation.keySet());
+                keys.addAll(protectedEntries.keySet());
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long count() {
+            lock.lock();
+            try {
+                return probation.size() + protectedEntries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void allocate() {
+            buffer = ByteBuffer.allocateDirect(blockCount * blockSize);
+            freeBlocks = new int[blockCount];
+            // hand out the blocks in ascending order
+            for (int i = 0; i < blockCount; i++) {
+                freeBlocks[i] = blockCount - 1 - i;
+            }
+            freeCount = blockCount;
+        }
+
+        private Entry removeEntry(ICacheKey<K> key) {
+            Entry entry = probation.remove(key);
+            if (entry == null) {
+                entry = protectedEntries.remove(key);
+                if (entry != null) {
+                    protectedBlocks -= entry.blocks.length;
+                }
+            }
+            return entry;
+        }
+
+        private void demoteProtectedOverflow() {
+            Iterator<Map.Entry<ICacheKey<K>, Entry>> iterator = protectedEntries.entrySet().iterator();
+            while (protectedBlocks > maxProtectedBlocks && iterator.hasNext()) {
+                Map.Entry<ICacheKey<K>, Entry> eldest = iterator.next();
+                iterator.remove();
+                protectedBlocks -= eldest.getValue().blocks.length;
+                // demoted entries become the most recently used entries of the probationary segment
+                probation.put(eldest.getKey(), eldest.getValue());
+            }
+        }
+
+        private void free(Entry entry) {
+            for (int block : entry.blocks) {
+                freeBlocks[freeCount++] = block;
+            }
+        }
+
+        private byte[] read(Entry entry) {
+            final byte[] bytes = new byte[entry.length];
+            int offset = 0;
+            for (int block : entry.blocks) {
+                final int length = Math.min(blockSize, entry.length - offset);
+                buffer.get(block * blockSize, bytes, offset, length);
+                offset += length;
+            }
+            return bytes;
+        }
+
+        private void write(Entry entry, byte[] bytes) {
+            int offset = 0;
+            for (int block : entry.blocks) {
+                final int length = Math.min(blockSize, entry.length - offset);
+                buffer.put(block * blockSize, bytes, offset, length);
+                offset += length;
+            }
+        }
+    }
+
+    /**
+     * Factory to create the off-heap cache.
+     */
+    public static class OpenSearchOffHeapCacheFactory implements Factory {
+
+        public static final String NAME = "opensearch_offheap";
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> ICache<K, V> create(CacheConfig<K, V> config, CacheType cacheType, Map<String, Factory> cacheFactories) {
+            Map<String, Setting<?>> settingList = OpenSearchOffHeapCacheSettings.getSettingListForCacheType(cacheType);
+            Settings settings = config.getSettings();
+            Serializer<V, byte[]> valueSerializer = (Serializer<V, byte[]>) Objects.requireNonNull(
+                config.getValueSerializer(),
+                "Value serializer can't be null for the off-heap cache"
+            );
+            Builder<K, V> builder = new Builder<K, V>().setDimensionNames(config.getDimensionNames())
+                .setValueSerializer(valueSerializer)
+                .setBlockSize((int) ((ByteSizeValue) settingList.get(BLOCK_SIZE_KEY).get(settings)).getBytes());
+            builder.setStatsTrackingEnabled(config.getStatsTrackingEnabled())
+                .setWeigher(config.getWeigher())
+                .setRemovalListener(config.getRemovalListener());
+            if (config.getMaxSizeInBytes() > 0) {
+                // passed down from the TieredSpilloverCache when this cache is one of its tiers
+                builder.setMaximumWeightInBytes(config.getMaxSizeInBytes());
+            } else {
+                builder.setMaximumWeightInBytes(((ByteSizeValue) settingList.get(MAXIMUM_SIZE_IN_BYTES_KEY).get(settings)).getBytes());
+            }
+            if (config.getSegmentCount() > 0) {
+                builder.setNumberOfSegments(config.getSegmentCount());
+            } else {
+                builder.setNumberOfSegments((Integer) settingList.get(SEGMENTS_KEY).get(settings));
+            }
+            return builder.build();
+        }
+
+        @Override
+        public String getCacheName() {
+            return NAME;
+        }
+    }
+
+    /**
+     * Builder object
+     * @param <K> Type of key
+     * @param <V> Type of value
+     */
+    public static class Builder<K, V> extends ICacheBuilder<K, V> {
+        private List<String> dimensionNames;
+        private Serializer<V, byte[]> valueSerializer;
+        private int blockSize = Math.toIntExact(OpenSearchOffHeapCacheSettings.DEFAULT_BLOCK_SIZE.getBytes());
+        // negative to use the limit of the JVM
+        private long maxDirectMemoryInBytes = -1;
+
+        public Builder<K, V> setDimensionNames(List<String> dimensionNames) {
+            this.dimensionNames = dimensionNames;
+            return this;
+        }
+
+        public Builder<K, V> setValueSerializer(Serializer<V, byte[]> valueSerializer) {
+            this.valueSerializer = valueSerializer;
+            return this;
+        }
+
+        public Builder<K, V> setBlockSize(int blockSize) {
+            this.blockSize = blockSize;
+            return this;
+        }
+
+        // pkg-private for testing
+        Builder<K, V> setMaxDirectMemoryInBytes(long maxDirectMemoryInBytes) {
+            this.maxDirectMemoryInBytes = maxDirectMemoryInBytes;
+            return this;
+        }
+
+        @Override
+        public ICache<K, V> build() {
+            return new OpenSearchOffHeapCache<K, V>(this);
+        }
+    }
+}
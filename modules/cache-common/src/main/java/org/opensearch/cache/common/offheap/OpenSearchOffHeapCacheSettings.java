@@ -0,0 +1,109 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.offheap;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.common.settings.Setting.Property.NodeScope;
+
+/**
+ * Settings for the off-heap cache store.
+ */
+public class OpenSearchOffHeapCacheSettings {
+
+    /**
+     * Setting to define the maximum amount of direct memory used to hold cached values.
+     * If this cache is used as a tier in a TieredSpilloverCache, this setting is ignored.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> MAXIMUM_SIZE_IN_BYTES = Setting.suffixKeySetting(
+        OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME + ".size",
+        (key) -> Setting.byteSizeSetting(key, new ByteSizeValue(100, ByteSizeUnit.MB), NodeScope)
+    );
+
+    /**
+     * The default size of the blocks serialized values are stored in.
+     */
+    public static final ByteSizeValue DEFAULT_BLOCK_SIZE = new ByteSizeValue(4, ByteSizeUnit.KB);
+
+    /**
+     * Setting to define the size of the blocks serialized values are stored in. Values occupy a whole number of blocks, so
+     * smaller blocks waste less memory on small values at the cost of more bookkeeping per value.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.block_size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> BLOCK_SIZE = Setting.suffixKeySetting(
+        OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME + ".block_size",
+        (key) -> Setting.byteSizeSetting(
+            key,
+            DEFAULT_BLOCK_SIZE,
+            new ByteSizeValue(64, ByteSizeUnit.BYTES),
+            new ByteSizeValue(1, ByteSizeUnit.MB),
+            NodeScope
+        )
+    );
+
+    /**
+     * Setting to define the number of segments, each with its own lock and slab of direct memory.
+     * If this cache is used as a tier in a TieredSpilloverCache, this setting is ignored.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.segments
+     */
+    public static final Setting.AffixSetting<Integer> SEGMENTS = Setting.suffixKeySetting(
+        OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME + ".segments",
+        (key) -> Setting.intSetting(key, 16, 1, 256, NodeScope)
+    );
+
+    public static final String MAXIMUM_SIZE_IN_BYTES_KEY = "maximum_size_in_bytes";
+    public static final String BLOCK_SIZE_KEY = "block_size";
+    public static final String SEGMENTS_KEY = "segments";
+
+    private static final Map<String, Setting.AffixSetting<?>> KEY_SETTING_MAP = Map.of(
+        MAXIMUM_SIZE_IN_BYTES_KEY,
+        MAXIMUM_SIZE_IN_BYTES,
+        BLOCK_SIZE_KEY,
+        BLOCK_SIZE,
+        SEGMENTS_KEY,
+        SEGMENTS
+    );
+
+    public static final Map<CacheType, Map<String, Setting<?>>> CACHE_TYPE_MAP = getCacheTypeMap();
+
+    private static Map<CacheType, Map<String, Setting<?>>> getCacheTypeMap() {
+        Map<CacheType, Map<String, Setting<?>>> cacheTypeMap = new HashMap<>();
+        for (CacheType cacheType : CacheType.values()) {
+            Map<String, Setting<?>> settingMap = new HashMap<>();
+            for (Map.Entry<String, Setting.AffixSetting<?>> entry : KEY_SETTING_MAP.entrySet()) {
+                settingMap.put(entry.getKey(), entry.getValue().getConcreteSettingForNamespace(cacheType.getSettingPrefix()));
+            }
+            cacheTypeMap.put(cacheType, settingMap);
+        }
+        return cacheTypeMap;
+    }
+
+    public static Map<String, Setting<?>> getSettingListForCacheType(CacheType cacheType) {
+        Map<String, Setting<?>> cacheTypeSettings = CACHE_TYPE_MAP.get(cacheType);
+        if (cacheTypeSettings == null) {
+            throw new IllegalArgumentException(
+                "No settings exist for cache store name: "
+                    + OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME
+                    + " associated with cache type: "
+                    + cacheType
+            );
+        }
+        return cacheTypeSettings;
+    }
+}
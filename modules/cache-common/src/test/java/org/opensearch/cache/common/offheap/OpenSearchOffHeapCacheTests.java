@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.offheap;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OpenSearchOffHeapCacheTests extends OpenSearchTestCase {
+    private final static List<String> dimensionNames = List.of("dim1", "dim2");
+
+    public void testPutGetInvalidate() throws Exception {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        OpenSearchOffHeapCache<String, String> cache = getCache(1024 * 1024, 256, randomIntBetween(1, 16), listener);
+        int numKeys = randomIntBetween(10, 100);
+        List<ICacheKey<String>> keys = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        long totalSize = 0;
+        for (int i = 0; i < numKeys; i++) {
+            ICacheKey<String> key = getICacheKey("key-" + i);
+            // values span a random number of blocks
+            String value = randomAlphaOfLength(randomIntBetween(0, 2000));
+            cache.put(key, value);
+            keys.add(key);
+            values.add(value);
+            // the size stats account for the whole blocks a value occupies
+            totalSize += Math.max(1, (value.length() + 255) / 256) * 256L;
+        }
+        assertEquals(numKeys, cache.count());
+        assertEquals(numKeys, cache.stats().getTotalItems());
+        assertEquals(totalSize, cache.stats().getTotalSizeInBytes());
+        for (int i = 0; i < numKeys; i++) {
+            assertEquals(values.get(i), cache.get(keys.get(i)));
+        }
+        assertEquals(numKeys, cache.stats().getTotalHits());
+        assertNull(cache.get(getICacheKey("missing")));
+        assertEquals(1, cache.stats().getTotalMisses());
+
+        Set<ICacheKey<String>> cachedKeys = new HashSet<>();
+        for (ICacheKey<String> key : cache.keys()) {
+            cachedKeys.add(key);
+        }
+        assertEquals(new HashSet<>(keys), cachedKeys);
+
+        cache.put(keys.get(0), "replaced");
+        assertEquals("replaced", cache.get(keys.get(0)));
+        assertEquals(1, listener.count(RemovalReason.REPLACED));
+        assertEquals(numKeys, cache.count());
+
+        cache.invalidate(keys.get(1));
+        assertNull(cache.get(keys.get(1)));
+        assertEquals(1, listener.count(RemovalReason.INVALIDATED));
+        assertEquals(numKeys - 1, cache.stats().getTotalItems());
+
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+        assertEquals(numKeys, listener.count(RemovalReason.INVALIDATED));
+        assertEquals(0, cache.stats().getTotalItems());
+        assertEquals(0, cache.stats().getTotalSizeInBytes());
+        cache.close();
+    }
+
+    public void testEvictionKeepsReusedEntries() throws Exception {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        int blockSize = 64;
+        int numBlocks = 10;
+        OpenSearchOffHeapCache<String, String> cache = getCache(numBlocks * blockSize, blockSize, 1, listener);
+        for (int i = 0; i < numBlocks; i++) {
+            cache.put(getICacheKey("key-" + i), randomAlphaOfLength(blockSize));
+        }
+        assertEquals(numBlocks, cache.count());
+        assertEquals(0, listener.removals.size());
+
+        // promote half of the entries, they must survive a scan of new entries that are never read again
+        int numReused = numBlocks / 2;
+        for (int i = 0; i < numReused; i++) {
+            assertNotNull(cache.get(getICacheKey("key-" + i)));
+        }
+        for (int i = 0; i < numBlocks; i++) {
+            cache.put(getICacheKey("scan-" + i), randomAlphaOfLength(blockSize));
+        }
+        for (int i = 0; i < numReused; i++) {
+            assertNotNull(cache.get(getICacheKey("key-" + i)));
+        }
+        for (int i = numReused; i < numBlocks; i++) {
+            assertNull(cache.get(getICacheKey("key-" + i)));
+        }
+        assertEquals(numBlocks, cache.count());
+        assertEquals(numBlocks, listener.count(RemovalReason.EVICTED));
+        assertEquals(numBlocks, cache.stats().getTotalEvictions());
+        assertEquals(numBlocks, cache.stats().getTotalItems());
+    }
+
+    public void testValueLargerThanSegmentIsNotCached() throws Exception {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        OpenSearchOffHeapCache<String, String> cache = getCache(1024, 64, 1, listener);
+        ICacheKey<String> key = getICacheKey("key");
+        cache.put(key, "small");
+        cache.put(key, randomAlphaOfLength(2048));
+        assertNull(cache.get(key));
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.stats().getTotalItems());
+        assertEquals(1, listener.count(RemovalReason.REPLACED));
+    }
+
+    public void testComputeIfAbsentLoadsOnce() throws Exception {
+        OpenSearchOffHeapCache<String, String> cache = getCache(1024 * 1024, 256, 4, new MockRemovalListener<>());
+        ICacheKey<String> key = getICacheKey("key");
+        AtomicInteger loads = new AtomicInteger();
+        int numThreads = randomIntBetween(2, 8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<String> results = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < numThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    results.add(cache.computeIfAbsent(key, new LoadAwareCacheLoader<>() {
+                        boolean isLoaded;
+
+                        @Override
+                        public boolean isLoaded() {
+                            return isLoaded;
+                        }
+
+                        @Override
+                        public String load(ICacheKey<String> key) throws Exception {
+                            isLoaded = true;
+                            loads.incrementAndGet();
+                            Thread.sleep(10);
+                            return "value";
+                        }
+                    }));
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(numThreads, results.size());
+        for (String result : results) {
+            assertEquals("value", result);
+        }
+        assertEquals(1, cache.stats().getTotalMisses());
+        assertEquals(numThreads - 1, cache.stats().getTotalHits());
+    }
+
+    public void testLargeCacheUsesEnoughSegments() {
+        long maxSize = 3 * OpenSearchOffHeapCache.MAX_SEGMENT_SIZE_IN_BYTES;
+        assertEquals(3, OpenSearchOffHeapCache.numberOfSegments(maxSize, 4096, 1));
+        assertEquals(4, OpenSearchOffHeapCache.numberOfSegments(maxSize, 4096, 4));
+        assertEquals(4, OpenSearchOffHeapCache.numberOfSegments(maxSize + 1, 4096, 1));
+        // every segment has at least one block
+        assertEquals(2, OpenSearchOffHeapCache.numberOfSegments(2 * 4096, 4096, 16));
+    }
+
+    public void testSizeExceedingDirectMemoryLimitFailsFast() {
+        OpenSearchOffHeapCache.Builder<String, String> builder = new OpenSearchOffHeapCache.Builder<String, String>().setDimensionNames(
+            dimensionNames
+        ).setValueSerializer(new StringSerializer()).setBlockSize(1024).setMaxDirectMemoryInBytes(64 * 1024);
+        builder.setMaximumWeightInBytes(128 * 1024).setNumberOfSegments(2).setRemovalListener(new MockRemovalListener<>());
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, builder::build);
+        assertTrue(e.getMessage(), e.getMessage().contains("exceeds the direct memory limit [65536]"));
+
+        builder.setMaximumWeightInBytes(64 * 1024);
+        OpenSearchOffHeapCache<String, String> cache = (OpenSearchOffHeapCache<String, String>) builder.build();
+        assertEquals(64 * 1024, cache.getMaximumWeight());
+        cache.close();
+        // a closed cache doesn't store values anymore
+        cache.put(getICacheKey("key"), "value");
+        assertEquals(0, cache.count());
+    }
+
+    public void testFactory() {
+        CacheType cacheType = CacheType.INDICES_REQUEST_CACHE;
+        String prefix = cacheType.getSettingPrefix();
+        Settings settings = Settings.builder()
+            .put(OpenSearchOffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES.getConcreteSettingForNamespace(prefix).getKey(), "1mb")
+            .put(OpenSearchOffHeapCacheSettings.SEGMENTS.getConcreteSettingForNamespace(prefix).getKey(), 8)
+            .build();
+        ICache.Factory factory = new OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory();
+        CacheConfig<String, String> config = new CacheConfig.Builder<String, String>().setSettings(settings)
+            .setKeyType(String.class)
+            .setValueType(String.class)
+            .setValueSerializer(new StringSerializer())
+            .setDimensionNames(dimensionNames)
+            .setRemovalListener(new MockRemovalListener<>())
+            .setStatsTrackingEnabled(true)
+            .build();
+        OpenSearchOffHeapCache<String, String> cache = (OpenSearchOffHeapCache<String, String>) factory.create(config, cacheType, Map.of());
+        assertEquals(1024 * 1024, cache.getMaximumWeight());
+        assertEquals(8, cache.getNumberOfSegments());
+
+        // values passed down by the tiered spillover cache take precedence
+        config = new CacheConfig.Builder<String, String>().setSettings(settings)
+            .setValueSerializer(new StringSerializer())
+            .setDimensionNames(dimensionNames)
+            .setRemovalListener(new MockRemovalListener<>())
+            .setMaxSizeInBytes(512 * 1024)
+            .setSegmentCount(1)
+            .build();
+        cache = (OpenSearchOffHeapCache<String, String>) factory.create(config, cacheType, Map.of());
+        assertEquals(512 * 1024, cache.getMaximumWeight());
+        assertEquals(1, cache.getNumberOfSegments());
+    }
+
+    private OpenSearchOffHeapCache<String, String> getCache(
+        long maxSizeInBytes,
+        int blockSize,
+        int segments,
+        RemovalListener<ICacheKey<String>, String> listener
+    ) {
+        OpenSearchOffHeapCache.Builder<String, String> builder = new OpenSearchOffHeapCache.Builder<String, String>().setDimensionNames(
+            dimensionNames
+        ).setValueSerializer(new StringSerializer()).setBlockSize(blockSize);
+        builder.setMaximumWeightInBytes(maxSizeInBytes)
+            .setNumberOfSegments(segments)
+            .setStatsTrackingEnabled(true)
+            .setRemovalListener(listener)
+            .setWeigher((k, v) -> v.length());
+        return (OpenSearchOffHeapCache<String, String>) builder.build();
+    }
+
+    private ICacheKey<String> getICacheKey(String key) {
+        return new ICacheKey<>(key, List.of("value1", "value2"));
+    }
+
+    private static class MockRemovalListener<K, V> implements RemovalListener<ICacheKey<K>, V> {
+        final List<RemovalNotification<ICacheKey<K>, V>> removals = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onRemoval(RemovalNotification<ICacheKey<K>, V> notification) {
+            removals.add(notification);
+        }
+
+        long count(RemovalReason reason) {
+            return removals.stream().filter(notification -> notification.getRemovalReason() == reason).count();
+        }
+    }
+
+    private static class StringSerializer implements Serializer<String, byte[]> {
+        @Override
+        public byte[] serialize(String object) {
+            return object.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String deserialize(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public boolean equals(String object, byte[] bytes) {
+            return object.equals(deserialize(bytes));
+        }
+    }
+}
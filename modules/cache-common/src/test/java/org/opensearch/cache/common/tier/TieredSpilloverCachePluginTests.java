@@ -8,6 +8,7 @@
 
 package org.opensearch.cache.common.tier;
 
+import org.opensearch.cache.common.offheap.OpenSearchOffHeapCache;
 import org.opensearch.common.cache.ICache;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.test.OpenSearchTestCase;
@@ -20,6 +21,7 @@ public class TieredSpilloverCachePluginTests extends OpenSearchTestCase {
         TieredSpilloverCachePlugin tieredSpilloverCachePlugin = new TieredSpilloverCachePlugin(Settings.EMPTY);
         Map<String, ICache.Factory> map = tieredSpilloverCachePlugin.getCacheFactoryMap();
         assertNotNull(map.get(TieredSpilloverCache.TieredSpilloverCacheFactory.TIERED_SPILLOVER_CACHE_NAME));
+        assertNotNull(map.get(OpenSearchOffHeapCache.OpenSearchOffHeapCacheFactory.NAME));
         assertEquals(TieredSpilloverCachePlugin.TIERED_CACHE_SPILLOVER_PLUGIN_NAME, tieredSpilloverCachePlugin.getName());
     }
 
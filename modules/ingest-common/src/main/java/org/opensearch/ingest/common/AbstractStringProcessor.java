@@ -51,12 +51,16 @@ abstract class AbstractStringProcessor<T> extends AbstractProcessor {
     private final String field;
     private final boolean ignoreMissing;
     private final String targetField;
+    private final IngestDocument.CompiledFieldPath compiledField;
+    private final IngestDocument.CompiledFieldPath compiledTargetField;
 
     AbstractStringProcessor(String tag, String description, boolean ignoreMissing, String targetField, String field) {
         super(tag, description);
         this.field = field;
         this.ignoreMissing = ignoreMissing;
         this.targetField = targetField;
+        this.compiledField = IngestDocument.CompiledFieldPath.compile(field);
+        this.compiledTargetField = IngestDocument.CompiledFieldPath.compile(targetField);
     }
 
     public String getField() {
@@ -73,7 +77,7 @@ abstract class AbstractStringProcessor<T> extends AbstractProcessor {
 
     @Override
     public final IngestDocument execute(IngestDocument document) {
-        Object val = document.getFieldValue(field, Object.class, ignoreMissing);
+        Object val = document.getFieldValue(compiledField, Object.class, ignoreMissing);
         Object newValue;
 
         if (val == null && ignoreMissing) {
@@ -113,10 +117,15 @@ abstract class AbstractStringProcessor<T> extends AbstractProcessor {
 
         }
 
-        document.setFieldValue(targetField, newValue);
+        document.setFieldValue(compiledTargetField, newValue);
         return document;
     }
 
+    @Override
+    protected boolean isSynchronous() {
+        return true;
+    }
+
     protected abstract T process(String value);
 
     abstract static class Factory implements Processor.Factory {
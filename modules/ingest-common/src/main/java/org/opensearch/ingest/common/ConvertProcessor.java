@@ -182,6 +182,8 @@ public final class ConvertProcessor extends AbstractProcessor {
 
     private final String field;
     private final String targetField;
+    private final IngestDocument.CompiledFieldPath compiledField;
+    private final IngestDocument.CompiledFieldPath compiledTargetField;
     private final Type convertType;
     private final boolean ignoreMissing;
 
@@ -189,6 +191,8 @@ public final class ConvertProcessor extends AbstractProcessor {
         super(tag, description);
         this.field = field;
         this.targetField = targetField;
+        this.compiledField = IngestDocument.CompiledFieldPath.compile(field);
+        this.compiledTargetField = IngestDocument.CompiledFieldPath.compile(targetField);
         this.convertType = convertType;
         this.ignoreMissing = ignoreMissing;
     }
@@ -211,7 +215,7 @@ public final class ConvertProcessor extends AbstractProcessor {
 
     @Override
     public IngestDocument execute(IngestDocument document) {
-        Object oldValue = document.getFieldValue(field, Object.class, ignoreMissing);
+        Object oldValue = document.getFieldValue(compiledField, Object.class, ignoreMissing);
         Object newValue;
 
         if (oldValue == null && ignoreMissing) {
@@ -229,10 +233,15 @@ public final class ConvertProcessor extends AbstractProcessor {
         } else {
             newValue = convertType.convert(oldValue);
         }
-        document.setFieldValue(targetField, newValue);
+        document.setFieldValue(compiledTargetField, newValue);
         return document;
     }
 
+    @Override
+    protected boolean isSynchronous() {
+        return true;
+    }
+
     @Override
     public String getType() {
         return TYPE;
@@ -47,6 +47,7 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -63,8 +64,13 @@ public final class DateProcessor extends AbstractProcessor {
     private final TemplateScript.Factory locale;
     private final String field;
     private final String targetField;
+    private final IngestDocument.CompiledFieldPath compiledField;
+    private final IngestDocument.CompiledFieldPath compiledTargetField;
     private final List<String> formats;
     private final List<Function<Map<String, Object>, Function<String, ZonedDateTime>>> dateParsers;
+    // parsers built once when neither the timezone nor the locale depend on the document, null otherwise
+    @Nullable
+    private final List<Function<String, ZonedDateTime>> resolvedDateParsers;
     private final String outputFormat;
 
     DateProcessor(
@@ -94,16 +100,41 @@ public final class DateProcessor extends AbstractProcessor {
         this.locale = locale;
         this.field = field;
         this.targetField = targetField;
+        this.compiledField = IngestDocument.CompiledFieldPath.compile(field);
+        this.compiledTargetField = IngestDocument.CompiledFieldPath.compile(targetField);
         this.formats = formats;
         this.dateParsers = new ArrayList<>(this.formats.size());
         for (String format : formats) {
             DateFormat dateFormat = DateFormat.fromString(format);
             dateParsers.add((params) -> dateFormat.getFunction(format, newDateTimeZone(params), newLocale(params)));
         }
+        this.resolvedDateParsers = resolveDateParsers();
         this.outputFormat = outputFormat;
         formatter = DateFormatter.forPattern(this.outputFormat);
     }
 
+    /**
+     * Builds the date parsers up front if the timezone and locale are the same for every document, so that the date
+     * formats are not parsed again for each document. Returns null if they are templated, or if they are invalid so
+     * that the error is still reported per document.
+     */
+    @Nullable
+    private List<Function<String, ZonedDateTime>> resolveDateParsers() {
+        if ((timezone != null && ConfigurationUtils.constantTemplateValue(timezone) == null)
+            || (locale != null && ConfigurationUtils.constantTemplateValue(locale) == null)) {
+            return null;
+        }
+        List<Function<String, ZonedDateTime>> parsers = new ArrayList<>(dateParsers.size());
+        try {
+            for (Function<Map<String, Object>, Function<String, ZonedDateTime>> dateParser : dateParsers) {
+                parsers.add(dateParser.apply(Collections.emptyMap()));
+            }
+        } catch (Exception e) {
+            return null;
+        }
+        return parsers;
+    }
+
     private ZoneId newDateTimeZone(Map<String, Object> params) {
         return timezone == null ? ZoneOffset.UTC : ZoneId.of(timezone.newInstance(params).execute());
     }
@@ -114,7 +145,7 @@ public final class DateProcessor extends AbstractProcessor {
 
     @Override
     public IngestDocument execute(IngestDocument ingestDocument) {
-        Object obj = ingestDocument.getFieldValue(field, Object.class);
+        Object obj = ingestDocument.getFieldValue(compiledField, Object.class);
         String value = null;
         if (obj != null) {
             // Not use Objects.toString(...) here, because null gets changed to "null" which may confuse some date parsers
@@ -123,9 +154,12 @@ public final class DateProcessor extends AbstractProcessor {
 
         ZonedDateTime dateTime = null;
         Exception lastException = null;
-        for (Function<Map<String, Object>, Function<String, ZonedDateTime>> dateParser : dateParsers) {
+        for (int i = 0; i < dateParsers.size(); i++) {
             try {
-                dateTime = dateParser.apply(ingestDocument.getSourceAndMetadata()).apply(value);
+                Function<String, ZonedDateTime> dateParser = resolvedDateParsers != null
+                    ? resolvedDateParsers.get(i)
+                    : dateParsers.get(i).apply(ingestDocument.getSourceAndMetadata());
+                dateTime = dateParser.apply(value);
             } catch (Exception e) {
                 // try the next parser and keep track of the exceptions
                 lastException = ExceptionsHelper.useOrSuppress(lastException, e);
@@ -136,10 +170,15 @@ public final class DateProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("unable to parse date [" + value + "]", lastException);
         }
 
-        ingestDocument.setFieldValue(targetField, formatter.format(dateTime));
+        ingestDocument.setFieldValue(compiledTargetField, formatter.format(dateTime));
         return ingestDocument;
     }
 
+    @Override
+    protected boolean isSynchronous() {
+        return true;
+    }
+
     @Override
     public String getType() {
         return TYPE;
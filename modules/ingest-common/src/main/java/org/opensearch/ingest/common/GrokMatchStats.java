@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest.common;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per pattern match statistics of a {@link GrokProcessor}.
+ * <p>
+ * The patterns of a processor are matched as a single alternation, so the time spent matching a value is attributed
+ * to the pattern that matched it, or to the processor's misses when no pattern matched. Values that the prefilter
+ * rejects before any regular expression runs are counted separately, and so are the patterns that the prefilter ruled
+ * out for a value. The stats are reported as the extended stats of the processor in the ingest node stats.
+ */
+final class GrokMatchStats {
+
+    private final CounterMetric[] matchCount;
+    private final CounterMetric[] matchTimeInNanos;
+    private final CounterMetric[] prefilterSkipCount;
+    private final CounterMetric missCount = new CounterMetric();
+    private final CounterMetric missTimeInNanos = new CounterMetric();
+    private final CounterMetric prefilterRejectCount = new CounterMetric();
+
+    GrokMatchStats(int patternCount) {
+        this.matchCount = newCounters(patternCount);
+        this.matchTimeInNanos = newCounters(patternCount);
+        this.prefilterSkipCount = newCounters(patternCount);
+    }
+
+    private static CounterMetric[] newCounters(int count) {
+        CounterMetric[] counters = new CounterMetric[count];
+        for (int i = 0; i < count; i++) {
+            counters[i] = new CounterMetric();
+        }
+        return counters;
+    }
+
+    void onPrefilter(BitSet candidates) {
+        for (int i = candidates.nextClearBit(0); i < prefilterSkipCount.length; i = candidates.nextClearBit(i + 1)) {
+            prefilterSkipCount[i].inc();
+        }
+        if (candidates.isEmpty()) {
+            prefilterRejectCount.inc();
+        }
+    }
+
+    void onMatch(int pattern, long timeInNanos) {
+        matchCount[pattern].inc();
+        matchTimeInNanos[pattern].inc(timeInNanos);
+    }
+
+    void onMiss(long timeInNanos) {
+        missCount.inc();
+        missTimeInNanos.inc(timeInNanos);
+    }
+
+    /**
+     * The number of values the pattern at the provided index matched.
+     */
+    long getMatchCount(int pattern) {
+        return matchCount[pattern].count();
+    }
+
+    /**
+     * The time spent matching the values that the pattern at the provided index matched.
+     */
+    long getMatchTimeInNanos(int pattern) {
+        return matchTimeInNanos[pattern].count();
+    }
+
+    /**
+     * The number of values for which the prefilter proved that the pattern at the provided index can't match.
+     */
+    long getPrefilterSkipCount(int pattern) {
+        return prefilterSkipCount[pattern].count();
+    }
+
+    /**
+     * The number of values that no pattern matched, including those rejected by the prefilter.
+     */
+    long getMissCount() {
+        return missCount.count();
+    }
+
+    /**
+     * The time spent running the regular expressions on values that no pattern matched.
+     */
+    long getMissTimeInNanos() {
+        return missTimeInNanos.count();
+    }
+
+    /**
+     * The number of values that the prefilter rejected without running any regular expression.
+     */
+    long getPrefilterRejectCount() {
+        return prefilterRejectCount.count();
+    }
+
+    /**
+     * Renders the stats as the extended stats of the processor, with one entry per pattern in the order of the patterns.
+     */
+    Map<String, Object> toMap(List<String> patterns) {
+        List<Object> perPattern = new ArrayList<>(patterns.size());
+        for (int i = 0; i < patterns.size(); i++) {
+            Map<String, Object> patternStats = new LinkedHashMap<>();
+            patternStats.put("pattern", patterns.get(i));
+            patternStats.put("matched", getMatchCount(i));
+            patternStats.put("match_time_in_millis", TimeUnit.NANOSECONDS.toMillis(getMatchTimeInNanos(i)));
+            patternStats.put("prefilter_skipped", getPrefilterSkipCount(i));
+            perPattern.add(patternStats);
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("patterns", perPattern);
+        stats.put("missed", getMissCount());
+        stats.put("miss_time_in_millis", TimeUnit.NANOSECONDS.toMillis(getMissTimeInNanos()));
+        stats.put("prefilter_rejected", getPrefilterRejectCount());
+        return stats;
+    }
+}
@@ -36,14 +36,17 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.grok.Grok;
 import org.opensearch.grok.MatcherWatchdog;
+import org.opensearch.grok.MultiPatternGrok;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.Processor;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
 
@@ -54,8 +57,10 @@ public final class GrokProcessor extends AbstractProcessor {
     private static final Logger logger = LogManager.getLogger(GrokProcessor.class);
 
     private final String matchField;
+    private final IngestDocument.CompiledFieldPath compiledMatchField;
     private final List<String> matchPatterns;
-    private final Grok grok;
+    private final MultiPatternGrok grok;
+    private final GrokMatchStats matchStats;
     private final boolean traceMatch;
     private final boolean ignoreMissing;
     private final boolean captureAllMatches;
@@ -73,19 +78,30 @@ public final class GrokProcessor extends AbstractProcessor {
     ) {
         super(tag, description);
         this.matchField = matchField;
+        this.compiledMatchField = IngestDocument.CompiledFieldPath.compile(matchField);
         this.matchPatterns = matchPatterns;
-        this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug, captureAllMatches);
+        final AtomicBoolean creating = new AtomicBoolean(true);
+        this.grok = new MultiPatternGrok(patternBank, matchPatterns, matcherWatchdog, message -> {
+            if (creating.get()) {
+                logger.warn(message);
+            } else {
+                logger.debug(message);
+            }
+        }, captureAllMatches);
+        this.matchStats = new GrokMatchStats(matchPatterns.size());
         this.traceMatch = traceMatch;
         this.ignoreMissing = ignoreMissing;
         this.captureAllMatches = captureAllMatches;
         // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too verbose
-        // so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
-        new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::warn).match("___nomatch___");
+        // so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation, using the
+        // alternation of all the patterns. Later matches, including those of the candidate subsets, only log at debug level.
+        grok.grok().match("___nomatch___");
+        creating.set(false);
     }
 
     @Override
     public IngestDocument execute(IngestDocument ingestDocument) throws Exception {
-        String fieldValue = ingestDocument.getFieldValue(matchField, String.class, ignoreMissing);
+        String fieldValue = ingestDocument.getFieldValue(compiledMatchField, String.class, ignoreMissing);
 
         if (fieldValue == null && ignoreMissing) {
             return ingestDocument;
@@ -93,34 +109,52 @@ public final class GrokProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("field [" + matchField + "] is null, cannot process it.");
         }
 
-        Map<String, Object> matches = grok.captures(fieldValue);
-        if (matches == null) {
+        BitSet candidates = grok.candidates(fieldValue);
+        matchStats.onPrefilter(candidates);
+        long startTimeInNanos = System.nanoTime();
+        MultiPatternGrok.Match match = grok.match(fieldValue, candidates);
+        long timeInNanos = System.nanoTime() - startTimeInNanos;
+        if (match == null) {
+            matchStats.onMiss(timeInNanos);
             throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
         }
+        matchStats.onMatch(match.patternIndex(), timeInNanos);
 
-        matches.forEach(ingestDocument::setFieldValue);
+        match.captures().forEach(ingestDocument::setFieldValue);
 
         if (traceMatch) {
-            if (matchPatterns.size() > 1) {
-                @SuppressWarnings("unchecked")
-                HashMap<String, String> matchMap = (HashMap<String, String>) ingestDocument.getFieldValue(PATTERN_MATCH_KEY, Object.class);
-                matchMap.keySet().stream().findFirst().ifPresent((index) -> { ingestDocument.setFieldValue(PATTERN_MATCH_KEY, index); });
-            } else {
-                ingestDocument.setFieldValue(PATTERN_MATCH_KEY, "0");
-            }
+            ingestDocument.setFieldValue(PATTERN_MATCH_KEY, String.valueOf(match.patternIndex()));
         }
         return ingestDocument;
     }
 
+    @Override
+    protected boolean isSynchronous() {
+        return true;
+    }
+
     @Override
     public String getType() {
         return TYPE;
     }
 
+    @Override
+    public Map<String, Object> getExtendedStats() {
+        return matchStats.toMap(matchPatterns);
+    }
+
     Grok getGrok() {
+        return grok.grok();
+    }
+
+    MultiPatternGrok getMultiPatternGrok() {
         return grok;
     }
 
+    GrokMatchStats getMatchStats() {
+        return matchStats;
+    }
+
     boolean isIgnoreMissing() {
         return ignoreMissing;
     }
@@ -137,31 +171,6 @@ public final class GrokProcessor extends AbstractProcessor {
         return captureAllMatches;
     }
 
-    static String combinePatterns(List<String> patterns, boolean traceMatch) {
-        String combinedPattern;
-        if (patterns.size() > 1) {
-            combinedPattern = "";
-            for (int i = 0; i < patterns.size(); i++) {
-                String pattern = patterns.get(i);
-                String valueWrap;
-                if (traceMatch) {
-                    valueWrap = "(?<" + PATTERN_MATCH_KEY + "." + i + ">" + pattern + ")";
-                } else {
-                    valueWrap = "(?:" + patterns.get(i) + ")";
-                }
-                if (combinedPattern.equals("")) {
-                    combinedPattern = valueWrap;
-                } else {
-                    combinedPattern = combinedPattern + "|" + valueWrap;
-                }
-            }
-        } else {
-            combinedPattern = patterns.get(0);
-        }
-
-        return combinedPattern;
-    }
-
     public static final class Factory implements Processor.Factory {
 
         private final Map<String, String> builtinPatterns;
@@ -259,6 +259,11 @@ public final class KeyValueProcessor extends AbstractProcessor {
         return document;
     }
 
+    @Override
+    protected boolean isSynchronous() {
+        return true;
+    }
+
     @Override
     public String getType() {
         return TYPE;
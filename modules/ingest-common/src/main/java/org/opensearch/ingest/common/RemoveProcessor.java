@@ -162,6 +162,11 @@ public final class RemoveProcessor extends AbstractProcessor {
         return document;
     }
 
+    @Override
+    protected boolean isSynchronous() {
+        return true;
+    }
+
     @Override
     public String getType() {
         return TYPE;
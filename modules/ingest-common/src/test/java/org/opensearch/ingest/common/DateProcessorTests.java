@@ -32,9 +32,12 @@
 
 package org.opensearch.ingest.common;
 
+import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.RandomDocumentPicks;
 import org.opensearch.ingest.TestTemplateService;
+import org.opensearch.script.ScriptService;
 import org.opensearch.script.TemplateScript;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -54,6 +57,8 @@ import java.util.Map;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.mockito.Mockito.mock;
 
 public class DateProcessorTests extends OpenSearchTestCase {
 
@@ -65,6 +70,10 @@ public class DateProcessorTests extends OpenSearchTestCase {
         return new TestTemplateService.MockTemplateScript.Factory(timezone.getId());
     }
 
+    private TemplateScript.Factory constantTemplate(String value) {
+        return ConfigurationUtils.compileTemplate(DateProcessor.TYPE, null, "timezone", value, mock(ScriptService.class));
+    }
+
     public void testJavaPattern() {
         DateProcessor dateProcessor = new DateProcessor(
             randomAlphaOfLength(10),
@@ -340,4 +349,82 @@ public class DateProcessorTests extends OpenSearchTestCase {
         String expectedDate = "00:00:00." + String.format(Locale.ROOT, "%09d", nanosAfterEpoch);
         assertThat(ingestDocument.getFieldValue("date_as_date", String.class), equalTo(expectedDate));
     }
+
+    public void testConstantTimezoneAndLocale() {
+        DateProcessor dateProcessor = new DateProcessor(
+            randomAlphaOfLength(10),
+            null,
+            constantTemplate("Europe/Amsterdam"),
+            constantTemplate("en"),
+            "date_as_string",
+            Collections.singletonList("yyyy dd MM HH:mm:ss"),
+            "date_as_date"
+        );
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> document = new HashMap<>();
+            document.put("date_as_string", "2010 12 06 11:05:1" + i);
+            IngestDocument ingestDocument = RandomDocumentPicks.randomIngestDocument(random(), document);
+            dateProcessor.execute(ingestDocument);
+            assertThat(ingestDocument.getFieldValue("date_as_date", String.class), equalTo("2010-06-12T11:05:1" + i + ".000+02:00"));
+        }
+    }
+
+    public void testInvalidConstantTimezone() {
+        DateProcessor processor = new DateProcessor(
+            randomAlphaOfLength(10),
+            null,
+            constantTemplate("invalid_timezone"),
+            null,
+            "date_as_string",
+            Collections.singletonList("yyyy"),
+            "date_as_date"
+        );
+        Map<String, Object> document = new HashMap<>();
+        document.put("date_as_string", "2010");
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> processor.execute(RandomDocumentPicks.randomIngestDocument(random(), document))
+        );
+        assertThat(e.getMessage(), equalTo("unable to parse date [2010]"));
+        assertThat(e.getCause().getMessage(), equalTo("Unknown time-zone ID: invalid_timezone"));
+    }
+
+    public void testBatchExecute() {
+        DateProcessor processor = new DateProcessor(
+            randomAlphaOfLength(10),
+            null,
+            null,
+            null,
+            "date_as_string",
+            Collections.singletonList("yyyy-MM-dd"),
+            "date_as_date"
+        );
+        List<IngestDocumentWrapper> wrappers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Map<String, Object> document = new HashMap<>();
+            document.put("date_as_string", i == 1 ? "not a date" : "2010-06-1" + i);
+            wrappers.add(new IngestDocumentWrapper(i, 0, RandomDocumentPicks.randomIngestDocument(random(), document), null));
+        }
+
+        List<List<IngestDocumentWrapper>> results = new ArrayList<>();
+        processor.batchExecute(wrappers, results::add);
+
+        assertEquals(1, results.size());
+        List<IngestDocumentWrapper> batchResults = results.get(0);
+        assertEquals(3, batchResults.size());
+        for (int i = 0; i < 3; i++) {
+            IngestDocumentWrapper result = batchResults.get(i);
+            assertEquals(i, result.getSlot());
+            if (i == 1) {
+                assertThat(result.getIngestDocument(), nullValue());
+                assertThat(result.getException(), instanceOf(IllegalArgumentException.class));
+            } else {
+                assertThat(result.getException(), nullValue());
+                assertThat(
+                    result.getIngestDocument().getFieldValue("date_as_date", String.class),
+                    equalTo("2010-06-1" + i + "T00:00:00.000Z")
+                );
+            }
+        }
+    }
 }
@@ -32,12 +32,14 @@
 
 package org.opensearch.ingest.common;
 
+import org.opensearch.grok.Grok;
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.RandomDocumentPicks;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -334,20 +336,90 @@ public class GrokProcessorTests extends OpenSearchTestCase {
         assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("0"));
     }
 
-    public void testCombinedPatterns() {
-        String combined;
-        combined = GrokProcessor.combinePatterns(Arrays.asList(""), false);
-        assertThat(combined, equalTo(""));
-        combined = GrokProcessor.combinePatterns(Arrays.asList(""), true);
-        assertThat(combined, equalTo(""));
-        combined = GrokProcessor.combinePatterns(Arrays.asList("foo"), false);
-        assertThat(combined, equalTo("foo"));
-        combined = GrokProcessor.combinePatterns(Arrays.asList("foo"), true);
-        assertThat(combined, equalTo("foo"));
-        combined = GrokProcessor.combinePatterns(Arrays.asList("foo", "bar"), false);
-        assertThat(combined, equalTo("(?:foo)|(?:bar)"));
-        combined = GrokProcessor.combinePatterns(Arrays.asList("foo", "bar"), true);
-        assertThat(combined, equalTo("(?<_ingest._grok_match_index.0>foo)|(?<_ingest._grok_match_index.1>bar)"));
+    public void testPrefilterSelectsCandidatePatterns() throws Exception {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        boolean traceMatch = randomBoolean();
+        GrokProcessor processor = new GrokProcessor(
+            randomAlphaOfLength(10),
+            null,
+            Grok.BUILTIN_PATTERNS,
+            Arrays.asList(
+                "%{WORD:service} ERROR %{GREEDYDATA:message}",
+                "%{WORD:service} WARN %{GREEDYDATA:message}",
+                "%{WORD:service} INFO %{GREEDYDATA:message}"
+            ),
+            fieldName,
+            traceMatch,
+            false,
+            false,
+            MatcherWatchdog.noop()
+        );
+
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "indexer WARN disk almost full");
+        processor.execute(doc);
+        assertThat(doc.getFieldValue("service", String.class), equalTo("indexer"));
+        assertThat(doc.getFieldValue("message", String.class), equalTo("disk almost full"));
+        if (traceMatch) {
+            assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("1"));
+        } else {
+            assertThat(doc.hasField("_ingest._grok_match_index"), equalTo(false));
+        }
+
+        doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "search INFO ready");
+        processor.execute(doc);
+        assertThat(doc.getFieldValue("service", String.class), equalTo("search"));
+
+        BitSet candidates = processor.getMultiPatternGrok().candidates("search INFO ready");
+        assertThat(candidates.cardinality(), equalTo(1));
+        assertThat(candidates.get(2), equalTo(true));
+
+        GrokMatchStats stats = processor.getMatchStats();
+        assertThat(stats.getMatchCount(0), equalTo(0L));
+        assertThat(stats.getMatchCount(1), equalTo(1L));
+        assertThat(stats.getMatchCount(2), equalTo(1L));
+        assertThat(stats.getPrefilterSkipCount(0), equalTo(2L));
+        assertThat(stats.getPrefilterSkipCount(1), equalTo(1L));
+        assertThat(stats.getPrefilterSkipCount(2), equalTo(1L));
+        assertThat(stats.getMissCount(), equalTo(0L));
+
+        Map<String, Object> extendedStats = processor.getExtendedStats();
+        assertThat(extendedStats.get("missed"), equalTo(0L));
+        List<?> patternStats = (List<?>) extendedStats.get("patterns");
+        assertThat(patternStats.size(), equalTo(3));
+        Map<?, ?> warnStats = (Map<?, ?>) patternStats.get(1);
+        assertThat(warnStats.get("pattern"), equalTo("%{WORD:service} WARN %{GREEDYDATA:message}"));
+        assertThat(warnStats.get("matched"), equalTo(1L));
+        assertThat(warnStats.get("prefilter_skipped"), equalTo(1L));
+    }
+
+    public void testPrefilterRejectsValue() {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "indexer DEBUG starting");
+        GrokProcessor processor = new GrokProcessor(
+            randomAlphaOfLength(10),
+            null,
+            Grok.BUILTIN_PATTERNS,
+            Arrays.asList("%{WORD:service} ERROR %{GREEDYDATA:message}", "%{WORD:service} WARN %{GREEDYDATA:message}"),
+            fieldName,
+            false,
+            false,
+            false,
+            MatcherWatchdog.noop()
+        );
+        Exception e = expectThrows(IllegalArgumentException.class, () -> processor.execute(doc));
+        assertThat(e.getMessage(), equalTo("Provided Grok expressions do not match field value: [indexer DEBUG starting]"));
+
+        assertThat(processor.getMultiPatternGrok().candidates("indexer DEBUG starting").isEmpty(), equalTo(true));
+
+        GrokMatchStats stats = processor.getMatchStats();
+        assertThat(stats.getPrefilterRejectCount(), equalTo(1L));
+        assertThat(stats.getMissCount(), equalTo(1L));
+        assertThat(stats.getPrefilterSkipCount(0), equalTo(1L));
+        assertThat(stats.getPrefilterSkipCount(1), equalTo(1L));
+        assertThat(processor.getExtendedStats().get("prefilter_rejected"), equalTo(1L));
     }
 
     public void testCombineSamePatternNameAcrossPatterns() throws Exception {
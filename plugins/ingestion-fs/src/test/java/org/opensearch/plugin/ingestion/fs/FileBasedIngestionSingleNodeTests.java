@@ -395,6 +395,77 @@ public class FileBasedIngestionSingleNodeTests extends OpenSearchSingleNodeTestC
         client().admin().indices().delete(new DeleteIndexRequest(index)).actionGet();
     }
 
+    public void testFileIngestionWithAdaptivePoll() throws Exception {
+        String mappings = """
+            {
+              "properties": {
+                "name": { "type": "text" },
+                "age": { "type": "integer" }
+              }
+            }
+            """;
+
+        int numDocs = 500;
+        Path shardFile = ingestionDir.resolve(stream).resolve("0.ndjson");
+        try (
+            BufferedWriter writer = Files.newBufferedWriter(
+                shardFile,
+                StandardCharsets.UTF_8,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            )
+        ) {
+            for (int i = 0; i < numDocs; i++) {
+                writer.write(
+                    "{\"_id\":\""
+                        + i
+                        + "\",\"_version\":\"1\",\"_op_type\":\"index\",\"_source\":{\"name\":\"name"
+                        + i
+                        + "\", \"age\": "
+                        + i
+                        + "}}\n"
+                );
+            }
+            writer.flush();
+        }
+
+        try (FileChannel channel = FileChannel.open(shardFile, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+
+        createIndexWithMappingSource(
+            index,
+            Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                .put("ingestion_source.type", "FILE")
+                .put("ingestion_source.pointer.init.reset", "earliest")
+                .put("ingestion_source.poll.adaptive", true)
+                .put("ingestion_source.poll.max_batch_size", 100)
+                .put("ingestion_source.internal_queue_size", 20)
+                .put("ingestion_source.param.stream", stream)
+                .put("ingestion_source.param.base_directory", ingestionDir.toString())
+                .put("index.replication.type", "SEGMENT")
+                .build(),
+            mappings
+        );
+        ensureGreen(index);
+
+        waitForState(() -> {
+            SearchResponse response = client().prepareSearch(index).setQuery(new RangeQueryBuilder("age").gte(0)).get();
+            return response.getHits().getTotalHits().value() == numDocs;
+        });
+
+        PollingIngestStats stats = getPollingIngestStats(index);
+        assertNotNull(stats);
+        assertEquals(numDocs, stats.getConsumerStats().totalPolledCount());
+        assertTrue(stats.getConsumerStats().currentPollSize() > 0);
+        assertTrue(stats.getConsumerStats().currentPollSize() <= 100);
+
+        // cleanup
+        client().admin().indices().delete(new DeleteIndexRequest(index)).actionGet();
+    }
+
     /**
      * Helper method to get polling ingest stats for the index
      */
@@ -0,0 +1,252 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.fetch;
+
+import com.carrotsearch.randomizedtesting.annotations.ParametersFactory;
+
+import org.apache.lucene.search.join.ScoreMode;
+import org.opensearch.action.admin.indices.segments.IndexShardSegments;
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.action.search.SearchRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.MergePolicyProvider;
+import org.opensearch.index.query.InnerHitBuilder;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchIntegTestCase;
+import org.opensearch.test.ParameterizedStaticSettingsOpenSearchIntegTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
+import static org.opensearch.index.query.QueryBuilders.matchQuery;
+import static org.opensearch.index.query.QueryBuilders.nestedQuery;
+import static org.opensearch.search.SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertNoFailures;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+/**
+ * Checks that the batched fetch, sequential or with concurrently loaded segments, returns the same hits in the same order as the
+ * hit by hit fetch, which profiled requests always use.
+ */
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.SUITE, numDataNodes = 1)
+public class FetchPhaseBatchingIT extends ParameterizedStaticSettingsOpenSearchIntegTestCase {
+
+    private static final int NUM_SEGMENTS = 5;
+    private static final int DOCS_PER_SEGMENT = 40;
+    private static final int NUM_DOCS = NUM_SEGMENTS * DOCS_PER_SEGMENT;
+
+    public FetchPhaseBatchingIT(Settings staticSettings) {
+        super(staticSettings);
+    }
+
+    @ParametersFactory
+    public static Collection<Object[]> parameters() {
+        return Arrays.asList(
+            new Object[] { Settings.builder().put(CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING.getKey(), false).build() },
+            new Object[] { Settings.builder().put(CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING.getKey(), true).build() }
+        );
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(Settings.builder().putNull(SearchService.CONCURRENT_FETCH_MIN_HITS_SETTING.getKey()))
+        );
+        super.tearDown();
+    }
+
+    public void testBatchedSubPhases() throws Exception {
+        createIndexWithSegments();
+        assertSameHits(
+            () -> client().prepareSearch("test")
+                .setQuery(matchAllQuery())
+                .setSize(NUM_DOCS)
+                .addSort("number", SortOrder.DESC)
+                .setFetchSource(new FetchSourceContext(true, new String[] { "text", "comments.*" }, new String[] { "comments.note" }))
+                .addDocValueField("number")
+                .addFetchField("tag")
+                .setVersion(true)
+                .seqNoAndPrimaryTerm(true),
+            NUM_DOCS
+        );
+    }
+
+    public void testStoredFieldsOnly() throws Exception {
+        createIndexWithSegments();
+        assertSameHits(
+            () -> client().prepareSearch("test")
+                .setQuery(matchAllQuery())
+                .setSize(NUM_DOCS)
+                .addSort("number", SortOrder.ASC)
+                .addStoredField("stored")
+                .setFetchSource(false),
+            NUM_DOCS
+        );
+    }
+
+    public void testSubPhasesThatAreNotBatched() throws Exception {
+        createIndexWithSegments();
+        assertSameHits(
+            () -> client().prepareSearch("test")
+                .setQuery(boolQuery().should(matchQuery("text", "even").queryName("even")).should(matchAllQuery().queryName("all")))
+                .setSize(NUM_DOCS)
+                .addSort("number", SortOrder.DESC)
+                .highlighter(new HighlightBuilder().field("text"))
+                .setExplain(true)
+                .addDocValueField("number"),
+            NUM_DOCS
+        );
+    }
+
+    public void testNestedDocs() throws Exception {
+        createIndexWithSegments();
+        int expectedHits = 0;
+        for (int i = 0; i < NUM_DOCS; i++) {
+            if (i % 4 != 0) {
+                expectedHits++;
+            }
+        }
+        assertSameHits(
+            () -> client().prepareSearch("test")
+                .setQuery(
+                    nestedQuery("comments", matchAllQuery(), ScoreMode.None).innerHit(
+                        new InnerHitBuilder("comments").setSize(3).setVersion(true).setSeqNoAndPrimaryTerm(true)
+                    )
+                )
+                .setSize(NUM_DOCS)
+                .addSort("number", SortOrder.ASC),
+            expectedHits
+        );
+    }
+
+    /**
+     * Runs the request hit by hit, then batched with the segments loaded sequentially, then batched with the segments loaded
+     * concurrently, and checks that all of them return the same hits.
+     */
+    private void assertSameHits(Supplier<SearchRequestBuilder> request, int expectedHits) {
+        SearchHit[] expected = search(request.get().setProfile(true), 0);
+        assertThat(expected.length, equalTo(expectedHits));
+        assertHitsEqual(expected, search(request.get(), 0));
+        assertHitsEqual(expected, search(request.get(), 1));
+        assertHitsEqual(expected, search(request.get(), expectedHits));
+    }
+
+    private SearchHit[] search(SearchRequestBuilder request, int concurrentFetchMinHits) {
+        assertAcked(
+            client().admin()
+                .cluster()
+                .prepareUpdateSettings()
+                .setTransientSettings(
+                    Settings.builder().put(SearchService.CONCURRENT_FETCH_MIN_HITS_SETTING.getKey(), concurrentFetchMinHits)
+                )
+        );
+        SearchResponse response = request.get();
+        assertNoFailures(response);
+        return response.getHits().getHits();
+    }
+
+    private static void assertHitsEqual(SearchHit[] expected, SearchHit[] actual) {
+        assertThat(actual.length, equalTo(expected.length));
+        for (int i = 0; i < expected.length; i++) {
+            assertThat("hit [" + i + "]", actual[i].getId(), equalTo(expected[i].getId()));
+            assertThat("hit [" + i + "]", actual[i], equalTo(expected[i]));
+        }
+    }
+
+    private void createIndexWithSegments() throws IOException, InterruptedException {
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+            // keep the segments apart so that the hits span several of them
+            .put(MergePolicyProvider.INDEX_MERGE_ENABLED, false)
+            .build();
+        XContentBuilder mapping = jsonBuilder().startObject()
+            .startObject("properties")
+            .startObject("number")
+            .field("type", "long")
+            .endObject()
+            .startObject("tag")
+            .field("type", "keyword")
+            .endObject()
+            .startObject("text")
+            .field("type", "text")
+            .endObject()
+            .startObject("stored")
+            .field("type", "keyword")
+            .field("store", true)
+            .endObject()
+            .startObject("comments")
+            .field("type", "nested")
+            .startObject("properties")
+            .startObject("message")
+            .field("type", "text")
+            .endObject()
+            .startObject("note")
+            .field("type", "keyword")
+            .endObject()
+            .endObject()
+            .endObject()
+            .endObject()
+                .endObject();
+        assertAcked(prepareCreate("test").setSettings(settings).setMapping(mapping));
+        ensureGreen("test");
+
+        for (int segment = 0; segment < NUM_SEGMENTS; segment++) {
+            List<IndexRequestBuilder> requests = new ArrayList<>();
+            for (int i = segment * DOCS_PER_SEGMENT; i < (segment + 1) * DOCS_PER_SEGMENT; i++) {
+                requests.add(client().prepareIndex("test").setId(Integer.toString(i)).setSource(document(i)));
+            }
+            indexRandom(false, false, requests);
+            refresh("test");
+        }
+        IndexShardSegments shardSegments = client().admin()
+            .indices()
+            .prepareSegments("test")
+            .get()
+            .getIndices()
+            .get("test")
+            .getShards()
+            .get(0);
+        assertThat(shardSegments.getAt(0).getSegments().size(), greaterThan(1));
+    }
+
+    private static XContentBuilder document(int i) throws IOException {
+        XContentBuilder builder = jsonBuilder().startObject()
+            .field("number", i)
+            .field("tag", "tag_" + (i % 7))
+            .field("text", (i % 2 == 0 ? "even" : "odd") + " document " + i)
+            .field("stored", "stored_" + i);
+        // every fourth document has no nested documents, the others have up to three of them
+        builder.startArray("comments");
+        for (int c = 0; c < i % 4; c++) {
+            builder.startObject().field("message", "comment " + c + " of " + i).field("note", "note_" + c).endObject();
+        }
+        builder.endArray();
+        return builder.endObject();
+    }
+}
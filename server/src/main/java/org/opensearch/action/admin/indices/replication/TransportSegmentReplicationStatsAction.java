@@ -28,6 +28,7 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.replication.SegmentReplicationState;
 import org.opensearch.indices.replication.SegmentReplicationTargetService;
+import org.opensearch.indices.replication.common.ReplicationLuceneIndex;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
@@ -232,7 +233,10 @@ public class TransportSegmentReplicationStatsAction extends TransportBroadcastBy
             calculateBytesRemainingToReplicate(ongoingSegmentReplicationState),
             0,
             getCurrentReplicationLag(ongoingSegmentReplicationState),
-            getLastCompletedReplicationLag(completedSegmentReplicationState)
+            getLastCompletedReplicationLag(completedSegmentReplicationState),
+            getLastCompletedReplicationBytes(completedSegmentReplicationState, false),
+            getLastCompletedFileTransferTime(completedSegmentReplicationState),
+            getLastCompletedReplicationBytes(completedSegmentReplicationState, true)
         );
     }
 
@@ -251,6 +255,7 @@ public class TransportSegmentReplicationStatsAction extends TransportBroadcastBy
         return ongoingSegmentReplicationState.getIndex()
             .fileDetails()
             .stream()
+            .filter(file -> file.reused() == false)
             .mapToLong(index -> index.length() - index.recovered())
             .sum();
     }
@@ -262,4 +267,19 @@ public class TransportSegmentReplicationStatsAction extends TransportBroadcastBy
     private long getLastCompletedReplicationLag(SegmentReplicationState completedSegmentReplicationState) {
         return completedSegmentReplicationState != null ? completedSegmentReplicationState.getTimer().time() : 0;
     }
+
+    private long getLastCompletedReplicationBytes(SegmentReplicationState completedSegmentReplicationState, boolean reused) {
+        if (completedSegmentReplicationState == null || completedSegmentReplicationState.getIndex() == null) {
+            return 0;
+        }
+        final ReplicationLuceneIndex index = completedSegmentReplicationState.getIndex();
+        return reused ? index.reusedBytes() : index.recoveredBytes();
+    }
+
+    private long getLastCompletedFileTransferTime(SegmentReplicationState completedSegmentReplicationState) {
+        if (completedSegmentReplicationState == null || completedSegmentReplicationState.getGetFileStageTime() == null) {
+            return 0;
+        }
+        return completedSegmentReplicationState.getGetFileStageTime().millis();
+    }
 }
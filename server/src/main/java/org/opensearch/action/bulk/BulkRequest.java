@@ -289,11 +289,42 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         @Nullable Boolean defaultRequireAlias,
         boolean allowExplicitIndex,
         MediaType mediaType
+    ) throws IOException {
+        addChunk(
+            data,
+            defaultIndex,
+            defaultRouting,
+            defaultFetchSourceContext,
+            defaultPipeline,
+            defaultRequireAlias,
+            allowExplicitIndex,
+            mediaType,
+            true
+        );
+        return this;
+    }
+
+    /**
+     * Adds the complete items of a chunk of a streamed bulk body. Unless this is the {@code lastChunk}, a trailing item whose
+     * lines are incomplete is not added; the caller is expected to prepend the unconsumed bytes to the next chunk.
+     *
+     * @return the number of bytes of {@code data} that were consumed
+     */
+    public int addChunk(
+        BytesReference data,
+        @Nullable String defaultIndex,
+        @Nullable String defaultRouting,
+        @Nullable FetchSourceContext defaultFetchSourceContext,
+        @Nullable String defaultPipeline,
+        @Nullable Boolean defaultRequireAlias,
+        boolean allowExplicitIndex,
+        MediaType mediaType,
+        boolean lastChunk
     ) throws IOException {
         String routing = valueOrDefault(defaultRouting, globalRouting);
         String pipeline = valueOrDefault(defaultPipeline, globalPipeline);
         Boolean requireAlias = valueOrDefault(defaultRequireAlias, globalRequireAlias);
-        new BulkRequestParser().parse(
+        return new BulkRequestParser().parse(
             data,
             defaultIndex,
             routing,
@@ -302,11 +333,11 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
             requireAlias,
             allowExplicitIndex,
             mediaType,
+            lastChunk,
             this::internalAdd,
             this::internalAdd,
             this::add
         );
-        return this;
     }
 
     /**
@@ -83,13 +83,13 @@ public final class BulkRequestParser {
 
     private static final Set<String> VALID_ACTIONS = Set.of("create", "delete", "index", "update");
 
-    private static int findNextMarker(byte marker, int from, BytesReference data) {
+    private static int findNextMarker(byte marker, int from, BytesReference data, boolean lastChunk) {
         final int res = data.indexOf(marker, from);
         if (res != -1) {
             assert res >= 0;
             return res;
         }
-        if (from != data.length()) {
+        if (lastChunk && from != data.length()) {
             throw new IllegalArgumentException("The bulk request must be terminated by a newline [\\n]");
         }
         return res;
@@ -131,6 +131,45 @@ public final class BulkRequestParser {
         Consumer<IndexRequest> indexRequestConsumer,
         Consumer<UpdateRequest> updateRequestConsumer,
         Consumer<DeleteRequest> deleteRequestConsumer
+    ) throws IOException {
+        parse(
+            data,
+            defaultIndex,
+            defaultRouting,
+            defaultFetchSourceContext,
+            defaultPipeline,
+            defaultRequireAlias,
+            allowExplicitIndex,
+            mediaType,
+            true,
+            indexRequestConsumer,
+            updateRequestConsumer,
+            deleteRequestConsumer
+        );
+    }
+
+    /**
+     * Parse the provided {@code data} like {@link #parse(BytesReference, String, String, FetchSourceContext, String, Boolean, boolean,
+     * MediaType, Consumer, Consumer, Consumer)} does, but allow {@code data} to be a chunk of a streamed bulk body. Unless this is the
+     * {@code lastChunk}, a trailing item whose lines are not yet complete is not consumed and parsing stops right before it.
+     * Items are sliced out of {@code data} without being copied, so the caller can prepend the unconsumed remainder to the next
+     * chunk, e.g. with a {@link org.opensearch.core.common.bytes.CompositeBytesReference}.
+     *
+     * @return the number of bytes of {@code data} that were consumed, which is {@code data.length()} for the last chunk
+     */
+    public int parse(
+        BytesReference data,
+        @Nullable String defaultIndex,
+        @Nullable String defaultRouting,
+        @Nullable FetchSourceContext defaultFetchSourceContext,
+        @Nullable String defaultPipeline,
+        @Nullable Boolean defaultRequireAlias,
+        boolean allowExplicitIndex,
+        MediaType mediaType,
+        boolean lastChunk,
+        Consumer<IndexRequest> indexRequestConsumer,
+        Consumer<UpdateRequest> updateRequestConsumer,
+        Consumer<DeleteRequest> deleteRequestConsumer
     ) throws IOException {
         XContent xContent = mediaType.xContent();
         int line = 0;
@@ -141,9 +180,11 @@ public final class BulkRequestParser {
         // reduces their lifetime to the lifetime of this parse call instead of the lifetime of the full bulk request.
         final Map<String, String> stringDeduplicator = new HashMap<>();
         while (true) {
-            int nextMarker = findNextMarker(marker, from, data);
+            // the start of the current item, which is where parsing resumes if the item turns out to be incomplete
+            final int itemStart = from;
+            int nextMarker = findNextMarker(marker, from, data, lastChunk);
             if (nextMarker == -1) {
-                break;
+                return from;
             }
             line++;
 
@@ -296,9 +337,10 @@ public final class BulkRequestParser {
                             .setIfPrimaryTerm(ifPrimaryTerm)
                     );
                 } else {
-                    nextMarker = findNextMarker(marker, from, data);
+                    nextMarker = findNextMarker(marker, from, data, lastChunk);
                     if (nextMarker == -1) {
-                        break;
+                        // the action line was parsed but its source is not (completely) there, leave the whole item for the next chunk
+                        return lastChunk ? from : itemStart;
                     }
                     line++;
 
@@ -30,6 +30,7 @@ public final class ClusterManagerMetrics {
 
     public final Histogram clusterStateAppliersHistogram;
     public final Histogram clusterStateListenersHistogram;
+    public final Histogram clusterStateApplierPhasesHistogram;
     public final Histogram rerouteHistogram;
     public final Histogram clusterStateComputeHistogram;
     public final Histogram clusterStatePublishHistogram;
@@ -51,6 +52,11 @@ public final class ClusterManagerMetrics {
             "Histogram for tracking the latency of cluster state listeners",
             LATENCY_METRIC_UNIT_MS
         );
+        clusterStateApplierPhasesHistogram = metricsRegistry.createHistogram(
+            "cluster.state.applier.phases.latency",
+            "Histogram for tracking the latency of the phases of cluster state appliers",
+            LATENCY_METRIC_UNIT_MS
+        );
         rerouteHistogram = metricsRegistry.createHistogram(
             "allocation.reroute.latency",
             "Histogram for recording latency of shard re-routing",
@@ -882,6 +882,18 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         Property.Dynamic
     );
 
+    /**
+     * Defines if the poll size of pull-based ingestion adapts to the occupancy of the internal blocking queues. When
+     * enabled, {@link #SETTING_INGESTION_SOURCE_MAX_POLL_SIZE} is used as the upper bound of the poll size.
+     */
+    public static final String SETTING_INGESTION_SOURCE_ADAPTIVE_POLL = "index.ingestion_source.poll.adaptive";
+    public static final Setting<Boolean> INGESTION_SOURCE_ADAPTIVE_POLL_SETTING = Setting.boolSetting(
+        SETTING_INGESTION_SOURCE_ADAPTIVE_POLL,
+        false,
+        Property.IndexScope,
+        Property.Final
+    );
+
     /**
      * Defines the number of processor threads that will write to the lucene index.
      */
@@ -907,6 +919,20 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         Setting.Property.Final
     );
 
+    /**
+     * Defines the maximum number of messages a processor thread takes from its internal blocking queue at once and applies
+     * to the engine as one batch in pull-based ingestion.
+     */
+    public static final String SETTING_INGESTION_SOURCE_PROCESSOR_BATCH_SIZE = "index.ingestion_source.processor_batch_size";
+    public static final Setting<Integer> INGESTION_SOURCE_PROCESSOR_BATCH_SIZE_SETTING = Setting.intSetting(
+        SETTING_INGESTION_SOURCE_PROCESSOR_BATCH_SIZE,
+        1,
+        1,
+        10000,
+        Property.IndexScope,
+        Setting.Property.Final
+    );
+
     /**
      * Defines the pointer-based lag update interval for pull-based ingestion.
      * This controls how frequently the lag between the latest available message and the last consumed message is calculated.
@@ -1234,8 +1260,10 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             final Map<String, Object> ingestionSourceParams = INGESTION_SOURCE_PARAMS_SETTING.getAsMap(settings);
             final long maxPollSize = INGESTION_SOURCE_MAX_POLL_SIZE.get(settings);
             final int pollTimeout = INGESTION_SOURCE_POLL_TIMEOUT.get(settings);
+            final boolean adaptivePoll = INGESTION_SOURCE_ADAPTIVE_POLL_SETTING.get(settings);
             final int numProcessorThreads = INGESTION_SOURCE_NUM_PROCESSOR_THREADS_SETTING.get(settings);
             final int blockingQueueSize = INGESTION_SOURCE_INTERNAL_QUEUE_SIZE_SETTING.get(settings);
+            final int processorBatchSize = INGESTION_SOURCE_PROCESSOR_BATCH_SIZE_SETTING.get(settings);
             final boolean allActiveIngestionEnabled = INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING.get(settings);
             final TimeValue pointerBasedLagUpdateInterval = INGESTION_SOURCE_POINTER_BASED_LAG_UPDATE_INTERVAL_SETTING.get(settings);
             final IngestionMessageMapper.MapperType mapperType = INGESTION_SOURCE_MAPPER_TYPE_SETTING.get(settings);
@@ -1245,8 +1273,10 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
                 .setErrorStrategy(errorStrategy)
                 .setMaxPollSize(maxPollSize)
                 .setPollTimeout(pollTimeout)
+                .setAdaptivePoll(adaptivePoll)
                 .setNumProcessorThreads(numProcessorThreads)
                 .setBlockingQueueSize(blockingQueueSize)
+                .setProcessorBatchSize(processorBatchSize)
                 .setAllActiveIngestion(allActiveIngestionEnabled)
                 .setPointerBasedLagUpdateInterval(pointerBasedLagUpdateInterval)
                 .setMapperType(mapperType)
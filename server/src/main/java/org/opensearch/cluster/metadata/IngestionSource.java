@@ -22,10 +22,12 @@ import java.util.Objects;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_INTERNAL_QUEUE_SIZE_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_MAPPER_TYPE_SETTING;
+import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_ADAPTIVE_POLL_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_MAX_POLL_SIZE;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_NUM_PROCESSOR_THREADS_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_POINTER_BASED_LAG_UPDATE_INTERVAL_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_POLL_TIMEOUT;
+import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_PROCESSOR_BATCH_SIZE_SETTING;
 
 /**
  * Class encapsulating the configuration of an ingestion source.
@@ -38,8 +40,10 @@ public class IngestionSource {
     private final Map<String, Object> params;
     private final long maxPollSize;
     private final int pollTimeout;
+    private final boolean adaptivePoll;
     private int numProcessorThreads;
     private int blockingQueueSize;
+    private final int processorBatchSize;
     private final boolean allActiveIngestion;
     private final TimeValue pointerBasedLagUpdateInterval;
     private final IngestionMessageMapper.MapperType mapperType;
@@ -51,8 +55,10 @@ public class IngestionSource {
         Map<String, Object> params,
         long maxPollSize,
         int pollTimeout,
+        boolean adaptivePoll,
         int numProcessorThreads,
         int blockingQueueSize,
+        int processorBatchSize,
         boolean allActiveIngestion,
         TimeValue pointerBasedLagUpdateInterval,
         IngestionMessageMapper.MapperType mapperType
@@ -63,8 +69,10 @@ public class IngestionSource {
         this.errorStrategy = errorStrategy;
         this.maxPollSize = maxPollSize;
         this.pollTimeout = pollTimeout;
+        this.adaptivePoll = adaptivePoll;
         this.numProcessorThreads = numProcessorThreads;
         this.blockingQueueSize = blockingQueueSize;
+        this.processorBatchSize = processorBatchSize;
         this.allActiveIngestion = allActiveIngestion;
         this.pointerBasedLagUpdateInterval = pointerBasedLagUpdateInterval;
         this.mapperType = mapperType;
@@ -102,6 +110,14 @@ public class IngestionSource {
         return blockingQueueSize;
     }
 
+    public boolean isAdaptivePollEnabled() {
+        return adaptivePoll;
+    }
+
+    public int getProcessorBatchSize() {
+        return processorBatchSize;
+    }
+
     public boolean isAllActiveIngestionEnabled() {
         return allActiveIngestion;
     }
@@ -125,8 +141,10 @@ public class IngestionSource {
             && Objects.equals(params, ingestionSource.params)
             && Objects.equals(maxPollSize, ingestionSource.maxPollSize)
             && Objects.equals(pollTimeout, ingestionSource.pollTimeout)
+            && Objects.equals(adaptivePoll, ingestionSource.adaptivePoll)
             && Objects.equals(numProcessorThreads, ingestionSource.numProcessorThreads)
             && Objects.equals(blockingQueueSize, ingestionSource.blockingQueueSize)
+            && Objects.equals(processorBatchSize, ingestionSource.processorBatchSize)
             && Objects.equals(allActiveIngestion, ingestionSource.allActiveIngestion)
             && Objects.equals(pointerBasedLagUpdateInterval, ingestionSource.pointerBasedLagUpdateInterval)
             && Objects.equals(mapperType, ingestionSource.mapperType);
@@ -141,8 +159,10 @@ public class IngestionSource {
             errorStrategy,
             maxPollSize,
             pollTimeout,
+            adaptivePoll,
             numProcessorThreads,
             blockingQueueSize,
+            processorBatchSize,
             allActiveIngestion,
             pointerBasedLagUpdateInterval,
             mapperType
@@ -167,10 +187,14 @@ public class IngestionSource {
             + maxPollSize
             + ", pollTimeout="
             + pollTimeout
+            + ", adaptivePoll="
+            + adaptivePoll
             + ", numProcessorThreads="
             + numProcessorThreads
             + ", blockingQueueSize="
             + blockingQueueSize
+            + ", processorBatchSize="
+            + processorBatchSize
             + ", allActiveIngestion="
             + allActiveIngestion
             + ", pointerBasedLagUpdateInterval="
@@ -233,8 +257,10 @@ public class IngestionSource {
         private Map<String, Object> params;
         private long maxPollSize = INGESTION_SOURCE_MAX_POLL_SIZE.getDefault(Settings.EMPTY);
         private int pollTimeout = INGESTION_SOURCE_POLL_TIMEOUT.getDefault(Settings.EMPTY);
+        private boolean adaptivePoll = INGESTION_SOURCE_ADAPTIVE_POLL_SETTING.getDefault(Settings.EMPTY);
         private int numProcessorThreads = INGESTION_SOURCE_NUM_PROCESSOR_THREADS_SETTING.getDefault(Settings.EMPTY);
         private int blockingQueueSize = INGESTION_SOURCE_INTERNAL_QUEUE_SIZE_SETTING.getDefault(Settings.EMPTY);
+        private int processorBatchSize = INGESTION_SOURCE_PROCESSOR_BATCH_SIZE_SETTING.getDefault(Settings.EMPTY);
         private boolean allActiveIngestion = INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING.getDefault(Settings.EMPTY);
         private TimeValue pointerBasedLagUpdateInterval = INGESTION_SOURCE_POINTER_BASED_LAG_UPDATE_INTERVAL_SETTING.getDefault(
             Settings.EMPTY
@@ -252,6 +278,8 @@ public class IngestionSource {
             this.errorStrategy = ingestionSource.errorStrategy;
             this.params = ingestionSource.params;
             this.blockingQueueSize = ingestionSource.blockingQueueSize;
+            this.processorBatchSize = ingestionSource.processorBatchSize;
+            this.adaptivePoll = ingestionSource.adaptivePoll;
             this.allActiveIngestion = ingestionSource.allActiveIngestion;
             this.pointerBasedLagUpdateInterval = ingestionSource.pointerBasedLagUpdateInterval;
             this.mapperType = ingestionSource.mapperType;
@@ -297,6 +325,16 @@ public class IngestionSource {
             return this;
         }
 
+        public Builder setAdaptivePoll(boolean adaptivePoll) {
+            this.adaptivePoll = adaptivePoll;
+            return this;
+        }
+
+        public Builder setProcessorBatchSize(int processorBatchSize) {
+            this.processorBatchSize = processorBatchSize;
+            return this;
+        }
+
         public Builder setAllActiveIngestion(boolean allActiveIngestion) {
             this.allActiveIngestion = allActiveIngestion;
             return this;
@@ -320,8 +358,10 @@ public class IngestionSource {
                 params,
                 maxPollSize,
                 pollTimeout,
+                adaptivePoll,
                 numProcessorThreads,
                 blockingQueueSize,
+                processorBatchSize,
                 allActiveIngestion,
                 pointerBasedLagUpdateInterval,
                 mapperType
@@ -369,6 +369,10 @@ public class ClusterApplierService extends AbstractLifecycleComponent implements
         runOnApplierThread(source, clusterStateConsumer, listener, Priority.HIGH);
     }
 
+    public ClusterManagerMetrics clusterManagerMetrics() {
+        return clusterManagerMetrics;
+    }
+
     public ThreadPool threadPool() {
         return threadPool;
     }
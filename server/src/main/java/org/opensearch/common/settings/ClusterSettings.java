@@ -129,11 +129,13 @@ import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.IndicesTopDocsCache;
 import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.indices.analysis.HunspellService;
 import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
+import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.recovery.RecoverySettings;
 import org.opensearch.indices.replication.checkpoint.PublishCheckpointAction;
@@ -341,6 +343,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 RecoverySettings.INDICES_RECOVERY_INTERNAL_LONG_ACTION_TIMEOUT_SETTING,
                 RecoverySettings.INDICES_RECOVERY_INTERNAL_ACTION_RETRY_TIMEOUT_SETTING,
                 RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING,
+                RecoverySettings.INDICES_REPLICATION_MAX_CONCURRENT_FILE_STREAMS_SETTING,
                 RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING,
                 RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING,
                 RecoverySettings.INDICES_INTERNAL_REMOTE_UPLOAD_TIMEOUT,
@@ -544,12 +547,15 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 ScriptService.TYPES_ALLOWED_SETTING,
                 ScriptService.CONTEXTS_ALLOWED_SETTING,
                 IndicesService.INDICES_CACHE_CLEAN_INTERVAL_SETTING,
+                IndicesClusterStateService.INDICES_CLUSTER_APPLY_CONCURRENCY_SETTING,
                 IndicesFieldDataCache.INDICES_FIELDDATA_CACHE_SIZE_KEY,
                 IndicesRequestCache.INDICES_CACHE_QUERY_SIZE,
                 IndicesRequestCache.INDICES_CACHE_QUERY_EXPIRE,
                 IndicesRequestCache.INDICES_REQUEST_CACHE_CLEANUP_INTERVAL_SETTING,
                 IndicesRequestCache.INDICES_REQUEST_CACHE_STALENESS_THRESHOLD_SETTING,
                 IndicesRequestCache.INDICES_REQUEST_CACHE_MAX_SIZE_ALLOWED_IN_CACHE_SETTING,
+                IndicesTopDocsCache.INDICES_CACHE_TOP_DOCS_SIZE,
+                IndicesTopDocsCache.INDICES_CACHE_TOP_DOCS_MAX_WINDOW,
                 HunspellService.HUNSPELL_LAZY_LOAD,
                 HunspellService.HUNSPELL_IGNORE_CASE,
                 HunspellService.HUNSPELL_DICTIONARY_OPTIONS,
@@ -618,6 +624,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 JvmGcMonitorService.GC_OVERHEAD_INFO_SETTING,
                 JvmGcMonitorService.GC_OVERHEAD_DEBUG_SETTING,
                 PageCacheRecycler.LIMIT_HEAP_SETTING,
+                PageCacheRecycler.LIMIT_OFF_HEAP_SETTING,
                 PageCacheRecycler.WEIGHT_BYTES_SETTING,
                 PageCacheRecycler.WEIGHT_INT_SETTING,
                 PageCacheRecycler.WEIGHT_LONG_SETTING,
@@ -746,6 +753,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
 
                 // Settings related to Searchable Snapshots
                 Node.NODE_SEARCH_CACHE_SIZE_SETTING,
+                Node.NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING,
                 FileCacheSettings.DATA_TO_FILE_CACHE_SIZE_RATIO_SETTING,
 
                 // Settings related to Remote Refresh Segment Pressure
@@ -803,6 +811,11 @@ public final class ClusterSettings extends AbstractScopedSettings {
                 // Concurrent segment search settings
                 SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_SETTING, // deprecated
                 SearchService.CONCURRENT_SEGMENT_SEARCH_TARGET_MAX_SLICE_COUNT_SETTING,
+                SearchService.CONCURRENT_INTRA_SEGMENT_SEARCH_ENABLED_SETTING,
+                SearchService.CONCURRENT_INTRA_SEGMENT_SEARCH_MIN_PARTITION_SIZE_SETTING,
+                SearchService.CONCURRENT_SEGMENT_SEARCH_COST_BASED_DECIDER_ENABLED_SETTING,
+                SearchService.CONCURRENT_FETCH_MIN_HITS_SETTING,
+                SearchService.CONCURRENT_SEGMENT_SEARCH_COST_BASED_DECIDER_MIN_SPEEDUP_SETTING,
                 SearchService.CLUSTER_CONCURRENT_SEGMENT_SEARCH_MODE,
 
                 RemoteStoreSettings.CLUSTER_REMOTE_INDEX_SEGMENT_METADATA_RETENTION_MAX_COUNT_SETTING,
@@ -38,6 +38,7 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.recycler.Recycler;
 
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 /**
@@ -156,6 +157,16 @@ abstract class AbstractBigArray extends AbstractArray {
         }
     }
 
+    protected final ByteBuffer newOffHeapPage(int page) {
+        assert recycler != null && recycler.hasOffHeapPages();
+        final Recycler.V<ByteBuffer> v = recycler.offHeapPage(clearOnResize);
+        cache = grow(cache, page + 1);
+        assert cache[page] == null;
+        cache[page] = v;
+        assert v.v().capacity() == PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+        return v.v();
+    }
+
     protected final Object[] newObjectPage(int page) {
         if (recycler != null) {
             final Recycler.V<Object[]> v = recycler.objectPage();
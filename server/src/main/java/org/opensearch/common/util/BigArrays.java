@@ -495,6 +495,14 @@ public class BigArrays {
         return this.circuitBreakingInstance.breakerService;
     }
 
+    /**
+     * Whether big long and double arrays are backed by off-heap pages, see {@link PageCacheRecycler#LIMIT_OFF_HEAP_SETTING}.
+     * Byte arrays always stay on heap since their users, like {@link BytesRefHash}, expect views over their pages.
+     */
+    private boolean useOffHeapPages() {
+        return recycler != null && recycler.hasOffHeapPages();
+    }
+
     private <T extends AbstractBigArray> T resizeInPlace(T array, long newSize) {
         final long oldMemSize = array.ramBytesUsed();
         final long oldSize = array.size();
@@ -668,6 +676,9 @@ public class BigArrays {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigLongArray.estimateRamBytes(size), false);
+            if (useOffHeapPages()) {
+                return new OffHeapBigLongArray(size, this, clearOnResize);
+            }
             return new BigLongArray(size, this, clearOnResize);
         } else if (size >= PageCacheRecycler.LONG_PAGE_SIZE / 2 && recycler != null) {
             final Recycler.V<long[]> page = recycler.longPage(clearOnResize);
@@ -689,6 +700,8 @@ public class BigArrays {
     public LongArray resize(LongArray array, long size) {
         if (array instanceof BigLongArray) {
             return resizeInPlace((BigLongArray) array, size);
+        } else if (array instanceof OffHeapBigLongArray) {
+            return resizeInPlace((OffHeapBigLongArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final LongArray newArray = newLongArray(size, arr.clearOnResize);
@@ -720,6 +733,9 @@ public class BigArrays {
             // when allocating big arrays, we want to first ensure we have the capacity by
             // checking with the circuit breaker before attempting to allocate
             adjustBreaker(BigDoubleArray.estimateRamBytes(size), false);
+            if (useOffHeapPages()) {
+                return new OffHeapBigDoubleArray(size, this, clearOnResize);
+            }
             return new BigDoubleArray(size, this, clearOnResize);
         } else if (size >= PageCacheRecycler.LONG_PAGE_SIZE / 2 && recycler != null) {
             final Recycler.V<long[]> page = recycler.longPage(clearOnResize);
@@ -738,6 +754,8 @@ public class BigArrays {
     public DoubleArray resize(DoubleArray array, long size) {
         if (array instanceof BigDoubleArray) {
             return resizeInPlace((BigDoubleArray) array, size);
+        } else if (array instanceof OffHeapBigDoubleArray) {
+            return resizeInPlace((OffHeapBigDoubleArray) array, size);
         } else {
             AbstractArray arr = (AbstractArray) array;
             final DoubleArray newArray = newDoubleArray(size, arr.clearOnResize);
@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.RamUsageEstimator;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.opensearch.common.util.PageCacheRecycler.LONG_PAGE_SIZE;
+
+/**
+ * Same as {@link BigDoubleArray}, but backed by {@link PageCacheRecycler#offHeapPage(boolean) off-heap pages}.
+ *
+ * @opensearch.internal
+ */
+final class OffHeapBigDoubleArray extends AbstractBigArray implements DoubleArray {
+
+    private ByteBuffer[] pages;
+
+    /** Constructor. */
+    OffHeapBigDoubleArray(long size, BigArrays bigArrays, boolean clearOnResize) {
+        super(LONG_PAGE_SIZE, bigArrays, clearOnResize);
+        this.size = size;
+        pages = new ByteBuffer[numPages(size)];
+        for (int i = 0; i < pages.length; ++i) {
+            pages[i] = newOffHeapPage(i);
+        }
+    }
+
+    @Override
+    public double get(long index) {
+        final int pageIndex = pageIndex(index);
+        final int indexInPage = indexInPage(index);
+        return Double.longBitsToDouble(pages[pageIndex].getLong(indexInPage << 3));
+    }
+
+    @Override
+    public double set(long index, double value) {
+        final int pageIndex = pageIndex(index);
+        final int offset = indexInPage(index) << 3;
+        final ByteBuffer page = pages[pageIndex];
+        final double ret = Double.longBitsToDouble(page.getLong(offset));
+        page.putLong(offset, Double.doubleToRawLongBits(value));
+        return ret;
+    }
+
+    @Override
+    public double increment(long index, double inc) {
+        final int pageIndex = pageIndex(index);
+        final int offset = indexInPage(index) << 3;
+        final ByteBuffer page = pages[pageIndex];
+        final double ret = Double.longBitsToDouble(page.getLong(offset)) + inc;
+        page.putLong(offset, Double.doubleToRawLongBits(ret));
+        return ret;
+    }
+
+    @Override
+    protected int numBytesPerElement() {
+        return Long.BYTES;
+    }
+
+    /** Change the size of this array. Content between indexes <code>0</code> and <code>min(size(), newSize)</code> will be preserved. */
+    @Override
+    public void resize(long newSize) {
+        final int numPages = numPages(newSize);
+        if (numPages > pages.length) {
+            pages = Arrays.copyOf(pages, ArrayUtil.oversize(numPages, RamUsageEstimator.NUM_BYTES_OBJECT_REF));
+        }
+        for (int i = numPages - 1; i >= 0 && pages[i] == null; --i) {
+            pages[i] = newOffHeapPage(i);
+        }
+        for (int i = numPages; i < pages.length && pages[i] != null; ++i) {
+            pages[i] = null;
+            releasePage(i);
+        }
+        this.size = newSize;
+    }
+
+    @Override
+    public void fill(long fromIndex, long toIndex, double value) {
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException();
+        }
+        final long longBits = Double.doubleToRawLongBits(value);
+        final int fromPage = pageIndex(fromIndex);
+        final int toPage = pageIndex(toIndex - 1);
+        if (fromPage == toPage) {
+            OffHeapBigLongArray.fill(pages[fromPage], indexInPage(fromIndex), indexInPage(toIndex - 1) + 1, longBits);
+        } else {
+            OffHeapBigLongArray.fill(pages[fromPage], indexInPage(fromIndex), pageSize(), longBits);
+            for (int i = fromPage + 1; i < toPage; ++i) {
+                OffHeapBigLongArray.fill(pages[i], 0, pageSize(), longBits);
+            }
+            OffHeapBigLongArray.fill(pages[toPage], 0, indexInPage(toIndex - 1) + 1, longBits);
+        }
+    }
+}
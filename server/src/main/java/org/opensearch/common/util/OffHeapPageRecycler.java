@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util;
+
+import org.opensearch.common.recycler.Recycler;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * A recycler of direct (off-heap) pages of {@link PageCacheRecycler#PAGE_SIZE_IN_BYTES} bytes. Pages are carved out of
+ * slabs that are allocated on demand until the configured limit is reached, and are never given back to the operating
+ * system, so that the amount of native memory is bounded and does not depend on when the garbage collector runs. Once the
+ * limit is reached, heap pages are handed out instead so that callers never fail because of an exhausted pool.
+ *
+ * @opensearch.internal
+ */
+final class OffHeapPageRecycler implements Recycler<ByteBuffer> {
+
+    /** 1MB slabs, large enough to amortize the cost of a direct allocation */
+    static final int PAGES_PER_SLAB = 64;
+
+    private final int maxPageCount;
+    private final ConcurrentLinkedDeque<ByteBuffer> freePages = new ConcurrentLinkedDeque<>();
+    private int allocatedPages;
+
+    OffHeapPageRecycler(long limitInBytes) {
+        this.maxPageCount = (int) Math.min(Integer.MAX_VALUE, limitInBytes / PageCacheRecycler.PAGE_SIZE_IN_BYTES);
+    }
+
+    @Override
+    public V<ByteBuffer> obtain() {
+        ByteBuffer page = freePages.pollFirst();
+        if (page != null) {
+            return new PooledPage(page, true);
+        }
+        page = allocate();
+        if (page != null) {
+            return new PooledPage(page, false);
+        }
+        return new HeapPage(ByteBuffer.allocate(PageCacheRecycler.PAGE_SIZE_IN_BYTES).order(ByteOrder.nativeOrder()));
+    }
+
+    /**
+     * Returns the number of bytes of native memory that were allocated so far.
+     */
+    synchronized long allocatedBytes() {
+        return (long) allocatedPages * PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+    }
+
+    private synchronized ByteBuffer allocate() {
+        final int numPages = Math.min(PAGES_PER_SLAB, maxPageCount - allocatedPages);
+        if (numPages <= 0) {
+            return null;
+        }
+        final ByteBuffer slab = ByteBuffer.allocateDirect(numPages * PageCacheRecycler.PAGE_SIZE_IN_BYTES);
+        allocatedPages += numPages;
+        // the remaining pages of the slab are zeroed already, but get cleared again when obtained since they are pooled pages
+        for (int i = 1; i < numPages; i++) {
+            freePages.offerLast(page(slab, i));
+        }
+        return page(slab, 0);
+    }
+
+    private static ByteBuffer page(ByteBuffer slab, int index) {
+        final int pageSize = PageCacheRecycler.PAGE_SIZE_IN_BYTES;
+        return slab.slice(index * pageSize, pageSize).order(ByteOrder.nativeOrder());
+    }
+
+    private final class PooledPage implements V<ByteBuffer> {
+        private final ByteBuffer page;
+        private final boolean recycled;
+
+        PooledPage(ByteBuffer page, boolean recycled) {
+            this.page = page;
+            this.recycled = recycled;
+        }
+
+        @Override
+        public ByteBuffer v() {
+            return page;
+        }
+
+        @Override
+        public boolean isRecycled() {
+            return recycled;
+        }
+
+        @Override
+        public void close() {
+            // most recently released pages are handed out first since they are the most likely to still be in the CPU cache
+            freePages.offerFirst(page);
+        }
+    }
+
+    private static final class HeapPage implements V<ByteBuffer> {
+        private final ByteBuffer page;
+
+        HeapPage(ByteBuffer page) {
+            this.page = page;
+        }
+
+        @Override
+        public ByteBuffer v() {
+            return page;
+        }
+
+        @Override
+        public boolean isRecycled() {
+            return false;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -43,6 +43,7 @@ import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.core.common.bytes.PagedBytesReference;
 import org.opensearch.core.common.unit.ByteSizeValue;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Locale;
 
@@ -88,6 +89,16 @@ public class PageCacheRecycler {
         0d,
         Property.NodeScope
     );
+    /**
+     * Maximum amount of native memory used for off-heap pages. Big long and double arrays are backed by off-heap pages
+     * instead of heap pages if this limit is greater than 0, which takes their pages out of the reach of the garbage
+     * collector. Once the limit is reached, big arrays fall back to heap pages.
+     */
+    public static final Setting<ByteSizeValue> LIMIT_OFF_HEAP_SETTING = Setting.byteSizeSetting(
+        "cache.recycler.page.limit.off_heap",
+        ByteSizeValue.ZERO,
+        Property.NodeScope
+    );
     // object pages are less useful to us so we give them a lower weight by default
     public static final Setting<Double> WEIGHT_OBJECTS_SETTING = Setting.doubleSetting(
         "cache.recycler.page.weight.objects",
@@ -103,10 +114,13 @@ public class PageCacheRecycler {
     public static final int INT_PAGE_SIZE = PAGE_SIZE_IN_BYTES / Integer.BYTES;
     public static final int BYTE_PAGE_SIZE = PAGE_SIZE_IN_BYTES;
 
+    private static final byte[] ZERO_PAGE = new byte[PAGE_SIZE_IN_BYTES];
+
     private final Recycler<byte[]> bytePage;
     private final Recycler<int[]> intPage;
     private final Recycler<long[]> longPage;
     private final Recycler<Object[]> objectPage;
+    private final OffHeapPageRecycler offHeapPage;
 
     public static final PageCacheRecycler NON_RECYCLING_INSTANCE;
 
@@ -192,6 +206,9 @@ public class PageCacheRecycler {
             }
         });
 
+        final long offHeapLimit = LIMIT_OFF_HEAP_SETTING.get(settings).getBytes();
+        offHeapPage = offHeapLimit >= PAGE_SIZE_IN_BYTES ? new OffHeapPageRecycler(offHeapLimit) : null;
+
         assert PAGE_SIZE_IN_BYTES * (maxBytePageCount + maxIntPageCount + maxLongPageCount + maxObjectPageCount) <= limit;
     }
 
@@ -224,6 +241,35 @@ public class PageCacheRecycler {
         return objectPage.obtain();
     }
 
+    /**
+     * Whether big arrays should be backed by {@link #offHeapPage(boolean) off-heap pages}.
+     */
+    public boolean hasOffHeapPages() {
+        return offHeapPage != null;
+    }
+
+    /**
+     * Returns a page of {@link #PAGE_SIZE_IN_BYTES} bytes in native byte order. The page is off-heap unless the
+     * {@link #LIMIT_OFF_HEAP_SETTING off-heap limit} is reached, in which case a heap page is returned.
+     */
+    public Recycler.V<ByteBuffer> offHeapPage(boolean clear) {
+        if (offHeapPage == null) {
+            throw new IllegalStateException("off-heap pages are disabled");
+        }
+        final Recycler.V<ByteBuffer> v = offHeapPage.obtain();
+        if (v.isRecycled() && clear) {
+            v.v().put(0, ZERO_PAGE);
+        }
+        return v;
+    }
+
+    /**
+     * Returns the amount of native memory allocated for off-heap pages.
+     */
+    public long offHeapBytesAllocated() {
+        return offHeapPage == null ? 0 : offHeapPage.allocatedBytes();
+    }
+
     private static <T> Recycler<T> build(Type type, int limit, int availableProcessors, Recycler.C<T> c) {
         final Recycler<T> recycler;
         if (limit == 0) {
@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.lease.Releasable;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks that keys are hashed onto. Unlike {@link KeyedLock} no per-key state is created or removed on
+ * acquisition, so acquiring an uncontended stripe is a single CAS and does not touch any shared map. The trade-off is that
+ * two distinct keys may hash onto the same stripe and serialize against each other, hence callers must never hold more than
+ * one key at a time unless they acquire the additional keys with {@link #tryAcquire(Object)}.
+ * Note: this lock is reentrant
+ *
+ * @opensearch.internal
+ */
+public final class StripedLock<T> {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * Creates a new striped lock
+     * @param stripes the minimum number of stripes, rounded up to the next power of two
+     */
+    public StripedLock(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be greater than 0 but was [" + stripes + "]");
+        }
+        final int size = Integer.highestOneBit(stripes - 1) << 1;
+        this.stripes = new ReentrantLock[Math.max(1, size)];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = this.stripes.length - 1;
+    }
+
+    /**
+     * Acquires the stripe for the given key. The lock can be acquired by the same thread multiple times. The lock is released
+     * by closing the returned {@link Releasable}.
+     */
+    public Releasable acquire(T key) {
+        final ReentrantLock lock = stripeFor(key);
+        lock.lock();
+        return new ReleasableStripe(lock);
+    }
+
+    /**
+     * Tries to acquire the stripe for the given key and returns it. If the lock can't be acquired null is returned.
+     */
+    public Releasable tryAcquire(T key) {
+        final ReentrantLock lock = stripeFor(key);
+        if (lock.tryLock()) {
+            return new ReleasableStripe(lock);
+        }
+        return null;
+    }
+
+    /**
+     * Returns <code>true</code> iff the caller thread holds the stripe the given key maps to
+     */
+    public boolean isHeldByCurrentThread(T key) {
+        return stripeFor(key).isHeldByCurrentThread();
+    }
+
+    /**
+     * Returns <code>true</code> if at least one stripe is currently locked.
+     */
+    public boolean hasLockedKeys() {
+        for (ReentrantLock stripe : stripes) {
+            if (stripe.isLocked()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of stripes backing this lock.
+     */
+    public int stripes() {
+        return stripes.length;
+    }
+
+    private ReentrantLock stripeFor(T key) {
+        final int h = key.hashCode();
+        // spread the higher bits downwards, the same way HashMap does, since we only look at the lower bits
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    private static final class ReleasableStripe implements Releasable {
+        private final ReentrantLock lock;
+        // only ever closed by the thread that acquired the stripe, so there is no need for an atomic here
+        private boolean closed;
+
+        private ReleasableStripe(ReentrantLock lock) {
+            this.lock = lock;
+        }
+
+        @Override
+        public void close() {
+            if (closed == false) {
+                closed = true;
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -174,6 +174,20 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * Upper bound of the group commit window of the translog. With {@code request} durability, a request that has to wait for an
+     * fsync may wait up to this long (and never longer than a recent fsync took) for concurrent requests of the same shard to join,
+     * so that they all share a single fsync. The window is only opened if there are concurrent sync requests. {@code 0} disables it.
+     */
+    public static final Setting<TimeValue> INDEX_TRANSLOG_GROUP_COMMIT_MAX_DELAY_SETTING = Setting.timeSetting(
+        "index.translog.group_commit.max_delay",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        TimeValue.timeValueMillis(100),
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     public static final Setting<TimeValue> INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING = Setting.timeSetting(
         "index.segment_replication.publish_referenced_segments_interval",
         TimeValue.timeValueMinutes(10),
@@ -463,6 +477,21 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * Number of lock stripes used to serialize operations on the same document id in the engine's version map. The default
+     * of {@code 0} creates a dedicated lock per document id on demand. A positive value hashes ids onto a fixed set of locks
+     * instead, which avoids the shared lock map under heavy concurrent indexing with explicit ids at the cost of unrelated ids
+     * occasionally waiting on each other. Rounded up to the next power of two.
+     */
+    public static final Setting<Integer> INDEX_VERSION_MAP_LOCK_STRIPES_SETTING = Setting.intSetting(
+        "index.engine.version_map.lock_stripes",
+        0,
+        0,
+        1 << 16,
+        Property.IndexScope,
+        Property.Final
+    );
+
     /**
      * Specifies if the index should use soft-delete instead of hard-delete for update/delete operations.
      * Soft-deletes is enabled by default for Legacy 7.x and 1.x indices and mandatory for 2.0+ indices.
@@ -753,6 +782,18 @@ public final class IndexSettings {
         Property.InternalIndex
     );
 
+    /**
+     * The number of blocks of a searchable snapshot file that are downloaded ahead of time once the file is read sequentially
+     * across a block boundary. Read-ahead is opt-in, it is disabled by the default of 0.
+     */
+    public static final Setting<Integer> SEARCHABLE_SNAPSHOT_PREFETCH_BLOCKS = Setting.intSetting(
+        "index.searchable_snapshot.prefetch_blocks",
+        0,
+        0,
+        64,
+        Property.IndexScope
+    );
+
     public static final Setting<String> DEFAULT_SEARCH_PIPELINE = new Setting<>(
         "index.search.default_pipeline",
         SearchPipelineService.NOOP_PIPELINE_ID,
@@ -893,6 +934,7 @@ public final class IndexSettings {
     private final boolean defaultAllowUnmappedFields;
     private volatile Translog.Durability durability;
     private volatile TimeValue syncInterval;
+    private volatile TimeValue translogGroupCommitMaxDelay;
     private volatile TimeValue publishReferencedSegmentsInterval;
     private volatile TimeValue refreshInterval;
     private volatile TimeValue periodicFlushInterval;
@@ -907,6 +949,7 @@ public final class IndexSettings {
     private final IndexSortConfig indexSortConfig;
     private final IndexScopedSettings scopedSettings;
     private long gcDeletesInMillis = DEFAULT_GC_DELETES.millis();
+    private final int versionMapLockStripes;
     private final boolean softDeleteEnabled;
     private final boolean contextAwareEnabled;
     private int maxRetryOnLookupMapAcquisitionException;
@@ -1114,6 +1157,7 @@ public final class IndexSettings {
         this.durability = scopedSettings.get(INDEX_TRANSLOG_DURABILITY_SETTING);
         defaultFields = scopedSettings.get(DEFAULT_FIELD_SETTING);
         syncInterval = INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.get(settings);
+        translogGroupCommitMaxDelay = scopedSettings.get(INDEX_TRANSLOG_GROUP_COMMIT_MAX_DELAY_SETTING);
         publishReferencedSegmentsInterval = INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING.get(settings);
         refreshInterval = scopedSettings.get(INDEX_REFRESH_INTERVAL_SETTING);
         periodicFlushInterval = scopedSettings.get(INDEX_PERIODIC_FLUSH_INTERVAL_SETTING);
@@ -1122,6 +1166,7 @@ public final class IndexSettings {
         flushAfterMergeThresholdSize = scopedSettings.get(INDEX_FLUSH_AFTER_MERGE_THRESHOLD_SIZE_SETTING);
         mergeSchedulerConfig = new MergeSchedulerConfig(this);
         gcDeletesInMillis = scopedSettings.get(INDEX_GC_DELETES_SETTING).getMillis();
+        versionMapLockStripes = scopedSettings.get(INDEX_VERSION_MAP_LOCK_STRIPES_SETTING);
         softDeleteEnabled = scopedSettings.get(INDEX_SOFT_DELETES_SETTING);
         contextAwareEnabled = scopedSettings.get(INDEX_CONTEXT_AWARE_ENABLED_SETTING);
         maxRetryOnLookupMapAcquisitionException = scopedSettings.get(INDEX_MAX_RETRY_ON_LOOKUP_MAP_LOCK_ACQUISITION_EXCEPTION);
@@ -1246,6 +1291,7 @@ public final class IndexSettings {
         );
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_DURABILITY_SETTING, this::setTranslogDurability);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_SYNC_INTERVAL_SETTING, this::setTranslogSyncInterval);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_GROUP_COMMIT_MAX_DELAY_SETTING, this::setTranslogGroupCommitMaxDelay);
         scopedSettings.addSettingsUpdateConsumer(
             INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING,
             this::setPublishReferencedSegmentsInterval
@@ -1640,6 +1686,17 @@ public final class IndexSettings {
         this.durability = durability;
     }
 
+    /**
+     * Returns the upper bound of the translog group commit window
+     */
+    public TimeValue getTranslogGroupCommitMaxDelay() {
+        return translogGroupCommitMaxDelay;
+    }
+
+    private void setTranslogGroupCommitMaxDelay(TimeValue translogGroupCommitMaxDelay) {
+        this.translogGroupCommitMaxDelay = translogGroupCommitMaxDelay;
+    }
+
     /**
      * Returns true if index warmers are enabled, otherwise <code>false</code>
      */
@@ -1932,6 +1989,13 @@ public final class IndexSettings {
         return gcDeletesInMillis;
     }
 
+    /**
+     * Returns the number of lock stripes the engine's version map uses, or {@code 0} for a dedicated lock per document id
+     */
+    public int getVersionMapLockStripes() {
+        return versionMapLockStripes;
+    }
+
     public void setStarTreeIndexEnabled(boolean value) {
         this.isStarTreeIndexEnabled = value;
     }
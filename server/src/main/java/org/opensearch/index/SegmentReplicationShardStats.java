@@ -8,6 +8,7 @@
 
 package org.opensearch.index;
 
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.unit.TimeValue;
@@ -37,6 +38,11 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
     // doesn't include time taken by primary to upload data to remote store.
     private final long currentReplicationTimeMillis;
     private final long lastCompletedReplicationTimeMillis;
+    // Bytes copied from the primary and time spent copying them during the last completed replication.
+    private final long lastCompletedReplicationBytes;
+    private final long lastCompletedFileTransferTimeMillis;
+    // Bytes of files that the last completed replication did not need to copy, as they were kept from an earlier failed attempt.
+    private final long lastCompletedReplicationReusedBytes;
 
     @Nullable
     private SegmentReplicationState currentReplicationState;
@@ -48,6 +54,30 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         long currentReplicationTimeMillis,
         long currentReplicationLagMillis,
         long lastCompletedReplicationTime
+    ) {
+        this(
+            allocationId,
+            checkpointsBehindCount,
+            bytesBehindCount,
+            currentReplicationTimeMillis,
+            currentReplicationLagMillis,
+            lastCompletedReplicationTime,
+            0,
+            0,
+            0
+        );
+    }
+
+    public SegmentReplicationShardStats(
+        String allocationId,
+        long checkpointsBehindCount,
+        long bytesBehindCount,
+        long currentReplicationTimeMillis,
+        long currentReplicationLagMillis,
+        long lastCompletedReplicationTime,
+        long lastCompletedReplicationBytes,
+        long lastCompletedFileTransferTimeMillis,
+        long lastCompletedReplicationReusedBytes
     ) {
         this.allocationId = allocationId;
         this.checkpointsBehindCount = checkpointsBehindCount;
@@ -55,6 +85,9 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         this.currentReplicationTimeMillis = currentReplicationTimeMillis;
         this.currentReplicationLagMillis = currentReplicationLagMillis;
         this.lastCompletedReplicationTimeMillis = lastCompletedReplicationTime;
+        this.lastCompletedReplicationBytes = lastCompletedReplicationBytes;
+        this.lastCompletedFileTransferTimeMillis = lastCompletedFileTransferTimeMillis;
+        this.lastCompletedReplicationReusedBytes = lastCompletedReplicationReusedBytes;
     }
 
     public SegmentReplicationShardStats(StreamInput in) throws IOException {
@@ -64,6 +97,15 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         this.currentReplicationTimeMillis = in.readVLong();
         this.lastCompletedReplicationTimeMillis = in.readVLong();
         this.currentReplicationLagMillis = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            this.lastCompletedReplicationBytes = in.readVLong();
+            this.lastCompletedFileTransferTimeMillis = in.readVLong();
+            this.lastCompletedReplicationReusedBytes = in.readVLong();
+        } else {
+            this.lastCompletedReplicationBytes = 0;
+            this.lastCompletedFileTransferTimeMillis = 0;
+            this.lastCompletedReplicationReusedBytes = 0;
+        }
     }
 
     public String getAllocationId() {
@@ -99,6 +141,42 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         return lastCompletedReplicationTimeMillis;
     }
 
+    /**
+     * Bytes copied from the primary during the last completed replication.
+     * @return lastCompletedReplicationBytes
+     */
+    public long getLastCompletedReplicationBytes() {
+        return lastCompletedReplicationBytes;
+    }
+
+    /**
+     * Time spent copying files from the primary during the last completed replication.
+     * @return lastCompletedFileTransferTimeMillis
+     */
+    public long getLastCompletedFileTransferTimeMillis() {
+        return lastCompletedFileTransferTimeMillis;
+    }
+
+    /**
+     * Bytes of files that the last completed replication reused instead of copying them, as they were kept from an earlier
+     * attempt that failed.
+     * @return lastCompletedReplicationReusedBytes
+     */
+    public long getLastCompletedReplicationReusedBytes() {
+        return lastCompletedReplicationReusedBytes;
+    }
+
+    /**
+     * Throughput of the file copy of the last completed replication, in bytes per second.
+     * @return lastCompletedFileTransferBytesPerSecond
+     */
+    public long getLastCompletedFileTransferBytesPerSecond() {
+        if (lastCompletedFileTransferTimeMillis <= 0) {
+            return 0;
+        }
+        return lastCompletedReplicationBytes * 1000 / lastCompletedFileTransferTimeMillis;
+    }
+
     public void setCurrentReplicationState(SegmentReplicationState currentReplicationState) {
         this.currentReplicationState = currentReplicationState;
     }
@@ -117,6 +195,13 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         builder.field("current_replication_time", new TimeValue(currentReplicationTimeMillis));
         builder.field("current_replication_lag", new TimeValue(currentReplicationLagMillis));
         builder.field("last_completed_replication_time", new TimeValue(lastCompletedReplicationTimeMillis));
+        builder.field("last_completed_replication_bytes", new ByteSizeValue(lastCompletedReplicationBytes).toString());
+        builder.field("last_completed_replication_reused_bytes", new ByteSizeValue(lastCompletedReplicationReusedBytes).toString());
+        builder.field("last_completed_file_transfer_time", new TimeValue(lastCompletedFileTransferTimeMillis));
+        builder.field(
+            "last_completed_file_transfer_throughput",
+            new ByteSizeValue(getLastCompletedFileTransferBytesPerSecond()).toString() + "/s"
+        );
         if (currentReplicationState != null) {
             builder.startObject();
             currentReplicationState.toXContent(builder, params);
@@ -134,6 +219,11 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         out.writeVLong(currentReplicationTimeMillis);
         out.writeVLong(lastCompletedReplicationTimeMillis);
         out.writeVLong(currentReplicationLagMillis);
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeVLong(lastCompletedReplicationBytes);
+            out.writeVLong(lastCompletedFileTransferTimeMillis);
+            out.writeVLong(lastCompletedReplicationReusedBytes);
+        }
     }
 
     @Override
@@ -151,6 +241,12 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
             + currentReplicationTimeMillis
             + ", lastCompletedReplicationTimeMillis="
             + lastCompletedReplicationTimeMillis
+            + ", lastCompletedReplicationBytes="
+            + lastCompletedReplicationBytes
+            + ", lastCompletedFileTransferTimeMillis="
+            + lastCompletedFileTransferTimeMillis
+            + ", lastCompletedReplicationReusedBytes="
+            + lastCompletedReplicationReusedBytes
             + ", currentReplicationState="
             + currentReplicationState
             + '}';
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.cache.request;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -54,6 +55,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
     private long evictions;
     private long hitCount;
     private long missCount;
+    private long topDocsMemorySize;
+    private long topDocsEvictions;
+    private long topDocsHitCount;
+    private long topDocsMissCount;
 
     public RequestCacheStats() {}
 
@@ -67,6 +72,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions = builder.evictions;
         this.hitCount = builder.hitCount;
         this.missCount = builder.missCount;
+        this.topDocsMemorySize = builder.topDocsMemorySize;
+        this.topDocsEvictions = builder.topDocsEvictions;
+        this.topDocsHitCount = builder.topDocsHitCount;
+        this.topDocsMissCount = builder.topDocsMissCount;
     }
 
     public RequestCacheStats(StreamInput in) throws IOException {
@@ -74,6 +83,12 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         evictions = in.readVLong();
         hitCount = in.readVLong();
         missCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            topDocsMemorySize = in.readVLong();
+            topDocsEvictions = in.readVLong();
+            topDocsHitCount = in.readVLong();
+            topDocsMissCount = in.readVLong();
+        }
     }
 
     /**
@@ -93,6 +108,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions += stats.evictions;
         this.hitCount += stats.hitCount;
         this.missCount += stats.missCount;
+        this.topDocsMemorySize += stats.topDocsMemorySize;
+        this.topDocsEvictions += stats.topDocsEvictions;
+        this.topDocsHitCount += stats.topDocsHitCount;
+        this.topDocsMissCount += stats.topDocsMissCount;
     }
 
     public long getMemorySizeInBytes() {
@@ -115,6 +134,26 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         return this.missCount;
     }
 
+    public long getTopDocsMemorySizeInBytes() {
+        return this.topDocsMemorySize;
+    }
+
+    public ByteSizeValue getTopDocsMemorySize() {
+        return new ByteSizeValue(topDocsMemorySize);
+    }
+
+    public long getTopDocsEvictions() {
+        return this.topDocsEvictions;
+    }
+
+    public long getTopDocsHitCount() {
+        return this.topDocsHitCount;
+    }
+
+    public long getTopDocsMissCount() {
+        return this.topDocsMissCount;
+    }
+
     /**
      * Builder for the {@link RequestCacheStats} class.
      * Provides a fluent API for constructing a RequestCacheStats object.
@@ -124,6 +163,10 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         private long evictions = 0;
         private long hitCount = 0;
         private long missCount = 0;
+        private long topDocsMemorySize = 0;
+        private long topDocsEvictions = 0;
+        private long topDocsHitCount = 0;
+        private long topDocsMissCount = 0;
 
         public Builder() {}
 
@@ -147,6 +190,26 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder topDocsMemorySize(long count) {
+            this.topDocsMemorySize = count;
+            return this;
+        }
+
+        public Builder topDocsEvictions(long count) {
+            this.topDocsEvictions = count;
+            return this;
+        }
+
+        public Builder topDocsHitCount(long count) {
+            this.topDocsHitCount = count;
+            return this;
+        }
+
+        public Builder topDocsMissCount(long count) {
+            this.topDocsMissCount = count;
+            return this;
+        }
+
         /**
          * Creates a {@link RequestCacheStats} object from the builder's current state.
          * @return A new RequestCacheStats instance.
@@ -162,6 +225,12 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         out.writeVLong(evictions);
         out.writeVLong(hitCount);
         out.writeVLong(missCount);
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeVLong(topDocsMemorySize);
+            out.writeVLong(topDocsEvictions);
+            out.writeVLong(topDocsHitCount);
+            out.writeVLong(topDocsMissCount);
+        }
     }
 
     @Override
@@ -171,6 +240,12 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.EVICTIONS, getEvictions());
         builder.field(Fields.HIT_COUNT, getHitCount());
         builder.field(Fields.MISS_COUNT, getMissCount());
+        builder.startObject(Fields.TOP_DOCS);
+        builder.humanReadableField(Fields.MEMORY_SIZE_IN_BYTES, Fields.MEMORY_SIZE, getTopDocsMemorySize());
+        builder.field(Fields.EVICTIONS, getTopDocsEvictions());
+        builder.field(Fields.HIT_COUNT, getTopDocsHitCount());
+        builder.field(Fields.MISS_COUNT, getTopDocsMissCount());
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -187,5 +262,6 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         static final String EVICTIONS = "evictions";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String TOP_DOCS = "top_docs";
     }
 }
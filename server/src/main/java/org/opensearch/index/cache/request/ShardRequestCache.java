@@ -52,12 +52,20 @@ public final class ShardRequestCache {
     final CounterMetric totalMetric = new CounterMetric();
     final CounterMetric hitCount = new CounterMetric();
     final CounterMetric missCount = new CounterMetric();
+    final CounterMetric topDocsEvictionsMetric = new CounterMetric();
+    final CounterMetric topDocsTotalMetric = new CounterMetric();
+    final CounterMetric topDocsHitCount = new CounterMetric();
+    final CounterMetric topDocsMissCount = new CounterMetric();
 
     public RequestCacheStats stats() {
         return new RequestCacheStats.Builder().memorySize(Math.max(0, totalMetric.count()))
             .evictions(evictionsMetric.count())
             .hitCount(hitCount.count())
             .missCount(missCount.count())
+            .topDocsMemorySize(Math.max(0, topDocsTotalMetric.count()))
+            .topDocsEvictions(topDocsEvictionsMetric.count())
+            .topDocsHitCount(topDocsHitCount.count())
+            .topDocsMissCount(topDocsMissCount.count())
             .build();
     }
 
@@ -94,6 +102,25 @@ public final class ShardRequestCache {
         }
     }
 
+    public void onTopDocsHit() {
+        topDocsHitCount.inc();
+    }
+
+    public void onTopDocsMiss() {
+        topDocsMissCount.inc();
+    }
+
+    public void onTopDocsCached(long ramBytesUsed) {
+        topDocsTotalMetric.inc(ramBytesUsed);
+    }
+
+    public void onTopDocsRemoval(long ramBytesUsed, boolean evicted) {
+        if (evicted) {
+            topDocsEvictionsMetric.inc();
+        }
+        topDocsTotalMetric.dec(ramBytesUsed);
+    }
+
     // Old functions which increment size by passing in an Accountable. Functional but no longer used.
     public void onCached(Accountable key, BytesReference value) {
         totalMetric.inc(key.ramBytesUsed() + value.ramBytesUsed());
@@ -9,6 +9,7 @@
 package org.opensearch.index.engine;
 
 import org.apache.lucene.index.Term;
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchException;
 import org.opensearch.action.admin.indices.streamingingestion.state.ShardIngestionState;
@@ -18,6 +19,7 @@ import org.opensearch.cluster.metadata.IngestionSource;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 import org.opensearch.core.common.Strings;
 import org.opensearch.index.IngestionConsumerFactory;
@@ -42,10 +44,13 @@ import org.opensearch.indices.pollingingest.PollingIngestStats;
 import org.opensearch.indices.pollingingest.StreamPoller;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiFunction;
 
 import static org.opensearch.action.index.IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP;
@@ -143,8 +148,10 @@ public class IngestionEngine extends InternalEngine {
             .initialState(initialPollerState)
             .maxPollSize(ingestionSource.getMaxPollSize())
             .pollTimeout(ingestionSource.getPollTimeout())
+            .adaptivePoll(ingestionSource.isAdaptivePollEnabled())
             .numProcessorThreads(ingestionSource.getNumProcessorThreads())
             .blockingQueueSize(ingestionSource.getBlockingQueueSize())
+            .processorBatchSize(ingestionSource.getProcessorBatchSize())
             .pointerBasedLagUpdateInterval(ingestionSource.getPointerBasedLagUpdateInterval().millis())
             .mapperType(ingestionSource.getMapperType())
             .build();
@@ -192,15 +199,33 @@ public class IngestionEngine extends InternalEngine {
     public void indexInternal(Index index, boolean isCreateMode) throws IOException {
         assert Objects.equals(index.uid().field(), IdFieldMapper.NAME) : index.uid().field();
 
-        try (
-            ReleasableLock releasableLock1 = readLock.acquire();
-            Releasable releasableLock2 = versionMap.acquireLock(index.uid().bytes())
-        ) {
+        try (ReleasableLock releasableLock = readLock.acquire()) {
             ensureOpen();
+            applyIndex(index, isCreateMode, null);
+        } catch (VersionConflictEngineException e) {
+            logger.debug("Version conflict encountered when processing index operation", e);
+            throw e;
+        } catch (RuntimeException | IOException e) {
+            try {
+                maybeFailEngine("index", e);
+            } catch (Exception inner) {
+                e.addSuppressed(inner);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Indexes the document under its version map lock. The caller holds the read lock. Versions found in the provided
+     * resolved versions, if any, are used instead of looking them up again, and are kept up to date.
+     */
+    private void applyIndex(Index index, boolean isCreateMode, @Nullable Map<BytesRef, VersionValue> resolvedVersions)
+        throws IOException {
+        try (Releasable releasableLock = versionMap.acquireLock(index.uid().bytes())) {
             lastWriteNanos = index.startTime();
             boolean isExternalVersioning = index.versionType() == VersionType.EXTERNAL;
             if (index.getAutoGeneratedIdTimestamp() == UNSET_AUTO_GENERATED_TIMESTAMP) {
-                validateDocumentVersion(index);
+                validateDocumentVersion(index, resolvedVersions);
             }
 
             if (isExternalVersioning) {
@@ -208,22 +233,28 @@ public class IngestionEngine extends InternalEngine {
             }
 
             IndexResult indexResult = indexIntoLucene(index, isCreateMode);
-            if (isExternalVersioning && indexResult.getResultType() == Result.Type.SUCCESS) {
-                versionMap.maybePutIndexUnderLock(
-                    index.uid().bytes(),
-                    new IndexVersionValue(EMPTY_TRANSLOG_LOCATION, index.version(), index.seqNo(), index.primaryTerm())
-                );
+            if (indexResult.getResultType() == Result.Type.SUCCESS) {
+                onIndexed(index, resolvedVersions);
             }
-        } catch (VersionConflictEngineException e) {
-            logger.debug("Version conflict encountered when processing index operation", e);
-            throw e;
-        } catch (RuntimeException | IOException e) {
-            try {
-                maybeFailEngine("index", e);
-            } catch (Exception inner) {
-                e.addSuppressed(inner);
+        }
+    }
+
+    private void onIndexed(Index index, @Nullable Map<BytesRef, VersionValue> resolvedVersions) {
+        final BytesRef uid = index.uid().bytes();
+        if (index.versionType() == VersionType.EXTERNAL) {
+            IndexVersionValue versionValue = new IndexVersionValue(
+                EMPTY_TRANSLOG_LOCATION,
+                index.version(),
+                index.seqNo(),
+                index.primaryTerm()
+            );
+            versionMap.maybePutIndexUnderLock(uid, versionValue);
+            if (resolvedVersions != null) {
+                resolvedVersions.put(uid, versionValue);
             }
-            throw e;
+        } else if (resolvedVersions != null) {
+            // the version of the document is no longer known, later operations of the batch look it up again
+            resolvedVersions.remove(uid);
         }
     }
 
@@ -270,14 +301,33 @@ public class IngestionEngine extends InternalEngine {
     public void deleteInternal(Delete delete) throws IOException {
         versionMap.enforceSafeAccess();
         assert Objects.equals(delete.uid().field(), IdFieldMapper.NAME) : delete.uid().field();
-        lastWriteNanos = delete.startTime();
 
-        try (
-            ReleasableLock releasableLock1 = readLock.acquire();
-            Releasable releasableLock2 = versionMap.acquireLock(delete.uid().bytes())
-        ) {
+        try (ReleasableLock releasableLock = readLock.acquire()) {
             ensureOpen();
-            validateDocumentVersion(delete);
+            applyDelete(delete, null);
+        } catch (VersionConflictEngineException e) {
+            logger.debug("Version conflict encountered when processing deletes", e);
+            throw e;
+        } catch (RuntimeException | IOException e) {
+            try {
+                maybeFailEngine("delete", e);
+            } catch (Exception inner) {
+                e.addSuppressed(inner);
+            }
+            throw e;
+        }
+
+        maybePruneDeletes();
+    }
+
+    /**
+     * Deletes the document under its version map lock. The caller holds the read lock. Versions found in the provided
+     * resolved versions, if any, are used instead of looking them up again, and are kept up to date.
+     */
+    private void applyDelete(Delete delete, @Nullable Map<BytesRef, VersionValue> resolvedVersions) throws IOException {
+        lastWriteNanos = delete.startTime();
+        try (Releasable releasableLock = versionMap.acquireLock(delete.uid().bytes())) {
+            validateDocumentVersion(delete, resolvedVersions);
             final ParsedDocument tombstone = engineConfig.getTombstoneDocSupplier().newDeleteTombstoneDoc(delete.id());
             boolean isExternalVersioning = delete.versionType() == VersionType.EXTERNAL;
             if (isExternalVersioning) {
@@ -300,29 +350,231 @@ public class IngestionEngine extends InternalEngine {
                 softDeletesField
             );
             if (isExternalVersioning) {
-                versionMap.putDeleteUnderLock(
-                    delete.uid().bytes(),
-                    new DeleteVersionValue(
-                        delete.version(),
-                        delete.seqNo(),
-                        delete.primaryTerm(),
-                        engineConfig.getThreadPool().relativeTimeInMillis()
-                    )
+                DeleteVersionValue versionValue = new DeleteVersionValue(
+                    delete.version(),
+                    delete.seqNo(),
+                    delete.primaryTerm(),
+                    engineConfig.getThreadPool().relativeTimeInMillis()
                 );
+                versionMap.putDeleteUnderLock(delete.uid().bytes(), versionValue);
+                if (resolvedVersions != null) {
+                    resolvedVersions.put(delete.uid().bytes(), versionValue);
+                }
+            } else if (resolvedVersions != null) {
+                resolvedVersions.remove(delete.uid().bytes());
             }
-        } catch (VersionConflictEngineException e) {
-            logger.debug("Version conflict encountered when processing deletes", e);
-            throw e;
-        } catch (RuntimeException | IOException e) {
+        }
+    }
+
+    /**
+     * An operation of the stream poller to apply as part of a batch.
+     *
+     * @param operation the index, delete or no-op operation
+     * @param isCreateMode if true, an index operation creates a new document and doesn't update an existing one
+     */
+    public record BatchOperation(Operation operation, boolean isCreateMode) {
+    }
+
+    /**
+     * The outcome of {@link #applyBatch(List)}.
+     *
+     * @param appliedCount the number of operations that were applied, which are the first ones of the batch
+     * @param failure the failure of the operation that follows the applied ones, or {@code null} if all were applied
+     */
+    public record BatchResult(int appliedCount, @Nullable Exception failure) {
+    }
+
+    /**
+     * Applies a batch of operations of the stream poller, in order. This is used internally by the stream poller only.
+     * <p>
+     * The read lock is taken once for the whole batch. The current versions of the documents that externally versioned
+     * operations update are resolved up front, with a single searcher for all the documents that are not in the version
+     * map. Consecutive operations that only add documents, because they create documents or have auto-generated ids,
+     * are handed to the index writer as a single multi-document add, unless the index groups its documents by context.
+     * <p>
+     * Applying stops at the first operation that fails. The operations before it are applied and the failure is returned
+     * rather than thrown, so that the caller can retry or drop the failed operation and go on with the rest.
+     *
+     * @param operations the operations to apply
+     * @return the number of applied operations and the failure of the next one, if any
+     */
+    public BatchResult applyBatch(List<BatchOperation> operations) {
+        int appliedCount = 0;
+        boolean hasDeletes = false;
+        final List<Index> pendingAdds = new ArrayList<>();
+        final Set<BytesRef> pendingUids = new HashSet<>();
+        try (ReleasableLock releasableLock = readLock.acquire()) {
+            ensureOpen();
+            final Map<BytesRef, VersionValue> resolvedVersions = resolveDocVersions(operations);
+            for (BatchOperation batchOperation : operations) {
+                final Operation operation = batchOperation.operation();
+                try {
+                    if (operation instanceof Index index && canAddWithoutUpdate(index, batchOperation.isCreateMode())) {
+                        if (pendingUids.contains(index.uid().bytes())) {
+                            // a document added twice in a row is added in order, and the second addition sees the version of the first
+                            appliedCount += addPendingDocs(pendingAdds, pendingUids, resolvedVersions);
+                        }
+                        prepareAdd(index, resolvedVersions);
+                        pendingAdds.add(index);
+                        pendingUids.add(index.uid().bytes());
+                    } else {
+                        appliedCount += addPendingDocs(pendingAdds, pendingUids, resolvedVersions);
+                        switch (operation.operationType()) {
+                            case INDEX:
+                                applyIndex((Index) operation, batchOperation.isCreateMode(), resolvedVersions);
+                                break;
+                            case DELETE:
+                                assert Objects.equals(operation.uid().field(), IdFieldMapper.NAME) : operation.uid().field();
+                                versionMap.enforceSafeAccess();
+                                applyDelete((Delete) operation, resolvedVersions);
+                                hasDeletes = true;
+                                break;
+                            case NO_OP:
+                                break;
+                            default:
+                                throw new IllegalArgumentException("Invalid operation: " + operation);
+                        }
+                        appliedCount++;
+                    }
+                } catch (Exception e) {
+                    // the pending additions were validated before this operation failed, so they are added first
+                    if (pendingAdds.isEmpty() == false) {
+                        try {
+                            appliedCount += addPendingDocs(pendingAdds, pendingUids, resolvedVersions);
+                        } catch (Exception addFailure) {
+                            return batchFailure(appliedCount, addFailure);
+                        }
+                    }
+                    return batchFailure(appliedCount, e);
+                }
+            }
+            appliedCount += addPendingDocs(pendingAdds, pendingUids, resolvedVersions);
+        } catch (Exception e) {
+            return batchFailure(appliedCount, e);
+        } finally {
+            if (hasDeletes) {
+                maybePruneDeletes();
+            }
+        }
+        return new BatchResult(appliedCount, null);
+    }
+
+    private BatchResult batchFailure(int appliedCount, Exception e) {
+        if (e instanceof VersionConflictEngineException) {
+            logger.debug("Version conflict encountered when applying a batch of operations", e);
+        } else {
             try {
-                maybeFailEngine("delete", e);
+                maybeFailEngine("apply batch", e);
             } catch (Exception inner) {
                 e.addSuppressed(inner);
             }
-            throw e;
         }
+        return new BatchResult(appliedCount, e);
+    }
 
-        maybePruneDeletes();
+    /**
+     * Whether the documents of the index operation are added without replacing an existing document, see
+     * {@link #indexIntoLucene}, and can therefore be added together with those of other such operations. A context
+     * aware index writer picks a child writer per document, so it only ever gets the documents of one operation at once.
+     */
+    private boolean canAddWithoutUpdate(Index index, boolean isCreateMode) {
+        return (isCreateMode || index.getAutoGeneratedIdTimestamp() != UNSET_AUTO_GENERATED_TIMESTAMP)
+            && documentIndexWriter instanceof LuceneIndexWriter;
+    }
+
+    private void prepareAdd(Index index, Map<BytesRef, VersionValue> resolvedVersions) throws IOException {
+        assert Objects.equals(index.uid().field(), IdFieldMapper.NAME) : index.uid().field();
+        // the stream poller routes all the messages of a document to the same processor thread, so the version can't change
+        // between this check and the addition of the document, once the lock is released
+        try (Releasable releasableLock = versionMap.acquireLock(index.uid().bytes())) {
+            if (index.getAutoGeneratedIdTimestamp() == UNSET_AUTO_GENERATED_TIMESTAMP) {
+                validateDocumentVersion(index, resolvedVersions);
+            }
+            if (index.versionType() == VersionType.EXTERNAL) {
+                index.parsedDoc().version().setLongValue(index.version());
+            }
+        }
+    }
+
+    /**
+     * Adds the documents of the pending operations with a single call to the index writer and returns the number of
+     * operations added. The pending operations are cleared, whether they are added or not.
+     */
+    private int addPendingDocs(List<Index> pendingAdds, Set<BytesRef> pendingUids, Map<BytesRef, VersionValue> resolvedVersions)
+        throws IOException {
+        if (pendingAdds.isEmpty()) {
+            return 0;
+        }
+        try {
+            final Index first = pendingAdds.get(0);
+            if (pendingAdds.size() == 1) {
+                addDocs(first.docs(), documentIndexWriter, first.uid());
+            } else {
+                final List<ParseContext.Document> docs = new ArrayList<>();
+                for (Index index : pendingAdds) {
+                    docs.addAll(index.docs());
+                }
+                documentIndexWriter.addDocuments(docs, first.uid());
+            }
+            for (Index index : pendingAdds) {
+                lastWriteNanos = index.startTime();
+                try (Releasable releasableLock = versionMap.acquireLock(index.uid().bytes())) {
+                    onIndexed(index, resolvedVersions);
+                }
+            }
+            return pendingAdds.size();
+        } finally {
+            pendingAdds.clear();
+            pendingUids.clear();
+        }
+    }
+
+    /**
+     * Resolves the current versions of the documents that the externally versioned operations of a batch write. The
+     * version map is checked first, and the documents that are not in it are looked up with a single searcher that is
+     * acquired afterwards, so that it sees any document that was removed from the version map by a refresh in between.
+     */
+    private Map<BytesRef, VersionValue> resolveDocVersions(List<BatchOperation> operations) throws IOException {
+        final Map<BytesRef, VersionValue> resolvedVersions = new HashMap<>();
+        final List<Term> notInVersionMap = new ArrayList<>();
+        for (BatchOperation batchOperation : operations) {
+            final Operation operation = batchOperation.operation();
+            if (operation.operationType() == Operation.TYPE.NO_OP || operation.versionType() != VersionType.EXTERNAL) {
+                continue;
+            }
+            final BytesRef uid = operation.uid().bytes();
+            if (resolvedVersions.containsKey(uid)) {
+                continue;
+            }
+            versionMap.enforceSafeAccess();
+            try (Releasable releasableLock = versionMap.acquireLock(uid)) {
+                VersionValue versionValue = getVersionFromMap(uid);
+                if (versionValue == null) {
+                    notInVersionMap.add(operation.uid());
+                } else if (isExpiredDelete(versionValue)) {
+                    versionValue = null;
+                }
+                resolvedVersions.put(uid, versionValue);
+            }
+        }
+        if (notInVersionMap.isEmpty() == false) {
+            try (Searcher searcher = acquireSearcher("load_version", SearcherScope.INTERNAL)) {
+                for (Term uid : notInVersionMap) {
+                    final VersionsAndSeqNoResolver.DocIdAndVersion docIdAndVersion = VersionsAndSeqNoResolver.loadDocIdAndVersion(
+                        searcher.getIndexReader(),
+                        uid,
+                        false
+                    );
+                    if (docIdAndVersion != null) {
+                        resolvedVersions.put(
+                            uid.bytes(),
+                            new IndexVersionValue(null, docIdAndVersion.version, docIdAndVersion.seqNo, docIdAndVersion.primaryTerm)
+                        );
+                    }
+                }
+            }
+        }
+        return resolvedVersions;
     }
 
     @Override
@@ -546,16 +798,30 @@ public class IngestionEngine extends InternalEngine {
         logger.info("Successfully processed ingestion source params update");
     }
 
+    private boolean isExpiredDelete(VersionValue versionValue) {
+        // like resolveDocVersion, a delete that is older than the gc deletes interval no longer counts
+        return engineConfig.isEnableGcDeletes()
+            && versionValue.isDelete()
+            && engineConfig.getThreadPool().relativeTimeInMillis() - ((DeleteVersionValue) versionValue).time > getGcDeletesInMillis();
+    }
+
     /**
-     * Validates document version for pull-based ingestion. Only external versioning is supported.
+     * Validates document version for pull-based ingestion. Only external versioning is supported. The version is taken from
+     * the provided resolved versions if they have it, and resolved from the version map or the index otherwise.
      */
-    private void validateDocumentVersion(final Operation operation) throws IOException {
+    private void validateDocumentVersion(final Operation operation, @Nullable Map<BytesRef, VersionValue> resolvedVersions)
+        throws IOException {
         if (operation.versionType() != VersionType.EXTERNAL) {
             return;
         }
 
         versionMap.enforceSafeAccess();
-        final VersionValue versionValue = resolveDocVersion(operation, false);
+        final VersionValue versionValue;
+        if (resolvedVersions != null && resolvedVersions.containsKey(operation.uid().bytes())) {
+            versionValue = resolvedVersions.get(operation.uid().bytes());
+        } else {
+            versionValue = resolveDocVersion(operation, false);
+        }
         final long currentVersion;
         final boolean currentNotFoundOrDeleted;
 
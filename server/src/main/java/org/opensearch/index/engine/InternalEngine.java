@@ -163,7 +163,7 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    protected final LiveVersionMap versionMap = new LiveVersionMap();
+    protected final LiveVersionMap versionMap;
 
     @Nullable
     protected final String historyUUID;
@@ -238,6 +238,7 @@ public class InternalEngine extends Engine {
     ) {
         super(engineConfig);
         this.maxDocs = maxDocs;
+        this.versionMap = new LiveVersionMap(engineConfig.getIndexSettings().getVersionMapLockStripes());
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
@@ -794,7 +795,7 @@ public class InternalEngine extends Engine {
         return versionValue;
     }
 
-    private VersionValue getVersionFromMap(BytesRef id) {
+    VersionValue getVersionFromMap(BytesRef id) {
         if (versionMap.isUnsafe()) {
             synchronized (versionMap) {
                 // we are switching from an unsafe map to a safe map. This might happen concurrently
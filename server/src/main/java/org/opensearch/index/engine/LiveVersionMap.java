@@ -39,6 +39,7 @@ import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.KeyedLock;
+import org.opensearch.common.util.concurrent.StripedLock;
 
 import java.io.IOException;
 import java.util.Collection;
@@ -53,7 +54,80 @@ import java.util.concurrent.atomic.AtomicLong;
  */
 final class LiveVersionMap implements ReferenceManager.RefreshListener, Accountable {
 
-    private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+    private final UidLock keyedLock;
+
+    /**
+     * Creates a version map that uses a dedicated lock per uid, see {@link KeyedLock}.
+     */
+    LiveVersionMap() {
+        this(0);
+    }
+
+    /**
+     * Creates a version map whose uid locks are striped over the given number of locks. A value of {@code 0} uses a
+     * dedicated lock per uid instead.
+     *
+     * @see org.opensearch.index.IndexSettings#INDEX_VERSION_MAP_LOCK_STRIPES_SETTING
+     */
+    LiveVersionMap(int lockStripes) {
+        this.keyedLock = lockStripes > 0 ? UidLock.striped(lockStripes) : UidLock.keyed();
+    }
+
+    /**
+     * The per-uid lock that all *UnderLock methods require to be held. Either backed by a {@link KeyedLock}, which creates a
+     * lock per uid on demand, or by a {@link StripedLock}, which never allocates shared state on acquisition and is cheaper
+     * under many concurrent writers at the cost of unrelated uids occasionally serializing on the same stripe. The engine only
+     * ever holds a single uid lock at a time (tombstone pruning uses {@link #tryAcquire}), so striping can not deadlock.
+     *
+     * @opensearch.internal
+     */
+    private interface UidLock {
+        Releasable acquire(BytesRef uid);
+
+        Releasable tryAcquire(BytesRef uid);
+
+        boolean isHeldByCurrentThread(BytesRef uid);
+
+        static UidLock keyed() {
+            final KeyedLock<BytesRef> lock = new KeyedLock<>();
+            return new UidLock() {
+                @Override
+                public Releasable acquire(BytesRef uid) {
+                    return lock.acquire(uid);
+                }
+
+                @Override
+                public Releasable tryAcquire(BytesRef uid) {
+                    return lock.tryAcquire(uid);
+                }
+
+                @Override
+                public boolean isHeldByCurrentThread(BytesRef uid) {
+                    return lock.isHeldByCurrentThread(uid);
+                }
+            };
+        }
+
+        static UidLock striped(int stripes) {
+            final StripedLock<BytesRef> lock = new StripedLock<>(stripes);
+            return new UidLock() {
+                @Override
+                public Releasable acquire(BytesRef uid) {
+                    return lock.acquire(uid);
+                }
+
+                @Override
+                public Releasable tryAcquire(BytesRef uid) {
+                    return lock.tryAcquire(uid);
+                }
+
+                @Override
+                public boolean isHeldByCurrentThread(BytesRef uid) {
+                    return lock.isHeldByCurrentThread(uid);
+                }
+            };
+        }
+    }
 
     /**
      * Looks up document version
@@ -496,6 +570,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * this lock to be hold by the caller otherwise the visibility guarantees of this version
      * map are broken. We assert on this lock to be hold when calling these methods.
      * @see KeyedLock
+     * @see StripedLock
      */
     Releasable acquireLock(BytesRef uid) {
         return keyedLock.acquire(uid);
@@ -150,6 +150,13 @@ public class NRTReplicationEngine extends Engine {
         replicaFileTracker.deleteUnreferencedFiles(store.directory().listAll());
     }
 
+    /**
+     * Deletes the given files unless they are referenced by the last commit or by an open reader.
+     */
+    public void cleanUnreferencedFiles(Collection<String> fileNames) {
+        replicaFileTracker.deleteUnreferencedFiles(fileNames.toArray(new String[0]));
+    }
+
     private NRTReplicationReaderManager buildReaderManager() throws IOException {
         return new NRTReplicationReaderManager(
             OpenSearchDirectoryReader.wrap(getDirectoryReader(), shardId),
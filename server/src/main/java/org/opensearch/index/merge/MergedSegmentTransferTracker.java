@@ -27,6 +27,7 @@ public class MergedSegmentTransferTracker {
     private final CounterMetric totalBytesReceived = new CounterMetric();
     private final CounterMetric totalSendTimeMillis = new CounterMetric();
     private final CounterMetric totalReceiveTimeMillis = new CounterMetric();
+    private final CounterMetric totalBytesSaved = new CounterMetric();
     private final CounterMetric ongoingWarms = new CounterMetric();
 
     public void incrementTotalWarmInvocationsCount() {
@@ -65,6 +66,10 @@ public class MergedSegmentTransferTracker {
         totalBytesReceived.inc(bytes);
     }
 
+    public void addTotalBytesSaved(long bytes) {
+        totalBytesSaved.inc(bytes);
+    }
+
     public MergedSegmentWarmerStats stats() {
         final MergedSegmentWarmerStats stats = new MergedSegmentWarmerStats();
         stats.add(
@@ -75,7 +80,8 @@ public class MergedSegmentTransferTracker {
             totalBytesReceived.count(),
             totalSendTimeMillis.count(),
             totalReceiveTimeMillis.count(),
-            ongoingWarms.count()
+            ongoingWarms.count(),
+            totalBytesSaved.count()
         );
         return stats;
     }
@@ -8,6 +8,7 @@
 
 package org.opensearch.index.merge;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -51,6 +52,9 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
     // [PRIMARY SHARD] Current number of ongoing segment warming operations
     private long ongoingCount;
 
+    // [REPLICA SHARD] Total bytes of pre-copied merged segments that segment replication did not need to copy anymore
+    private long totalBytesSaved;
+
     public MergedSegmentWarmerStats() {}
 
     public MergedSegmentWarmerStats(StreamInput in) throws IOException {
@@ -62,9 +66,12 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         totalSendTimeMillis = in.readVLong();
         totalReceiveTimeMillis = in.readVLong();
         ongoingCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            totalBytesSaved = in.readVLong();
+        }
     }
 
-    public synchronized void add(
+    public void add(
         long totalInvocationsCount,
         long totalTimeMillis,
         long totalFailureCount,
@@ -73,6 +80,30 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         long totalSendTimeMillis,
         long totalReceiveTimeMillis,
         long ongoingCount
+    ) {
+        add(
+            totalInvocationsCount,
+            totalTimeMillis,
+            totalFailureCount,
+            totalBytesSent,
+            totalBytesReceived,
+            totalSendTimeMillis,
+            totalReceiveTimeMillis,
+            ongoingCount,
+            0
+        );
+    }
+
+    public synchronized void add(
+        long totalInvocationsCount,
+        long totalTimeMillis,
+        long totalFailureCount,
+        long totalBytesSent,
+        long totalBytesReceived,
+        long totalSendTimeMillis,
+        long totalReceiveTimeMillis,
+        long ongoingCount,
+        long totalBytesSaved
     ) {
         this.totalInvocationsCount += totalInvocationsCount;
         this.totalTimeMillis += totalTimeMillis;
@@ -82,6 +113,7 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         this.totalSendTimeMillis += totalSendTimeMillis;
         this.totalReceiveTimeMillis += totalReceiveTimeMillis;
         this.ongoingCount += ongoingCount;
+        this.totalBytesSaved += totalBytesSaved;
     }
 
     public void add(MergedSegmentWarmerStats mergedSegmentWarmerStats) {
@@ -99,6 +131,7 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         this.totalBytesReceived += mergedSegmentWarmerStats.totalBytesReceived;
         this.totalSendTimeMillis += mergedSegmentWarmerStats.totalSendTimeMillis;
         this.totalReceiveTimeMillis += mergedSegmentWarmerStats.totalReceiveTimeMillis;
+        this.totalBytesSaved += mergedSegmentWarmerStats.totalBytesSaved;
     }
 
     public long getTotalInvocationsCount() {
@@ -133,6 +166,10 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         return new TimeValue(totalSendTimeMillis);
     }
 
+    public ByteSizeValue getTotalSavedSize() {
+        return new ByteSizeValue(totalBytesSaved);
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.WARMER);
@@ -144,6 +181,7 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.TOTAL_SEND_TIME_MILLIS, Fields.TOTAL_SEND_TIME, getTotalSendTime());
         builder.humanReadableField(Fields.TOTAL_RECEIVE_TIME_MILLIS, Fields.TOTAL_RECEIVE_TIME, getTotalReceiveTime());
         builder.field(Fields.ONGOING_COUNT, ongoingCount);
+        builder.humanReadableField(Fields.TOTAL_BYTES_SAVED, Fields.TOTAL_SAVED_SIZE, getTotalSavedSize());
         builder.endObject();
         return builder;
     }
@@ -163,12 +201,14 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         static final String TOTAL_SEND_TIME_MILLIS = "total_send_time_millis";
         static final String TOTAL_RECEIVE_TIME_MILLIS = "total_receive_time_millis";
         static final String ONGOING_COUNT = "ongoing_count";
+        static final String TOTAL_BYTES_SAVED = "total_bytes_saved";
 
         public static final String TOTAL_TIME = "total_time";
         public static final String TOTAL_SEND_TIME = "total_send_time";
         public static final String TOTAL_RECEIVE_TIME = "total_receive_time";
         public static final String TOTAL_SENT_SIZE = "total_sent_size";
         public static final String TOTAL_RECEIVED_SIZE = "total_received_size";
+        public static final String TOTAL_SAVED_SIZE = "total_saved_size";
     }
 
     @Override
@@ -181,5 +221,8 @@ public class MergedSegmentWarmerStats implements Writeable, ToXContentFragment {
         out.writeVLong(totalSendTimeMillis);
         out.writeVLong(totalReceiveTimeMillis);
         out.writeVLong(ongoingCount);
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeVLong(totalBytesSaved);
+        }
     }
 }
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.search.stats;
+
+import org.opensearch.common.ExponentiallyWeightedMovingAverage;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.search.deciders.ConcurrentSearchCostModel;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per shard history of the query phase latency, normalized by the number of documents of the shard and the cost of the query, of
+ * sequential and concurrent searches. It feeds the cost per document into the {@link ConcurrentSearchCostModel} and keeps track of
+ * its decisions, so that the realized speed-up of concurrent search can be compared to what the model expected.
+ * <p>
+ * Once the model sends the expensive requests to concurrent search, sequential searches only see the cheap ones, so comparing them
+ * to concurrent searches would overstate the speed-up. Every {@link #SEQUENTIAL_SAMPLE_INTERVAL}th request the model sends to
+ * concurrent search is searched sequentially instead, and the realized speed-up only compares these samples to concurrent searches.
+ *
+ * @opensearch.internal
+ */
+public final class ConcurrentSearchHistory {
+
+    static final double ALPHA = 0.1;
+
+    static final int SEQUENTIAL_SAMPLE_INTERVAL = 100;
+
+    private volatile ExponentiallyWeightedMovingAverage sequentialNanosPerDoc;
+    private volatile ExponentiallyWeightedMovingAverage sampledSequentialNanosPerDoc;
+    private volatile ExponentiallyWeightedMovingAverage concurrentNanosPerDoc;
+
+    private final AtomicLong concurrentCandidates = new AtomicLong();
+
+    final CounterMetric concurrentDecisions = new CounterMetric();
+    final CounterMetric sequentialDecisions = new CounterMetric();
+    final CounterMetric saturatedDecisions = new CounterMetric();
+
+    /**
+     * @param concurrent whether the query phase used concurrent search
+     * @param sequentialSample whether sequential search was used to sample a request the model sent to concurrent search
+     * @param docCount number of documents of the shard
+     * @param queryCost cost of the query, see {@link ConcurrentSearchCostModel#queryCost}
+     * @param tookInNanos latency of the query phase
+     */
+    void onQueryPhase(boolean concurrent, boolean sequentialSample, long docCount, int queryCost, long tookInNanos) {
+        if (docCount <= 0) {
+            return;
+        }
+        final double nanosPerDoc = (double) tookInNanos / docCount / Math.max(1, queryCost);
+        if (concurrent) {
+            concurrentNanosPerDoc = add(concurrentNanosPerDoc, nanosPerDoc);
+        } else {
+            sequentialNanosPerDoc = add(sequentialNanosPerDoc, nanosPerDoc);
+            if (sequentialSample) {
+                sampledSequentialNanosPerDoc = add(sampledSequentialNanosPerDoc, nanosPerDoc);
+            }
+        }
+    }
+
+    private static ExponentiallyWeightedMovingAverage add(ExponentiallyWeightedMovingAverage average, double value) {
+        if (average == null) {
+            // racing first samples may drop one of them, which does not matter for a moving average
+            return new ExponentiallyWeightedMovingAverage(ALPHA, value);
+        }
+        average.addValue(value);
+        return average;
+    }
+
+    /**
+     * Records a decision of the {@link ConcurrentSearchCostModel}, and returns the decision to apply, which samples sequential search
+     * instead of every {@link #SEQUENTIAL_SAMPLE_INTERVAL}th concurrent decision. Samples count as concurrent decisions.
+     */
+    public ConcurrentSearchCostModel.Decision onDecision(ConcurrentSearchCostModel.Decision decision) {
+        if (decision.isConcurrent()) {
+            concurrentDecisions.inc();
+            if (concurrentCandidates.incrementAndGet() % SEQUENTIAL_SAMPLE_INTERVAL == 0) {
+                return decision.asSequentialSample();
+            }
+        } else if (decision.isSaturated()) {
+            saturatedDecisions.inc();
+        } else {
+            sequentialDecisions.inc();
+        }
+        return decision;
+    }
+
+    /**
+     * Returns the average query phase latency per document and unit of query cost of sequential searches, or {@link Double#NaN} if
+     * there was none yet.
+     */
+    public double sequentialNanosPerDoc() {
+        final ExponentiallyWeightedMovingAverage average = sequentialNanosPerDoc;
+        return average == null ? Double.NaN : average.getAverage();
+    }
+
+    /**
+     * Returns the average query phase latency per document and unit of query cost of concurrent searches, or {@link Double#NaN} if
+     * there was none yet.
+     */
+    public double concurrentNanosPerDoc() {
+        final ExponentiallyWeightedMovingAverage average = concurrentNanosPerDoc;
+        return average == null ? Double.NaN : average.getAverage();
+    }
+
+    /**
+     * Returns how much faster concurrent searches were than the sequential samples of requests the model sent to concurrent search on
+     * this shard, or {@code 0} if this is not known yet.
+     */
+    public double realizedSpeedup() {
+        final ExponentiallyWeightedMovingAverage sampled = sampledSequentialNanosPerDoc;
+        final double sequential = sampled == null ? Double.NaN : sampled.getAverage();
+        final double concurrent = concurrentNanosPerDoc();
+        if (Double.isNaN(sequential) || Double.isNaN(concurrent) || concurrent <= 0) {
+            return 0;
+        }
+        return sequential / concurrent;
+    }
+}
@@ -155,6 +155,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
         private long concurrentQueryCurrent;
         private long queryConcurrency;
 
+        private long concurrentDecisionYesCount;
+        private long concurrentDecisionNoCount;
+        private long concurrentDecisionSaturatedCount;
+        private double concurrentRealizedSpeedup;
+
         private long fetchCount;
         private long fetchTimeInMillis;
         private long fetchCurrent;
@@ -206,6 +211,11 @@ public class SearchStats implements Writeable, ToXContentFragment {
             this.concurrentQueryCurrent = builder.concurrentQueryCurrent;
             this.queryConcurrency = builder.queryConcurrency;
 
+            this.concurrentDecisionYesCount = builder.concurrentDecisionYesCount;
+            this.concurrentDecisionNoCount = builder.concurrentDecisionNoCount;
+            this.concurrentDecisionSaturatedCount = builder.concurrentDecisionSaturatedCount;
+            this.concurrentRealizedSpeedup = builder.concurrentRealizedSpeedup;
+
             this.fetchCount = builder.fetchCount;
             this.fetchTimeInMillis = builder.fetchTimeInMillis;
             this.fetchCurrent = builder.fetchCurrent;
@@ -334,6 +344,13 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 queryFailedCount = in.readVLong();
                 starTreeQueryFailed = in.readVLong();
             }
+
+            if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+                concurrentDecisionYesCount = in.readVLong();
+                concurrentDecisionNoCount = in.readVLong();
+                concurrentDecisionSaturatedCount = in.readVLong();
+                concurrentRealizedSpeedup = in.readDouble();
+            }
         }
 
         public void add(Stats stats) {
@@ -347,6 +364,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             concurrentQueryCurrent += stats.concurrentQueryCurrent;
             queryConcurrency += stats.queryConcurrency;
 
+            addConcurrentDecisions(stats);
+
             fetchCount += stats.fetchCount;
             fetchTimeInMillis += stats.fetchTimeInMillis;
             fetchCurrent += stats.fetchCurrent;
@@ -379,6 +398,8 @@ public class SearchStats implements Writeable, ToXContentFragment {
             concurrentQueryCount += stats.concurrentQueryCount;
             concurrentQueryTimeInMillis += stats.concurrentQueryTimeInMillis;
 
+            addConcurrentDecisions(stats);
+
             fetchCount += stats.fetchCount;
             fetchTimeInMillis += stats.fetchTimeInMillis;
 
@@ -402,6 +423,21 @@ public class SearchStats implements Writeable, ToXContentFragment {
             starTreeQueryFailed += stats.starTreeQueryFailed;
         }
 
+        private void addConcurrentDecisions(Stats stats) {
+            // the realized speed-up is averaged over the shards that know it, weighted by their number of concurrent searches
+            final long weight = concurrentRealizedSpeedup > 0 ? concurrentDecisionYesCount : 0;
+            final long otherWeight = stats.concurrentRealizedSpeedup > 0 ? stats.concurrentDecisionYesCount : 0;
+            if (weight + otherWeight > 0) {
+                concurrentRealizedSpeedup = (concurrentRealizedSpeedup * weight + stats.concurrentRealizedSpeedup * otherWeight) / (weight
+                    + otherWeight);
+            } else {
+                concurrentRealizedSpeedup = Math.max(concurrentRealizedSpeedup, stats.concurrentRealizedSpeedup);
+            }
+            concurrentDecisionYesCount += stats.concurrentDecisionYesCount;
+            concurrentDecisionNoCount += stats.concurrentDecisionNoCount;
+            concurrentDecisionSaturatedCount += stats.concurrentDecisionSaturatedCount;
+        }
+
         public long getQueryCount() {
             return queryCount;
         }
@@ -446,6 +482,34 @@ public class SearchStats implements Writeable, ToXContentFragment {
             return concurrentQueryCurrent;
         }
 
+        /**
+         * Number of requests the cost based concurrent search decider let use concurrent segment search.
+         */
+        public long getConcurrentDecisionYesCount() {
+            return concurrentDecisionYesCount;
+        }
+
+        /**
+         * Number of requests the cost based concurrent search decider did not expect to benefit from concurrent segment search.
+         */
+        public long getConcurrentDecisionNoCount() {
+            return concurrentDecisionNoCount;
+        }
+
+        /**
+         * Number of requests the cost based concurrent search decider ran sequentially because the index searcher pool was saturated.
+         */
+        public long getConcurrentDecisionSaturatedCount() {
+            return concurrentDecisionSaturatedCount;
+        }
+
+        /**
+         * Ratio of the query latency per document of sequential to concurrent searches, {@code 0} if not known.
+         */
+        public double getConcurrentRealizedSpeedup() {
+            return concurrentRealizedSpeedup;
+        }
+
         public long getFetchCount() {
             return fetchCount;
         }
@@ -603,6 +667,13 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 out.writeVLong(queryFailedCount);
                 out.writeVLong(starTreeQueryFailed);
             }
+
+            if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+                out.writeVLong(concurrentDecisionYesCount);
+                out.writeVLong(concurrentDecisionNoCount);
+                out.writeVLong(concurrentDecisionSaturatedCount);
+                out.writeDouble(concurrentRealizedSpeedup);
+            }
         }
 
         @Override
@@ -616,6 +687,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
             builder.humanReadableField(Fields.CONCURRENT_QUERY_TIME_IN_MILLIS, Fields.CONCURRENT_QUERY_TIME, getConcurrentQueryTime());
             builder.field(Fields.CONCURRENT_QUERY_CURRENT, concurrentQueryCurrent);
             builder.field(Fields.CONCURRENT_AVG_SLICE_COUNT, getConcurrentAvgSliceCount());
+            builder.field(Fields.CONCURRENT_DECISION_YES_TOTAL, concurrentDecisionYesCount);
+            builder.field(Fields.CONCURRENT_DECISION_NO_TOTAL, concurrentDecisionNoCount);
+            builder.field(Fields.CONCURRENT_DECISION_SATURATED_TOTAL, concurrentDecisionSaturatedCount);
+            builder.field(Fields.CONCURRENT_REALIZED_SPEEDUP, concurrentRealizedSpeedup);
 
             builder.field(Fields.STARTREE_QUERY_TOTAL, starTreeQueryCount);
             builder.humanReadableField(Fields.STARTREE_QUERY_TIME_IN_MILLIS, Fields.STARTREE_QUERY_TIME, getStarTreeQueryTime());
@@ -681,6 +756,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
             private long concurrentQueryTimeInMillis = 0;
             private long concurrentQueryCurrent = 0;
             private long queryConcurrency = 0;
+            private long concurrentDecisionYesCount = 0;
+            private long concurrentDecisionNoCount = 0;
+            private long concurrentDecisionSaturatedCount = 0;
+            private double concurrentRealizedSpeedup = 0;
             private long fetchCount = 0;
             private long fetchTimeInMillis = 0;
             private long fetchCurrent = 0;
@@ -743,6 +822,26 @@ public class SearchStats implements Writeable, ToXContentFragment {
                 return this;
             }
 
+            public Builder concurrentDecisionYesCount(long count) {
+                this.concurrentDecisionYesCount = count;
+                return this;
+            }
+
+            public Builder concurrentDecisionNoCount(long count) {
+                this.concurrentDecisionNoCount = count;
+                return this;
+            }
+
+            public Builder concurrentDecisionSaturatedCount(long count) {
+                this.concurrentDecisionSaturatedCount = count;
+                return this;
+            }
+
+            public Builder concurrentRealizedSpeedup(double speedup) {
+                this.concurrentRealizedSpeedup = speedup;
+                return this;
+            }
+
             public Builder fetchCount(long count) {
                 this.fetchCount = count;
                 return this;
@@ -977,6 +1076,10 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String CONCURRENT_QUERY_TIME_IN_MILLIS = "concurrent_query_time_in_millis";
         static final String CONCURRENT_QUERY_CURRENT = "concurrent_query_current";
         static final String CONCURRENT_AVG_SLICE_COUNT = "concurrent_avg_slice_count";
+        static final String CONCURRENT_DECISION_YES_TOTAL = "concurrent_decision_yes_total";
+        static final String CONCURRENT_DECISION_NO_TOTAL = "concurrent_decision_no_total";
+        static final String CONCURRENT_DECISION_SATURATED_TOTAL = "concurrent_decision_saturated_total";
+        static final String CONCURRENT_REALIZED_SPEEDUP = "concurrent_realized_speedup";
         static final String STARTREE_QUERY_TOTAL = "startree_query_total";
         static final String STARTREE_QUERY_TIME = "startree_query_time";
         static final String STARTREE_QUERY_TIME_IN_MILLIS = "startree_query_time_in_millis";
@@ -32,12 +32,14 @@
 
 package org.opensearch.index.search.stats;
 
+import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
 import org.opensearch.common.regex.Regex;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.index.shard.SearchOperationListener;
+import org.opensearch.search.deciders.ConcurrentSearchCostModel;
 import org.opensearch.search.internal.ReaderContext;
 import org.opensearch.search.internal.SearchContext;
 
@@ -56,6 +58,7 @@ import static java.util.Collections.emptyMap;
 public final class ShardSearchStats implements SearchOperationListener {
 
     private final StatsHolder totalStats = new StatsHolder();
+    private final ConcurrentSearchHistory concurrentSearchHistory = new ConcurrentSearchHistory();
     private final CounterMetric openContexts = new CounterMetric();
     private volatile Map<String, StatsHolder> groupsStats = emptyMap();
 
@@ -65,7 +68,7 @@ public final class ShardSearchStats implements SearchOperationListener {
      * {@code _all} for all groups.
      */
     public SearchStats stats(String... groups) {
-        SearchStats.Stats total = totalStats.stats();
+        SearchStats.Stats total = totalStats.stats(concurrentSearchHistory);
         Map<String, SearchStats.Stats> groupsSt = null;
         if (CollectionUtils.isEmpty(groups) == false) {
             groupsSt = new HashMap<>(groupsStats.size());
@@ -149,6 +152,23 @@ public final class ShardSearchStats implements SearchOperationListener {
                 }
             }
         });
+        if (searchContext.hasOnlySuggest() == false && searchContext.searcher() != null) {
+            final ConcurrentSearchCostModel.Decision decision = searchContext.getConcurrentSearchCostDecision();
+            concurrentSearchHistory.onQueryPhase(
+                searchContext.shouldUseConcurrentSearch(),
+                decision != null && decision.isSequentialSample(),
+                searchContext.searcher().getIndexReader().maxDoc(),
+                ConcurrentSearchCostModel.queryCost(searchContext.query()),
+                tookInNanos
+            );
+        }
+    }
+
+    /**
+     * Returns the history of query phase latencies the cost based concurrent segment search decisions rely on.
+     */
+    public ConcurrentSearchHistory concurrentSearchHistory() {
+        return concurrentSearchHistory;
     }
 
     @Override
@@ -265,7 +285,11 @@ public final class ShardSearchStats implements SearchOperationListener {
         final CounterMetric starTreeQueryFailed = new CounterMetric();
 
         SearchStats.Stats stats() {
-            return new SearchStats.Stats.Builder().queryCount(queryMetric.count())
+            return stats(null);
+        }
+
+        SearchStats.Stats stats(@Nullable ConcurrentSearchHistory concurrentSearchHistory) {
+            final SearchStats.Stats.Builder builder = new SearchStats.Stats.Builder().queryCount(queryMetric.count())
                 .queryTimeInMillis(TimeUnit.NANOSECONDS.toMillis(queryMetric.sum()))
                 .queryCurrent(queryCurrent.count())
                 .queryFailed(queryFailed.count())
@@ -289,8 +313,14 @@ public final class ShardSearchStats implements SearchOperationListener {
                 .starTreeQueryCount(starTreeQueryMetric.count())
                 .starTreeQueryTimeInMillis(TimeUnit.NANOSECONDS.toMillis(starTreeQueryMetric.sum()))
                 .starTreeQueryCurrent(starTreeCurrent.count())
-                .starTreeQueryFailed(starTreeQueryFailed.count())
-                .build();
+                .starTreeQueryFailed(starTreeQueryFailed.count());
+            if (concurrentSearchHistory != null) {
+                builder.concurrentDecisionYesCount(concurrentSearchHistory.concurrentDecisions.count())
+                    .concurrentDecisionNoCount(concurrentSearchHistory.sequentialDecisions.count())
+                    .concurrentDecisionSaturatedCount(concurrentSearchHistory.saturatedDecisions.count())
+                    .concurrentRealizedSpeedup(concurrentSearchHistory.realizedSpeedup());
+            }
+            return builder.build();
         }
     }
 }
@@ -164,6 +164,7 @@ import org.opensearch.index.remote.RemoteSegmentStats;
 import org.opensearch.index.remote.RemoteStorePathStrategy;
 import org.opensearch.index.remote.RemoteStoreStatsTrackerFactory;
 import org.opensearch.index.remote.RemoteStoreUtils;
+import org.opensearch.index.search.stats.ConcurrentSearchHistory;
 import org.opensearch.index.search.stats.SearchStats;
 import org.opensearch.index.search.stats.ShardSearchStats;
 import org.opensearch.index.seqno.ReplicationTracker;
@@ -392,6 +393,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final MergedSegmentPublisher mergedSegmentPublisher;
     private final ReferencedSegmentsPublisher referencedSegmentsPublisher;
     private final Set<MergedSegmentCheckpoint> pendingMergedSegmentCheckpoints = Sets.newConcurrentHashSet();
+    // files kept by replication rounds that did not complete, until a completed round either references or deletes them
+    private final Set<String> reusableReplicationFiles = Sets.newConcurrentHashSet();
     private final MergedSegmentTransferTracker mergedSegmentTransferTracker;
 
     @InternalApi
@@ -1558,6 +1561,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return searchStats.stats(groups);
     }
 
+    public ConcurrentSearchHistory concurrentSearchHistory() {
+        return searchStats.concurrentSearchHistory();
+    }
+
     public GetStats getStats() {
         return getService.stats();
     }
@@ -1812,7 +1819,36 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 );
                 pendingMergedSegmentCheckpoints.removeIf(s -> s.getSegmentName().equals(segmentCommitInfoName));
             }
+            cleanupReusableReplicationFiles(engineOptional.get());
+        }
+    }
+
+    /**
+     * Deletes the files kept by earlier replication rounds that the latest segment infos don't reference. Files that are referenced
+     * are tracked by the engine from now on, and files of pre-copied merged segments are left to
+     * {@link #cleanupRedundantPendingMergeSegment}.
+     */
+    private void cleanupReusableReplicationFiles(NRTReplicationEngine engine) {
+        if (reusableReplicationFiles.isEmpty()) {
+            return;
         }
+        final List<String> fileNames = new ArrayList<>(reusableReplicationFiles);
+        reusableReplicationFiles.removeAll(fileNames);
+        fileNames.removeIf(this::isPendingMergedSegmentFile);
+        logger.trace("cleaning up files kept by earlier replication rounds {}", fileNames);
+        engine.cleanUnreferencedFiles(fileNames);
+    }
+
+    /**
+     * Records files that a replication round which did not complete received and verified, so that the next round can reuse them.
+     */
+    public void addReusableReplicationFiles(Collection<String> fileNames) {
+        reusableReplicationFiles.addAll(fileNames);
+    }
+
+    // for tests
+    public Set<String> getReusableReplicationFiles() {
+        return reusableReplicationFiles;
     }
 
     /**
@@ -1872,6 +1908,18 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * Returns whether the given file belongs to a merged segment that was pre-copied to this replica and is not referenced yet.
+     */
+    public boolean isPendingMergedSegmentFile(String fileName) {
+        for (MergedSegmentCheckpoint mergedSegmentCheckpoint : pendingMergedSegmentCheckpoints) {
+            if (mergedSegmentCheckpoint.getMetadataMap().containsKey(fileName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void addPendingMergeSegmentCheckpoint(MergedSegmentCheckpoint mergedSegmentCheckpoint) {
         pendingMergedSegmentCheckpoints.add(mergedSegmentCheckpoint);
     }
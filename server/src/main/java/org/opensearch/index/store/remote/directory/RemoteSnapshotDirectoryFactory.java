@@ -107,7 +107,12 @@ public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.Di
             assert indexShardSnapshot instanceof BlobStoreIndexShardSnapshot
                 : "indexShardSnapshot should be an instance of BlobStoreIndexShardSnapshot";
             final BlobStoreIndexShardSnapshot snapshot = (BlobStoreIndexShardSnapshot) indexShardSnapshot;
-            TransferManager transferManager = new TransferManager(blobContainer::readBlob, remoteStoreFileCache, threadPool);
+            TransferManager transferManager = new TransferManager(
+                blobContainer::readBlob,
+                remoteStoreFileCache,
+                threadPool,
+                IndexSettings.SEARCHABLE_SNAPSHOT_PREFETCH_BLOCKS.get(indexSettings.getSettings())
+            );
             return new RemoteSnapshotDirectory(snapshot, localStoreDir, transferManager);
         });
     }
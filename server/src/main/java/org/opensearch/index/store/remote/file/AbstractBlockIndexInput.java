@@ -80,6 +80,16 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
      */
     protected int currentBlockId;
 
+    /**
+     * ID of the block that was fetched before the current one, -1 if there was none
+     */
+    private int previousBlockId = -1;
+
+    /**
+     * Number of blocks that were fetched in a row, each being the successor of the one before, not counting the first one
+     */
+    private int sequentialBlockReads;
+
     private final BlockHolder blockHolder = new BlockHolder();
     protected final Cleaner.Cleanable cleanable;
 
@@ -134,6 +144,8 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
     public void close() throws IOException {
         blockHolder.close();
         currentBlockId = 0;
+        previousBlockId = -1;
+        sequentialBlockReads = 0;
     }
 
     @Override
@@ -442,10 +454,25 @@ public abstract class AbstractBlockIndexInput extends IndexInput implements Rand
         // close the current block before jumping to the new block
         blockHolder.close();
 
+        if (previousBlockId >= 0 && blockId == previousBlockId + 1) {
+            sequentialBlockReads++;
+        } else {
+            sequentialBlockReads = 0;
+        }
+        previousBlockId = blockId;
+
         blockHolder.set(fetchBlock(blockId));
         currentBlockId = blockId;
     }
 
+    /**
+     * Returns how many blocks were fetched in order right before the block that is being fetched, e.g. 0 after a random
+     * seek and 1 for the second of two consecutive blocks. Only meaningful within {@link #fetchBlock(int)}.
+     */
+    protected int sequentialBlockReads() {
+        return sequentialBlockReads;
+    }
+
     protected void cloneBlock(AbstractBlockIndexInput other) {
         if (other.blockHolder.block != null) {
             this.blockHolder.set(other.blockHolder.block.clone());
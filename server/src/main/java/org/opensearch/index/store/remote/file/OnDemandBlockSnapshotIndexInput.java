@@ -58,6 +58,11 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
      */
     protected final long originalFileSize;
 
+    /**
+     * Highest block that this input asked the {@link TransferManager} to prefetch, -1 if none
+     */
+    private int prefetchedUpTo = -1;
+
     public OnDemandBlockSnapshotIndexInput(FileInfo fileInfo, FSDirectory directory, TransferManager transferManager) {
         this(
             "BlockedSnapshotIndexInput(path=\""
@@ -137,6 +142,38 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
     @Override
     protected IndexInput fetchBlock(int blockId) throws IOException {
         logger.trace("fetchBlock called with blockId -> {}", blockId);
+        final IndexInput block = transferManager.fetchBlob(blobFetchRequest(blockId));
+        maybePrefetch(blockId);
+        return block;
+    }
+
+    /**
+     * Reads ahead of the current block once this input was read sequentially across a block boundary. The read-ahead window is
+     * only topped up once half of it was consumed, so that the prefetched blocks are adjacent and can share a ranged read.
+     */
+    private void maybePrefetch(int blockId) {
+        final int prefetchBlocks = transferManager.getPrefetchBlocks();
+        if (prefetchBlocks == 0 || sequentialBlockReads() == 0) {
+            return;
+        }
+        if (prefetchedUpTo - blockId > prefetchBlocks / 2) {
+            return;
+        }
+        // never read past the end of this slice
+        final int lastBlockId = Math.min(getBlock(offset + length - 1), blockId + prefetchBlocks);
+        final int firstBlockId = Math.max(blockId + 1, prefetchedUpTo + 1);
+        if (firstBlockId > lastBlockId) {
+            return;
+        }
+        final List<BlobFetchRequest> requests = new ArrayList<>(lastBlockId - firstBlockId + 1);
+        for (int id = firstBlockId; id <= lastBlockId; id++) {
+            requests.add(blobFetchRequest(id));
+        }
+        prefetchedUpTo = lastBlockId;
+        transferManager.prefetchBlobs(requests);
+    }
+
+    private BlobFetchRequest blobFetchRequest(int blockId) {
         final String blockFileName = getBlockFileName(fileName, blockId);
 
         final long blockStart = getBlockStart(blockId);
@@ -152,12 +189,11 @@ public class OnDemandBlockSnapshotIndexInput extends AbstractBlockIndexInput {
 
         // Block may be present on multiple chunks of a file, so we need
         // to fetch each chunk/blob part separately to fetch an entire block.
-        BlobFetchRequest blobFetchRequest = BlobFetchRequest.builder()
+        return BlobFetchRequest.builder()
             .blobParts(getBlobParts(blockStart, blockEnd))
             .directory(directory)
             .fileName(blockFileName)
             .build();
-        return transferManager.fetchBlob(blobFetchRequest);
     }
 
     /**
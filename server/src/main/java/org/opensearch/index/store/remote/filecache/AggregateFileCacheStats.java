@@ -8,6 +8,7 @@
 
 package org.opensearch.index.store.remote.filecache;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -17,7 +18,10 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Statistics for the file cache system that tracks memory usage and performance metrics.
@@ -27,6 +31,7 @@ import java.util.EnumSet;
  * - Memory usage (total, active, used)
  * - Cache performance (hits, misses, evictions)
  * - Utilization percentages
+ * - Read-ahead of searchable snapshot blocks (prefetched, used, wasted), in total and per index
  * The statistics are exposed via {@link org.opensearch.action.admin.cluster.node.stats.NodeStats}
  * to provide visibility into cache behavior and performance.
  *
@@ -40,6 +45,12 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
     private final FileCacheStats fullFileCacheStats;
     private final FileCacheStats blockFileCacheStats;
     private final FileCacheStats pinnedFileCacheStats;
+    private final long prefetchedCount;
+    private final long prefetchHitCount;
+    private final long prefetchWastedCount;
+    private final long prefetchRangeReadCount;
+    // keyed by index uuid
+    private final Map<String, IndexPrefetchStats> indexPrefetchStats;
 
     public AggregateFileCacheStats(
         final long timestamp,
@@ -47,12 +58,43 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         final FileCacheStats fullFileCacheStats,
         final FileCacheStats blockFileCacheStats,
         FileCacheStats pinnedFileCacheStats
+    ) {
+        this(
+            timestamp,
+            overallFileCacheStats,
+            fullFileCacheStats,
+            blockFileCacheStats,
+            pinnedFileCacheStats,
+            0L,
+            0L,
+            0L,
+            0L,
+            Collections.emptyMap()
+        );
+    }
+
+    public AggregateFileCacheStats(
+        final long timestamp,
+        final FileCacheStats overallFileCacheStats,
+        final FileCacheStats fullFileCacheStats,
+        final FileCacheStats blockFileCacheStats,
+        final FileCacheStats pinnedFileCacheStats,
+        final long prefetchedCount,
+        final long prefetchHitCount,
+        final long prefetchWastedCount,
+        final long prefetchRangeReadCount,
+        final Map<String, IndexPrefetchStats> indexPrefetchStats
     ) {
         this.timestamp = timestamp;
         this.overallFileCacheStats = overallFileCacheStats;
         this.fullFileCacheStats = fullFileCacheStats;
         this.blockFileCacheStats = blockFileCacheStats;
         this.pinnedFileCacheStats = pinnedFileCacheStats;
+        this.prefetchedCount = prefetchedCount;
+        this.prefetchHitCount = prefetchHitCount;
+        this.prefetchWastedCount = prefetchWastedCount;
+        this.prefetchRangeReadCount = prefetchRangeReadCount;
+        this.indexPrefetchStats = indexPrefetchStats;
     }
 
     public AggregateFileCacheStats(final StreamInput in) throws IOException {
@@ -61,6 +103,19 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         this.fullFileCacheStats = new FileCacheStats(in);
         this.blockFileCacheStats = new FileCacheStats(in);
         this.pinnedFileCacheStats = new FileCacheStats(in);
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            this.prefetchedCount = in.readVLong();
+            this.prefetchHitCount = in.readVLong();
+            this.prefetchWastedCount = in.readVLong();
+            this.prefetchRangeReadCount = in.readVLong();
+            this.indexPrefetchStats = in.readMap(StreamInput::readString, IndexPrefetchStats::new);
+        } else {
+            this.prefetchedCount = 0L;
+            this.prefetchHitCount = 0L;
+            this.prefetchWastedCount = 0L;
+            this.prefetchRangeReadCount = 0L;
+            this.indexPrefetchStats = Collections.emptyMap();
+        }
     }
 
     public static short calculatePercentage(long used, long max) {
@@ -78,6 +133,13 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         fullFileCacheStats.writeTo(out);
         blockFileCacheStats.writeTo(out);
         pinnedFileCacheStats.writeTo(out);
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeVLong(prefetchedCount);
+            out.writeVLong(prefetchHitCount);
+            out.writeVLong(prefetchWastedCount);
+            out.writeVLong(prefetchRangeReadCount);
+            out.writeMap(indexPrefetchStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+        }
     }
 
     public long getTimestamp() {
@@ -128,6 +190,41 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         return overallFileCacheStats.getCacheMisses();
     }
 
+    /**
+     * The number of searchable snapshot blocks that were downloaded ahead of time.
+     */
+    public long getPrefetchedCount() {
+        return prefetchedCount;
+    }
+
+    /**
+     * The number of prefetched blocks that were read afterwards.
+     */
+    public long getPrefetchHitCount() {
+        return prefetchHitCount;
+    }
+
+    /**
+     * The number of prefetched blocks that left the cache without ever being read.
+     */
+    public long getPrefetchWastedCount() {
+        return prefetchWastedCount;
+    }
+
+    /**
+     * The number of repository reads issued for prefetched blocks, adjacent blocks share a single read.
+     */
+    public long getPrefetchRangeReadCount() {
+        return prefetchRangeReadCount;
+    }
+
+    /**
+     * The read-ahead statistics of each index that had blocks prefetched on this node, keyed by index uuid.
+     */
+    public Map<String, IndexPrefetchStats> getIndexPrefetchStats() {
+        return indexPrefetchStats;
+    }
+
     // visible for testing.
     public FileCacheStats getBlockFileCacheStats() {
         return blockFileCacheStats;
@@ -147,6 +244,21 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.USED_PERCENT, getUsedPercent());
         builder.field(Fields.HIT_COUNT, getCacheHits());
         builder.field(Fields.MISS_COUNT, getCacheMisses());
+        builder.startObject(Fields.PREFETCH);
+        builder.field(Fields.PREFETCHED_COUNT, getPrefetchedCount());
+        builder.field(Fields.HIT_COUNT, getPrefetchHitCount());
+        builder.field(Fields.WASTED_COUNT, getPrefetchWastedCount());
+        builder.field(Fields.RANGE_READ_COUNT, getPrefetchRangeReadCount());
+        if (indexPrefetchStats.isEmpty() == false) {
+            builder.startObject(Fields.INDICES);
+            for (Map.Entry<String, IndexPrefetchStats> entry : new TreeMap<>(indexPrefetchStats).entrySet()) {
+                builder.startObject(entry.getKey());
+                entry.getValue().toXContent(builder, params);
+                builder.endObject();
+            }
+            builder.endObject();
+        }
+        builder.endObject();
         overallFileCacheStats.toXContent(builder, params);
         fullFileCacheStats.toXContent(builder, params);
         blockFileCacheStats.toXContent(builder, params);
@@ -176,6 +288,12 @@ public class AggregateFileCacheStats implements Writeable, ToXContentFragment {
 
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+
+        static final String PREFETCH = "prefetch";
+        static final String PREFETCHED_COUNT = "prefetched_count";
+        static final String WASTED_COUNT = "wasted_count";
+        static final String RANGE_READ_COUNT = "range_read_count";
+        static final String INDICES = "indices";
     }
 
     /**
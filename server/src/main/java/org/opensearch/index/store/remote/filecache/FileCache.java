@@ -13,8 +13,10 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.SetOnce;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.index.store.remote.filecache.AggregateFileCacheStats.FileCacheStatsType;
+import org.opensearch.index.store.remote.utils.PrefetchStats;
 import org.opensearch.index.store.remote.utils.cache.RefCountedCache;
 import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 import org.opensearch.index.store.remote.utils.cache.stats.AggregateRefCountedCacheStats;
@@ -27,7 +29,10 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.RecursiveAction;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -59,6 +64,9 @@ import static org.opensearch.index.store.remote.utils.FileTypeUtils.INDICES_FOLD
 public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
     private static final Logger logger = LogManager.getLogger(FileCache.class);
     private final SegmentedCache<Path, CachedIndexInput> theCache;
+    private final PrefetchStats prefetchStats = new PrefetchStats();
+    // keyed by the uuid of the index that the prefetched files belong to
+    private final ConcurrentMap<String, PrefetchStats> indexPrefetchStats = ConcurrentCollections.newConcurrentMap();
 
     private final CircuitBreaker circuitBreaker = null;
 
@@ -78,6 +86,35 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
         return theCache.capacity();
     }
 
+    /**
+     * Returns the read-ahead statistics of the searchable snapshot blocks that are downloaded into this cache.
+     */
+    public PrefetchStats prefetchStats() {
+        return prefetchStats;
+    }
+
+    /**
+     * Returns the read-ahead statistics of the index that the given cached file belongs to. Cached files are stored under
+     * {@code <file cache path>/<index uuid>/<shard id>/<store>/}, so the index is the directory three levels above the file. They add
+     * up to the statistics of the whole cache.
+     */
+    public PrefetchStats prefetchStats(Path filePath) {
+        final Path storePath = filePath.getParent();
+        final Path shardPath = storePath == null ? null : storePath.getParent();
+        final Path indexPath = shardPath == null ? null : shardPath.getParent();
+        if (indexPath == null || indexPath.getFileName() == null) {
+            return prefetchStats;
+        }
+        return indexPrefetchStats.computeIfAbsent(indexPath.getFileName().toString(), index -> new PrefetchStats(prefetchStats));
+    }
+
+    /**
+     * Drops the read-ahead statistics of a deleted index, they remain counted in the statistics of the whole cache.
+     */
+    public void removePrefetchStats(String indexUUID) {
+        indexPrefetchStats.remove(indexUUID);
+    }
+
     @Override
     public CachedIndexInput put(Path filePath, CachedIndexInput indexInput) {
         CachedIndexInput cachedIndexInput = theCache.put(filePath, indexInput);
@@ -260,6 +297,7 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 overallCacheStats.removeWeight(),
                 overallCacheStats.hitCount(),
                 overallCacheStats.missCount(),
+                theCache.admissionRejections(),
                 FileCacheStatsType.OVER_ALL_STATS
             ),
             new FileCacheStats(
@@ -294,8 +332,24 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 pinnedFileCacheStats.hitCount(),
                 pinnedFileCacheStats.missCount(),
                 FileCacheStatsType.PINNED_FILE_STATS
+            ),
+            prefetchStats.getPrefetched(),
+            prefetchStats.getHits(),
+            prefetchStats.getWasted(),
+            prefetchStats.getRangeReads(),
+            indexPrefetchStats()
+        );
+    }
+
+    private Map<String, IndexPrefetchStats> indexPrefetchStats() {
+        final Map<String, IndexPrefetchStats> stats = new HashMap<>();
+        indexPrefetchStats.forEach(
+            (index, indexStats) -> stats.put(
+                index,
+                new IndexPrefetchStats(indexStats.getPrefetched(), indexStats.getHits(), indexStats.getWasted(), indexStats.getRangeReads())
             )
         );
+        return stats;
     }
 
     /**
@@ -130,6 +130,10 @@ public class FileCacheCleaner implements IndexStoreListener {
     @Override
     public void beforeIndexPathDeleted(Index index, IndexSettings indexSettings, NodeEnvironment nodeEnvironment) {
         if (indexSettings.isRemoteSnapshot()) {
+            final FileCache fileCache = fileCacheProvider.get();
+            if (fileCache != null) {
+                fileCache.removePrefetchStats(index.getUUID());
+            }
             final Path indexCachePath = nodeEnvironment.fileCacheNodePath().fileCachePath.resolve(index.getUUID());
             if (Files.exists(indexCachePath)) {
                 try {
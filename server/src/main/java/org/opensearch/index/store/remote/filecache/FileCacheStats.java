@@ -27,7 +27,7 @@ import static org.opensearch.index.store.remote.filecache.AggregateFileCacheStat
  * Statistics for the file cache system that tracks memory usage and performance metrics.
  * Aggregates statistics across all cache segments including:
  * - Memory usage: active and used bytes.
- * - Cache performance: hit counts and eviction counts.
+ * - Cache performance: hit counts, hit ratio, eviction counts and admission rejections.
  * - Utilization: active percentage of total used memory.
  * The statistics are exposed as part of {@link AggregateFileCacheStats} and via {@link org.opensearch.action.admin.cluster.node.stats.NodeStats}
  * to provide visibility into cache behavior and performance.
@@ -45,6 +45,7 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
     private final long removed;
     private final long hits;
     private final long misses;
+    private final long admissionRejections;
     private final FileCacheStatsType statsType;
 
     @InternalApi
@@ -58,6 +59,22 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         final long hits,
         long misses,
         FileCacheStatsType statsType
+    ) {
+        this(active, total, used, pinned, evicted, removed, hits, misses, 0L, statsType);
+    }
+
+    @InternalApi
+    public FileCacheStats(
+        final long active,
+        long total,
+        final long used,
+        final long pinned,
+        final long evicted,
+        final long removed,
+        final long hits,
+        long misses,
+        long admissionRejections,
+        FileCacheStatsType statsType
     ) {
         this.active = active;
         this.total = total;
@@ -67,6 +84,7 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         this.removed = removed;
         this.hits = hits;
         this.misses = misses;
+        this.admissionRejections = admissionRejections;
         this.statsType = statsType;
     }
 
@@ -83,9 +101,11 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
             this.removed = in.readLong();
             this.misses = in.readLong();
+            this.admissionRejections = in.readLong();
         } else {
             this.removed = 0L;
             this.misses = 0L;
+            this.admissionRejections = 0L;
         }
     }
 
@@ -102,6 +122,7 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
             out.writeLong(removed);
             out.writeLong(misses);
+            out.writeLong(admissionRejections);
         }
     }
 
@@ -149,6 +170,22 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         return misses;
     }
 
+    /**
+     * @return the number of files that were evicted right away because the admission policy considered them less valuable than
+     * the files they would have replaced
+     */
+    public long getAdmissionRejections() {
+        return admissionRejections;
+    }
+
+    /**
+     * @return the ratio of lookups that were served from the cache, or 0 if there were no lookups yet
+     */
+    public double getHitRatio() {
+        final long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
     static final class Fields {
         static final String ACTIVE = "active";
         static final String ACTIVE_IN_BYTES = "active_in_bytes";
@@ -163,6 +200,8 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         static final String ACTIVE_PERCENT = "active_percent";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String HIT_RATIO = "hit_ratio";
+        static final String ADMISSION_REJECTIONS = "admission_rejections";
     }
 
     @Override
@@ -180,6 +219,8 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         builder.field(FileCacheStats.Fields.ACTIVE_PERCENT, getActivePercent());
         builder.field(FileCacheStats.Fields.HIT_COUNT, getHits());
         builder.field(FileCacheStats.Fields.MISS_COUNT, getCacheMisses());
+        builder.field(FileCacheStats.Fields.HIT_RATIO, getHitRatio());
+        builder.field(FileCacheStats.Fields.ADMISSION_REJECTIONS, getAdmissionRejections());
         builder.endObject();
         return builder;
     }
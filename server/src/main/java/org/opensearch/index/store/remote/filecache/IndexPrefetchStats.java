@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.filecache;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * Read-ahead statistics of the searchable snapshot blocks of a single index, reported as part of {@link AggregateFileCacheStats}.
+ *
+ * @opensearch.api
+ */
+@ExperimentalApi
+public class IndexPrefetchStats implements Writeable, ToXContentFragment {
+
+    private final long prefetchedCount;
+    private final long hitCount;
+    private final long wastedCount;
+    private final long rangeReadCount;
+
+    public IndexPrefetchStats(final long prefetchedCount, final long hitCount, final long wastedCount, final long rangeReadCount) {
+        this.prefetchedCount = prefetchedCount;
+        this.hitCount = hitCount;
+        this.wastedCount = wastedCount;
+        this.rangeReadCount = rangeReadCount;
+    }
+
+    public IndexPrefetchStats(final StreamInput in) throws IOException {
+        this.prefetchedCount = in.readVLong();
+        this.hitCount = in.readVLong();
+        this.wastedCount = in.readVLong();
+        this.rangeReadCount = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        out.writeVLong(prefetchedCount);
+        out.writeVLong(hitCount);
+        out.writeVLong(wastedCount);
+        out.writeVLong(rangeReadCount);
+    }
+
+    /**
+     * The number of blocks of the index that were downloaded ahead of time.
+     */
+    public long getPrefetchedCount() {
+        return prefetchedCount;
+    }
+
+    /**
+     * The number of prefetched blocks of the index that were read afterwards.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * The number of prefetched blocks of the index that left the cache without ever being read.
+     */
+    public long getWastedCount() {
+        return wastedCount;
+    }
+
+    /**
+     * The number of repository reads issued for prefetched blocks of the index.
+     */
+    public long getRangeReadCount() {
+        return rangeReadCount;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field(AggregateFileCacheStats.Fields.PREFETCHED_COUNT, prefetchedCount);
+        builder.field(AggregateFileCacheStats.Fields.HIT_COUNT, hitCount);
+        builder.field(AggregateFileCacheStats.Fields.WASTED_COUNT, wastedCount);
+        builder.field(AggregateFileCacheStats.Fields.RANGE_READ_COUNT, rangeReadCount);
+        return builder;
+    }
+}
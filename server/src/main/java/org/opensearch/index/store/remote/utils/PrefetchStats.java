@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.metrics.CounterMetric;
+
+/**
+ * Read-ahead statistics of the blocks that the {@link TransferManager}s of a node downloaded before they were requested. They are
+ * owned by the node's {@link org.opensearch.index.store.remote.filecache.FileCache}, which keeps them per index and for the whole
+ * node, and reported with its stats.
+ *
+ * @opensearch.internal
+ */
+public final class PrefetchStats {
+    private final CounterMetric prefetched = new CounterMetric();
+    private final CounterMetric hits = new CounterMetric();
+    private final CounterMetric wasted = new CounterMetric();
+    private final CounterMetric rangeReads = new CounterMetric();
+    // the node level statistics that the statistics of an index add up to
+    @Nullable
+    private final PrefetchStats total;
+
+    public PrefetchStats() {
+        this(null);
+    }
+
+    public PrefetchStats(@Nullable PrefetchStats total) {
+        this.total = total;
+    }
+
+    void onPrefetched() {
+        prefetched.inc();
+        if (total != null) {
+            total.onPrefetched();
+        }
+    }
+
+    void onHit() {
+        hits.inc();
+        if (total != null) {
+            total.onHit();
+        }
+    }
+
+    void onWasted() {
+        wasted.inc();
+        if (total != null) {
+            total.onWasted();
+        }
+    }
+
+    void onRangeRead() {
+        rangeReads.inc();
+        if (total != null) {
+            total.onRangeRead();
+        }
+    }
+
+    /**
+     * Returns the number of blocks that were downloaded ahead of time.
+     */
+    public long getPrefetched() {
+        return prefetched.count();
+    }
+
+    /**
+     * Returns the number of prefetched blocks that were read afterwards.
+     */
+    public long getHits() {
+        return hits.count();
+    }
+
+    /**
+     * Returns the number of prefetched blocks that were evicted or removed from the file cache without ever being read.
+     */
+    public long getWasted() {
+        return wasted.count();
+    }
+
+    /**
+     * Returns the number of reads from the repository that were issued for prefetched blocks, adjacent blocks share a single read.
+     */
+    public long getRangeReads() {
+        return rangeReads.count();
+    }
+}
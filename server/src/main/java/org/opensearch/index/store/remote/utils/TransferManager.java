@@ -10,9 +10,11 @@ package org.opensearch.index.store.remote.utils;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.io.Streams;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCachedIndexInput;
@@ -20,12 +22,15 @@ import org.opensearch.secure_sm.AccessController;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.BufferedOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
@@ -51,11 +56,30 @@ public class TransferManager {
     private final StreamReader streamReader;
     private final FileCache fileCache;
     private final ThreadPool threadPool;
+    private final int prefetchBlocks;
 
     public TransferManager(final StreamReader streamReader, final FileCache fileCache, ThreadPool threadPool) {
+        this(streamReader, fileCache, threadPool, 0);
+    }
+
+    /**
+     * @param prefetchBlocks the number of blocks to read ahead of an input that is read sequentially, 0 disables read-ahead
+     */
+    public TransferManager(final StreamReader streamReader, final FileCache fileCache, ThreadPool threadPool, int prefetchBlocks) {
+        if (prefetchBlocks < 0) {
+            throw new IllegalArgumentException("prefetchBlocks must be greater than or equal to 0 but was [" + prefetchBlocks + "]");
+        }
         this.streamReader = streamReader;
         this.fileCache = fileCache;
         this.threadPool = threadPool;
+        this.prefetchBlocks = prefetchBlocks;
+    }
+
+    /**
+     * Returns the number of blocks to read ahead of an input that is read sequentially, 0 if read-ahead is disabled.
+     */
+    public int getPrefetchBlocks() {
+        return prefetchBlocks;
     }
 
     /**
@@ -89,6 +113,12 @@ public class TransferManager {
                     }
                 });
 
+                if (cacheEntry instanceof DelayedCreationCachedIndexInput delayed) {
+                    final PrefetchStats prefetchStats = delayed.markUsed();
+                    if (prefetchStats != null) {
+                        prefetchStats.onHit();
+                    }
+                }
                 // Cache entry was either retrieved from the cache or newly added, either
                 // way the reference count has been incremented by one. We can only
                 // decrement this reference _after_ creating the clone to be returned.
@@ -141,6 +171,156 @@ public class TransferManager {
         }
     }
 
+    /**
+     * Downloads the given blobs into the file cache in the background, unless they are cached or being downloaded already.
+     * Requests for adjacent ranges of the same blob are coalesced into a single ranged read. A blob is only claimed for the
+     * prefetch once the download task runs, so that a reader that gets to it first while the task is queued downloads it
+     * itself. This is best effort: failures are only logged, and readers that waited for a failed prefetch fetch the blob
+     * themselves.
+     *
+     * @param blobFetchRequests the blobs to prefetch, ordered by their position in the blob
+     */
+    @SuppressWarnings("removal")
+    public void prefetchBlobs(List<BlobFetchRequest> blobFetchRequests) {
+        if (fileCache.capacity() < fileCache.usage()) {
+            // the cache is overflowing with referenced entries already, don't make it worse for data nobody asked for yet
+            return;
+        }
+        final List<DelayedCreationCachedIndexInput> pending = new ArrayList<>(blobFetchRequests.size());
+        int submitted = 0;
+        try {
+            for (BlobFetchRequest blobFetchRequest : blobFetchRequests) {
+                final Path key = blobFetchRequest.getFilePath();
+                final CachedIndexInput cacheEntry = AccessController.doPrivilegedChecked(
+                    () -> fileCache.compute(key, (path, cachedIndexInput) -> {
+                        if (cachedIndexInput == null || cachedIndexInput.isClosed()) {
+                            return new DelayedCreationCachedIndexInput(fileCache, streamReader, blobFetchRequest);
+                        } else {
+                            return cachedIndexInput;
+                        }
+                    })
+                );
+                if (cacheEntry instanceof DelayedCreationCachedIndexInput delayed && delayed.isStarted.get() == false) {
+                    // keep the reference that compute acquired until the download completed so that the entry can't be evicted
+                    pending.add(delayed);
+                } else {
+                    // cached or being downloaded already
+                    fileCache.decRef(key);
+                }
+            }
+            final Executor executor = threadPool.executor(ThreadPool.Names.REMOTE_RECOVERY);
+            int start = 0;
+            for (int i = 1; i <= pending.size(); i++) {
+                if (i == pending.size() || isAdjacent(pending.get(i - 1).request, pending.get(i).request) == false) {
+                    final List<DelayedCreationCachedIndexInput> range = List.copyOf(pending.subList(start, i));
+                    executor.execute(() -> downloadRange(range));
+                    start = submitted = i;
+                }
+            }
+        } catch (Exception e) {
+            logger.debug(() -> new ParameterizedMessage("failed to prefetch {} blobs", blobFetchRequests.size()), e);
+            // downloads that were handed over to the executor already release their entries themselves, the others were never claimed
+            for (DelayedCreationCachedIndexInput delayed : pending.subList(submitted, pending.size())) {
+                fileCache.decRef(delayed.request.getFilePath());
+            }
+        }
+    }
+
+    /**
+     * Returns true if the second request continues the single blob part of the first request.
+     */
+    private static boolean isAdjacent(BlobFetchRequest first, BlobFetchRequest second) {
+        if (first.blobParts().size() != 1 || second.blobParts().size() != 1) {
+            return false;
+        }
+        final BlobFetchRequest.BlobPart firstPart = first.blobParts().get(0);
+        final BlobFetchRequest.BlobPart secondPart = second.blobParts().get(0);
+        return firstPart.getBlobName().equals(secondPart.getBlobName())
+            && firstPart.getPosition() + firstPart.getLength() == secondPart.getPosition();
+    }
+
+    /**
+     * Claims the entries of a range of adjacent blobs that nobody started to download in the meantime, and downloads each run of
+     * adjacent claimed entries with a single read. Releases the references of all entries of the range.
+     */
+    private void downloadRange(List<DelayedCreationCachedIndexInput> range) {
+        try {
+            // the blobs of a range belong to the same file, and so to the same index
+            final PrefetchStats prefetchStats = fileCache.prefetchStats(range.get(0).request.getFilePath());
+            List<DelayedCreationCachedIndexInput> claimed = new ArrayList<>(range.size());
+            for (DelayedCreationCachedIndexInput delayed : range) {
+                if (delayed.claimForPrefetch(prefetchStats)) {
+                    claimed.add(delayed);
+                } else if (claimed.isEmpty() == false) {
+                    downloadClaimed(claimed, prefetchStats);
+                    claimed = new ArrayList<>(range.size());
+                }
+            }
+            if (claimed.isEmpty() == false) {
+                downloadClaimed(claimed, prefetchStats);
+            }
+        } finally {
+            for (DelayedCreationCachedIndexInput delayed : range) {
+                fileCache.decRef(delayed.request.getFilePath());
+            }
+        }
+    }
+
+    /**
+     * Downloads claimed entries, which are adjacent in the same blob if there are more than one, with a single read.
+     */
+    private void downloadClaimed(List<DelayedCreationCachedIndexInput> range, PrefetchStats prefetchStats) {
+        int completed = 0;
+        try {
+            if (range.size() == 1) {
+                range.get(0).result.complete(createIndexInput(fileCache, streamReader, range.get(0).request));
+                completed++;
+            } else {
+                final BlobFetchRequest.BlobPart first = range.get(0).request.blobParts().get(0);
+                final long length = range.stream().mapToLong(delayed -> delayed.request.getBlobLength()).sum();
+                try (InputStream inputStream = streamReader.read(first.getBlobName(), first.getPosition(), length)) {
+                    for (DelayedCreationCachedIndexInput delayed : range) {
+                        delayed.result.complete(createIndexInput(fileCache, inputStream, delayed.request));
+                        completed++;
+                    }
+                }
+            }
+            prefetchStats.onRangeRead();
+        } catch (Exception e) {
+            logger.debug(() -> new ParameterizedMessage("failed to prefetch {}", range.get(0).request.getFilePath()), e);
+            for (DelayedCreationCachedIndexInput delayed : range.subList(completed, range.size())) {
+                delayed.failPrefetch(e);
+            }
+        }
+    }
+
+    /**
+     * Creates the index input of a single request that is the next {@link BlobFetchRequest#getBlobLength()} bytes of the given
+     * stream, which is consumed even if the file exists already.
+     */
+    private static FileCachedIndexInput createIndexInput(FileCache fileCache, InputStream inputStream, BlobFetchRequest request)
+        throws IOException {
+        final long length = request.getBlobLength();
+        final InputStream requestStream = Streams.limitStream(inputStream, length);
+        final long read;
+        if (Files.exists(request.getFilePath())) {
+            requestStream.skipNBytes(length);
+            read = length;
+        } else {
+            try (
+                OutputStream fileOutputStream = Files.newOutputStream(request.getFilePath());
+                OutputStream localFileOutputStream = new BufferedOutputStream(fileOutputStream)
+            ) {
+                read = requestStream.transferTo(localFileOutputStream);
+            }
+        }
+        if (read != length) {
+            throw new EOFException("expected [" + length + "] bytes for " + request.getFilePath() + " but got [" + read + "]");
+        }
+        final IndexInput luceneIndexInput = request.getDirectory().openInput(request.getFileName(), IOContext.DEFAULT);
+        return new FileCachedIndexInput(fileCache, request.getFilePath(), luceneIndexInput);
+    }
+
     private static FileCachedIndexInput createIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
         try {
             // This local file cache is ref counted and may not strictly enforce configured capacity.
@@ -182,20 +362,34 @@ public class TransferManager {
         }
     }
 
+    /**
+     * Completes the waiters of a prefetch that failed, which then download the blob themselves.
+     */
+    private static final class PrefetchFailedException extends RuntimeException {
+        private PrefetchFailedException(Throwable cause) {
+            super(cause);
+        }
+    }
+
     /**
      * Implementation of CachedIndexInput the defers creation of the underlying
      * IndexInput until the first invocation of {@link #getIndexInput()}. This
      * class is thread safe, and concurrent calls to {@link #getIndexInput()} will
      * result in blocking until the initial thread completes the creation of the
-     * IndexInput.
+     * IndexInput. If the creation was a prefetch that failed, the entry is reset
+     * and one of the blocked threads creates the IndexInput instead.
      */
     private static class DelayedCreationCachedIndexInput implements CachedIndexInput {
         private final FileCache fileCache;
         private final StreamReader streamReader;
         private final BlobFetchRequest request;
-        private final CompletableFuture<IndexInput> result = new CompletableFuture<>();
+        // replaced, together with resetting isStarted, when a prefetch fails; both only change while holding the monitor
+        private volatile CompletableFuture<IndexInput> result = new CompletableFuture<>();
         private final AtomicBoolean isStarted = new AtomicBoolean(false);
         private final AtomicBoolean isClosed = new AtomicBoolean(false);
+        private final AtomicBoolean isUsed = new AtomicBoolean(false);
+        // only set if the entry was downloaded ahead of time
+        private volatile PrefetchStats prefetchStats;
 
         private DelayedCreationCachedIndexInput(FileCache fileCache, StreamReader streamReader, BlobFetchRequest request) {
             this.fileCache = fileCache;
@@ -205,28 +399,82 @@ public class TransferManager {
 
         @Override
         public IndexInput getIndexInput() throws IOException {
-            if (isClosed.get()) {
-                throw new IllegalStateException("Already closed");
-            }
-            if (isStarted.getAndSet(true) == false) {
-                // We're the first one here, need to download the block
+            while (true) {
+                if (isClosed.get()) {
+                    throw new IllegalStateException("Already closed");
+                }
+                final CompletableFuture<IndexInput> future;
+                final boolean download;
+                synchronized (this) {
+                    future = result;
+                    download = isStarted.getAndSet(true) == false;
+                }
+                if (download) {
+                    // We're the first one here, need to download the block
+                    try {
+                        future.complete(createIndexInput(fileCache, streamReader, request));
+                    } catch (Exception e) {
+                        future.completeExceptionally(e);
+                        fileCache.remove(request.getFilePath());
+                    }
+                }
                 try {
-                    result.complete(createIndexInput(fileCache, streamReader, request));
-                } catch (Exception e) {
-                    result.completeExceptionally(e);
-                    fileCache.remove(request.getFilePath());
+                    return future.join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof PrefetchFailedException) {
+                        // the entry was reset, try again
+                        continue;
+                    } else if (e.getCause() instanceof UncheckedIOException) {
+                        throw ((UncheckedIOException) e.getCause()).getCause();
+                    } else if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw e;
                 }
             }
-            try {
-                return result.join();
-            } catch (CompletionException e) {
-                if (e.getCause() instanceof UncheckedIOException) {
-                    throw ((UncheckedIOException) e.getCause()).getCause();
-                } else if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
+        }
+
+        /**
+         * Claims the download of this entry for a prefetch, returns false if the download was started by someone else.
+         */
+        private synchronized boolean claimForPrefetch(PrefetchStats prefetchStats) {
+            if (isClosed.get() || isStarted.getAndSet(true)) {
+                return false;
+            }
+            this.prefetchStats = prefetchStats;
+            prefetchStats.onPrefetched();
+            return true;
+        }
+
+        /**
+         * Resets this entry after its prefetch failed, so that the readers waiting for it and the ones to come download it themselves.
+         */
+        private void failPrefetch(Exception e) {
+            final CompletableFuture<IndexInput> failed;
+            synchronized (this) {
+                failed = result;
+                if (isClosed.get() == false) {
+                    try {
+                        // a partially written file must not be mistaken for a downloaded one
+                        Files.deleteIfExists(request.getFilePath());
+                    } catch (IOException deleteException) {
+                        e.addSuppressed(deleteException);
+                    }
+                    result = new CompletableFuture<>();
+                    prefetchStats = null;
+                    isStarted.set(false);
                 }
-                throw e;
             }
+            failed.completeExceptionally(new PrefetchFailedException(e));
+        }
+
+        /**
+         * Marks a prefetched entry as used, returns the statistics of its prefetch the first time it is read after it was prefetched
+         * and {@code null} otherwise.
+         */
+        private PrefetchStats markUsed() {
+            final PrefetchStats stats = prefetchStats;
+            return stats != null && isUsed.getAndSet(true) == false ? stats : null;
         }
 
         @ExperimentalApi
@@ -235,7 +483,13 @@ public class TransferManager {
                 fileCache.decRef(request.getFilePath());
                 return CompletableFuture.failedFuture(new IllegalStateException("Already closed"));
             }
-            if (isStarted.getAndSet(true) == false) {
+            final CompletableFuture<IndexInput> future;
+            final boolean download;
+            synchronized (this) {
+                future = result;
+                download = isStarted.getAndSet(true) == false;
+            }
+            if (download) {
                 // Create new future and set it as the result
                 CompletableFuture.supplyAsync(() -> {
                     try {
@@ -247,17 +501,29 @@ public class TransferManager {
                 }, executor).handle((indexInput, throwable) -> {
                     fileCache.decRef(request.getFilePath());
                     if (throwable != null) {
-                        result.completeExceptionally(throwable);
+                        future.completeExceptionally(throwable);
                     } else {
-                        result.complete(indexInput);
+                        future.complete(indexInput);
                     }
                     return null;
                 });
+                return future;
             } else {
                 // Decreasing the extra ref count introduced by compute
                 fileCache.decRef(request.getFilePath());
+                return future.exceptionallyCompose(throwable -> {
+                    final Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                    if (cause instanceof PrefetchFailedException) {
+                        if (isClosed.get()) {
+                            return CompletableFuture.failedFuture(new IllegalStateException("Already closed"));
+                        }
+                        // the entry was reset, download it ourselves holding a reference like the original caller did
+                        fileCache.incRef(request.getFilePath());
+                        return asyncLoadIndexInput(executor);
+                    }
+                    return CompletableFuture.failedFuture(throwable);
+                });
             }
-            return result;
         }
 
         @Override
@@ -273,7 +539,13 @@ public class TransferManager {
         @Override
         public void close() throws Exception {
             if (isClosed.getAndSet(true) == false) {
-                result.whenComplete((indexInput, error) -> {
+                final CompletableFuture<IndexInput> future = result;
+                final PrefetchStats stats = prefetchStats;
+                if (stats != null && isUsed.get() == false && future.isDone() && future.isCompletedExceptionally() == false) {
+                    // prefetched but evicted or removed before anybody read it
+                    stats.onWasted();
+                }
+                future.whenComplete((indexInput, error) -> {
                     if (indexInput != null) {
                         try {
                             indexInput.close();
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+/**
+ * A count-min sketch that estimates the access frequency of keys within a time window, used as the admission filter of
+ * {@link WTinyLfuCache}. Every key is mapped onto four 4-bit counters, so the estimate saturates at 15, and all counters are
+ * halved once the number of increments reaches ten times the number of tracked entries so that the sketch favors recent
+ * popularity over historic one.
+ * Note: this class is not thread safe, callers must hold the lock of the owning cache.
+ *
+ * @opensearch.internal
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    /** clears the highest bit of every counter after the table was shifted by one bit */
+    private static final long RESET_MASK = 0x7777777777777777L;
+    /** selects the lowest bit of every counter */
+    private static final long ONE_MASK = 0x1111111111111111L;
+    /** 8KB per sketch, large enough so that a segment of a typical file cache never has to grow it and lose its history */
+    private static final int MIN_TABLE_LENGTH = 1 << 10;
+    private static final int MAX_TABLE_LENGTH = 1 << 30;
+
+    private long[] table = new long[0];
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    /**
+     * Makes sure the sketch can accurately track the given number of entries. Growing the sketch discards the frequencies
+     * gathered so far.
+     */
+    void ensureCapacity(long maximumSize) {
+        final int maximum = (int) Math.min(Math.max(maximumSize, MIN_TABLE_LENGTH), MAX_TABLE_LENGTH);
+        if (table.length >= maximum) {
+            return;
+        }
+        table = new long[Integer.highestOneBit(maximum - 1) << 1];
+        tableMask = table.length - 1;
+        sampleSize = 10 * table.length;
+        size = 0;
+    }
+
+    /**
+     * Returns the estimated number of occurrences of the key, up to 15.
+     */
+    int frequency(Object key) {
+        if (table.length == 0) {
+            return 0;
+        }
+        final int hash = spread(key.hashCode());
+        final int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < SEEDS.length; i++) {
+            final int offset = (start + i) << 2;
+            frequency = Math.min(frequency, (int) ((table[indexOf(hash, i)] >>> offset) & 0xfL));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records one occurrence of the key, and ages all counters if the sample size was reached.
+     */
+    void increment(Object key) {
+        if (table.length == 0) {
+            return;
+        }
+        final int hash = spread(key.hashCode());
+        final int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        final int offset = counter << 2;
+        final long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        // halving truncates odd counters, account for that so that the next reset happens after a comparable number of increments
+        size = (size - (odd >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    private static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
@@ -18,6 +18,8 @@ import org.opensearch.index.store.remote.utils.cache.stats.FileStatsCounter;
 import org.opensearch.index.store.remote.utils.cache.stats.IRefCountedCacheStats;
 import org.opensearch.index.store.remote.utils.cache.stats.StatsCounter;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -75,6 +77,9 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
         boolean pinned;
 
+        /** the eviction queue the node belongs to, only used by {@link WTinyLfuCache} */
+        byte queue;
+
         Node(K key, V value, long weight) {
             this.key = key;
             this.value = value;
@@ -105,6 +110,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         lock.lock();
         try {
             Node<K, V> node = data.get(key);
+            onAccess(key, node);
             // miss
             if (node == null) {
                 statsCounter.recordMisses(key, 1);
@@ -127,6 +133,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         lock.lock();
         try {
             Node<K, V> node = data.get(key);
+            onAccess(key, node);
             if (node != null) {
                 final V oldValue = node.value;
                 replaceNode(node, value);
@@ -147,6 +154,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         lock.lock();
         try {
             final Node<K, V> node = data.get(key);
+            onAccess(key, node);
             if (node == null) {
                 final V newValue = remappingFunction.apply(key, null);
                 if (newValue == null) {
@@ -206,7 +214,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     public void clear() {
         lock.lock();
         try {
-            lru.clear();
+            clearEvictable();
             final Iterator<Node<K, V>> iterator = data.values().iterator();
             while (iterator.hasNext()) {
                 Node<K, V> node = iterator.next();
@@ -241,7 +249,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since it become active, we should remove it from eviction list
-                    lru.remove(node.key);
+                    onNotEvictable(node);
                 }
 
                 node.refCount++;
@@ -263,7 +271,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    onEvictable(node);
                     evict(); // If cache usage is already overflowing trigger evictions
                 }
 
@@ -295,7 +303,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since its pinned, we should remove it from eviction list
-                    lru.remove(node.key, node);
+                    onNotEvictable(node);
                 }
 
                 node.pinned = true;
@@ -323,7 +331,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    onEvictable(node);
                 }
 
                 statsCounter.recordPinnedUsage(node.value, node.weight, true);
@@ -354,13 +362,12 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         long sum = 0L;
         lock.lock();
         try {
-            final Iterator<Node<K, V>> iterator = lru.values().iterator();
-            while (iterator.hasNext()) {
-                final Node<K, V> node = iterator.next();
+            for (Node<K, V> node : new ArrayList<>(evictableNodes())) {
                 if (keyPredicate != null && !keyPredicate.test(node.key)) {
                     continue;
                 }
-                iterator.remove();
+                onNotEvictable(node);
+                onRemove(node);
                 data.remove(node.key, node);
                 sum += node.weight;
                 statsCounter.recordRemoval(node.value, node.pinned, node.weight);
@@ -444,6 +451,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         final long weight = weigher.weightOf(value);
         Node<K, V> newNode = new Node<>(key, value, weight);
         data.put(key, newNode);
+        onAdd(newNode);
         statsCounter.recordUsage(value, weight, pinned, false);
         incRef(key);
         evict();
@@ -451,12 +459,18 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     private void replaceNode(Node<K, V> node, V newValue) {
         if (node.value != newValue) { // replace if new value is not the same instance as existing value
+            if (node.evictable()) {
+                // take it off the eviction list before its weight changes, incRef below makes it active anyway
+                onNotEvictable(node);
+            }
             final V oldValue = node.value;
             final long oldWeight = node.weight;
             final long newWeight = weigher.weightOf(newValue);
             // update the value and weight
+            onRemove(node);
             node.value = newValue;
             node.weight = newWeight;
+            onAdd(node);
 
             // update stats
             statsCounter.recordReplacement(oldValue, newValue, oldWeight, newWeight, node.refCount > 0, node.pinned);
@@ -469,11 +483,12 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     private void removeNode(K key) {
         Node<K, V> node = data.remove(key);
         if (node != null) {
+            onRemove(node);
             if (node.refCount > 0) {
                 statsCounter.recordActiveUsage(node.value, node.weight, node.pinned, true);
             }
             if (node.evictable()) {
-                lru.remove(node.key);
+                onNotEvictable(node);
             }
 
             if (node.pinned) {
@@ -485,21 +500,79 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         }
     }
 
-    private boolean hasOverflowed() {
+    boolean hasOverflowed() {
         return statsCounter.usage() >= capacity;
     }
 
-    private void evict() {
+    void evict() {
         // Attempts to evict entries from the cache if it exceeds the maximum
         // capacity.
         final Iterator<Node<K, V>> iterator = lru.values().iterator();
         while (hasOverflowed() && iterator.hasNext()) {
             final Node<K, V> node = iterator.next();
             iterator.remove();
-            // Notify the listener only if the entry was evicted
-            data.remove(node.key, node);
-            statsCounter.recordEviction(node.value, node.weight);
-            listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
+            evictNode(node);
         }
     }
+
+    /**
+     * Evicts a node that was already taken off the eviction list.
+     */
+    final void evictNode(Node<K, V> node) {
+        // Notify the listener only if the entry was evicted
+        onRemove(node);
+        data.remove(node.key, node);
+        statsCounter.recordEviction(node.value, node.weight);
+        listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
+    }
+
+    /**
+     * Called with the lock held when a node is added to the cache, or after its value got replaced.
+     */
+    void onAdd(Node<K, V> node) {}
+
+    /**
+     * Called with the lock held when a node is removed from the cache, or before its value gets replaced.
+     */
+    void onRemove(Node<K, V> node) {}
+
+    /**
+     * Called with the lock held on every lookup of a key, with the node of the key or {@code null} if the key is absent.
+     */
+    void onAccess(K key, Node<K, V> node) {}
+
+    /**
+     * Called with the lock held when a node becomes eligible for eviction.
+     */
+    void onEvictable(Node<K, V> node) {
+        lru.put(node.key, node);
+    }
+
+    /**
+     * Called with the lock held when a node is no longer eligible for eviction, because it got referenced, pinned or removed.
+     */
+    void onNotEvictable(Node<K, V> node) {
+        lru.remove(node.key, node);
+    }
+
+    /**
+     * Called with the lock held when all entries are removed, {@link #onRemove} is not called for the removed nodes.
+     */
+    void clearEvictable() {
+        lru.clear();
+    }
+
+    /**
+     * Returns all nodes that are eligible for eviction, must be called with the lock held.
+     */
+    Collection<Node<K, V>> evictableNodes() {
+        return lru.values();
+    }
+
+    /**
+     * Returns the number of entries that the cache refused to admit, which is always 0 for a plain LRU cache.
+     */
+    long admissionRejections() {
+        return 0L;
+    }
 }
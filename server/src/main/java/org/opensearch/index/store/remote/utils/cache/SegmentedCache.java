@@ -17,12 +17,14 @@ import org.opensearch.index.store.remote.utils.cache.stats.AggregateRefCountedCa
 import org.opensearch.index.store.remote.utils.cache.stats.IRefCountedCacheStats;
 import org.opensearch.index.store.remote.utils.cache.stats.RefCountedCacheStats;
 
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 
 /**
- * Segmented {@link LRUCache} to offer concurrent access with less contention.
+ * Segmented {@link LRUCache} or {@link WTinyLfuCache}, depending on the {@link EvictionPolicy}, to offer concurrent access with
+ * less contention.
  * @param <K> type of the key
  * @param <V> type of th value
  *
@@ -60,7 +62,10 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.perSegmentCapacity = (builder.capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            table[i] = switch (builder.evictionPolicy) {
+                case LRU -> new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+                case W_TINYLFU -> new WTinyLfuCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            };
         }
         this.capacity = perSegmentCapacity * segments;
     }
@@ -231,6 +236,18 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         );
     }
 
+    /**
+     * @return the number of entries that were evicted right away because the admission policy considered them less valuable
+     * than the entries they would have replaced, always 0 for {@link EvictionPolicy#LRU}
+     */
+    public long admissionRejections() {
+        long rejections = 0L;
+        for (RefCountedCache<K, V> cache : table) {
+            rejections += ((LRUCache<K, V>) cache).admissionRejections();
+        }
+        return rejections;
+    }
+
     // To be used only for debugging purposes
     public void logCurrentState() {
         int i = 0;
@@ -272,6 +289,25 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         }
     }
 
+    /**
+     * The policy the segments use to pick the entries to evict once they reach their capacity.
+     */
+    public enum EvictionPolicy {
+        /** evicts the least recently used entry */
+        LRU,
+        /** admits new entries only if they are used more frequently than the entries they would replace */
+        W_TINYLFU;
+
+        public static EvictionPolicy fromString(String policy) {
+            for (EvictionPolicy evictionPolicy : values()) {
+                if (evictionPolicy.name().equalsIgnoreCase(policy)) {
+                    return evictionPolicy;
+                }
+            }
+            throw new IllegalArgumentException("unknown eviction policy [" + policy + "], must be one of " + Arrays.toString(values()));
+        }
+    }
+
     /**
      * @return the capacity per internal segment
      */
@@ -302,9 +338,12 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         long capacity;
 
+        EvictionPolicy evictionPolicy;
+
         @SuppressWarnings("unchecked")
         Builder() {
             capacity = -1;
+            evictionPolicy = EvictionPolicy.LRU;
             weigher = (Weigher<V>) SingletonWeigher.INSTANCE;
             concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
             listener = (RemovalListener<K, V>) DiscardingListener.INSTANCE;
@@ -367,6 +406,19 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Specifies the policy that picks the entries to evict once a segment reaches its capacity (default
+         * {@link EvictionPolicy#LRU}).
+         *
+         * @param evictionPolicy the eviction policy of the segments
+         * @throws NullPointerException if the eviction policy is null
+         */
+        public Builder<K, V> evictionPolicy(EvictionPolicy evictionPolicy) {
+            Objects.requireNonNull(evictionPolicy);
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
         /**
          * Ensures that the argument expression is true.
          */
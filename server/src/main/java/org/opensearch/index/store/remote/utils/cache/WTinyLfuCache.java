@@ -0,0 +1,208 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.Weigher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * W-TinyLFU implementation of {@link RefCountedCache}. New entries enter a small LRU admission window. When the cache is full,
+ * the eldest entry of the window only makes it into the main space if it was accessed more frequently than the entry the main
+ * space would evict instead, as estimated by a {@link FrequencySketch}. The main space is a segmented LRU whose entries get
+ * promoted from the probation to the protected segment when they are accessed again. This keeps frequently used files cached
+ * while a scan over many files that are read once only churns through the window.
+ * <br>
+ * Reference counting and pinning work the same way as in {@link LRUCache}: entries with {@link Node#refCount} greater than 0 or
+ * that are pinned are not eligible for eviction.
+ *
+ * @opensearch.internal
+ */
+class WTinyLfuCache<K, V> extends LRUCache<K, V> {
+    /** percentage of the capacity reserved for the admission window */
+    static final int WINDOW_PERCENTAGE = 1;
+    /** percentage of the main space reserved for the protected segment */
+    static final int PROTECTED_PERCENTAGE = 80;
+
+    static final byte WINDOW = 0;
+    static final byte PROBATION = 1;
+    static final byte PROTECTED = 2;
+
+    private final long windowCapacity;
+    private final long protectedCapacity;
+
+    /** evictable entries of each queue, in LRU order */
+    private final LinkedHashMap<K, Node<K, V>> window;
+    private final LinkedHashMap<K, Node<K, V>> probation;
+    private final LinkedHashMap<K, Node<K, V>> protectedSegment;
+
+    /** weight of all entries of the window, including the ones that are referenced or pinned */
+    private long windowWeight;
+    /** weight of the evictable entries of the protected segment */
+    private long protectedWeight;
+
+    private final FrequencySketch sketch;
+    private long admissionRejections;
+
+    public WTinyLfuCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+        super(capacity, listener, weigher);
+        this.windowCapacity = Math.max(1, capacity * WINDOW_PERCENTAGE / 100);
+        this.protectedCapacity = (capacity - windowCapacity) * PROTECTED_PERCENTAGE / 100;
+        this.window = new LinkedHashMap<>();
+        this.probation = new LinkedHashMap<>();
+        this.protectedSegment = new LinkedHashMap<>();
+        this.sketch = new FrequencySketch();
+    }
+
+    @Override
+    void onAccess(K key, Node<K, V> node) {
+        sketch.ensureCapacity(size());
+        sketch.increment(key);
+        if (node != null && node.queue == PROBATION) {
+            // accessed again while on probation, promote it to the protected segment
+            final boolean evictable = node.evictable();
+            if (evictable) {
+                onNotEvictable(node);
+            }
+            node.queue = PROTECTED;
+            if (evictable) {
+                onEvictable(node);
+            }
+        }
+    }
+
+    @Override
+    void onAdd(Node<K, V> node) {
+        if (node.queue == WINDOW) {
+            windowWeight += node.weight;
+        }
+    }
+
+    @Override
+    void onRemove(Node<K, V> node) {
+        if (node.queue == WINDOW) {
+            windowWeight -= node.weight;
+        }
+    }
+
+    @Override
+    void onEvictable(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                window.put(node.key, node);
+                break;
+            case PROBATION:
+                probation.put(node.key, node);
+                break;
+            default:
+                protectedSegment.put(node.key, node);
+                protectedWeight += node.weight;
+                // demote the least recently used protected entries if the segment is full
+                while (protectedWeight > protectedCapacity && protectedSegment.size() > 1) {
+                    final Node<K, V> eldest = eldest(protectedSegment);
+                    onNotEvictable(eldest);
+                    eldest.queue = PROBATION;
+                    onEvictable(eldest);
+                }
+        }
+    }
+
+    @Override
+    void onNotEvictable(Node<K, V> node) {
+        switch (node.queue) {
+            case WINDOW:
+                window.remove(node.key, node);
+                break;
+            case PROBATION:
+                probation.remove(node.key, node);
+                break;
+            default:
+                if (protectedSegment.remove(node.key, node)) {
+                    protectedWeight -= node.weight;
+                }
+        }
+    }
+
+    @Override
+    void clearEvictable() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        windowWeight = 0;
+        protectedWeight = 0;
+    }
+
+    @Override
+    Collection<Node<K, V>> evictableNodes() {
+        final List<Node<K, V>> nodes = new ArrayList<>(window.size() + probation.size() + protectedSegment.size());
+        nodes.addAll(window.values());
+        nodes.addAll(probation.values());
+        nodes.addAll(protectedSegment.values());
+        return nodes;
+    }
+
+    @Override
+    void evict() {
+        while (hasOverflowed()) {
+            // the window only competes for admission once it holds more than its share of the capacity
+            final Node<K, V> candidate = windowWeight > windowCapacity ? eldest(window) : null;
+            Node<K, V> victim = eldest(probation);
+            if (victim == null) {
+                victim = eldest(protectedSegment);
+            }
+            if (candidate == null) {
+                final Node<K, V> node = victim != null ? victim : eldest(window);
+                if (node == null) {
+                    // everything is referenced or pinned
+                    break;
+                }
+                evictEvictable(node);
+            } else if (victim == null) {
+                evictEvictable(candidate);
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evictEvictable(victim);
+                moveToProbation(candidate);
+            } else {
+                evictEvictable(candidate);
+                admissionRejections++;
+            }
+        }
+        // the main space has room left, admit the window's excess without competition
+        Node<K, V> node;
+        while (windowWeight > windowCapacity && (node = eldest(window)) != null) {
+            moveToProbation(node);
+        }
+    }
+
+    @Override
+    long admissionRejections() {
+        return admissionRejections;
+    }
+
+    private void evictEvictable(Node<K, V> node) {
+        onNotEvictable(node);
+        evictNode(node);
+    }
+
+    private void moveToProbation(Node<K, V> node) {
+        onNotEvictable(node);
+        onRemove(node);
+        node.queue = PROBATION;
+        onAdd(node);
+        onEvictable(node);
+    }
+
+    private static <K, V> Node<K, V> eldest(LinkedHashMap<K, Node<K, V>> queue) {
+        return queue.isEmpty() ? null : queue.values().iterator().next();
+    }
+}
@@ -24,6 +24,8 @@ import java.util.function.LongSupplier;
  */
 public class LocalTranslog extends Translog {
 
+    private final TranslogGroupCommit groupCommit = new TranslogGroupCommit();
+
     /**
      * Creates a new Translog instance. This method will create a new transaction log unless the given {@link TranslogGeneration} is
      * {@code null}. If the generation is {@code null} this method is destructive and will delete all files in the translog path given. If
@@ -146,6 +148,27 @@ public class LocalTranslog extends Translog {
      */
     @Override
     public boolean ensureSynced(Location location) throws IOException {
+        if (needsSync(location) == false) {
+            return false;
+        }
+        // the group commit window is waited out without holding the read lock so that it never delays a roll of the generation
+        return groupCommit.sync(indexSettings.getTranslogGroupCommitMaxDelay().nanos(), () -> syncUpTo(location));
+    }
+
+    private boolean needsSync(Location location) throws IOException {
+        try (ReleasableLock ignored = readLock.acquire()) {
+            if (location.generation == current.getGeneration()) { // if we have a new one it's already synced
+                ensureOpen();
+                return current.getLastSyncedCheckpoint().offset < location.translogLocation + location.size;
+            }
+        } catch (final Exception ex) {
+            closeOnTragicEvent(ex);
+            throw ex;
+        }
+        return false;
+    }
+
+    private boolean syncUpTo(Location location) throws IOException {
         try (ReleasableLock ignored = readLock.acquire()) {
             if (location.generation == current.getGeneration()) { // if we have a new one it's already synced
                 ensureOpen();
@@ -171,6 +194,9 @@ public class LocalTranslog extends Translog {
                 .uncommittedOperations(totalOperationsByMinGen(uncommittedGen))
                 .uncommittedSizeInBytes(sizeInBytesByMinGen(uncommittedGen))
                 .earliestLastModifiedAge(earliestLastModifiedAge())
+                .syncRequests(groupCommit.getSyncRequests())
+                .syncs(groupCommit.getSyncs())
+                .syncDelayInMillis(groupCommit.getDelayInMillis())
                 .build();
         }
     }
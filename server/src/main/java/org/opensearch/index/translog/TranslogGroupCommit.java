@@ -0,0 +1,110 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.metrics.CounterMetric;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Coordinates group commit for a translog: requests that need their location to be durable may wait for a short, adaptive
+ * window before the fsync is issued, so that concurrent writers of the same shard can append their operations and piggyback
+ * on a single fsync instead of serializing on one fsync each. The window is only opened when there actually are concurrent
+ * sync requests, and never exceeds either the configured maximum delay or the recently observed fsync latency, which bounds
+ * the added latency of a request to at most one extra fsync.
+ *
+ * @opensearch.internal
+ */
+final class TranslogGroupCommit {
+
+    /** weight of the latest sample in the moving averages */
+    private static final double EWMA_ALPHA = 0.3;
+    /** open a window only if recent fsyncs were shared by at least this many requests on average */
+    private static final double MIN_AVG_BATCH_SIZE = 1.5;
+
+    private final AtomicInteger pendingRequests = new AtomicInteger();
+    private final AtomicLong requestsSinceLastSync = new AtomicLong();
+    private final CounterMetric syncRequests = new CounterMetric();
+    private final CounterMetric syncs = new CounterMetric();
+    private final CounterMetric delayNanos = new CounterMetric();
+
+    // moving averages are updated after the writer's sync lock is released, so concurrent updates are serialized by onSync,
+    // while volatile publishes them to the threads computing the next delay without locking
+    private volatile double avgSyncNanos;
+    private volatile double avgBatchSize = 1;
+
+    /**
+     * Runs the given sync, possibly after waiting for a group commit window.
+     *
+     * @param maxDelayNanos the upper bound of the group commit window, {@code 0} disables waiting
+     * @param sync          syncs the translog and returns <code>true</code> iff this call caused an actual fsync
+     * @return the result of the sync
+     */
+    boolean sync(long maxDelayNanos, CheckedSupplier<Boolean, IOException> sync) throws IOException {
+        syncRequests.inc();
+        requestsSinceLastSync.incrementAndGet();
+        final int concurrentRequests = pendingRequests.incrementAndGet();
+        try {
+            final long delay = delayNanos(maxDelayNanos, concurrentRequests);
+            if (delay > 0) {
+                LockSupport.parkNanos(delay);
+                delayNanos.inc(delay);
+            }
+            final long startNanos = System.nanoTime();
+            final boolean synced = sync.get();
+            if (synced) {
+                onSync(System.nanoTime() - startNanos);
+            }
+            return synced;
+        } finally {
+            pendingRequests.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns how long a request should wait for other requests to join before syncing.
+     */
+    long delayNanos(long maxDelayNanos, int concurrentRequests) {
+        if (maxDelayNanos <= 0) {
+            return 0;
+        }
+        if (concurrentRequests <= 1 && avgBatchSize < MIN_AVG_BATCH_SIZE) {
+            // a single writer, waiting would only add latency without saving any fsync
+            return 0;
+        }
+        return Math.min(maxDelayNanos, (long) avgSyncNanos);
+    }
+
+    private synchronized void onSync(long syncNanos) {
+        syncs.inc();
+        final long batchSize = requestsSinceLastSync.getAndSet(0);
+        avgSyncNanos = avgSyncNanos == 0 ? syncNanos : EWMA_ALPHA * syncNanos + (1 - EWMA_ALPHA) * avgSyncNanos;
+        avgBatchSize = EWMA_ALPHA * Math.max(1, batchSize) + (1 - EWMA_ALPHA) * avgBatchSize;
+    }
+
+    /** the number of requests that needed their location to be synced */
+    long getSyncRequests() {
+        return syncRequests.count();
+    }
+
+    /** the number of fsyncs that were actually issued for those requests */
+    long getSyncs() {
+        return syncs.count();
+    }
+
+    /** the total time requests spent waiting for a group commit window */
+    long getDelayInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(delayNanos.count());
+    }
+}
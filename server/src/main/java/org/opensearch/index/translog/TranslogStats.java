@@ -33,6 +33,7 @@ package org.opensearch.index.translog;
 
 import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -57,6 +58,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
     private long uncommittedSizeInBytes;
     private int uncommittedOperations;
     private long earliestLastModifiedAge;
+    private long syncRequests;
+    private long syncs;
+    private long syncDelayInMillis;
 
     /**
      * Stats related to the Remote Translog Store operations
@@ -78,6 +82,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         this.uncommittedSizeInBytes = builder.uncommittedSizeInBytes;
         this.uncommittedOperations = builder.uncommittedOperations;
         this.earliestLastModifiedAge = builder.earliestLastModifiedAge;
+        this.syncRequests = builder.syncRequests;
+        this.syncs = builder.syncs;
+        this.syncDelayInMillis = builder.syncDelayInMillis;
         this.remoteTranslogStats = builder.remoteTranslogStats;
     }
 
@@ -90,6 +97,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         remoteTranslogStats = in.getVersion().onOrAfter(Version.V_2_10_0)
             ? in.readOptionalWriteable(RemoteTranslogStats::new)
             : new RemoteTranslogStats();
+        if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
+            syncRequests = in.readVLong();
+            syncs = in.readVLong();
+            syncDelayInMillis = in.readVLong();
+        }
     }
 
     /**
@@ -148,6 +160,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         } else {
             this.earliestLastModifiedAge = Math.min(this.earliestLastModifiedAge, other.earliestLastModifiedAge);
         }
+        this.syncRequests += other.syncRequests;
+        this.syncs += other.syncs;
+        this.syncDelayInMillis += other.syncDelayInMillis;
 
         addRemoteTranslogStats(other.remoteTranslogStats);
     }
@@ -174,6 +189,21 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         return earliestLastModifiedAge;
     }
 
+    /** the number of requests that had to wait for their operations to be fsynced */
+    public long getSyncRequests() {
+        return syncRequests;
+    }
+
+    /** the number of fsyncs issued on behalf of those requests, less than {@link #getSyncRequests()} when requests were grouped */
+    public long getSyncs() {
+        return syncs;
+    }
+
+    /** the total time requests waited for a group commit window before syncing */
+    public long getSyncDelayInMillis() {
+        return syncDelayInMillis;
+    }
+
     public RemoteTranslogStats getRemoteTranslogStats() {
         return remoteTranslogStats;
     }
@@ -188,6 +218,9 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         private int uncommittedOperations = 0;
         private long uncommittedSizeInBytes = 0;
         private long earliestLastModifiedAge = 0;
+        private long syncRequests = 0;
+        private long syncs = 0;
+        private long syncDelayInMillis = 0;
         private final RemoteTranslogStats remoteTranslogStats = new RemoteTranslogStats();
 
         public Builder() {}
@@ -232,6 +265,30 @@ public class TranslogStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder syncRequests(long syncRequests) {
+            if (syncRequests < 0) {
+                throw new IllegalArgumentException("syncRequests must be >= 0");
+            }
+            this.syncRequests = syncRequests;
+            return this;
+        }
+
+        public Builder syncs(long syncs) {
+            if (syncs < 0) {
+                throw new IllegalArgumentException("syncs must be >= 0");
+            }
+            this.syncs = syncs;
+            return this;
+        }
+
+        public Builder syncDelayInMillis(long syncDelayInMillis) {
+            if (syncDelayInMillis < 0) {
+                throw new IllegalArgumentException("syncDelayInMillis must be >= 0");
+            }
+            this.syncDelayInMillis = syncDelayInMillis;
+            return this;
+        }
+
         /**
          * Creates a {@link TranslogStats} object from the builder's current state.
          * @return A new TranslogStats instance.
@@ -269,6 +326,11 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(Version.V_2_10_0)) {
             out.writeOptionalWriteable(remoteTranslogStats);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+            out.writeVLong(syncRequests);
+            out.writeVLong(syncs);
+            out.writeVLong(syncDelayInMillis);
+        }
     }
 
     private void addLocalTranslogStatsXContent(XContentBuilder builder) throws IOException {
@@ -277,5 +339,10 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         builder.field("uncommitted_operations", uncommittedOperations);
         builder.humanReadableField("uncommitted_size_in_bytes", "uncommitted_size", new ByteSizeValue(uncommittedSizeInBytes));
         builder.field("earliest_last_modified_age", earliestLastModifiedAge);
+        builder.startObject("group_commit");
+        builder.field("sync_requests", syncRequests);
+        builder.field("syncs", syncs);
+        builder.humanReadableField("delay_time_in_millis", "delay_time", new TimeValue(syncDelayInMillis));
+        builder.endObject();
     }
 }
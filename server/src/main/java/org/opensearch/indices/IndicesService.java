@@ -69,6 +69,7 @@ import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader.DelegatingCacheHelper;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
@@ -387,6 +388,7 @@ public class IndicesService extends AbstractLifecycleComponent
     private final IndexingMemoryController indexingMemoryController;
     private final TimeValue cleanInterval; // clean interval for the field data cache
     final IndicesRequestCache indicesRequestCache; // pkg-private for testing
+    final IndicesTopDocsCache indicesTopDocsCache; // pkg-private for testing
     private final IndicesQueryCache indicesQueryCache;
     private final MetaStateService metaStateService;
     private final Collection<Function<IndexSettings, Optional<EngineFactory>>> engineFactoryProviders;
@@ -479,6 +481,7 @@ public class IndicesService extends AbstractLifecycleComponent
             }
             return Optional.of(new IndexShardCacheEntity(indexService.getShardOrNull(shardId.id())));
         }), cacheService, threadPool, clusterService, nodeEnv);
+        this.indicesTopDocsCache = new IndicesTopDocsCache(settings);
         this.indicesQueryCache = new IndicesQueryCache(settings, clusterService.getClusterSettings());
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
@@ -531,6 +534,7 @@ public class IndicesService extends AbstractLifecycleComponent
                         indicesFieldDataCache,
                         cacheCleaner,
                         indicesRequestCache,
+                        indicesTopDocsCache,
                         indicesQueryCache
                     );
                 } catch (IOException e) {
@@ -2024,6 +2028,76 @@ public class IndicesService extends AbstractLifecycleComponent
         }
     }
 
+    /**
+     * Whether the top documents of a request with hits can be loaded from the {@link IndicesTopDocsCache}. This only applies if
+     * the top documents depend on nothing but the query, the sort and the point in time reader of the shard, and if nothing
+     * besides them, like aggregations or suggestions, is computed by the query phase.
+     */
+    public boolean canCacheTopDocs(ShardSearchRequest request, SearchContext context) {
+        if (request.scroll() != null || context.isStreamSearch() || SearchType.QUERY_THEN_FETCH != context.searchType()) {
+            return false;
+        }
+        if (request.source() != null && request.source().profile()) {
+            return false;
+        }
+        if (Boolean.FALSE.equals(request.requestCache())
+            || context.indexShard().indexSettings().getValue(IndicesTopDocsCache.INDEX_CACHE_TOP_DOCS_ENABLED_SETTING) == false) {
+            return false;
+        }
+        if (context.size() <= 0 || Math.max(0, context.from()) + context.size() > indicesTopDocsCache.maxWindow()) {
+            return false;
+        }
+        if (context.aggregations() != null
+            || context.suggest() != null
+            || context.rescore().isEmpty() == false
+            || context.collapse() != null
+            || context.searchAfter() != null
+            || context.parsedPostFilter() != null
+            || context.minimumScore() != null
+            || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER
+            || context.queryCollectorManagers().isEmpty() == false) {
+            return false;
+        }
+        // the parsed query must not depend on "now" or other non deterministic inputs
+        if (context.getQueryShardContext().isCacheable() == false) {
+            return false;
+        }
+        return context.searcher().getDirectoryReader().getReaderCacheHelper() != null;
+    }
+
+    /**
+     * Loads the top documents of the request from the {@link IndicesTopDocsCache} into the {@link SearchContext#queryResult()
+     * context's query result}, or executes the query phase and caches its top documents.
+     */
+    public void loadTopDocsIntoContext(ShardSearchRequest request, SearchContext context, QueryPhase queryPhase) {
+        assert canCacheTopDocs(request, context);
+        final CacheHelper readerCacheHelper = context.searcher().getDirectoryReader().getReaderCacheHelper();
+        final IndicesTopDocsCache.Key key = new IndicesTopDocsCache.Key(
+            context.indexShard().requestCache(),
+            readerCacheHelper.getKey(),
+            context.query(),
+            context.sort() == null ? null : context.sort().sort,
+            context.trackScores(),
+            context.trackTotalHitsUpTo()
+        );
+        final int window = Math.max(0, context.from()) + context.size();
+
+        final TopDocsAndMaxScore cached = indicesTopDocsCache.get(key, window);
+        final QuerySearchResult result = context.queryResult();
+        if (cached != null) {
+            result.from(context.from());
+            result.size(context.size());
+            result.topDocs(cached, context.sort() == null ? null : context.sort().formats);
+            return;
+        }
+
+        queryPhase.execute(context);
+        // partial results must not be served to other requests
+        if (result.searchTimedOut() == false && result.terminatedEarly() == null && result.hasConsumedTopDocs() == false) {
+            indicesTopDocsCache.put(key, readerCacheHelper, result.topDocs(), window);
+        }
+    }
+
     public ByteSizeValue getTotalIndexingBufferBytes() {
         return indexingMemoryController.indexingBufferSize();
     }
@@ -2159,6 +2233,7 @@ public class IndicesService extends AbstractLifecycleComponent
             final boolean clearedAtLeastOne = service.clearCaches(queryCache, fieldDataCache, fields);
             if ((requestCache || (clearedAtLeastOne == false && fields.length == 0)) && shard != null) {
                 indicesRequestCache.clear(new IndexShardCacheEntity(shard));
+                indicesTopDocsCache.clear(shard.requestCache());
             }
         }
     }
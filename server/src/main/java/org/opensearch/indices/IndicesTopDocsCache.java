@@ -0,0 +1,300 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.index.cache.request.ShardRequestCache;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A node level cache of the top documents of search requests that return hits. Unlike the {@link IndicesRequestCache}, which
+ * caches the serialized shard level result of a request keyed by its serialized source, entries are keyed by the parsed and
+ * rewritten Lucene query, so requests that only differ in the order of their JSON keys, or in their {@code from}, share entries.
+ * <p>
+ * Only the doc ids, scores and sort values of the top documents are cached, never their sources: the fetch phase still loads those.
+ * An entry holds the top documents up to the deepest page that was requested, and serves any page within that window. Entries are
+ * tied to the point in time reader they were computed on and are invalidated once the reader is closed after a refresh.
+ *
+ * @opensearch.internal
+ */
+public final class IndicesTopDocsCache implements RemovalListener<IndicesTopDocsCache.Key, IndicesTopDocsCache.Value>, Closeable {
+
+    private static final Logger logger = LogManager.getLogger(IndicesTopDocsCache.class);
+
+    /**
+     * Enables caching of the top documents of search requests with hits on an index, as long as the request does not disable the
+     * request cache.
+     */
+    public static final Setting<Boolean> INDEX_CACHE_TOP_DOCS_ENABLED_SETTING = Setting.boolSetting(
+        "index.requests.cache.top_docs.enable",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+    public static final Setting<ByteSizeValue> INDICES_CACHE_TOP_DOCS_SIZE = Setting.memorySizeSetting(
+        "indices.requests.cache.top_docs.size",
+        "1%",
+        Property.NodeScope
+    );
+    // requests that reach deeper than this into the hits are not cached, their entries would be large and rarely reused
+    public static final Setting<Integer> INDICES_CACHE_TOP_DOCS_MAX_WINDOW = Setting.intSetting(
+        "indices.requests.cache.top_docs.max_window",
+        1000,
+        1,
+        Property.NodeScope
+    );
+
+    private static final long QUERY_DEFAULT_RAM_BYTES_USED = 1024;
+
+    private final Cache<Key, Value> cache;
+    private final int maxWindow;
+    private final Map<IndexReader.CacheKey, Set<Key>> keysByReader = new ConcurrentHashMap<>();
+
+    IndicesTopDocsCache(Settings settings) {
+        final ByteSizeValue size = INDICES_CACHE_TOP_DOCS_SIZE.get(settings);
+        this.maxWindow = INDICES_CACHE_TOP_DOCS_MAX_WINDOW.get(settings);
+        this.cache = CacheBuilder.<Key, Value>builder()
+            .setMaximumWeight(size.getBytes())
+            .weigher((key, value) -> key.ramBytesUsed() + value.ramBytesUsed())
+            .removalListener(this)
+            .build();
+        logger.debug("using top docs cache with size [{}] max window [{}]", size, maxWindow);
+    }
+
+    int maxWindow() {
+        return maxWindow;
+    }
+
+    /**
+     * Returns the cached top documents for the given key if they cover the first {@code window} hits, {@code null} otherwise.
+     */
+    TopDocsAndMaxScore get(Key key, int window) {
+        final Value value = cache.get(key);
+        if (value == null || value.window < window) {
+            key.stats.onTopDocsMiss();
+            return null;
+        }
+        key.stats.onTopDocsHit();
+        return value.topDocs(window);
+    }
+
+    /**
+     * Caches the top documents that were computed for the first {@code window} hits, unless deeper ones are cached already.
+     */
+    void put(Key key, IndexReader.CacheHelper readerCacheHelper, TopDocsAndMaxScore topDocs, int window) {
+        final Value current = cache.get(key);
+        if (current != null && current.window >= window) {
+            return;
+        }
+        final Set<Key> readerKeys = keysByReader.computeIfAbsent(key.readerCacheKey, readerCacheKey -> {
+            readerCacheHelper.addClosedListener(this::onReaderClosed);
+            return ConcurrentHashMap.newKeySet();
+        });
+        readerKeys.add(key);
+        final Value value = new Value(copy(topDocs.topDocs, topDocs.topDocs.scoreDocs.length), topDocs.maxScore, window);
+        key.stats.onTopDocsCached(key.ramBytesUsed() + value.ramBytesUsed());
+        cache.put(key, value);
+    }
+
+    private void onReaderClosed(IndexReader.CacheKey readerCacheKey) {
+        final Set<Key> keys = keysByReader.remove(readerCacheKey);
+        if (keys != null) {
+            for (Key key : keys) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    /**
+     * Invalidates all entries of the shard the given request cache stats belong to.
+     */
+    void clear(ShardRequestCache stats) {
+        final List<Key> keys = new ArrayList<>();
+        for (Key key : cache.keys()) {
+            if (key.stats == stats) {
+                keys.add(key);
+            }
+        }
+        for (Key key : keys) {
+            cache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<Key, Value> notification) {
+        final Key key = notification.getKey();
+        final boolean evicted = notification.getRemovalReason() == RemovalReason.EVICTED;
+        key.stats.onTopDocsRemoval(key.ramBytesUsed() + notification.getValue().ramBytesUsed(), evicted);
+        if (notification.getRemovalReason() != RemovalReason.REPLACED) {
+            keysByReader.computeIfPresent(key.readerCacheKey, (readerCacheKey, keys) -> {
+                keys.remove(key);
+                return keys;
+            });
+        }
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+        keysByReader.clear();
+    }
+
+    long count() {
+        return cache.count();
+    }
+
+    /**
+     * Copies the top documents, as the score docs of a search result get modified once they are merged with the results of
+     * other shards.
+     */
+    private static TopDocs copy(TopDocs topDocs, int length) {
+        final ScoreDoc[] scoreDocs = new ScoreDoc[length];
+        for (int i = 0; i < length; i++) {
+            final ScoreDoc scoreDoc = topDocs.scoreDocs[i];
+            if (scoreDoc instanceof FieldDoc fieldDoc) {
+                scoreDocs[i] = new FieldDoc(fieldDoc.doc, fieldDoc.score, fieldDoc.fields.clone(), fieldDoc.shardIndex);
+            } else {
+                scoreDocs[i] = new ScoreDoc(scoreDoc.doc, scoreDoc.score, scoreDoc.shardIndex);
+            }
+        }
+        if (topDocs instanceof TopFieldDocs topFieldDocs) {
+            return new TopFieldDocs(topDocs.totalHits, scoreDocs, topFieldDocs.fields);
+        }
+        return new TopDocs(topDocs.totalHits, scoreDocs);
+    }
+
+    /**
+     * Key of a cache entry: the point in time reader of a shard along with everything that determines the top documents of a
+     * request on it.
+     *
+     * @opensearch.internal
+     */
+    static final class Key {
+        private final ShardRequestCache stats;
+        private final IndexReader.CacheKey readerCacheKey;
+        private final Query query;
+        private final Sort sort;
+        private final boolean trackScores;
+        private final int trackTotalHitsUpTo;
+        private final int hashCode;
+        private final long ramBytesUsed;
+
+        Key(
+            ShardRequestCache stats,
+            IndexReader.CacheKey readerCacheKey,
+            Query query,
+            Sort sort,
+            boolean trackScores,
+            int trackTotalHitsUpTo
+        ) {
+            this.stats = Objects.requireNonNull(stats);
+            this.readerCacheKey = Objects.requireNonNull(readerCacheKey);
+            this.query = Objects.requireNonNull(query);
+            this.sort = sort;
+            this.trackScores = trackScores;
+            this.trackTotalHitsUpTo = trackTotalHitsUpTo;
+            this.hashCode = Objects.hash(readerCacheKey, query, sort, trackScores, trackTotalHitsUpTo);
+            final long sortRamBytesUsed = sort == null ? 0 : RamUsageEstimator.shallowSizeOf(sort.getSort());
+            this.ramBytesUsed = RamUsageEstimator.sizeOf(query, QUERY_DEFAULT_RAM_BYTES_USED) + sortRamBytesUsed;
+        }
+
+        long ramBytesUsed() {
+            return ramBytesUsed;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return readerCacheKey == key.readerCacheKey
+                && trackScores == key.trackScores
+                && trackTotalHitsUpTo == key.trackTotalHitsUpTo
+                && query.equals(key.query)
+                && Objects.equals(sort, key.sort);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * The top documents of the first {@code window} hits of a request.
+     *
+     * @opensearch.internal
+     */
+    static final class Value {
+        private final TopDocs topDocs;
+        private final float maxScore;
+        private final int window;
+        private final long ramBytesUsed;
+
+        Value(TopDocs topDocs, float maxScore, int window) {
+            this.topDocs = topDocs;
+            this.maxScore = maxScore;
+            this.window = window;
+            this.ramBytesUsed = ramBytesUsed(topDocs);
+        }
+
+        TopDocsAndMaxScore topDocs(int window) {
+            return new TopDocsAndMaxScore(copy(topDocs, Math.min(window, topDocs.scoreDocs.length)), maxScore);
+        }
+
+        long ramBytesUsed() {
+            return ramBytesUsed;
+        }
+
+        private static long ramBytesUsed(TopDocs topDocs) {
+            long ramBytesUsed = RamUsageEstimator.shallowSizeOf(topDocs.scoreDocs);
+            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                ramBytesUsed += RamUsageEstimator.shallowSizeOf(scoreDoc);
+                if (scoreDoc instanceof FieldDoc fieldDoc) {
+                    ramBytesUsed += RamUsageEstimator.shallowSizeOf(fieldDoc.fields);
+                    for (Object field : fieldDoc.fields) {
+                        if (field instanceof BytesRef bytesRef) {
+                            ramBytesUsed += RamUsageEstimator.sizeOf(bytesRef.bytes);
+                        } else if (field != null) {
+                            ramBytesUsed += RamUsageEstimator.shallowSizeOf(field);
+                        }
+                    }
+                }
+            }
+            return ramBytesUsed;
+        }
+    }
+}
@@ -35,8 +35,10 @@ package org.opensearch.indices.cluster;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterManagerMetrics;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.ClusterStateApplier;
 import org.opensearch.cluster.action.index.NodeMappingRefreshAction;
@@ -49,11 +51,14 @@ import org.opensearch.cluster.routing.RecoverySource.Type;
 import org.opensearch.cluster.routing.RoutingNode;
 import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.service.ClusterApplierService;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.lifecycle.AbstractLifecycleComponent;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
@@ -92,6 +97,8 @@ import org.opensearch.indices.replication.common.ReplicationState;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.search.SearchService;
 import org.opensearch.snapshots.SnapshotShardsService;
+import org.opensearch.telemetry.metrics.noop.NoopMetricsRegistry;
+import org.opensearch.telemetry.metrics.tags.Tags;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
@@ -104,9 +111,14 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -125,6 +137,18 @@ import static org.opensearch.indices.cluster.IndicesClusterStateService.Allocate
 public class IndicesClusterStateService extends AbstractLifecycleComponent implements ClusterStateApplier {
     private static final Logger logger = LogManager.getLogger(IndicesClusterStateService.class);
 
+    /**
+     * The number of threads, including the cluster applier thread, that apply the index level changes of a cluster state, such as
+     * metadata and mapping updates and shard creation, to different indices concurrently. Defaults to 1, which applies them on the
+     * cluster applier thread only.
+     */
+    public static final Setting<Integer> INDICES_CLUSTER_APPLY_CONCURRENCY_SETTING = Setting.intSetting(
+        "indices.cluster.apply_concurrency",
+        1,
+        1,
+        Setting.Property.NodeScope
+    );
+
     final AllocatedIndices<? extends Shard, ? extends AllocatedIndex<? extends Shard>> indicesService;
     private final ClusterService clusterService;
     private final ThreadPool threadPool;
@@ -159,6 +183,9 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
     private final MergedSegmentPublisher mergedSegmentPublisher;
     private final ReferencedSegmentsPublisher referencedSegmentsPublisher;
 
+    private final int applyConcurrency;
+    private final ClusterManagerMetrics clusterManagerMetrics;
+
     @Inject
     public IndicesClusterStateService(
         final Settings settings,
@@ -258,6 +285,11 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
         this.mergedSegmentWarmerFactory = mergedSegmentWarmerFactory;
         this.mergedSegmentPublisher = mergedSegmentPublisher;
         this.referencedSegmentsPublisher = referencedSegmentsPublisher;
+        this.applyConcurrency = INDICES_CLUSTER_APPLY_CONCURRENCY_SETTING.get(settings);
+        final ClusterApplierService clusterApplierService = clusterService.getClusterApplierService();
+        this.clusterManagerMetrics = clusterApplierService == null
+            ? new ClusterManagerMetrics(NoopMetricsRegistry.INSTANCE)
+            : clusterApplierService.clusterManagerMetrics();
     }
 
     @Override
@@ -297,21 +329,80 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
             return;
         }
 
-        updateFailedShardsCache(state);
+        // each phase completes before the next one starts, only the work of a phase on different indices runs concurrently
+        runPhase("update_failed_shards_cache", () -> updateFailedShardsCache(state));
 
-        deleteIndices(event); // also deletes shards of deleted indices
+        runPhase("delete_indices", () -> deleteIndices(event)); // also deletes shards of deleted indices
 
-        removeIndices(event); // also removes shards of removed indices
+        runPhase("remove_indices", () -> removeIndices(event)); // also removes shards of removed indices
 
-        failMissingShards(state);
+        runPhase("fail_missing_shards", () -> failMissingShards(state));
 
-        removeShards(state);   // removes any local shards that doesn't match what the cluster-manager expects
+        // removes any local shards that doesn't match what the cluster-manager expects
+        runPhase("remove_shards", () -> removeShards(state));
 
-        updateIndices(event); // can also fail shards, but these are then guaranteed to be in failedShardsCache
+        // can also fail shards, but these are then guaranteed to be in failedShardsCache
+        runPhase("update_indices", () -> updateIndices(event));
 
-        createIndices(state);
+        runPhase("create_indices", () -> createIndices(state));
 
-        createOrUpdateShards(state);
+        runPhase("create_or_update_shards", () -> createOrUpdateShards(state));
+    }
+
+    private void runPhase(String phase, Runnable runnable) {
+        final long startTimeNanos = System.nanoTime();
+        runnable.run();
+        final long tookInMillis = TimeValue.nsecToMSec(System.nanoTime() - startTimeNanos);
+        logger.trace("applying phase [{}] took [{}ms]", phase, tookInMillis);
+        clusterManagerMetrics.recordLatency(
+            clusterManagerMetrics.clusterStateApplierPhasesHistogram,
+            (double) Math.max(0, tookInMillis),
+            Optional.of(Tags.create().addTag("Operation", getClass().getSimpleName()).addTag("Phase", phase))
+        );
+    }
+
+    /**
+     * Runs the given task for each of the given items on up to {@link #INDICES_CLUSTER_APPLY_CONCURRENCY_SETTING} threads, and returns
+     * once all of them were processed. The tasks must not depend on each other. The calling thread processes items as well, so this
+     * makes progress even if the generic thread pool does not.
+     */
+    private <T> void forEachConcurrently(List<T> items, Consumer<T> task) {
+        if (applyConcurrency <= 1 || items.size() <= 1) {
+            items.forEach(task);
+            return;
+        }
+        final AtomicInteger nextItem = new AtomicInteger();
+        final CountDownLatch processedItems = new CountDownLatch(items.size());
+        final List<RuntimeException> failures = new CopyOnWriteArrayList<>();
+        final Runnable worker = () -> {
+            for (int i = nextItem.getAndIncrement(); i < items.size(); i = nextItem.getAndIncrement()) {
+                try {
+                    task.accept(items.get(i));
+                } catch (RuntimeException e) {
+                    failures.add(e);
+                } finally {
+                    processedItems.countDown();
+                }
+            }
+        };
+        final int workers = Math.min(applyConcurrency, items.size()) - 1;
+        for (int i = 0; i < workers; i++) {
+            try {
+                threadPool.generic().execute(worker);
+            } catch (RejectedExecutionException e) {
+                logger.debug("failed to fork applying cluster state, continuing on the applier thread", e);
+                break;
+            }
+        }
+        worker.run();
+        try {
+            // items that were taken by workers may still be in progress
+            processedItems.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while applying cluster state", e);
+        }
+        ExceptionsHelper.rethrowAndSuppress(failures);
     }
 
     /**
@@ -555,12 +646,12 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
             }
         }
 
+        final List<AllocatedIndex<? extends Shard>> createdIndices = new ArrayList<>(indicesToCreate.size());
         for (Map.Entry<Index, List<ShardRouting>> entry : indicesToCreate.entrySet()) {
             final Index index = entry.getKey();
             final IndexMetadata indexMetadata = state.metadata().index(index);
             logger.debug("[{}] creating index", index);
 
-            AllocatedIndex<? extends Shard> indexService = null;
             try {
                 List<IndexEventListener> updatedIndexEventListeners = new ArrayList<>(builtInIndexListener);
                 if (entry.getValue().size() > 0
@@ -574,7 +665,19 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                     };
                     updatedIndexEventListeners.add(refreshListenerAfterSnapshotRestore);
                 }
-                indexService = indicesService.createIndex(indexMetadata, updatedIndexEventListeners, true);
+                createdIndices.add(indicesService.createIndex(indexMetadata, updatedIndexEventListeners, true));
+            } catch (Exception e) {
+                for (ShardRouting shardRouting : entry.getValue()) {
+                    sendFailShard(shardRouting, "failed to create index", e, state);
+                }
+            }
+        }
+
+        // merging the mappings of the new indices is independent of each other, only the failures are handled on the applier thread
+        final Map<Index, Exception> failures = ConcurrentCollections.newConcurrentMap();
+        forEachConcurrently(createdIndices, indexService -> {
+            final IndexMetadata indexMetadata = state.metadata().index(indexService.index());
+            try {
                 if (indexService.updateMapping(null, indexMetadata) && sendRefreshMapping) {
                     nodeMappingRefreshAction.nodeMappingRefresh(
                         state.nodes().getClusterManagerNode(),
@@ -586,16 +689,14 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                     );
                 }
             } catch (Exception e) {
-                final String failShardReason;
-                if (indexService == null) {
-                    failShardReason = "failed to create index";
-                } else {
-                    failShardReason = "failed to update mapping for index";
-                    indicesService.removeIndex(index, FAILURE, "removing index (mapping update failed)");
-                }
-                for (ShardRouting shardRouting : entry.getValue()) {
-                    sendFailShard(shardRouting, failShardReason, e, state);
-                }
+                failures.put(indexService.index(), e);
+            }
+        });
+
+        for (Map.Entry<Index, Exception> failure : failures.entrySet()) {
+            indicesService.removeIndex(failure.getKey(), FAILURE, "removing index (mapping update failed)");
+            for (ShardRouting shardRouting : indicesToCreate.get(failure.getKey())) {
+                sendFailShard(shardRouting, "failed to update mapping for index", failure.getValue(), state);
             }
         }
     }
@@ -605,44 +706,59 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
             return;
         }
         final ClusterState state = event.state();
+        final List<AllocatedIndex<? extends Shard>> updatedIndices = new ArrayList<>();
         for (AllocatedIndex<? extends Shard> indexService : indicesService) {
             final Index index = indexService.index();
             final IndexMetadata currentIndexMetadata = indexService.getIndexSettings().getIndexMetadata();
             final IndexMetadata newIndexMetadata = state.metadata().index(index);
             assert newIndexMetadata != null : "index " + index + " should have been removed by deleteIndices";
             if (ClusterChangedEvent.indexMetadataChanged(currentIndexMetadata, newIndexMetadata)) {
-                String reason = null;
-                try {
-                    reason = "metadata update failed";
-                    try {
-                        indexService.updateMetadata(currentIndexMetadata, newIndexMetadata);
-                    } catch (Exception e) {
-                        assert false : e;
-                        throw e;
-                    }
+                updatedIndices.add(indexService);
+            }
+        }
 
-                    reason = "mapping update failed";
-                    if (indexService.updateMapping(currentIndexMetadata, newIndexMetadata) && sendRefreshMapping) {
-                        nodeMappingRefreshAction.nodeMappingRefresh(
-                            state.nodes().getClusterManagerNode(),
-                            new NodeMappingRefreshAction.NodeMappingRefreshRequest(
-                                newIndexMetadata.getIndex().getName(),
-                                newIndexMetadata.getIndexUUID(),
-                                state.nodes().getLocalNodeId()
-                            )
-                        );
-                    }
+        // the metadata and mappings of different indices are independent, only the failures are handled on the applier thread
+        final Map<Index, Tuple<String, Exception>> failures = ConcurrentCollections.newConcurrentMap();
+        forEachConcurrently(updatedIndices, indexService -> {
+            final IndexMetadata currentIndexMetadata = indexService.getIndexSettings().getIndexMetadata();
+            final IndexMetadata newIndexMetadata = state.metadata().index(indexService.index());
+            String reason = null;
+            try {
+                reason = "metadata update failed";
+                try {
+                    indexService.updateMetadata(currentIndexMetadata, newIndexMetadata);
                 } catch (Exception e) {
-                    indicesService.removeIndex(indexService.index(), FAILURE, "removing index (" + reason + ")");
-
-                    // fail shards that would be created or updated by createOrUpdateShards
-                    RoutingNode localRoutingNode = state.getRoutingNodes().node(state.nodes().getLocalNodeId());
-                    if (localRoutingNode != null) {
-                        for (final ShardRouting shardRouting : localRoutingNode) {
-                            if (shardRouting.index().equals(index) && failedShardsCache.containsKey(shardRouting.shardId()) == false) {
-                                sendFailShard(shardRouting, "failed to update index (" + reason + ")", e, state);
-                            }
-                        }
+                    assert false : e;
+                    throw e;
+                }
+
+                reason = "mapping update failed";
+                if (indexService.updateMapping(currentIndexMetadata, newIndexMetadata) && sendRefreshMapping) {
+                    nodeMappingRefreshAction.nodeMappingRefresh(
+                        state.nodes().getClusterManagerNode(),
+                        new NodeMappingRefreshAction.NodeMappingRefreshRequest(
+                            newIndexMetadata.getIndex().getName(),
+                            newIndexMetadata.getIndexUUID(),
+                            state.nodes().getLocalNodeId()
+                        )
+                    );
+                }
+            } catch (Exception e) {
+                failures.put(indexService.index(), new Tuple<>(reason, e));
+            }
+        });
+
+        for (Map.Entry<Index, Tuple<String, Exception>> failure : failures.entrySet()) {
+            final Index index = failure.getKey();
+            final String reason = failure.getValue().v1();
+            indicesService.removeIndex(index, FAILURE, "removing index (" + reason + ")");
+
+            // fail shards that would be created or updated by createOrUpdateShards
+            RoutingNode localRoutingNode = state.getRoutingNodes().node(state.nodes().getLocalNodeId());
+            if (localRoutingNode != null) {
+                for (final ShardRouting shardRouting : localRoutingNode) {
+                    if (shardRouting.index().equals(index) && failedShardsCache.containsKey(shardRouting.shardId()) == false) {
+                        sendFailShard(shardRouting, "failed to update index (" + reason + ")", failure.getValue().v2(), state);
                     }
                 }
             }
@@ -658,20 +774,27 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
         DiscoveryNodes nodes = state.nodes();
         RoutingTable routingTable = state.routingTable();
 
+        // the shards of an index are created and updated in order, the shards of different indices concurrently
+        final Map<Index, List<ShardRouting>> shardsByIndex = new HashMap<>();
         for (final ShardRouting shardRouting : localRoutingNode) {
-            ShardId shardId = shardRouting.shardId();
-            if (failedShardsCache.containsKey(shardId) == false) {
-                AllocatedIndex<? extends Shard> indexService = indicesService.indexService(shardId.getIndex());
-                assert indexService != null : "index " + shardId.getIndex() + " should have been created by createIndices";
-                Shard shard = indexService.getShardOrNull(shardId.id());
-                if (shard == null) {
-                    assert shardRouting.initializing() : shardRouting + " should have been removed by failMissingShards";
-                    createShard(nodes, routingTable, shardRouting, state);
-                } else {
-                    updateShard(nodes, shardRouting, shard, routingTable, state);
+            shardsByIndex.computeIfAbsent(shardRouting.index(), k -> new ArrayList<>()).add(shardRouting);
+        }
+        forEachConcurrently(new ArrayList<>(shardsByIndex.values()), shardRoutings -> {
+            for (final ShardRouting shardRouting : shardRoutings) {
+                ShardId shardId = shardRouting.shardId();
+                if (failedShardsCache.containsKey(shardId) == false) {
+                    AllocatedIndex<? extends Shard> indexService = indicesService.indexService(shardId.getIndex());
+                    assert indexService != null : "index " + shardId.getIndex() + " should have been created by createIndices";
+                    Shard shard = indexService.getShardOrNull(shardId.id());
+                    if (shard == null) {
+                        assert shardRouting.initializing() : shardRouting + " should have been removed by failMissingShards";
+                        createShard(nodes, routingTable, shardRouting, state);
+                    } else {
+                        updateShard(nodes, shardRouting, shard, routingTable, state);
+                    }
                 }
             }
-        }
+        });
     }
 
     private void createShard(DiscoveryNodes nodes, RoutingTable routingTable, ShardRouting shardRouting, ClusterState state) {
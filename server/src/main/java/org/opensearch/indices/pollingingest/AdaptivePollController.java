@@ -0,0 +1,140 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.pollingingest;
+
+import org.opensearch.common.metrics.CounterMetric;
+
+/**
+ * Decides how many messages the {@link DefaultStreamPoller} requests per poll, and how long it waits between polls,
+ * based on the occupancy of the internal blocking queues that feed the message processors.
+ * <p>
+ * The poll size grows while full polls are drained quickly by the processors, and shrinks when the queues fill up
+ * because the engine can't keep up. When the fullest queue is above {@link #HIGH_QUEUE_UTILIZATION}, the poller skips
+ * polling for a short while instead of blocking on the queues. The sleep after an empty poll starts short and grows
+ * up to the idle sleep period while the stream stays idle.
+ * <p>
+ * When adaptive polling is disabled, the poll size stays at the configured maximum and the poller always sleeps for
+ * the idle sleep period after an empty poll. This class is only used from the poller thread, apart from the stats.
+ */
+class AdaptivePollController {
+    static final double HIGH_QUEUE_UTILIZATION = 0.8;
+    static final double LOW_QUEUE_UTILIZATION = 0.25;
+    static final long MIN_POLL_SIZE = 10;
+    static final int MIN_SLEEP_PERIOD_MS = 10;
+
+    private final boolean adaptive;
+    private final long maxPollSize;
+    private final long minPollSize;
+    private final int idleSleepPeriodMs;
+
+    private volatile long pollSize;
+    private int currentIdleSleepMs;
+
+    private final CounterMetric pollSizeIncreaseCount = new CounterMetric();
+    private final CounterMetric pollSizeDecreaseCount = new CounterMetric();
+    private final CounterMetric backpressurePauseCount = new CounterMetric();
+
+    /**
+     * @param maxPollSize the configured maximum number of messages per poll
+     * @param idleSleepPeriodMs the longest sleep after an empty poll
+     * @param adaptive whether the poll size and sleeps adapt to the queue occupancy
+     */
+    AdaptivePollController(long maxPollSize, int idleSleepPeriodMs, boolean adaptive) {
+        this.adaptive = adaptive;
+        this.maxPollSize = maxPollSize;
+        this.minPollSize = Math.min(MIN_POLL_SIZE, maxPollSize);
+        this.idleSleepPeriodMs = idleSleepPeriodMs;
+        this.pollSize = maxPollSize;
+        this.currentIdleSleepMs = adaptive ? Math.min(MIN_SLEEP_PERIOD_MS, idleSleepPeriodMs) : idleSleepPeriodMs;
+    }
+
+    /**
+     * Returns whether the next poll should be skipped because the blocking queues are close to full.
+     *
+     * @param queueUtilization the fill ratio of the fullest blocking queue, between 0 and 1
+     */
+    boolean shouldBackOff(double queueUtilization) {
+        if (adaptive == false || queueUtilization < HIGH_QUEUE_UTILIZATION) {
+            return false;
+        }
+        decreasePollSize();
+        backpressurePauseCount.inc();
+        return true;
+    }
+
+    /**
+     * Adjusts the poll size and the idle sleep to the outcome of a poll.
+     *
+     * @param polledCount the number of messages returned by the poll
+     * @param queueUtilization the fill ratio of the fullest blocking queue after the messages were queued
+     */
+    void onPoll(int polledCount, double queueUtilization) {
+        if (adaptive == false) {
+            return;
+        }
+        if (polledCount == 0) {
+            currentIdleSleepMs = Math.min(currentIdleSleepMs * 2, idleSleepPeriodMs);
+            return;
+        }
+
+        currentIdleSleepMs = Math.min(MIN_SLEEP_PERIOD_MS, idleSleepPeriodMs);
+        if (queueUtilization >= HIGH_QUEUE_UTILIZATION) {
+            decreasePollSize();
+        } else if (polledCount >= pollSize && queueUtilization <= LOW_QUEUE_UTILIZATION) {
+            increasePollSize();
+        }
+    }
+
+    /**
+     * Returns the number of messages to request in the next poll.
+     */
+    long pollSize() {
+        return pollSize;
+    }
+
+    /**
+     * Returns how long to sleep after an empty poll.
+     */
+    int idleSleepMillis() {
+        return currentIdleSleepMs;
+    }
+
+    /**
+     * Returns how long to sleep when a poll is skipped due to backpressure.
+     */
+    int backOffSleepMillis() {
+        return Math.min(MIN_SLEEP_PERIOD_MS, idleSleepPeriodMs);
+    }
+
+    long getPollSizeIncreaseCount() {
+        return pollSizeIncreaseCount.count();
+    }
+
+    long getPollSizeDecreaseCount() {
+        return pollSizeDecreaseCount.count();
+    }
+
+    long getBackpressurePauseCount() {
+        return backpressurePauseCount.count();
+    }
+
+    private void increasePollSize() {
+        if (pollSize < maxPollSize) {
+            pollSize = Math.min(pollSize * 2, maxPollSize);
+            pollSizeIncreaseCount.inc();
+        }
+    }
+
+    private void decreasePollSize() {
+        if (pollSize > minPollSize) {
+            pollSize = Math.max(pollSize / 2, minPollSize);
+            pollSizeDecreaseCount.inc();
+        }
+    }
+}
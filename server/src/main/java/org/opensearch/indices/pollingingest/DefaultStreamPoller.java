@@ -71,7 +71,7 @@ public class DefaultStreamPoller implements StreamPoller {
     private ResetState resetState;
     private final String resetValue;
 
-    private long maxPollSize;
+    private final AdaptivePollController pollController;
     private int pollTimeout;
     private long pointerBasedLagUpdateIntervalMs;
     private final IngestionMessageMapper messageMapper;
@@ -101,8 +101,10 @@ public class DefaultStreamPoller implements StreamPoller {
         State initialState,
         long maxPollSize,
         int pollTimeout,
+        boolean adaptivePoll,
         int numProcessorThreads,
         int blockingQueueSize,
+        int processorBatchSize,
         long pointerBasedLagUpdateIntervalMs,
         IngestionMessageMapper.MapperType mapperType
     ) {
@@ -111,13 +113,21 @@ public class DefaultStreamPoller implements StreamPoller {
             consumerFactory,
             consumerClientId,
             shardId,
-            new PartitionedBlockingQueueContainer(numProcessorThreads, shardId, ingestionEngine, errorStrategy, blockingQueueSize),
+            new PartitionedBlockingQueueContainer(
+                numProcessorThreads,
+                shardId,
+                ingestionEngine,
+                errorStrategy,
+                blockingQueueSize,
+                processorBatchSize
+            ),
             resetState,
             resetValue,
             errorStrategy,
             initialState,
             maxPollSize,
             pollTimeout,
+            adaptivePoll,
             pointerBasedLagUpdateIntervalMs,
             ingestionEngine.config().getIndexSettings(),
             IngestionMessageMapper.create(mapperType.getName(), shardId)
@@ -142,6 +152,45 @@ public class DefaultStreamPoller implements StreamPoller {
         long pointerBasedLagUpdateIntervalMs,
         IndexSettings indexSettings,
         IngestionMessageMapper messageMapper
+    ) {
+        this(
+            startPointer,
+            consumerFactory,
+            consumerClientId,
+            shardId,
+            blockingQueueContainer,
+            resetState,
+            resetValue,
+            errorStrategy,
+            initialState,
+            maxPollSize,
+            pollTimeout,
+            false,
+            pointerBasedLagUpdateIntervalMs,
+            indexSettings,
+            messageMapper
+        );
+    }
+
+    /**
+     * Visible for testing.
+     */
+    DefaultStreamPoller(
+        IngestionShardPointer startPointer,
+        IngestionConsumerFactory consumerFactory,
+        String consumerClientId,
+        int shardId,
+        PartitionedBlockingQueueContainer blockingQueueContainer,
+        ResetState resetState,
+        String resetValue,
+        IngestionErrorStrategy errorStrategy,
+        State initialState,
+        long maxPollSize,
+        int pollTimeout,
+        boolean adaptivePoll,
+        long pointerBasedLagUpdateIntervalMs,
+        IndexSettings indexSettings,
+        IngestionMessageMapper messageMapper
     ) {
         this.consumerFactory = Objects.requireNonNull(consumerFactory);
         this.consumerClientId = Objects.requireNonNull(consumerClientId);
@@ -150,7 +199,7 @@ public class DefaultStreamPoller implements StreamPoller {
         this.resetValue = resetValue;
         this.initialBatchStartPointer = startPointer;
         this.state = initialState;
-        this.maxPollSize = maxPollSize;
+        this.pollController = new AdaptivePollController(maxPollSize, DEFAULT_POLLER_SLEEP_PERIOD_MS, adaptivePoll);
         this.pollTimeout = pollTimeout;
         this.pointerBasedLagUpdateIntervalMs = pointerBasedLagUpdateIntervalMs;
         this.blockingQueueContainer = blockingQueueContainer;
@@ -220,20 +269,30 @@ public class DefaultStreamPoller implements StreamPoller {
                 }
 
                 state = State.POLLING;
+
+                // Stop reading from the streaming source while the processors catch up, instead of blocking on the
+                // full queues
+                if (pollController.shouldBackOff(blockingQueueContainer.getMaxQueueUtilization())) {
+                    Thread.sleep(pollController.backOffSleepMillis());
+                    continue;
+                }
+
                 List<IngestionShardConsumer.ReadResult<? extends IngestionShardPointer, ? extends Message>> results;
+                long pollSize = pollController.pollSize();
 
                 // Force the consumer to start from forcedShardPointer if available
                 if (forcedShardPointer != null) {
-                    results = consumer.readNext(forcedShardPointer, true, maxPollSize, pollTimeout);
+                    results = consumer.readNext(forcedShardPointer, true, pollSize, pollTimeout);
                     forcedShardPointer = null;
                 } else {
-                    results = consumer.readNext(maxPollSize, pollTimeout);
+                    results = consumer.readNext(pollSize, pollTimeout);
                 }
 
                 if (results.isEmpty()) {
                     // no new records
                     setLastPolledMessageTimestamp(0);
-                    Thread.sleep(DEFAULT_POLLER_SLEEP_PERIOD_MS);
+                    pollController.onPoll(0, blockingQueueContainer.getMaxQueueUtilization());
+                    Thread.sleep(pollController.idleSleepMillis());
                     continue;
                 }
 
@@ -241,6 +300,7 @@ public class DefaultStreamPoller implements StreamPoller {
                 // processRecords returns failed shard pointers. Update forcedShardPointer to the failed pointer to retry on next iteration
                 // in case of failures
                 forcedShardPointer = processRecords(results);
+                pollController.onPoll(results.size(), blockingQueueContainer.getMaxQueueUtilization());
             } catch (Exception e) {
                 // Pause ingestion when an error is encountered while polling the streaming source.
                 // Currently we do not have a good way to skip past the failing messages.
@@ -379,6 +439,9 @@ public class DefaultStreamPoller implements StreamPoller {
         builder.setTotalProcessorFailedCount(processorMetrics.failedMessageCounter().count());
         builder.setTotalProcessorFailuresDroppedCount(processorMetrics.failedMessageDroppedCounter().count());
         builder.setTotalProcessorThreadInterruptCount(processorMetrics.processorThreadInterruptCounter().count());
+        builder.setTotalBatchCount(processorMetrics.batchCounter().count());
+        builder.setTotalBatchedMessageCount(processorMetrics.batchedMessageCounter().count());
+        builder.setTotalBatchProcessingTimeInMillis(processorMetrics.batchProcessingTimeMillisCounter().count());
         // set consumer stats
         builder.setTotalPolledCount(totalPolledCount.count());
         builder.setTotalConsumerErrorCount(totalConsumerErrorCount.count());
@@ -386,6 +449,10 @@ public class DefaultStreamPoller implements StreamPoller {
         builder.setTotalPollerMessageDroppedCount(totalPollerMessageDroppedCount.count());
         builder.setLagInMillis(computeTimeBasedLag());
         builder.setPointerBasedLag(cachedPointerBasedLag);
+        builder.setCurrentPollSize(pollController.pollSize());
+        builder.setTotalPollSizeIncreaseCount(pollController.getPollSizeIncreaseCount());
+        builder.setTotalPollSizeDecreaseCount(pollController.getPollSizeDecreaseCount());
+        builder.setTotalBackpressurePauseCount(pollController.getBackpressurePauseCount());
         return builder.build();
     }
 
@@ -600,8 +667,10 @@ public class DefaultStreamPoller implements StreamPoller {
         private State initialState = State.NONE;
         private long maxPollSize = 1000;
         private int pollTimeout = 1000;
+        private boolean adaptivePoll = false;
         private int numProcessorThreads = 1;
         private int blockingQueueSize = 100;
+        private int processorBatchSize = 1;
         private long pointerBasedLagUpdateIntervalMs = 10000;
         private IngestionMessageMapper.MapperType mapperType = IngestionMessageMapper.MapperType.DEFAULT;
 
@@ -671,6 +740,14 @@ public class DefaultStreamPoller implements StreamPoller {
             return this;
         }
 
+        /**
+         * Set whether the poll size adapts to the occupancy of the internal blocking queues
+         */
+        public Builder adaptivePoll(boolean adaptivePoll) {
+            this.adaptivePoll = adaptivePoll;
+            return this;
+        }
+
         /**
          * Set number of processor threads
          */
@@ -687,6 +764,14 @@ public class DefaultStreamPoller implements StreamPoller {
             return this;
         }
 
+        /**
+         * Set the maximum number of messages a processor thread takes from its blocking queue at once
+         */
+        public Builder processorBatchSize(int processorBatchSize) {
+            this.processorBatchSize = processorBatchSize;
+            return this;
+        }
+
         /**
          * Set pointer-based lag update interval in milliseconds
          */
@@ -719,8 +804,10 @@ public class DefaultStreamPoller implements StreamPoller {
                 initialState,
                 maxPollSize,
                 pollTimeout,
+                adaptivePoll,
                 numProcessorThreads,
                 blockingQueueSize,
+                processorBatchSize,
                 pointerBasedLagUpdateIntervalMs,
                 mapperType
             );
@@ -35,6 +35,9 @@ import org.opensearch.index.mapper.VersionFieldMapper;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -69,6 +72,7 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
 
     private final String indexName;
     private final int shardId;
+    private final int batchSize;
 
     /**
      * Constructor.
@@ -81,13 +85,31 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue,
         IngestionEngine engine,
         IngestionErrorStrategy errorStrategy
+    ) {
+        this(blockingQueue, engine, errorStrategy, 1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param blockingQueue the blocking queue to poll messages from
+     * @param engine the ingestion engine
+     * @param errorStrategy the error strategy/policy to use
+     * @param batchSize the maximum number of messages drained from the blocking queue and applied as one batch
+     */
+    public MessageProcessorRunnable(
+        BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue,
+        IngestionEngine engine,
+        IngestionErrorStrategy errorStrategy,
+        int batchSize
     ) {
         this(
             blockingQueue,
             new MessageProcessor(engine),
             errorStrategy,
             engine.config().getShardId().getIndexName(),
-            engine.config().getShardId().getId()
+            engine.config().getShardId().getId(),
+            batchSize
         );
     }
 
@@ -106,11 +128,35 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         String indexName,
         int shardId
     ) {
+        this(blockingQueue, messageProcessor, errorStrategy, indexName, shardId, 1);
+    }
+
+    /**
+     * Constructor visible for testing.
+     * @param blockingQueue the blocking queue to poll messages from
+     * @param messageProcessor the message processor
+     * @param errorStrategy the error strategy/policy to use
+     * @param indexName the index name
+     * @param shardId the shard ID
+     * @param batchSize the maximum number of messages drained from the blocking queue and applied as one batch
+     */
+    MessageProcessorRunnable(
+        BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue,
+        MessageProcessor messageProcessor,
+        IngestionErrorStrategy errorStrategy,
+        String indexName,
+        int shardId,
+        int batchSize
+    ) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be at least 1, got " + batchSize);
+        }
         this.blockingQueue = Objects.requireNonNull(blockingQueue);
         this.messageProcessor = messageProcessor;
         this.errorStrategy = errorStrategy;
         this.indexName = indexName;
         this.shardId = shardId;
+        this.batchSize = batchSize;
     }
 
     static class MessageProcessor {
@@ -167,6 +213,38 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
             }
         }
 
+        /**
+         * Visible for testing. Parses the messages and applies their engine operations to the engine as one batch, in
+         * order. Parsing stops at the first invalid message, and the messages before it are still applied.
+         *
+         * @param shardUpdateMessages the messages to process
+         * @param messageProcessorMetrics message processor metrics
+         * @return the number of messages applied and the failure of the next message, if any
+         */
+        protected IngestionEngine.BatchResult processBatch(
+            List<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> shardUpdateMessages,
+            MessageProcessorMetrics messageProcessorMetrics
+        ) {
+            List<IngestionEngine.BatchOperation> operations = new ArrayList<>(shardUpdateMessages.size());
+            Exception parseFailure = null;
+            for (ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage : shardUpdateMessages) {
+                try {
+                    MessageOperation operation = getOperation(shardUpdateMessage, messageProcessorMetrics);
+                    operations.add(
+                        new IngestionEngine.BatchOperation(operation.engineOperation, operation.opType == DocWriteRequest.OpType.CREATE)
+                    );
+                } catch (Exception e) {
+                    parseFailure = e;
+                    break;
+                }
+            }
+            IngestionEngine.BatchResult result = engine.applyBatch(operations);
+            if (result.failure() != null || parseFailure == null) {
+                return result;
+            }
+            return new IngestionEngine.BatchResult(result.appliedCount(), parseFailure);
+        }
+
         /**
          * Visible for testing. Get the engine operation from the message.
          * @param shardUpdateMessage an update message containing payload and pointer for the update
@@ -296,45 +374,65 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
     }
 
     /**
-     * Polls messages from the blocking queue and processes messages. If message processing fails, the failed message
-     * is retried indefinitely after a retry wait time, unless a DROP error policy is used to skip the failed message.
+     * Polls messages from the blocking queue and processes messages. Up to {@code batchSize} messages that are already
+     * queued are drained together, parsed and applied to the engine as one batch, see {@link IngestionEngine#applyBatch}.
+     * If message processing fails, the failed message is retried on its own indefinitely after a retry wait time, unless
+     * a DROP error policy is used to skip the failed message. The remainder of the batch is only applied once the failed
+     * message succeeds or is dropped.
      */
     @Override
     public void run() {
-        ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage = null;
+        final ArrayDeque<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> batch = new ArrayDeque<>(batchSize);
+        long batchStartTimeNanos = 0;
         int retryCount = 0;
 
         while (Thread.currentThread().isInterrupted() == false && closed == false) {
             try {
-                if (shardUpdateMessage == null) {
-                    shardUpdateMessage = blockingQueue.poll(1000, TimeUnit.MILLISECONDS);
+                if (batch.isEmpty()) {
+                    ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> first = blockingQueue.poll(
+                        1000,
+                        TimeUnit.MILLISECONDS
+                    );
+                    if (first != null) {
+                        batch.add(first);
+                        if (batchSize > 1) {
+                            blockingQueue.drainTo(batch, batchSize - 1);
+                        }
+                        batchStartTimeNanos = System.nanoTime();
+                        messageProcessorMetrics.batchCounter.inc();
+                        messageProcessorMetrics.batchedMessageCounter.inc(batch.size());
+                    }
                 }
             } catch (InterruptedException e) {
                 messageProcessorMetrics.processorThreadInterruptCounter.inc();
                 logger.debug("MessageProcessorRunnable poll interruptedException", e);
                 Thread.currentThread().interrupt(); // Restore interrupt status
             }
+            ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage = batch.peek();
             if (shardUpdateMessage != null) {
                 try {
-                    messageProcessorMetrics.processedCounter.inc();
-                    currentShardPointer = shardUpdateMessage.pointer();
-                    messageProcessor.process(shardUpdateMessage, messageProcessorMetrics);
-                    shardUpdateMessage = null;
+                    if (batch.size() > 1 && retryCount == 0) {
+                        applyBatch(batch);
+                    } else {
+                        messageProcessorMetrics.processedCounter.inc();
+                        currentShardPointer = shardUpdateMessage.pointer();
+                        messageProcessor.process(shardUpdateMessage, messageProcessorMetrics);
+                        batch.poll();
+                    }
                     retryCount = 0;
                 } catch (VersionConflictEngineException e) {
                     // Messages with version conflicts will be dropped. This should not have any impact to data
                     // correctness as pull-based ingestion does not support partial updates.
                     messageProcessorMetrics.versionConflictCounter.inc();
-                    logger.debug("Dropping message due to version conflict. ShardPointer: " + shardUpdateMessage.pointer().asString(), e);
-                    shardUpdateMessage = null;
+                    logger.debug("Dropping message due to version conflict. ShardPointer: " + batch.peek().pointer().asString(), e);
+                    batch.poll();
                 } catch (Exception e) {
                     logger.error("[Message Processor] Error processing message. Index={}, Shard={}, error={}", indexName, shardId, e);
                     messageProcessorMetrics.failedMessageCounter.inc();
                     errorStrategy.handleError(e, IngestionErrorStrategy.ErrorStage.PROCESSING);
                     boolean retriesExhausted = hasExhaustedRetries(e, retryCount);
                     if (retriesExhausted && errorStrategy.shouldIgnoreError(e, IngestionErrorStrategy.ErrorStage.PROCESSING)) {
-                        logDroppedMessage(shardUpdateMessage);
-                        shardUpdateMessage = null;
+                        logDroppedMessage(batch.poll());
                         retryCount = 0;
                         messageProcessorMetrics.failedMessageDroppedCounter.inc();
                     } else {
@@ -343,10 +441,34 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
                         waitBeforeRetry();
                     }
                 }
+
+                if (batch.isEmpty()) {
+                    messageProcessorMetrics.batchProcessingTimeMillisCounter.inc(
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - batchStartTimeNanos)
+                    );
+                }
             }
         }
     }
 
+    /**
+     * Applies the messages of the batch to the engine at once. The applied messages are removed from the batch, and the
+     * failure of the first message that could not be applied, which stays at the head of the batch, is rethrown.
+     */
+    private void applyBatch(ArrayDeque<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> batch) throws Exception {
+        IngestionEngine.BatchResult result = messageProcessor.processBatch(new ArrayList<>(batch), messageProcessorMetrics);
+        for (int i = 0; i < result.appliedCount(); i++) {
+            currentShardPointer = batch.poll().pointer();
+        }
+        if (result.failure() == null) {
+            messageProcessorMetrics.processedCounter.inc(result.appliedCount());
+        } else {
+            messageProcessorMetrics.processedCounter.inc(result.appliedCount() + 1);
+            currentShardPointer = batch.peek().pointer();
+            throw result.failure();
+        }
+    }
+
     private void waitBeforeRetry() {
         try {
             Thread.sleep(WAIT_BEFORE_RETRY_DURATION_MS);
@@ -408,7 +530,8 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
      */
     public record MessageProcessorMetrics(CounterMetric processedCounter, CounterMetric invalidMessageCounter,
         CounterMetric versionConflictCounter, CounterMetric failedMessageCounter, CounterMetric failedMessageDroppedCounter,
-        CounterMetric processorThreadInterruptCounter) {
+        CounterMetric processorThreadInterruptCounter, CounterMetric batchCounter, CounterMetric batchedMessageCounter,
+        CounterMetric batchProcessingTimeMillisCounter) {
         public static MessageProcessorMetrics create() {
             return new MessageProcessorMetrics(
                 new CounterMetric(),
@@ -416,6 +539,9 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
                 new CounterMetric(),
                 new CounterMetric(),
                 new CounterMetric(),
+                new CounterMetric(),
+                new CounterMetric(),
+                new CounterMetric(),
                 new CounterMetric()
             );
         }
@@ -432,6 +558,11 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
             combinedMetrics.processorThreadInterruptCounter.inc(
                 this.processorThreadInterruptCounter.count() + other.processorThreadInterruptCounter.count()
             );
+            combinedMetrics.batchCounter.inc(this.batchCounter.count() + other.batchCounter.count());
+            combinedMetrics.batchedMessageCounter.inc(this.batchedMessageCounter.count() + other.batchedMessageCounter.count());
+            combinedMetrics.batchProcessingTimeMillisCounter.inc(
+                this.batchProcessingTimeMillisCounter.count() + other.batchProcessingTimeMillisCounter.count()
+            );
 
             return combinedMetrics;
         }
@@ -49,7 +49,8 @@ public class PartitionedBlockingQueueContainer {
         int shardId,
         IngestionEngine ingestionEngine,
         IngestionErrorStrategy errorStrategy,
-        int blockingQueueSize
+        int blockingQueueSize,
+        int processorBatchSize
     ) {
         assert numPartitions > 0 : "Number of processor threads / partitions must be greater than 0";
         partitionToQueueMap = new ConcurrentHashMap<>();
@@ -76,7 +77,8 @@ public class PartitionedBlockingQueueContainer {
             MessageProcessorRunnable messageProcessorRunnable = new MessageProcessorRunnable(
                 partitionToQueueMap.get(partition),
                 ingestionEngine,
-                errorStrategy
+                errorStrategy,
+                processorBatchSize
             );
             partitionToMessageProcessorMap.put(partition, messageProcessorRunnable);
         }
@@ -148,6 +150,21 @@ public class PartitionedBlockingQueueContainer {
         logger.debug("Cleared all blocking queues across {} partitions", numPartitions);
     }
 
+    /**
+     * Returns the fill ratio of the fullest blocking queue across all partitions, between 0 and 1.
+     */
+    public double getMaxQueueUtilization() {
+        double maxUtilization = 0;
+        for (BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> queue : partitionToQueueMap.values()) {
+            int size = queue.size();
+            int capacity = size + queue.remainingCapacity();
+            if (capacity > 0) {
+                maxUtilization = Math.max(maxUtilization, (double) size / capacity);
+            }
+        }
+        return maxUtilization;
+    }
+
     /**
      * Returns aggregated message processor metrics from all processor threads.
      */
@@ -39,14 +39,6 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         long totalProcessorFailedCount = in.readLong();
         long totalProcessorFailuresDroppedCount = in.readLong();
         long totalProcessorThreadInterruptCount = in.readLong();
-        this.messageProcessorStats = new MessageProcessorStats(
-            totalProcessedCount,
-            totalInvalidMessageCount,
-            totalProcessorVersionConflictsCount,
-            totalProcessorFailedCount,
-            totalProcessorFailuresDroppedCount,
-            totalProcessorThreadInterruptCount
-        );
         long totalPolledCount = in.readLong();
         long lagInMillis = in.readLong();
         long totalConsumerErrorCount = in.readLong();
@@ -55,10 +47,36 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         long totalDuplicateMessageSkippedCount = in.readLong();
 
         long pointerBasedLag = 0;
+        long totalBatchCount = 0;
+        long totalBatchedMessageCount = 0;
+        long totalBatchProcessingTimeInMillis = 0;
+        long currentPollSize = 0;
+        long totalPollSizeIncreaseCount = 0;
+        long totalPollSizeDecreaseCount = 0;
+        long totalBackpressurePauseCount = 0;
         if (in.getVersion().onOrAfter(Version.V_3_4_0)) {
             pointerBasedLag = in.readLong();
+            totalBatchCount = in.readLong();
+            totalBatchedMessageCount = in.readLong();
+            totalBatchProcessingTimeInMillis = in.readLong();
+            currentPollSize = in.readLong();
+            totalPollSizeIncreaseCount = in.readLong();
+            totalPollSizeDecreaseCount = in.readLong();
+            totalBackpressurePauseCount = in.readLong();
         }
 
+        this.messageProcessorStats = new MessageProcessorStats(
+            totalProcessedCount,
+            totalInvalidMessageCount,
+            totalProcessorVersionConflictsCount,
+            totalProcessorFailedCount,
+            totalProcessorFailuresDroppedCount,
+            totalProcessorThreadInterruptCount,
+            totalBatchCount,
+            totalBatchedMessageCount,
+            totalBatchProcessingTimeInMillis
+        );
+
         this.consumerStats = new ConsumerStats(
             totalPolledCount,
             lagInMillis,
@@ -66,7 +84,11 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
             totalPollerMessageFailureCount,
             totalPollerMessageDroppedCount,
             totalDuplicateMessageSkippedCount,
-            pointerBasedLag
+            pointerBasedLag,
+            currentPollSize,
+            totalPollSizeIncreaseCount,
+            totalPollSizeDecreaseCount,
+            totalBackpressurePauseCount
         );
     }
 
@@ -87,6 +109,13 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
 
         if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
             out.writeLong(consumerStats.pointerBasedLag);
+            out.writeLong(messageProcessorStats.totalBatchCount);
+            out.writeLong(messageProcessorStats.totalBatchedMessageCount);
+            out.writeLong(messageProcessorStats.totalBatchProcessingTimeInMillis);
+            out.writeLong(consumerStats.currentPollSize);
+            out.writeLong(consumerStats.totalPollSizeIncreaseCount);
+            out.writeLong(consumerStats.totalPollSizeDecreaseCount);
+            out.writeLong(consumerStats.totalBackpressurePauseCount);
         }
     }
 
@@ -100,6 +129,9 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         builder.field("total_failed_count", messageProcessorStats.totalFailedCount);
         builder.field("total_failures_dropped_count", messageProcessorStats.totalFailuresDroppedCount);
         builder.field("total_processor_thread_interrupt_count", messageProcessorStats.totalProcessorThreadInterruptCount);
+        builder.field("total_batch_count", messageProcessorStats.totalBatchCount);
+        builder.field("total_batched_message_count", messageProcessorStats.totalBatchedMessageCount);
+        builder.field("total_batch_processing_time_in_millis", messageProcessorStats.totalBatchProcessingTimeInMillis);
         builder.endObject();
         builder.startObject("consumer_stats");
         builder.field("total_polled_count", consumerStats.totalPolledCount);
@@ -109,6 +141,10 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         builder.field("total_duplicate_message_skipped_count", consumerStats.totalDuplicateMessageSkippedCount);
         builder.field("lag_in_millis", consumerStats.lagInMillis);
         builder.field("pointer_based_lag", consumerStats.pointerBasedLag);
+        builder.field("current_poll_size", consumerStats.currentPollSize);
+        builder.field("total_poll_size_increase_count", consumerStats.totalPollSizeIncreaseCount);
+        builder.field("total_poll_size_decrease_count", consumerStats.totalPollSizeDecreaseCount);
+        builder.field("total_backpressure_pause_count", consumerStats.totalBackpressurePauseCount);
         builder.endObject();
         builder.endObject();
         return builder;
@@ -136,21 +172,28 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
     }
 
     /**
-     * Stats for message processor
+     * Stats for message processor. A batch is the set of messages a processor thread takes from its queue at once, and
+     * its processing time spans from taking the messages to applying the last one of them.
      */
     @ExperimentalApi
     public record MessageProcessorStats(long totalProcessedCount, long totalInvalidMessageCount, long totalVersionConflictsCount,
-        long totalFailedCount, long totalFailuresDroppedCount, long totalProcessorThreadInterruptCount) {
+        long totalFailedCount, long totalFailuresDroppedCount, long totalProcessorThreadInterruptCount, long totalBatchCount,
+        long totalBatchedMessageCount, long totalBatchProcessingTimeInMillis) {
     }
 
     /**
      * Stats for consumer (poller).
      *
      * totalDuplicateMessageSkippedCount has been deprecated as of version 3.4  and will be removed in a future version.
+     *
+     * currentPollSize is the number of messages requested from the streaming source per poll. It is adjusted to the
+     * occupancy of the internal blocking queues when adaptive polling is enabled, and a backpressure pause is a poll
+     * skipped because the queues were close to full.
      */
     @ExperimentalApi
     public record ConsumerStats(long totalPolledCount, long lagInMillis, long totalConsumerErrorCount, long totalPollerMessageFailureCount,
-        long totalPollerMessageDroppedCount, long totalDuplicateMessageSkippedCount, long pointerBasedLag) {
+        long totalPollerMessageDroppedCount, long totalDuplicateMessageSkippedCount, long pointerBasedLag, long currentPollSize,
+        long totalPollSizeIncreaseCount, long totalPollSizeDecreaseCount, long totalBackpressurePauseCount) {
     }
 
     /**
@@ -171,6 +214,13 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         private long totalPollerMessageDroppedCount;
         private long totalDuplicateMessageSkippedCount;
         private long pointerBasedLag;
+        private long totalBatchCount;
+        private long totalBatchedMessageCount;
+        private long totalBatchProcessingTimeInMillis;
+        private long currentPollSize;
+        private long totalPollSizeIncreaseCount;
+        private long totalPollSizeDecreaseCount;
+        private long totalBackpressurePauseCount;
 
         public Builder() {}
 
@@ -243,6 +293,41 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder setTotalBatchCount(long totalBatchCount) {
+            this.totalBatchCount = totalBatchCount;
+            return this;
+        }
+
+        public Builder setTotalBatchedMessageCount(long totalBatchedMessageCount) {
+            this.totalBatchedMessageCount = totalBatchedMessageCount;
+            return this;
+        }
+
+        public Builder setTotalBatchProcessingTimeInMillis(long totalBatchProcessingTimeInMillis) {
+            this.totalBatchProcessingTimeInMillis = totalBatchProcessingTimeInMillis;
+            return this;
+        }
+
+        public Builder setCurrentPollSize(long currentPollSize) {
+            this.currentPollSize = currentPollSize;
+            return this;
+        }
+
+        public Builder setTotalPollSizeIncreaseCount(long totalPollSizeIncreaseCount) {
+            this.totalPollSizeIncreaseCount = totalPollSizeIncreaseCount;
+            return this;
+        }
+
+        public Builder setTotalPollSizeDecreaseCount(long totalPollSizeDecreaseCount) {
+            this.totalPollSizeDecreaseCount = totalPollSizeDecreaseCount;
+            return this;
+        }
+
+        public Builder setTotalBackpressurePauseCount(long totalBackpressurePauseCount) {
+            this.totalBackpressurePauseCount = totalBackpressurePauseCount;
+            return this;
+        }
+
         public PollingIngestStats build() {
             MessageProcessorStats messageProcessorStats = new MessageProcessorStats(
                 totalProcessedCount,
@@ -250,7 +335,10 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
                 totalVersionConflictsCount,
                 totalFailedCount,
                 totalFailuresDroppedCount,
-                totalProcessorThreadInterruptCount
+                totalProcessorThreadInterruptCount,
+                totalBatchCount,
+                totalBatchedMessageCount,
+                totalBatchProcessingTimeInMillis
             );
             ConsumerStats consumerStats = new ConsumerStats(
                 totalPolledCount,
@@ -259,7 +347,11 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
                 totalPollerMessageFailureCount,
                 totalPollerMessageDroppedCount,
                 totalDuplicateMessageSkippedCount,
-                pointerBasedLag
+                pointerBasedLag,
+                currentPollSize,
+                totalPollSizeIncreaseCount,
+                totalPollSizeDecreaseCount,
+                totalBackpressurePauseCount
             );
             return new PollingIngestStats(messageProcessorStats, consumerStats);
         }
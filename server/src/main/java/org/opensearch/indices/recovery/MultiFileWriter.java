@@ -33,6 +33,7 @@ package org.opensearch.indices.recovery;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.IndexFileNames;
 import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.BytesRef;
@@ -41,6 +42,7 @@ import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.concurrent.AbstractRefCounted;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
@@ -52,9 +54,12 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -85,6 +90,8 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
     private final ConcurrentMap<String, FileChunkWriter> fileChunkWriters = ConcurrentCollections.newConcurrentMap();
 
     final Map<String, String> tempFileNames = ConcurrentCollections.newConcurrentMap();
+    // temporary files that were received completely and passed checksum verification
+    private final Set<String> verifiedTempFileNames = ConcurrentCollections.newConcurrentSet();
 
     public void writeFileChunk(StoreFileMetadata fileMetadata, long position, BytesReference content, boolean lastChunk)
         throws IOException {
@@ -171,6 +178,7 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
             }
             IndexOutput remove = removeOpenIndexOutputs(name);
             assert remove == null || remove == indexOutput; // remove maybe null if we got finished
+            verifiedTempFileNames.add(temporaryFileName);
         }
     }
 
@@ -211,6 +219,39 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         store.renameTempFilesSafe(tempFileNames);
     }
 
+    /**
+     * Renames the temporary files that were received completely and passed checksum verification to their true name, so that they
+     * are not cleaned up once this writer is closed. This lets a later attempt to copy the same files reuse them, as long as their
+     * checksum still matches. Files that exist already under their true name and segments files are left alone, as they may be
+     * referenced by the current commit.
+     *
+     * @return the true names of the files that were kept
+     */
+    public Set<String> renameVerifiedTempFiles() {
+        final Map<String, String> verified = new HashMap<>();
+        try {
+            final Set<String> existingFiles = Set.of(store.directory().listAll());
+            for (String tempFileName : verifiedTempFileNames) {
+                final String fileName = tempFileNames.get(tempFileName);
+                if (fileName != null
+                    && fileName.startsWith(IndexFileNames.SEGMENTS) == false
+                    && existingFiles.contains(fileName) == false) {
+                    verified.put(tempFileName, fileName);
+                }
+            }
+            if (verified.isEmpty() == false) {
+                final Set<String> renamed = new HashSet<>(verified.keySet());
+                store.renameTempFilesSafe(verified);
+                renamed.forEach(tempFileNames::remove);
+                logger.trace("kept verified files {} for reuse", renamed);
+                return new HashSet<>(verified.values());
+            }
+        } catch (Exception e) {
+            logger.debug("failed to keep verified files for reuse, they will be cleaned up", e);
+        }
+        return Collections.emptySet();
+    }
+
     /**
      * A file chunk
      *
@@ -235,27 +276,49 @@ public class MultiFileWriter extends AbstractRefCounted implements Releasable {
         final PriorityQueue<FileChunk> pendingChunks = new PriorityQueue<>(Comparator.comparing(fc -> fc.position));
         long lastPosition = 0;
 
+        // only one thread writes at a time, the others buffer their chunks and leave them to the writing thread
+        boolean writing = false;
+
         void writeChunk(FileChunk newChunk) throws IOException {
             synchronized (this) {
+                if (writing || newChunk.position != lastPosition) {
+                    // the chunk is written after this call returned, at which point the transport may have released the bytes
+                    // its content is a slice of, so keep a copy
+                    final BytesReference content = new BytesArray(BytesReference.toBytes(newChunk.content));
+                    pendingChunks.add(new FileChunk(newChunk.md, content, newChunk.position, newChunk.lastChunk));
+                    return;
+                }
                 pendingChunks.add(newChunk);
+                writing = true;
             }
-            while (true) {
-                final FileChunk chunk;
-                synchronized (this) {
-                    chunk = pendingChunks.peek();
-                    if (chunk == null || chunk.position != lastPosition) {
-                        return;
+            boolean success = false;
+            try {
+                while (true) {
+                    final FileChunk chunk;
+                    synchronized (this) {
+                        chunk = pendingChunks.peek();
+                        if (chunk == null || chunk.position != lastPosition) {
+                            writing = false;
+                            success = true;
+                            return;
+                        }
+                        pendingChunks.remove();
+                    }
+                    innerWriteFileChunk(chunk.md, chunk.position, chunk.content, chunk.lastChunk);
+                    synchronized (this) {
+                        assert lastPosition == chunk.position : "last_position " + lastPosition + " != chunk_position " + chunk.position;
+                        lastPosition += chunk.content.length();
+                        if (chunk.lastChunk) {
+                            assert pendingChunks.isEmpty() : "still have pending chunks [" + pendingChunks + "]";
+                            fileChunkWriters.remove(chunk.md.name());
+                            assert fileChunkWriters.containsValue(this) == false : "chunk writer [" + newChunk.md + "] was not removed";
+                        }
                     }
-                    pendingChunks.remove();
                 }
-                innerWriteFileChunk(chunk.md, chunk.position, chunk.content, chunk.lastChunk);
-                synchronized (this) {
-                    assert lastPosition == chunk.position : "last_position " + lastPosition + " != chunk_position " + chunk.position;
-                    lastPosition += chunk.content.length();
-                    if (chunk.lastChunk) {
-                        assert pendingChunks.isEmpty() : "still have pending chunks [" + pendingChunks + "]";
-                        fileChunkWriters.remove(chunk.md.name());
-                        assert fileChunkWriters.containsValue(this) == false : "chunk writer [" + newChunk.md + "] was not removed";
+            } finally {
+                if (success == false) {
+                    synchronized (this) {
+                        writing = false;
                     }
                 }
             }
@@ -129,6 +129,19 @@ public class RecoverySettings {
         Property.NodeScope
     );
 
+    /**
+     * Controls the maximum number of files that are sent concurrently from a primary to a replica during segment replication, each
+     * of them with up to {@link #INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING} concurrent chunk requests.
+     */
+    public static final Setting<Integer> INDICES_REPLICATION_MAX_CONCURRENT_FILE_STREAMS_SETTING = Setting.intSetting(
+        "indices.replication.max_concurrent_file_streams",
+        1,
+        1,
+        8,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     /**
      * Controls the maximum number of operation chunk requests that can be sent concurrently from the source node to the target node.
      */
@@ -236,6 +249,7 @@ public class RecoverySettings {
     private volatile boolean mergedSegmentReplicationWarmerEnabled;
     private volatile ByteSizeValue mergedSegmentReplicationMaxBytesPerSec;
     private volatile int maxConcurrentFileChunks;
+    private volatile int maxConcurrentReplicationFileStreams;
     private volatile int maxConcurrentOperations;
     private volatile int maxConcurrentRemoteStoreStreams;
     private volatile SimpleRateLimiter recoveryRateLimiter;
@@ -255,6 +269,7 @@ public class RecoverySettings {
     public RecoverySettings(Settings settings, ClusterSettings clusterSettings) {
         this.retryDelayStateSync = INDICES_RECOVERY_RETRY_DELAY_STATE_SYNC_SETTING.get(settings);
         this.maxConcurrentFileChunks = INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING.get(settings);
+        this.maxConcurrentReplicationFileStreams = INDICES_REPLICATION_MAX_CONCURRENT_FILE_STREAMS_SETTING.get(settings);
         this.maxConcurrentOperations = INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING.get(settings);
         this.maxConcurrentRemoteStoreStreams = INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING.get(settings);
         // doesn't have to be fast as nodes are reconnected every 10s by default (see InternalClusterService.ReconnectToNodes)
@@ -305,6 +320,10 @@ public class RecoverySettings {
             this::setMergedSegmentWarmerMinSegmentSizeThreshold
         );
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_CONCURRENT_FILE_CHUNKS_SETTING, this::setMaxConcurrentFileChunks);
+        clusterSettings.addSettingsUpdateConsumer(
+            INDICES_REPLICATION_MAX_CONCURRENT_FILE_STREAMS_SETTING,
+            this::setMaxConcurrentReplicationFileStreams
+        );
         clusterSettings.addSettingsUpdateConsumer(INDICES_RECOVERY_MAX_CONCURRENT_OPERATIONS_SETTING, this::setMaxConcurrentOperations);
         clusterSettings.addSettingsUpdateConsumer(
             INDICES_RECOVERY_MAX_CONCURRENT_REMOTE_STORE_STREAMS_SETTING,
@@ -469,6 +488,14 @@ public class RecoverySettings {
         this.maxConcurrentFileChunks = maxConcurrentFileChunks;
     }
 
+    public int getMaxConcurrentReplicationFileStreams() {
+        return maxConcurrentReplicationFileStreams;
+    }
+
+    private void setMaxConcurrentReplicationFileStreams(int maxConcurrentReplicationFileStreams) {
+        this.maxConcurrentReplicationFileStreams = maxConcurrentReplicationFileStreams;
+    }
+
     public int getMaxConcurrentOperations() {
         return maxConcurrentOperations;
     }
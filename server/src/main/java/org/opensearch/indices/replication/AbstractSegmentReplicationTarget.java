@@ -29,11 +29,14 @@ import org.opensearch.indices.replication.common.ReplicationTarget;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -71,6 +74,8 @@ public abstract class AbstractSegmentReplicationTarget extends ReplicationTarget
     @Override
     protected void closeInternal() {
         try {
+            // files that were copied completely before replication failed are kept, the next attempt reuses them if they still match
+            indexShard.addReusableReplicationFiles(multiFileWriter.renameVerifiedTempFiles());
             multiFileWriter.close();
         } finally {
             super.closeInternal();
@@ -219,14 +224,13 @@ public abstract class AbstractSegmentReplicationTarget extends ReplicationTarget
         // local files
         final Set<String> localFiles = Set.of(indexShard.store().directory().listAll());
         // set of local files that can be reused
-        final Set<String> reuseFiles = diff.missing.stream()
+        final Map<String, StoreFileMetadata> reuseFiles = diff.missing.stream()
             .filter(storeFileMetadata -> localFiles.contains(storeFileMetadata.name()))
             .filter(this::validateLocalChecksum)
-            .map(StoreFileMetadata::name)
-            .collect(Collectors.toSet());
+            .collect(Collectors.toMap(StoreFileMetadata::name, Function.identity()));
 
         final List<StoreFileMetadata> missingFiles = diff.missing.stream()
-            .filter(md -> reuseFiles.contains(md.name()) == false)
+            .filter(md -> reuseFiles.containsKey(md.name()) == false)
             .collect(Collectors.toList());
 
         logger.trace(
@@ -252,12 +256,21 @@ public abstract class AbstractSegmentReplicationTarget extends ReplicationTarget
             );
         }
 
+        for (StoreFileMetadata file : reuseFiles.values()) {
+            state.getIndex().addFileDetail(file.name(), file.length(), true);
+        }
+        onLocalFilesReused(reuseFiles.values());
         for (StoreFileMetadata file : missingFiles) {
             state.getIndex().addFileDetail(file.name(), file.length(), false);
         }
         return missingFiles;
     }
 
+    /**
+     * Called with the files of the checkpoint that are not copied from the source, as they exist locally with a matching checksum.
+     */
+    protected void onLocalFilesReused(Collection<StoreFileMetadata> reusedFiles) {}
+
     // pkg private for tests
     private boolean validateLocalChecksum(StoreFileMetadata file) {
         try (IndexInput indexInput = indexShard.store().directory().openInput(file.name(), IOContext.READONCE)) {
@@ -104,7 +104,8 @@ class OngoingSegmentReplications {
                     indexShard,
                     request.getTargetAllocationId(),
                     Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
-                    recoverySettings.getMaxConcurrentFileChunks()
+                    recoverySettings.getMaxConcurrentFileChunks(),
+                    recoverySettings.getMaxConcurrentReplicationFileStreams()
                 );
             } catch (IOException e) {
                 throw new UncheckedIOException("Error creating replication handler", e);
@@ -16,6 +16,7 @@ import org.apache.lucene.store.IOContext;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.util.ArrayUtil;
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.store.InputStreamIndexInput;
@@ -34,10 +35,14 @@ import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.Transports;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
 
 /**
@@ -93,6 +98,74 @@ public final class SegmentFileTransferHandler {
         StoreFileMetadata[] files,
         IntSupplier translogOps,
         ActionListener<Void> listener
+    ) {
+        return createTransfer(store, files, translogOps, listener, () -> false);
+    }
+
+    /**
+     * Returns closeable {@link MultiChunkTransfer}s that send a list of files over up to {@code maxStreams} concurrent streams, each
+     * of which sends its files one after the other. Files are assigned from the largest to the smallest to the stream with the fewest
+     * bytes so far, so that the streams take similarly long. Once a stream fails, the other ones stop sending chunks, and the listener
+     * is completed once all streams are done.
+     * Callers are responsible for starting the transfers and closing the resources.
+     * @param store {@link Store}
+     * @param files {@link StoreFileMetadata[]}
+     * @param translogOps {@link IntSupplier}
+     * @param maxStreams {@link Integer}
+     * @param listener {@link ActionListener}
+     * @return {@link List} of {@link MultiChunkTransfer}
+     */
+    public List<MultiChunkTransfer<StoreFileMetadata, FileChunk>> createTransfers(
+        Store store,
+        StoreFileMetadata[] files,
+        IntSupplier translogOps,
+        int maxStreams,
+        ActionListener<Void> listener
+    ) {
+        final int streams = Math.max(1, Math.min(maxStreams, files.length));
+        if (streams == 1) {
+            return List.of(createTransfer(store, files, translogOps, listener));
+        }
+        final StoreFileMetadata[] largestFirst = files.clone();
+        ArrayUtil.timSort(largestFirst, Comparator.comparingLong(StoreFileMetadata::length).reversed());
+        final List<List<StoreFileMetadata>> streamFiles = new ArrayList<>(streams);
+        final long[] streamBytes = new long[streams];
+        for (int i = 0; i < streams; i++) {
+            streamFiles.add(new ArrayList<>());
+        }
+        for (StoreFileMetadata md : largestFirst) {
+            int smallest = 0;
+            for (int i = 1; i < streams; i++) {
+                if (streamBytes[i] < streamBytes[smallest]) {
+                    smallest = i;
+                }
+            }
+            streamFiles.get(smallest).add(md);
+            streamBytes[smallest] += md.length();
+        }
+
+        final AtomicBoolean failed = new AtomicBoolean();
+        final GroupedActionListener<Void> groupedListener = new GroupedActionListener<>(
+            ActionListener.map(listener, ignored -> null),
+            streams
+        );
+        final ActionListener<Void> streamListener = ActionListener.wrap(groupedListener::onResponse, e -> {
+            failed.set(true);
+            groupedListener.onFailure(e);
+        });
+        final List<MultiChunkTransfer<StoreFileMetadata, FileChunk>> transfers = new ArrayList<>(streams);
+        for (List<StoreFileMetadata> stream : streamFiles) {
+            transfers.add(createTransfer(store, stream.toArray(new StoreFileMetadata[0]), translogOps, streamListener, failed::get));
+        }
+        return transfers;
+    }
+
+    private MultiChunkTransfer<StoreFileMetadata, FileChunk> createTransfer(
+        Store store,
+        StoreFileMetadata[] files,
+        IntSupplier translogOps,
+        ActionListener<Void> listener,
+        BooleanSupplier aborted
     ) {
         ArrayUtil.timSort(files, Comparator.comparingLong(StoreFileMetadata::length)); // send smallest first
         return new MultiChunkTransfer<>(logger, threadPool.getThreadContext(), listener, maxConcurrentFileChunks, Arrays.asList(files)) {
@@ -132,6 +205,9 @@ public final class SegmentFileTransferHandler {
             protected FileChunk nextChunkRequest(StoreFileMetadata md) throws IOException {
                 assert Transports.assertNotTransportThread("read file chunk");
                 cancellableThreads.checkForCancel();
+                if (aborted.getAsBoolean()) {
+                    throw new IllegalStateException("another stream of the file transfer failed");
+                }
                 final byte[] buffer = acquireBuffer();
                 final int bytesRead = readBytes(md, buffer);
                 if (bytesRead == -1) {
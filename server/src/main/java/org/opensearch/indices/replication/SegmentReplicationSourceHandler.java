@@ -57,6 +57,7 @@ class SegmentReplicationSourceHandler {
     private final DiscoveryNode targetNode;
     private final String allocationId;
     private final FileChunkWriter writer;
+    private final int maxConcurrentFileStreams;
 
     /**
      * Constructor.
@@ -74,6 +75,28 @@ class SegmentReplicationSourceHandler {
         String allocationId,
         int fileChunkSizeInBytes,
         int maxConcurrentFileChunks
+    ) throws IOException {
+        this(targetNode, writer, shard, allocationId, fileChunkSizeInBytes, maxConcurrentFileChunks, 1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param targetNode               {@link DiscoveryNode} target node where files should be sent.
+     * @param writer                   {@link FileChunkWriter} implementation that sends file chunks over the transport layer.
+     * @param shard                    {@link IndexShard} The primary shard local to this node.
+     * @param fileChunkSizeInBytes     {@link Integer}
+     * @param maxConcurrentFileChunks  {@link Integer}
+     * @param maxConcurrentFileStreams {@link Integer} number of files that are sent concurrently.
+     */
+    SegmentReplicationSourceHandler(
+        DiscoveryNode targetNode,
+        FileChunkWriter writer,
+        IndexShard shard,
+        String allocationId,
+        int fileChunkSizeInBytes,
+        int maxConcurrentFileChunks,
+        int maxConcurrentFileStreams
     ) throws IOException {
         this.targetNode = targetNode;
         this.shard = shard;
@@ -93,6 +116,7 @@ class SegmentReplicationSourceHandler {
             maxConcurrentFileChunks
         );
         this.allocationId = allocationId;
+        this.maxConcurrentFileStreams = maxConcurrentFileStreams;
         this.copyState = new CopyState(shard);
         this.writer = writer;
         resources.add(copyState);
@@ -152,11 +176,13 @@ class SegmentReplicationSourceHandler {
                 .filter(file -> storeFiles.contains(file.name()))
                 .toArray(StoreFileMetadata[]::new);
 
-            final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = segmentFileTransferHandler
-                .createTransfer(shard.store(), storeFileMetadata, () -> 0, sendFileStep);
-            resources.add(transfer);
+            final List<MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk>> transfers = segmentFileTransferHandler
+                .createTransfers(shard.store(), storeFileMetadata, () -> 0, maxConcurrentFileStreams, sendFileStep);
+            resources.addAll(transfers);
             cancellableThreads.checkForCancel();
-            transfer.start();
+            for (MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer : transfers) {
+                transfer.start();
+            }
 
             sendFileStep.whenComplete(r -> {
                 try {
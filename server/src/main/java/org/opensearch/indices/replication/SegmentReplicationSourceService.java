@@ -28,6 +28,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.index.IndexService;
+import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
@@ -45,6 +46,7 @@ import org.opensearch.transport.TransportRequestHandler;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
@@ -208,14 +210,19 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
                 indexShard.getRecoverySettings().getMaxConcurrentFileChunks()
             );
 
+            final StoreFileMetadata[] files = request.getCheckpoint().getMetadataMap().values().toArray(new StoreFileMetadata[0]);
+            final long startTimeMillis = System.currentTimeMillis();
             final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = mergedSegmentFileTransferHandler
                 .createTransfer(
                     indexShard.store(),
-                    request.getCheckpoint().getMetadataMap().values().toArray(new StoreFileMetadata[0]),
+                    files,
                     () -> 0,
                     new ActionListener<>() {
                         @Override
                         public void onResponse(Void unused) {
+                            final MergedSegmentTransferTracker tracker = indexShard.mergedSegmentTransferTracker();
+                            tracker.addTotalBytesSent(Arrays.stream(files).mapToLong(StoreFileMetadata::length).sum());
+                            tracker.addTotalSendTimeMillis(System.currentTimeMillis() - startTimeMillis);
                             listener.onResponse(new GetSegmentFilesResponse(request.getFilesToFetch()));
                         }
 
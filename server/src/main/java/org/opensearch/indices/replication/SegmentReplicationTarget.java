@@ -25,6 +25,7 @@ import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.indices.replication.common.ReplicationFailedException;
 import org.opensearch.indices.replication.common.ReplicationListener;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.function.BiConsumer;
 
@@ -76,6 +77,20 @@ public class SegmentReplicationTarget extends AbstractSegmentReplicationTarget {
         );
     }
 
+    @Override
+    protected void onLocalFilesReused(Collection<StoreFileMetadata> reusedFiles) {
+        // files of merged segments that were pre-copied before the primary published them
+        long savedBytes = 0;
+        for (StoreFileMetadata file : reusedFiles) {
+            if (indexShard.isPendingMergedSegmentFile(file.name())) {
+                savedBytes += file.length();
+            }
+        }
+        if (savedBytes > 0) {
+            indexShard.mergedSegmentTransferTracker().addTotalBytesSaved(savedBytes);
+        }
+    }
+
     @Override
     protected void finalizeReplication(CheckpointInfoResponse checkpointInfoResponse) throws Exception {
         // Handle empty SegmentInfos bytes for recovering replicas
@@ -101,7 +101,9 @@ public class PublishMergedSegmentAction extends AbstractPublishCheckpointAction<
     @Override
     protected void doReplicaOperation(PublishMergedSegmentRequest request, IndexShard replica) {
         if (request.getMergedSegment().getShardId().equals(replica.shardId())) {
+            long startTime = System.currentTimeMillis();
             replicationService.onNewMergedSegmentCheckpoint(request.getMergedSegment(), replica);
+            replica.mergedSegmentTransferTracker().addTotalReceiveTimeMillis(System.currentTimeMillis() - startTime);
         }
     }
 }
@@ -32,6 +32,11 @@
 
 package org.opensearch.ingest;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * An Abstract Processor that holds tag and description information
  * about the processor.
@@ -56,4 +61,43 @@ public abstract class AbstractProcessor implements Processor {
     public String getDescription() {
         return description;
     }
+
+    /**
+     * Whether this processor only implements the synchronous {@link #execute(IngestDocument)} and never goes async. Synchronous
+     * processors process a batch in a single loop on the calling thread, see {@link #batchExecute}.
+     */
+    protected boolean isSynchronous() {
+        return false;
+    }
+
+    /**
+     * The default {@link Processor#batchExecute} goes through the asynchronous per-document {@code execute} path and collects the
+     * results in an atomic array. {@link #isSynchronous() Synchronous} processors apply {@link #execute(IngestDocument)} to every
+     * document in order instead, and call the handler once with the results. A failure of one document is reported in its result
+     * and doesn't stop the rest of the batch.
+     */
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        if (isSynchronous() == false) {
+            Processor.super.batchExecute(ingestDocumentWrappers, handler);
+            return;
+        }
+        if (ingestDocumentWrappers.isEmpty()) {
+            handler.accept(Collections.emptyList());
+            return;
+        }
+        List<IngestDocumentWrapper> results = new ArrayList<>(ingestDocumentWrappers.size());
+        for (IngestDocumentWrapper wrapper : ingestDocumentWrappers) {
+            IngestDocument result;
+            Exception exception = null;
+            try {
+                result = execute(wrapper.getIngestDocument());
+            } catch (Exception e) {
+                result = null;
+                exception = e;
+            }
+            results.add(new IngestDocumentWrapper(wrapper.getSlot(), wrapper.getChildSlot(), result, exception));
+        }
+        handler.accept(results);
+    }
 }
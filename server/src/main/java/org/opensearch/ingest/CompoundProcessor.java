@@ -33,6 +33,8 @@
 package org.opensearch.ingest;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.common.CheckedFunction;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.metrics.OperationMetrics;
 
@@ -65,6 +67,9 @@ public class CompoundProcessor implements Processor {
     private final List<Processor> onFailureProcessors;
     private final List<Tuple<Processor, OperationMetrics>> processorsWithMetrics;
     private final LongSupplier relativeTimeProvider;
+    // the processors and the on failure processors compiled to run on the calling thread, null if any of them may go async
+    private final SynchronousStep[] synchronousSteps;
+    private final SynchronousStep[] synchronousOnFailureSteps;
 
     CompoundProcessor(LongSupplier relativeTimeProvider, Processor... processor) {
         this(false, Arrays.asList(processor), Collections.emptyList(), relativeTimeProvider);
@@ -91,6 +96,65 @@ public class CompoundProcessor implements Processor {
         this.relativeTimeProvider = relativeTimeProvider;
         this.processorsWithMetrics = new ArrayList<>(processors.size());
         processors.forEach(p -> processorsWithMetrics.add(new Tuple<>(p, new OperationMetrics())));
+        SynchronousStep[] onFailureSteps = compileSynchronousSteps(
+            onFailureProcessors == null ? Collections.emptyList() : onFailureProcessors,
+            null
+        );
+        SynchronousStep[] steps = onFailureSteps == null ? null : compileSynchronousSteps(processors, processorsWithMetrics);
+        this.synchronousSteps = steps;
+        this.synchronousOnFailureSteps = steps == null ? null : onFailureSteps;
+    }
+
+    /**
+     * A processor compiled to run on the calling thread, see {@link #compileSynchronous(Processor)}.
+     */
+    private record SynchronousStep(
+        Processor processor,
+        @Nullable OperationMetrics metric,
+        CheckedFunction<IngestDocument, IngestDocument, Exception> action
+    ) {
+    }
+
+    private static SynchronousStep[] compileSynchronousSteps(
+        List<Processor> processors,
+        @Nullable List<Tuple<Processor, OperationMetrics>> processorsWithMetrics
+    ) {
+        SynchronousStep[] steps = new SynchronousStep[processors.size()];
+        for (int i = 0; i < steps.length; i++) {
+            Processor processor = processors.get(i);
+            CheckedFunction<IngestDocument, IngestDocument, Exception> action = compileSynchronous(processor);
+            if (action == null) {
+                return null;
+            }
+            steps[i] = new SynchronousStep(processor, processorsWithMetrics == null ? null : processorsWithMetrics.get(i).v2(), action);
+        }
+        return steps;
+    }
+
+    /**
+     * Compiles a processor into a function that runs it on the calling thread, or returns {@code null} if the processor may go
+     * async. Conditions are evaluated inline and nested compound processors run their own compiled steps, so a pipeline of
+     * {@link AbstractProcessor#isSynchronous() synchronous} processors runs as plain loops instead of a chain of callbacks.
+     */
+    static CheckedFunction<IngestDocument, IngestDocument, Exception> compileSynchronous(Processor processor) {
+        if (processor instanceof CompoundProcessor compoundProcessor) {
+            return compoundProcessor.isSynchronous() ? compoundProcessor::executeSynchronously : null;
+        }
+        if (processor instanceof ConditionalProcessor conditionalProcessor) {
+            CheckedFunction<IngestDocument, IngestDocument, Exception> inner = compileSynchronous(conditionalProcessor.getInnerProcessor());
+            return inner == null ? null : conditionalProcessor.compileSynchronous(inner);
+        }
+        if (processor instanceof AbstractProcessor abstractProcessor && abstractProcessor.isSynchronous()) {
+            return processor::execute;
+        }
+        return null;
+    }
+
+    /**
+     * Whether all processors, including the on failure processors, run on the calling thread.
+     */
+    boolean isSynchronous() {
+        return synchronousSteps != null;
     }
 
     List<Tuple<Processor, OperationMetrics>> getProcessorsWithMetrics() {
@@ -149,14 +213,93 @@ public class CompoundProcessor implements Processor {
 
     @Override
     public void execute(IngestDocument ingestDocument, BiConsumer<IngestDocument, Exception> handler) {
+        if (isSynchronous()) {
+            final IngestDocument result;
+            try {
+                result = executeSynchronously(ingestDocument);
+            } catch (Exception e) {
+                handler.accept(null, e);
+                return;
+            }
+            handler.accept(result, null);
+            return;
+        }
         innerExecute(0, ingestDocument, handler);
     }
 
     @Override
     public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        if (isSynchronous() && processors.isEmpty() == false && ingestDocumentWrappers.isEmpty() == false) {
+            List<IngestDocumentWrapper> results = new ArrayList<>(ingestDocumentWrappers.size());
+            for (IngestDocumentWrapper wrapper : ingestDocumentWrappers) {
+                IngestDocument result;
+                Exception exception = null;
+                try {
+                    result = executeSynchronously(wrapper.getIngestDocument());
+                } catch (Exception e) {
+                    result = null;
+                    exception = e;
+                }
+                results.add(new IngestDocumentWrapper(wrapper.getSlot(), wrapper.getChildSlot(), result, exception));
+            }
+            handler.accept(results);
+            return;
+        }
         innerBatchExecute(0, ingestDocumentWrappers, handler);
     }
 
+    /**
+     * Runs the compiled steps of a {@link #isSynchronous() synchronous} compound processor in a single loop. It records the same
+     * metrics and has the same failure handling as {@link #innerExecute}, and returns {@code null} if the document is dropped.
+     */
+    IngestDocument executeSynchronously(IngestDocument ingestDocument) throws Exception {
+        for (SynchronousStep step : synchronousSteps) {
+            final long startTimeInNanos = relativeTimeProvider.getAsLong();
+            step.metric().before();
+            final IngestDocument result;
+            try {
+                result = step.action().apply(ingestDocument);
+            } catch (Exception e) {
+                step.metric().after(relativeTimeProvider.getAsLong() - startTimeInNanos);
+                step.metric().failed();
+                if (ignoreFailure) {
+                    continue;
+                }
+                IngestProcessorException compoundProcessorException = newCompoundProcessorException(e, step.processor(), ingestDocument);
+                if (synchronousOnFailureSteps.length == 0) {
+                    throw compoundProcessorException;
+                }
+                return executeOnFailureSynchronously(ingestDocument, compoundProcessorException);
+            }
+            step.metric().after(relativeTimeProvider.getAsLong() - startTimeInNanos);
+            if (result == null) {
+                return null;
+            }
+            ingestDocument = result;
+        }
+        return ingestDocument;
+    }
+
+    private IngestDocument executeOnFailureSynchronously(IngestDocument ingestDocument, OpenSearchException exception) throws Exception {
+        putFailureMetadata(ingestDocument, exception);
+        try {
+            for (SynchronousStep step : synchronousOnFailureSteps) {
+                final IngestDocument result;
+                try {
+                    result = step.action().apply(ingestDocument);
+                } catch (Exception e) {
+                    throw newCompoundProcessorException(e, step.processor(), ingestDocument);
+                }
+                if (result == null) {
+                    return null;
+                }
+            }
+            return ingestDocument;
+        } finally {
+            removeFailureMetadata(ingestDocument);
+        }
+    }
+
     /**
      * Internal logic to process documents with current processor.
      *
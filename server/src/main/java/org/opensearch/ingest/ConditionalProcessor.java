@@ -32,6 +32,7 @@
 
 package org.opensearch.ingest;
 
+import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.metrics.OperationMetrics;
 import org.opensearch.script.IngestConditionalScript;
 import org.opensearch.script.Script;
@@ -135,6 +136,32 @@ public class ConditionalProcessor extends AbstractProcessor implements WrappingP
         throw new UnsupportedOperationException("this method should not get executed");
     }
 
+    /**
+     * Wraps the compiled inner processor of a synchronous pipeline so that it only runs if the condition matches. It records the same
+     * metrics as {@link #execute(IngestDocument, BiConsumer)}, see {@link CompoundProcessor#compileSynchronous(Processor)}.
+     */
+    CheckedFunction<IngestDocument, IngestDocument, Exception> compileSynchronous(
+        CheckedFunction<IngestDocument, IngestDocument, Exception> innerProcessor
+    ) {
+        return ingestDocument -> {
+            if (evaluate(ingestDocument) == false) {
+                return ingestDocument;
+            }
+            final long startTimeInNanos = relativeTimeProvider.getAsLong();
+            metric.before();
+            final IngestDocument result;
+            try {
+                result = innerProcessor.apply(ingestDocument);
+            } catch (Exception e) {
+                metric.after(relativeTimeProvider.getAsLong() - startTimeInNanos);
+                metric.failed();
+                throw e;
+            }
+            metric.after(relativeTimeProvider.getAsLong() - startTimeInNanos);
+            return result;
+        };
+    }
+
     boolean evaluate(IngestDocument ingestDocument) {
         IngestConditionalScript script = precompiledConditionScript;
         if (script == null) {
@@ -482,18 +482,47 @@ public final class ConfigurationUtils {
                 Script script = new Script(ScriptType.INLINE, DEFAULT_TEMPLATE_LANG, propertyValue, Collections.emptyMap());
                 return scriptService.compile(script, TemplateScript.CONTEXT);
             } else {
-                return (params) -> new TemplateScript(params) {
-                    @Override
-                    public String execute() {
-                        return propertyValue;
-                    }
-                };
+                return new ConstantTemplateScriptFactory(propertyValue);
             }
         } catch (Exception e) {
             throw ConfigurationUtils.newConfigurationException(processorType, processorTag, propertyName, e);
         }
     }
 
+    /**
+     * Returns the value a template compiled by {@link #compileTemplate} always renders to, or {@code null} if the
+     * rendered value depends on the document. Processors use this to resolve constant templates once instead of
+     * rendering them for every document.
+     */
+    @Nullable
+    public static String constantTemplateValue(@Nullable TemplateScript.Factory factory) {
+        if (factory instanceof ConstantTemplateScriptFactory constantFactory) {
+            return constantFactory.value;
+        }
+        return null;
+    }
+
+    /**
+     * A template that renders to the same value for every document.
+     */
+    private static final class ConstantTemplateScriptFactory implements TemplateScript.Factory {
+        private final String value;
+
+        private ConstantTemplateScriptFactory(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public TemplateScript newInstance(Map<String, Object> params) {
+            return new TemplateScript(params) {
+                @Override
+                public String execute() {
+                    return value;
+                }
+            };
+        }
+    }
+
     private static void addMetadataToException(
         OpenSearchException exception,
         String processorType,
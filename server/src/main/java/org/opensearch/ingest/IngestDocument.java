@@ -123,7 +123,43 @@ public final class IngestDocument {
      * or if the field that is found at the provided path is not of the expected type.
      */
     public <T> T getFieldValue(String path, Class<T> clazz) {
-        FieldPath fieldPath = new FieldPath(path);
+        return getFieldValue(new FieldPath(path), path, clazz);
+    }
+
+    /**
+     * Returns the value contained in the document for the provided pre-parsed path
+     * @param path The pre-parsed path within the document
+     * @param clazz The expected class of the field value
+     * @return the value for the provided path if existing, null otherwise
+     * @throws IllegalArgumentException if the path is invalid, if the field doesn't exist or if the field that is found
+     * at the provided path is not of the expected type.
+     */
+    public <T> T getFieldValue(CompiledFieldPath path, Class<T> clazz) {
+        return getFieldValue(new FieldPath(path), path.getPath(), clazz);
+    }
+
+    /**
+     * Returns the value contained in the document for the provided pre-parsed path
+     * @param path The pre-parsed path within the document
+     * @param clazz The expected class of the field value
+     * @param ignoreMissing The flag to determine whether to throw an exception when `path` is not found in the document.
+     * @return the value for the provided path if existing, null otherwise.
+     * @throws IllegalArgumentException only if ignoreMissing is false and the path is invalid, if the field doesn't exist
+     * or if the field that is found at the provided path is not of the expected type.
+     */
+    public <T> T getFieldValue(CompiledFieldPath path, Class<T> clazz, boolean ignoreMissing) {
+        try {
+            return getFieldValue(path, clazz);
+        } catch (IllegalArgumentException e) {
+            if (ignoreMissing && hasField(path) != true) {
+                return null;
+            } else {
+                throw e;
+            }
+        }
+    }
+
+    private <T> T getFieldValue(FieldPath fieldPath, String path, Class<T> clazz) {
         Object context = fieldPath.initialContext;
         for (String pathElement : fieldPath.pathElements) {
             context = resolve(pathElement, path, context);
@@ -228,7 +264,20 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public boolean hasField(String path, boolean failOutOfRange) {
-        FieldPath fieldPath = new FieldPath(path);
+        return hasField(new FieldPath(path), path, failOutOfRange);
+    }
+
+    /**
+     * Checks whether the document contains a value for the provided pre-parsed path
+     * @param path The pre-parsed path within the document
+     * @return true if the document contains a value for the field, false otherwise
+     * @throws IllegalArgumentException if the path is invalid.
+     */
+    public boolean hasField(CompiledFieldPath path) {
+        return hasField(new FieldPath(path), path.getPath(), false);
+    }
+
+    private boolean hasField(FieldPath fieldPath, String path, boolean failOutOfRange) {
         Object context = fieldPath.initialContext;
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
@@ -313,7 +362,19 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty, invalid or if the field doesn't exist.
      */
     public void removeField(String path) {
-        FieldPath fieldPath = new FieldPath(path);
+        removeField(new FieldPath(path), path);
+    }
+
+    /**
+     * Removes the field identified by the provided pre-parsed path.
+     * @param path the pre-parsed path of the field to be removed
+     * @throws IllegalArgumentException if the path is invalid or if the field doesn't exist.
+     */
+    public void removeField(CompiledFieldPath path) {
+        removeField(new FieldPath(path), path.getPath());
+    }
+
+    private void removeField(FieldPath fieldPath, String path) {
         Object context = fieldPath.initialContext;
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             context = resolve(fieldPath.pathElements[i], path, context);
@@ -482,6 +543,19 @@ public final class IngestDocument {
         setFieldValue(path, value, false);
     }
 
+    /**
+     * Sets the provided value to the provided pre-parsed path in the document.
+     * Any non existing path element will be created.
+     * If the last item in the path is a list, the value will replace the existing list as a whole.
+     * @param path The pre-parsed path within the document
+     * @param value The value to put in for the path key
+     * @throws IllegalArgumentException if the path is invalid or if the value cannot be set to the item identified by
+     * the provided path.
+     */
+    public void setFieldValue(CompiledFieldPath path, Object value) {
+        setFieldValue(new FieldPath(path), path.getPath(), value, false, true);
+    }
+
     /**
      * Sets the provided value to the provided path in the document.
      * Any non existing path element will be created. If the last element is a list,
@@ -527,7 +601,10 @@ public final class IngestDocument {
     }
 
     private void setFieldValue(String path, Object value, boolean append, boolean allowDuplicates) {
-        FieldPath fieldPath = new FieldPath(path);
+        setFieldValue(new FieldPath(path), path, value, append, allowDuplicates);
+    }
+
+    private void setFieldValue(FieldPath fieldPath, String path, Object value, boolean append, boolean allowDuplicates) {
         Object context = fieldPath.initialContext;
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
@@ -695,6 +772,11 @@ public final class IngestDocument {
     }
 
     public String renderTemplate(TemplateScript.Factory template) {
+        // a constant template doesn't need the template model, which copies the top level of the document
+        String constantValue = ConfigurationUtils.constantTemplateValue(template);
+        if (constantValue != null) {
+            return constantValue;
+        }
         return template.newInstance(createTemplateModel()).execute();
     }
 
@@ -868,31 +950,85 @@ public final class IngestDocument {
         }
     }
 
-    private class FieldPath {
+    /**
+     * A field path in dot-notation that is parsed once, so that processors which access the same field of every
+     * document they process don't have to split the path again for each document. Like the {@code String} variants of
+     * the field accessors, an invalid path only fails when it is used to access a document.
+     *
+     * @opensearch.internal
+     */
+    public static final class CompiledFieldPath {
 
+        private final String path;
         private final String[] pathElements;
-        private final Object initialContext;
+        private final boolean ingestMetadata;
+        private final String invalidPathMessage;
 
-        private FieldPath(String path) {
+        private CompiledFieldPath(String path) {
+            this.path = path;
             if (Strings.isEmpty(path)) {
-                throw new IllegalArgumentException("path cannot be null nor empty");
+                this.pathElements = null;
+                this.ingestMetadata = false;
+                this.invalidPathMessage = "path cannot be null nor empty";
+                return;
             }
             String newPath;
             if (path.startsWith(INGEST_KEY_PREFIX)) {
-                initialContext = ingestMetadata;
+                ingestMetadata = true;
                 newPath = path.substring(INGEST_KEY_PREFIX.length(), path.length());
             } else {
-                initialContext = sourceAndMetadata;
+                ingestMetadata = false;
                 if (path.startsWith(SOURCE_PREFIX)) {
                     newPath = path.substring(SOURCE_PREFIX.length(), path.length());
                 } else {
                     newPath = path;
                 }
             }
-            this.pathElements = newPath.split("\\.");
-            if (pathElements.length == 1 && pathElements[0].isEmpty()) {
-                throw new IllegalArgumentException("path [" + path + "] is not valid");
+            String[] elements = newPath.split("\\.");
+            if (elements.length == 1 && elements[0].isEmpty()) {
+                this.pathElements = null;
+                this.invalidPathMessage = "path [" + path + "] is not valid";
+            } else {
+                this.pathElements = elements;
+                this.invalidPathMessage = null;
+            }
+        }
+
+        /**
+         * Parses the provided path in dot-notation.
+         */
+        public static CompiledFieldPath compile(String path) {
+            return new CompiledFieldPath(path);
+        }
+
+        /**
+         * Returns the path in dot-notation this was parsed from.
+         */
+        public String getPath() {
+            return path;
+        }
+
+        @Override
+        public String toString() {
+            return path;
+        }
+    }
+
+    private class FieldPath {
+
+        private final String[] pathElements;
+        private final Object initialContext;
+
+        private FieldPath(String path) {
+            this(new CompiledFieldPath(path));
+        }
+
+        private FieldPath(CompiledFieldPath compiledPath) {
+            if (compiledPath.invalidPathMessage != null) {
+                throw new IllegalArgumentException(compiledPath.invalidPathMessage);
             }
+            this.pathElements = compiledPath.pathElements;
+            this.initialContext = compiledPath.ingestMetadata ? ingestMetadata : sourceAndMetadata;
         }
 
     }
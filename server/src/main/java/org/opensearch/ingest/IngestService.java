@@ -1315,7 +1315,13 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
             processorMetrics.forEach(t -> {
                 Processor processor = t.v1();
                 OperationMetrics processorMetric = t.v2();
-                statsBuilder.addProcessorMetrics(id, getProcessorName(processor), processor.getType(), processorMetric);
+                statsBuilder.addProcessorMetrics(
+                    id,
+                    getProcessorName(processor),
+                    processor.getType(),
+                    processorMetric,
+                    getExtendedStats(processor)
+                );
             });
         });
         return statsBuilder.build();
@@ -1332,6 +1338,14 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         ingestClusterStateListeners.add(listener);
     }
 
+    private static Map<String, Object> getExtendedStats(Processor processor) {
+        // like the name, the extended stats are those of the processor that the conditional wraps
+        if (processor instanceof ConditionalProcessor conditionalProc) {
+            processor = conditionalProc.getInnerProcessor();
+        }
+        return processor.getExtendedStats();
+    }
+
     // package private for testing
     static String getProcessorName(Processor processor) {
         // conditionals are implemented as wrappers around the real processor, so get the real processor for the correct type for the name
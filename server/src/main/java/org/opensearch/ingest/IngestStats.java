@@ -32,6 +32,7 @@
 
 package org.opensearch.ingest;
 
+import org.opensearch.Version;
 import org.opensearch.common.metrics.OperationMetrics;
 import org.opensearch.common.metrics.OperationStats;
 import org.opensearch.core.common.io.stream.StreamInput;
@@ -89,7 +90,8 @@ public class IngestStats implements Writeable, ToXContentFragment {
                 String processorType = "_NOT_AVAILABLE";
                 processorType = in.readString();
                 OperationStats processorStat = new OperationStats(in);
-                processorStatsPerPipeline.add(new ProcessorStat(processorName, processorType, processorStat));
+                Map<String, Object> extendedStats = in.getVersion().onOrAfter(Version.V_3_4_0) ? in.readMap() : Collections.emptyMap();
+                processorStatsPerPipeline.add(new ProcessorStat(processorName, processorType, processorStat, extendedStats));
             }
             this.processorStats.put(pipelineId, processorStatsPerPipeline);
         }
@@ -111,6 +113,9 @@ public class IngestStats implements Writeable, ToXContentFragment {
                     out.writeString(processorStat.getName());
                     out.writeString(processorStat.getType());
                     processorStat.getStats().writeTo(out);
+                    if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
+                        out.writeMap(processorStat.getExtendedStats());
+                    }
                 }
             }
         }
@@ -136,6 +141,9 @@ public class IngestStats implements Writeable, ToXContentFragment {
                     builder.startObject("stats");
                     processorStat.getStats().toXContent(builder, params);
                     builder.endObject();
+                    if (processorStat.getExtendedStats().isEmpty() == false) {
+                        builder.field("extended_stats", processorStat.getExtendedStats());
+                    }
                     builder.endObject();
                     builder.endObject();
                 }
@@ -194,8 +202,18 @@ public class IngestStats implements Writeable, ToXContentFragment {
         }
 
         Builder addProcessorMetrics(String pipelineId, String processorName, String processorType, OperationMetrics metric) {
+            return addProcessorMetrics(pipelineId, processorName, processorType, metric, Collections.emptyMap());
+        }
+
+        Builder addProcessorMetrics(
+            String pipelineId,
+            String processorName,
+            String processorType,
+            OperationMetrics metric,
+            Map<String, Object> extendedStats
+        ) {
             this.processorStats.computeIfAbsent(pipelineId, k -> new ArrayList<>())
-                .add(new ProcessorStat(processorName, processorType, metric.createStats()));
+                .add(new ProcessorStat(processorName, processorType, metric.createStats(), extendedStats));
             return this;
         }
 
@@ -245,11 +263,17 @@ public class IngestStats implements Writeable, ToXContentFragment {
         private final String name;
         private final String type;
         private final OperationStats stats;
+        private final Map<String, Object> extendedStats;
 
         public ProcessorStat(String name, String type, OperationStats stats) {
+            this(name, type, stats, Collections.emptyMap());
+        }
+
+        public ProcessorStat(String name, String type, OperationStats stats, Map<String, Object> extendedStats) {
             this.name = name;
             this.type = type;
             this.stats = stats;
+            this.extendedStats = extendedStats;
         }
 
         public String getName() {
@@ -264,17 +288,27 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return stats;
         }
 
+        /**
+         * The stats specific to the processor, see {@link Processor#getExtendedStats()}.
+         */
+        public Map<String, Object> getExtendedStats() {
+            return extendedStats;
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             IngestStats.ProcessorStat that = (IngestStats.ProcessorStat) o;
-            return Objects.equals(name, that.name) && Objects.equals(type, that.type) && Objects.equals(stats, that.stats);
+            return Objects.equals(name, that.name)
+                && Objects.equals(type, that.type)
+                && Objects.equals(stats, that.stats)
+                && Objects.equals(extendedStats, that.extendedStats);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(name, type, stats);
+            return Objects.hash(name, type, stats, extendedStats);
         }
     }
 }
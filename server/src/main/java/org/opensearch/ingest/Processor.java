@@ -143,6 +143,16 @@ public interface Processor {
         return false;
     }
 
+    /**
+     * Statistics specific to this processor that are reported next to its operation stats in the node stats. Values must
+     * be supported by {@link org.opensearch.core.common.io.stream.StreamOutput#writeGenericValue(Object)}.
+     *
+     * @return the extended stats of the processor, empty by default
+     */
+    default Map<String, Object> getExtendedStats() {
+        return Collections.emptyMap();
+    }
+
     /**
      * A factory that knows how to construct a processor based on a map of maps.
      */
@@ -176,6 +176,7 @@ import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheCleaner;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
 import org.opensearch.index.store.remote.filecache.FileCacheSettings;
+import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 import org.opensearch.indices.IndicesModule;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.RemoteStoreSettings;
@@ -434,6 +435,17 @@ public class Node implements Closeable {
         Property.NodeScope
     );
 
+    /**
+     * The policy the file cache uses to pick the files to evict: {@code lru} evicts the least recently used file, while
+     * {@code w_tinylfu} only admits a new file if it is used more frequently than the file it would replace.
+     */
+    public static final Setting<SegmentedCache.EvictionPolicy> NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING = new Setting<>(
+        "node.search.cache.eviction_policy",
+        SegmentedCache.EvictionPolicy.LRU.name().toLowerCase(Locale.ROOT),
+        SegmentedCache.EvictionPolicy::fromString,
+        Property.NodeScope
+    );
+
     private static final String CLIENT_TYPE = "node";
 
     /**
@@ -2409,7 +2421,7 @@ public class Node implements Closeable {
             throw new SettingsException("Cache size must be larger than zero and less than total capacity");
         }
 
-        this.fileCache = FileCacheFactory.createConcurrentLRUFileCache(capacity);
+        this.fileCache = FileCacheFactory.createConcurrentFileCache(capacity, NODE_SEARCH_CACHE_EVICTION_POLICY_SETTING.get(settings));
         fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(this.fileCache.capacity(), ByteSizeUnit.BYTES);
         ForkJoinPool loadFileCacheThreadpool = new ForkJoinPool(
             Runtime.getRuntime().availableProcessors(),
@@ -21,6 +21,9 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.support.XContentHttpChunk;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.ToXContent;
@@ -40,6 +43,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import reactor.core.publisher.Flux;
@@ -126,6 +130,11 @@ public class RestBulkStreamingAction extends BaseRestHandler {
             // Set the content type and the status code before sending the response stream over
             channel.prepareResponse(RestStatus.OK, Map.of("Content-Type", List.of(mediaType.mediaTypeWithoutParameters())));
 
+            // Items may span chunk boundaries: the bytes of a trailing, incomplete item are carried over and prepended to the next
+            // chunk without copying, so each item's source stays a slice of the chunks it arrived in. The chunks are processed
+            // sequentially by map(), so the carry over is never accessed concurrently.
+            final AtomicReference<BytesReference> incomplete = new AtomicReference<>(BytesArray.EMPTY);
+
             // TODOs:
             // - eliminate serialization inefficiencies
             createBufferedFlux(batchInterval, batchSize, hasBatchSize, channel).zipWith(Flux.fromStream(Stream.generate(() -> {
@@ -142,16 +151,22 @@ public class RestBulkStreamingAction extends BaseRestHandler {
                 for (final HttpChunk chunk : chunks) {
                     isLast |= chunk.isLast();
                     try (chunk) {
-                        bulkRequest.add(
-                            chunk.content(),
+                        final BytesReference pending = incomplete.get();
+                        final BytesReference data = pending.length() == 0
+                            ? chunk.content()
+                            : CompositeBytesReference.of(pending, chunk.content());
+                        final int consumed = bulkRequest.addChunk(
+                            data,
                             defaultIndex,
                             defaultRouting,
                             defaultFetchSourceContext,
                             defaultPipeline,
                             defaultRequireAlias,
                             allowExplicitIndex,
-                            request.getMediaType()
+                            request.getMediaType(),
+                            chunk.isLast()
                         );
+                        incomplete.set(data.slice(consumed, data.length() - consumed));
                     } catch (final IOException ex) {
                         throw new UncheckedIOException(ex);
                     }
@@ -162,6 +177,10 @@ public class RestBulkStreamingAction extends BaseRestHandler {
                 final CompletableFuture<BulkResponse> f = new CompletableFuture<>();
 
                 if (tuple.v2().requests().isEmpty()) {
+                    if (tuple.v1() == false) {
+                        // the chunks so far only carried a part of an item, wait for the rest of it
+                        return Mono.empty();
+                    }
                     // this is the last request with no items
                     f.complete(EMPTY);
                 } else {
@@ -34,6 +34,7 @@ package org.opensearch.search;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.BooleanClause.Occur;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BoostQuery;
@@ -70,6 +71,7 @@ import org.opensearch.index.query.ParsedQuery;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.search.NestedHelper;
+import org.opensearch.index.search.stats.ConcurrentSearchHistory;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.search.aggregations.BucketCollectorProcessor;
@@ -77,6 +79,7 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.SearchContextAggregations;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.collapse.CollapseContext;
+import org.opensearch.search.deciders.ConcurrentSearchCostModel;
 import org.opensearch.search.deciders.ConcurrentSearchDecision;
 import org.opensearch.search.deciders.ConcurrentSearchRequestDecider;
 import org.opensearch.search.deciders.ConcurrentSearchVisitor;
@@ -118,6 +121,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
 
@@ -217,6 +221,10 @@ final class DefaultSearchContext extends SearchContext {
     private final Function<SearchSourceBuilder, InternalAggregation.ReduceContextBuilder> requestToAggReduceContextBuilder;
     private final String concurrentSearchMode;
     private final SetOnce<Boolean> requestShouldUseConcurrentSearch = new SetOnce<>();
+    private final Executor executor;
+    // slice count chosen by the cost based decider, 0 if it did not decide
+    private int costBasedSliceCount;
+    private ConcurrentSearchCostModel.Decision concurrentSearchCostDecision;
     private final int maxAggRewriteFilters;
     private final int filterRewriteSegmentThreshold;
     private final int cardinalityAggregationPruningThreshold;
@@ -259,6 +267,7 @@ final class DefaultSearchContext extends SearchContext {
         this.clusterService = clusterService;
         this.engineSearcher = readerContext.acquireSearcher("search");
         this.concurrentSearchMode = evaluateConcurrentSearchMode(executor);
+        this.executor = executor;
         this.searcher = new ContextIndexSearcher(
             engineSearcher.getIndexReader(),
             engineSearcher.getSimilarity(),
@@ -1025,6 +1034,9 @@ final class DefaultSearchContext extends SearchContext {
 
         final ConcurrentSearchDecision pluginDecision = ConcurrentSearchDecision.getCompositeDecision(decisions);
         if (pluginDecision.getDecisionStatus().equals(ConcurrentSearchDecision.DecisionStatus.NO_OP)) {
+            if (clusterService.getClusterSettings().get(SearchService.CONCURRENT_SEGMENT_SEARCH_COST_BASED_DECIDER_ENABLED_SETTING)) {
+                return evaluateCostModel();
+            }
             // plugins don't have preference, decide based on whether request has aggregations or not.
             if (aggregations() != null) {
                 if (logger.isDebugEnabled()) {
@@ -1048,6 +1060,62 @@ final class DefaultSearchContext extends SearchContext {
 
     }
 
+    /**
+     * Estimates whether fanning the request out over several slices pays off, given the size of the segments of the shard,
+     * the cost of the query, the observed cost per document on the shard and how busy the index searcher pool is.
+     */
+    private boolean evaluateCostModel() {
+        final ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        final List<LeafReaderContext> leaves = searcher.getIndexReader().leaves();
+        long docCount = 0;
+        long largestLeafDocs = 0;
+        for (LeafReaderContext leaf : leaves) {
+            docCount += leaf.reader().maxDoc();
+            largestLeafDocs = Math.max(largestLeafDocs, leaf.reader().maxDoc());
+        }
+        long largestUnitDocs = largestLeafDocs;
+        int maxUsefulSlices = leaves.size();
+        if (getProfilers() == null && clusterSettings.get(SearchService.CONCURRENT_INTRA_SEGMENT_SEARCH_ENABLED_SETTING)) {
+            final int minPartitionSize = clusterSettings.get(SearchService.CONCURRENT_INTRA_SEGMENT_SEARCH_MIN_PARTITION_SIZE_SETTING);
+            largestUnitDocs = Math.min(largestLeafDocs, minPartitionSize);
+            maxUsefulSlices = (int) Math.max(leaves.size(), Math.min(docCount / minPartitionSize, Integer.MAX_VALUE));
+        }
+
+        int availableThreads = Integer.MAX_VALUE - 1;
+        int queuedTasks = 0;
+        if (executor instanceof ThreadPoolExecutor) {
+            final ThreadPoolExecutor threadPool = (ThreadPoolExecutor) executor;
+            availableThreads = Math.max(0, threadPool.getMaximumPoolSize() - threadPool.getActiveCount());
+            queuedTasks = threadPool.getQueue().size();
+        }
+
+        final ConcurrentSearchHistory history = indexShard != null ? indexShard.concurrentSearchHistory() : null;
+        ConcurrentSearchCostModel.Decision decision = new ConcurrentSearchCostModel(
+            clusterSettings.get(SearchService.CONCURRENT_SEGMENT_SEARCH_COST_BASED_DECIDER_MIN_SPEEDUP_SETTING)
+        ).evaluate(
+            docCount,
+            ConcurrentSearchCostModel.queryCost(query()),
+            largestUnitDocs,
+            maxUsefulSlices,
+            getConfiguredTargetMaxSliceCount(),
+            availableThreads,
+            queuedTasks,
+            history != null ? history.sequentialNanosPerDoc() : Double.NaN
+        );
+        if (history != null) {
+            decision = history.onDecision(decision);
+        }
+        concurrentSearchCostDecision = decision;
+        if (logger.isDebugEnabled()) {
+            logger.debug("concurrent search decision from cost model [{}]", decision);
+        }
+        if (decision.isConcurrent()) {
+            costBasedSliceCount = decision.getSliceCount();
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Evaluate if request should use concurrent search based on request and concurrent search deciders
      */
@@ -1172,7 +1240,8 @@ final class DefaultSearchContext extends SearchContext {
      * This effectively disables concurrent slicing and ensures that the search is performed
      * in a single-threaded manner.
      *
-     * Otherwise, fetch the configured slice count from index or cluster-level settings.
+     * Otherwise, fetch the configured slice count from index or cluster-level settings, capped by the slice count chosen by the
+     * cost based decider if it decided in favor of concurrent search.
      *
      * @return number of slices to use for concurrent segment search; returns 1 if concurrent search is disabled.
      */
@@ -1182,6 +1251,14 @@ final class DefaultSearchContext extends SearchContext {
             return 1; // Disable slicing: run search in a single thread when concurrent search is off
         }
 
+        final int configuredSliceCount = getConfiguredTargetMaxSliceCount();
+        if (costBasedSliceCount > 0) {
+            return configuredSliceCount > 0 ? Math.min(configuredSliceCount, costBasedSliceCount) : costBasedSliceCount;
+        }
+        return configuredSliceCount;
+    }
+
+    private int getConfiguredTargetMaxSliceCount() {
         return indexService.getIndexSettings()
             .getSettings()
             .getAsInt(
@@ -1191,6 +1268,37 @@ final class DefaultSearchContext extends SearchContext {
 
     }
 
+    @Override
+    public ConcurrentSearchCostModel.Decision getConcurrentSearchCostDecision() {
+        return concurrentSearchCostDecision;
+    }
+
+    /**
+     * Segments are only split into partitions for concurrent searches that are not profiled, as the profile breakdowns of a
+     * segment are not meant to be updated by several slices at once.
+     */
+    @Override
+    public int getMinSegmentPartitionSize() {
+        if (shouldUseConcurrentSearch() == false
+            || getProfilers() != null
+            || clusterService.getClusterSettings().get(SearchService.CONCURRENT_INTRA_SEGMENT_SEARCH_ENABLED_SETTING) == false) {
+            return 0;
+        }
+        return clusterService.getClusterSettings().get(SearchService.CONCURRENT_INTRA_SEGMENT_SEARCH_MIN_PARTITION_SIZE_SETTING);
+    }
+
+    /**
+     * Hits are only fetched concurrently for requests that use concurrent segment search, as the searcher has no executor
+     * otherwise, and that are not profiled, as the fetch profile breakdowns are not meant to be updated by several threads.
+     */
+    @Override
+    public int getConcurrentFetchMinHits() {
+        if (shouldUseConcurrentSearch() == false || getProfilers() != null) {
+            return 0;
+        }
+        return clusterService.getClusterSettings().get(SearchService.CONCURRENT_FETCH_MIN_HITS_SETTING);
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return indexShard.isTimeSeriesDescSortOptimizationEnabled()
@@ -341,6 +341,47 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.Dynamic,
         Property.NodeScope
     );
+
+    // settings to split large segments into doc id range partitions that are searched by different slices, only applies when
+    // the custom slice computation is used, i.e. the max slice count is > 0
+    public static final Setting<Boolean> CONCURRENT_INTRA_SEGMENT_SEARCH_ENABLED_SETTING = Setting.boolSetting(
+        "search.concurrent.intra_segment_search.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+    public static final Setting<Integer> CONCURRENT_INTRA_SEGMENT_SEARCH_MIN_PARTITION_SIZE_SETTING = Setting.intSetting(
+        "search.concurrent.intra_segment_search.min_partition_size",
+        100_000,
+        1_000,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // minimum number of hits for the fetch phase to load the hits of different segments concurrently, 0 disables it
+    public static final Setting<Integer> CONCURRENT_FETCH_MIN_HITS_SETTING = Setting.intSetting(
+        "search.concurrent.fetch.min_hits",
+        1000,
+        0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    // settings to let a cost model, rather than the presence of aggregations, decide whether a request uses concurrent segment
+    // search in the auto mode, when no plugin decider has a preference
+    public static final Setting<Boolean> CONCURRENT_SEGMENT_SEARCH_COST_BASED_DECIDER_ENABLED_SETTING = Setting.boolSetting(
+        "search.concurrent_segment_search.cost_based_decider.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+    public static final Setting<Double> CONCURRENT_SEGMENT_SEARCH_COST_BASED_DECIDER_MIN_SPEEDUP_SETTING = Setting.doubleSetting(
+        "search.concurrent_segment_search.cost_based_decider.min_speedup",
+        1.25,
+        1.0,
+        Property.Dynamic,
+        Property.NodeScope
+    );
     // value 0 means rewrite filters optimization in aggregations will be disabled
     @ExperimentalApi
     public static final Setting<Integer> MAX_AGGREGATION_REWRITE_FILTERS = Setting.intSetting(
@@ -729,6 +770,8 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         context.getQueryShardContext().freezeContext();
         if (canCache) {
             indicesService.loadIntoContext(request, context, queryPhase);
+        } else if (indicesService.canCacheTopDocs(request, context)) {
+            indicesService.loadTopDocsIntoContext(request, context, queryPhase);
         } else {
             queryPhase.execute(context);
         }
@@ -202,7 +202,8 @@ public abstract class AggregatorBase extends Aggregator {
 
     @Override
     public final LeafBucketCollector getLeafCollector(LeafReaderContext ctx) throws IOException {
-        if (tryPrecomputeAggregationForLeaf(ctx)) {
+        // precomputed results cover the whole segment, a partitioned segment would be accounted once per partition
+        if (isSegmentPartitioned(ctx) == false && tryPrecomputeAggregationForLeaf(ctx)) {
             throw new CollectionTerminatedException();
         }
         preGetSubLeafCollectors(ctx);
@@ -210,6 +211,14 @@ public abstract class AggregatorBase extends Aggregator {
         return getLeafCollector(ctx, sub);
     }
 
+    /**
+     * Returns whether only a doc id range partition of the given segment is collected, in which case anything that processes the
+     * segment as a whole, rather than the documents that are collected, must be skipped.
+     */
+    protected final boolean isSegmentPartitioned(LeafReaderContext ctx) {
+        return context.searcher() != null && context.searcher().isSegmentPartitioned(ctx);
+    }
+
     /**
      * Can be overridden by aggregator implementations that like the perform an operation before the leaf collectors
      * of children aggregators are instantiated for the next segment.
@@ -601,7 +601,9 @@ public final class CompositeAggregator extends BucketsAggregator {
         Sort indexSortPrefix = buildIndexSortPrefix(ctx);
         int sortPrefixLen = computeSortPrefixLen(indexSortPrefix);
 
-        SortedDocsProducer sortedDocsProducer = sortPrefixLen == 0
+        // sorted docs producers and the index sort based skipping visit the whole segment
+        final boolean partitioned = isSegmentPartitioned(ctx);
+        SortedDocsProducer sortedDocsProducer = sortPrefixLen == 0 && partitioned == false
             ? sources[0].createSortedDocsProducerOrNull(ctx.reader(), context.query())
             : null;
         if (sortedDocsProducer != null) {
@@ -622,7 +624,7 @@ public final class CompositeAggregator extends BucketsAggregator {
                 currentLeaf = ctx;
                 docIdSetBuilder = new RoaringDocIdSet.Builder(ctx.reader().maxDoc());
             }
-            if (rawAfterKey != null && sortPrefixLen > 0) {
+            if (rawAfterKey != null && sortPrefixLen > 0 && partitioned == false) {
                 // We have an after key and index sort is applicable, so we jump directly to the doc
                 // after the index sort prefix using the rawAfterKey and we start collecting
                 // documents from there.
@@ -32,7 +32,10 @@
 
 package org.opensearch.search.aggregations.bucket.histogram;
 
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValuesSkipper;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.ScoreMode;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
@@ -48,6 +51,7 @@ import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 /**
  * An aggregator for numeric values. For a given {@code interval},
@@ -60,6 +64,8 @@ import java.util.Map;
 public class NumericHistogramAggregator extends AbstractHistogramAggregator {
     private final ValuesSource.Numeric valuesSource;
 
+    private int skipListCollectorsUsed;
+
     public NumericHistogramAggregator(
         String name,
         AggregatorFactories factories,
@@ -110,6 +116,22 @@ public class NumericHistogramAggregator extends AbstractHistogramAggregator {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
 
+        if (hardBounds == null && parent == null) {
+            final DocValuesSkipper skipper = valuesSource.integerValuesSkipper(ctx);
+            final NumericDocValues singleton = skipper == null ? null : DocValues.unwrapSingleton(valuesSource.longValues(ctx));
+            if (singleton != null) {
+                skipListCollectorsUsed++;
+                return new HistogramSkiplistLeafCollector(
+                    singleton,
+                    skipper,
+                    value -> Double.doubleToLongBits(Math.floor((value - offset) / interval)),
+                    bucketOrds,
+                    sub,
+                    this
+                );
+            }
+        }
+
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -150,4 +172,10 @@ public class NumericHistogramAggregator extends AbstractHistogramAggregator {
             }
         };
     }
+
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        add.accept("skip_list_collectors_used", skipListCollectorsUsed);
+    }
 }
@@ -31,7 +31,10 @@
 
 package org.opensearch.search.aggregations.bucket.range;
 
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValuesSkipper;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.ScoreMode;
@@ -76,6 +79,7 @@ import org.opensearch.search.startree.filter.MatchAllFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -269,6 +273,8 @@ public class RangeAggregator extends BucketsAggregator implements StarTreePreCom
 
     private final FilterRewriteOptimizationContext filterRewriteOptimizationContext;
 
+    private int skipListCollectorsUsed;
+
     public RangeAggregator(
         String name,
         AggregatorFactories factories,
@@ -341,6 +347,14 @@ public class RangeAggregator extends BucketsAggregator implements StarTreePreCom
 
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, final LeafBucketCollector sub) throws IOException {
+        if (parent == null) {
+            final DocValuesSkipper skipper = valuesSource.integerValuesSkipper(ctx);
+            final NumericDocValues singleton = skipper == null ? null : DocValues.unwrapSingleton(valuesSource.longValues(ctx));
+            if (singleton != null) {
+                skipListCollectorsUsed++;
+                return new RangeSkiplistLeafCollector(singleton, skipper, sub);
+            }
+        }
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -473,6 +487,127 @@ public class RangeAggregator extends BucketsAggregator implements StarTreePreCom
         return owningBucketOrdinal * ranges.length + rangeOrd;
     }
 
+    /**
+     * Returns the ordinals of the ranges that match every value within {@code [minValue, maxValue]}, or {@code null}
+     * if some range matches only part of these values.
+     */
+    private int[] rangesMatchingAll(double minValue, double maxValue) {
+        int count = 0;
+        int[] matching = new int[ranges.length];
+        for (int i = 0; i < ranges.length; i++) {
+            if (ranges[i].matches(minValue) && ranges[i].matches(maxValue)) {
+                matching[count++] = i;
+            } else if (maxValue >= ranges[i].from && minValue < ranges[i].to) {
+                return null;
+            }
+        }
+        return Arrays.copyOf(matching, count);
+    }
+
+    /**
+     * A {@link LeafBucketCollector} that uses the {@link DocValuesSkipper} of a single-valued field to collect whole
+     * runs of documents that fall in the same ranges without reading their doc values, and to skip runs of documents
+     * that don't fall in any range.
+     */
+    private class RangeSkiplistLeafCollector extends LeafBucketCollectorBase {
+
+        private final NumericDocValues values;
+        private final DocValuesSkipper skipper;
+        private final LeafBucketCollector sub;
+
+        /**
+         * Max doc ID (inclusive) up to which all docs values may fall in the same ranges.
+         */
+        private int upToInclusive = -1;
+
+        /**
+         * Ordinals of the ranges all docs up to {@link #upToInclusive} fall in, or {@code null} if they don't all fall
+         * in the same ranges.
+         */
+        private int[] upToRanges;
+
+        RangeSkiplistLeafCollector(NumericDocValues values, DocValuesSkipper skipper, LeafBucketCollector sub) {
+            super(sub, null);
+            this.values = values;
+            this.skipper = skipper;
+            this.sub = sub;
+        }
+
+        private void advanceSkipper(int doc) throws IOException {
+            if (doc > skipper.maxDocID(0)) {
+                skipper.advance(doc);
+            }
+            upToRanges = null;
+
+            if (skipper.minDocID(0) > doc) {
+                // `doc` doesn't have a value and is between two intervals of the doc-value skip index.
+                upToInclusive = skipper.minDocID(0) - 1;
+                return;
+            }
+
+            upToInclusive = skipper.maxDocID(0);
+
+            // Now find the highest level where all docs fall in the same ranges.
+            for (int level = 0; level < skipper.numLevels(); ++level) {
+                int[] matching = rangesMatchingAll(skipper.minValue(level), skipper.maxValue(level));
+                if (matching == null) {
+                    break;
+                }
+                int totalDocsAtLevel = skipper.maxDocID(level) - skipper.minDocID(level) + 1;
+                if (matching.length > 0 && skipper.docCount(level) != totalDocsAtLevel) {
+                    // docs without a value must not be collected in the matching ranges
+                    break;
+                }
+                upToInclusive = skipper.maxDocID(level);
+                upToRanges = matching;
+            }
+        }
+
+        @Override
+        public void collect(int doc, long owningBucketOrd) throws IOException {
+            if (doc > upToInclusive) {
+                advanceSkipper(doc);
+            }
+
+            if (upToRanges != null) {
+                for (int i : upToRanges) {
+                    collectBucket(sub, doc, subBucketOrdinal(owningBucketOrd, i));
+                }
+            } else if (values.advanceExact(doc)) {
+                final double value = values.longValue();
+                MatchedRange range = new MatchedRange(ranges, 0, value, maxTo);
+                for (int i = range.startLo; i <= range.endHi; ++i) {
+                    if (ranges[i].matches(value)) {
+                        collectBucket(sub, doc, subBucketOrdinal(owningBucketOrd, i));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+            for (;;) {
+                int upToExclusive = upToInclusive + 1;
+                if (upToExclusive < 0) { // overflow
+                    upToExclusive = Integer.MAX_VALUE;
+                }
+
+                if (upToRanges != null && upToRanges.length == 0) {
+                    // none of these docs falls in a range, consume them without looking at their values
+                    stream.count(upToExclusive);
+                } else {
+                    stream.forEach(upToExclusive, doc -> collect(doc, owningBucketOrd));
+                }
+
+                if (stream.mayHaveRemaining()) {
+                    advanceSkipper(upToExclusive);
+                } else {
+                    break;
+                }
+            }
+        }
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForFixedBucketCount(
@@ -611,5 +746,6 @@ public class RangeAggregator extends BucketsAggregator implements StarTreePreCom
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         super.collectDebugInfo(add);
         filterRewriteOptimizationContext.populateDebugInfo(add);
+        add.accept("skip_list_collectors_used", skipListCollectorsUsed);
     }
 }
@@ -58,6 +58,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static org.opensearch.search.aggregations.InternalOrder.isKeyAsc;
 import static org.opensearch.search.aggregations.InternalOrder.isKeyOrder;
@@ -317,7 +318,36 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         }
     }
 
-    private List<B> reduceMergeSort(List<InternalAggregation> aggregations, BucketOrder thisReduceOrder, ReduceContext reduceContext) {
+    /**
+     * Merges the buckets of the given aggregations and passes each reduced bucket to the sink as soon as all its shard buckets
+     * are merged, so that callers that only keep some of the buckets don't need to buffer all of them.
+     * The sink returns <code>false</code> once it does not need any more buckets, which stops the merge.
+     */
+    private void reduceBuckets(
+        List<InternalAggregation> aggregations,
+        BucketOrder thisReduceOrder,
+        ReduceContext reduceContext,
+        Predicate<B> sink
+    ) {
+        /*
+          Buckets returned by a partial reduce or a shard response are sorted by key.
+          That allows to perform a merge sort when reducing multiple aggregations together.
+          For backward compatibility, we disable the merge sort and use ({@link InternalTerms#reduceLegacy} if any of
+          the provided aggregations use a different {@link InternalTerms#reduceOrder}.
+         */
+        if (isKeyOrder(thisReduceOrder)) {
+            reduceMergeSort(aggregations, thisReduceOrder, reduceContext, sink);
+        } else {
+            reduceLegacy(aggregations, reduceContext, sink);
+        }
+    }
+
+    private void reduceMergeSort(
+        List<InternalAggregation> aggregations,
+        BucketOrder thisReduceOrder,
+        ReduceContext reduceContext,
+        Predicate<B> sink
+    ) {
         assert isKeyOrder(thisReduceOrder);
         final Comparator<MultiBucketsAggregation.Bucket> cmp = thisReduceOrder.comparator();
         final PriorityQueue<IteratorAndCurrent<B>> pq = new PriorityQueue<IteratorAndCurrent<B>>(aggregations.size()) {
@@ -334,7 +364,6 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 pq.add(new IteratorAndCurrent(terms.getBuckets().iterator()));
             }
         }
-        List<B> reducedBuckets = new ArrayList<>();
         // list of buckets coming from different shards that have the same key
         List<B> currentBuckets = new ArrayList<>();
         B lastBucket = null;
@@ -345,8 +374,10 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             if (lastBucket != null && cmp.compare(top.current(), lastBucket) != 0) {
                 // the key changes, reduce what we already buffered and reset the buffer for current buckets
                 final B reduced = reduceBucket(currentBuckets, reduceContext);
-                reducedBuckets.add(reduced);
                 currentBuckets.clear();
+                if (sink.test(reduced) == false) {
+                    return;
+                }
             }
 
             lastBucket = top.current();
@@ -363,12 +394,11 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
 
         if (currentBuckets.isEmpty() == false) {
             final B reduced = reduceBucket(currentBuckets, reduceContext);
-            reducedBuckets.add(reduced);
+            sink.test(reduced);
         }
-        return reducedBuckets;
     }
 
-    private List<B> reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
+    private void reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext, Predicate<B> sink) {
         Map<Object, List<B>> bucketMap = new HashMap<>();
         for (InternalAggregation aggregation : aggregations) {
             @SuppressWarnings("unchecked")
@@ -384,18 +414,20 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 }
             }
         }
-        List<B> reducedBuckets = new ArrayList<>();
         for (List<B> sameTermBuckets : bucketMap.values()) {
             final B b = reduceBucket(sameTermBuckets, reduceContext);
-            reducedBuckets.add(b);
+            if (sink.test(b) == false) {
+                return;
+            }
         }
-        return reducedBuckets;
     }
 
     public InternalAggregation reduce(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
         LocalBucketCountThresholds localBucketCountThresholds = reduceContext.asLocalBucketCountThresholds(bucketCountThresholds);
         long sumDocCountError = 0;
         long otherDocCount = 0;
+        // an upper bound of the number of reduced buckets
+        long maxReducedBuckets = 0;
         InternalTerms<A, B> referenceTerms = null;
         for (InternalAggregation aggregation : aggregations) {
             @SuppressWarnings("unchecked")
@@ -422,6 +454,7 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 );
             }
             otherDocCount += terms.getSumOfOtherDocCounts();
+            maxReducedBuckets += terms.getBuckets().size();
             final long thisAggDocCountError = getDocCountError(terms, reduceContext);
             if (sumDocCountError != -1) {
                 if (thisAggDocCountError == -1) {
@@ -443,38 +476,32 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             }
         }
 
-        final List<B> reducedBuckets;
-        /*
-          Buckets returned by a partial reduce or a shard response are sorted by key.
-          That allows to perform a merge sort when reducing multiple aggregations together.
-          For backward compatibility, we disable the merge sort and use ({@link InternalTerms#reduceLegacy} if any of
-          the provided aggregations use a different {@link InternalTerms#reduceOrder}.
-         */
         BucketOrder thisReduceOrder = getReduceOrder(aggregations);
         if (isKeyOrder(thisReduceOrder)) {
             // extract the primary sort in case this is a compound order.
             thisReduceOrder = InternalOrder.key(isKeyAsc(thisReduceOrder) ? true : false);
-            reducedBuckets = reduceMergeSort(aggregations, thisReduceOrder, reduceContext);
-        } else {
-            reducedBuckets = reduceLegacy(aggregations, reduceContext);
         }
 
         final B[] list;
+        final long finalSumDocCountError = sumDocCountError;
         if (reduceContext.isFinalReduce() || reduceContext.isSliceLevel()) {
-            final int size = Math.min(localBucketCountThresholds.getRequiredSize(), reducedBuckets.size());
+            final int size = (int) Math.min(localBucketCountThresholds.getRequiredSize(), maxReducedBuckets);
+            final long minDocCount = localBucketCountThresholds.getMinDocCount();
             // final comparator
             final BucketPriorityQueue<B> ordered = new BucketPriorityQueue<>(size, order.comparator());
-            for (B bucket : reducedBuckets) {
-                if (sumDocCountError == -1) {
+            // buckets are offered to the queue as soon as they are reduced, so the ones that don't make it to the top
+            // can be collected right away instead of being retained until all keys are merged
+            final long[] prunedDocCount = new long[1];
+            reduceBuckets(aggregations, thisReduceOrder, reduceContext, bucket -> {
+                if (finalSumDocCountError == -1) {
                     bucket.setDocCountError(-1);
                 } else {
-                    final long finalSumDocCountError = sumDocCountError;
                     bucket.setDocCountError(docCountError -> docCountError + finalSumDocCountError);
                 }
-                if (bucket.getDocCount() >= localBucketCountThresholds.getMinDocCount()) {
+                if (bucket.getDocCount() >= minDocCount) {
                     B removed = ordered.insertWithOverflow(bucket);
                     if (removed != null) {
-                        otherDocCount += removed.getDocCount();
+                        prunedDocCount[0] += removed.getDocCount();
                         reduceContext.consumeBucketsAndMaybeBreak(-countInnerBucket(removed));
                     } else {
                         reduceContext.consumeBucketsAndMaybeBreak(1);
@@ -482,28 +509,33 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 } else {
                     reduceContext.consumeBucketsAndMaybeBreak(-countInnerBucket(bucket));
                 }
-            }
+                return true;
+            });
+            otherDocCount += prunedDocCount[0];
             list = createBucketsArray(ordered.size());
             for (int i = ordered.size() - 1; i >= 0; i--) {
                 list[i] = ordered.pop();
             }
         } else {
             // we can prune the list on partial reduce if the aggregation is ordered by key
-            // and not filtered (minDocCount == 0)
-            int size = isKeyOrder(order) && localBucketCountThresholds.getMinDocCount() == 0
-                ? Math.min(localBucketCountThresholds.getRequiredSize(), reducedBuckets.size())
-                : reducedBuckets.size();
-            list = createBucketsArray(size);
-            for (int i = 0; i < size; i++) {
-                reduceContext.consumeBucketsAndMaybeBreak(1);
-                list[i] = reducedBuckets.get(i);
-                if (sumDocCountError == -1) {
-                    list[i].setDocCountError(-1);
-                } else {
-                    final long fSumDocCountError = sumDocCountError;
-                    list[i].setDocCountError(docCountError -> docCountError + fSumDocCountError);
-                }
+            // and not filtered (minDocCount == 0), in which case the merge stops as soon as enough buckets are reduced
+            final int size = isKeyOrder(order) && localBucketCountThresholds.getMinDocCount() == 0
+                ? localBucketCountThresholds.getRequiredSize()
+                : Integer.MAX_VALUE;
+            final List<B> reducedBuckets = new ArrayList<>((int) Math.min(size, maxReducedBuckets));
+            if (size > 0) {
+                reduceBuckets(aggregations, thisReduceOrder, reduceContext, bucket -> {
+                    reduceContext.consumeBucketsAndMaybeBreak(1);
+                    if (finalSumDocCountError == -1) {
+                        bucket.setDocCountError(-1);
+                    } else {
+                        bucket.setDocCountError(docCountError -> docCountError + finalSumDocCountError);
+                    }
+                    reducedBuckets.add(bucket);
+                    return reducedBuckets.size() < size;
+                });
             }
+            list = reducedBuckets.toArray(createBucketsArray(0));
         }
         long docCountError;
         if (sumDocCountError == -1) {
@@ -175,7 +175,8 @@ public class CardinalityAggregator extends NumericMetricsAggregator.SingleValue
             collector = new DirectCollector(counts, MurmurHash3Values.hash(valuesSource.bytesValues(ctx)));
         }
 
-        if (canPrune(parent, subAggregators, valuesSourceConfig)) {
+        // pruning scores the whole segment, which would be repeated for every partition of a partitioned segment
+        if (canPrune(parent, subAggregators, valuesSourceConfig) && isSegmentPartitioned(ctx) == false) {
             Terms terms = ctx.reader().terms(valuesSourceConfig.fieldContext().field());
             if (terms == null) return collector;
             if (exceedMaxThreshold(terms)) {
@@ -31,6 +31,7 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.apache.lucene.index.DocValuesSkipper;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.PointValues;
@@ -40,6 +41,8 @@ import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.reduce.BlockReducer;
+import org.opensearch.common.reduce.BlockReducerFactory;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
@@ -64,7 +67,7 @@ import org.opensearch.search.streaming.StreamingCostMetrics;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import static org.opensearch.search.startree.StarTreeQueryHelper.getSupportedStarTree;
@@ -84,6 +87,8 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
 
     DoubleArray maxes;
 
+    private int skipListCollectorsUsed;
+
     MaxAggregator(String name, ValuesSourceConfig config, SearchContext context, Aggregator parent, Map<String, Object> metadata)
         throws IOException {
         super(name, context, parent, metadata);
@@ -156,6 +161,23 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
         final NumericDoubleValues values = MultiValueMode.MAX.select(allValues);
+        if (parent == null) {
+            final DocValuesSkipper skipper = valuesSource.integerValuesSkipper(ctx);
+            if (skipper != null) {
+                skipListCollectorsUsed++;
+                return new MinMaxSkiplistLeafCollector(values, skipper) {
+                    @Override
+                    protected boolean isCompetitive(double minValue, double maxValue) {
+                        return maxValue > maxes.get(0);
+                    }
+
+                    @Override
+                    protected void accept(double value) {
+                        maxes.set(0, Math.max(maxes.get(0), value));
+                    }
+                };
+            }
+        }
         return new LeafBucketCollectorBase(sub, allValues) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
@@ -203,10 +225,17 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
     }
 
     private void precomputeLeafUsingStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
-        AtomicReference<Double> max = new AtomicReference<>(maxes.get(0));
-        StarTreeQueryHelper.precomputeLeafUsingStarTree(context, valuesSource, ctx, starTree, MetricStat.MAX.getTypeName(), value -> {
-            max.set(Math.max(max.get(), (NumericUtils.sortableLongToDouble(value))));
-        }, () -> maxes.set(0, max.get()));
+        final double[] max = new double[] { maxes.get(0) };
+        final BlockReducer reducer = BlockReducerFactory.get();
+        StarTreeQueryHelper.precomputeLeafUsingStarTreeInBlocks(
+            context,
+            valuesSource,
+            ctx,
+            starTree,
+            MetricStat.MAX.getTypeName(),
+            (values, size) -> max[0] = Math.max(max[0], reducer.maxSortableDoubles(values, size)),
+            () -> maxes.set(0, max[0])
+        );
     }
 
     @Override
@@ -230,6 +259,12 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
         return new InternalMax(name, Double.NEGATIVE_INFINITY, formatter, metadata());
     }
 
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        add.accept("skip_list_collectors_used", skipListCollectorsUsed);
+    }
+
     @Override
     public void doClose() {
         Releasables.close(maxes);
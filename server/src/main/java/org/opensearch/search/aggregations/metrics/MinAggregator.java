@@ -31,6 +31,7 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.apache.lucene.index.DocValuesSkipper;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.PointValues;
@@ -40,6 +41,8 @@ import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.reduce.BlockReducer;
+import org.opensearch.common.reduce.BlockReducerFactory;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
@@ -63,7 +66,7 @@ import org.opensearch.search.streaming.StreamingCostMetrics;
 
 import java.io.IOException;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 
 import static org.opensearch.search.startree.StarTreeQueryHelper.getSupportedStarTree;
@@ -84,6 +87,8 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
 
     DoubleArray mins;
 
+    private int skipListCollectorsUsed;
+
     MinAggregator(String name, ValuesSourceConfig config, SearchContext context, Aggregator parent, Map<String, Object> metadata)
         throws IOException {
         super(name, context, parent, metadata);
@@ -156,6 +161,23 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
         final NumericDoubleValues values = MultiValueMode.MIN.select(allValues);
+        if (parent == null) {
+            final DocValuesSkipper skipper = valuesSource.integerValuesSkipper(ctx);
+            if (skipper != null) {
+                skipListCollectorsUsed++;
+                return new MinMaxSkiplistLeafCollector(values, skipper) {
+                    @Override
+                    protected boolean isCompetitive(double minValue, double maxValue) {
+                        return minValue < mins.get(0);
+                    }
+
+                    @Override
+                    protected void accept(double value) {
+                        mins.set(0, Math.min(mins.get(0), value));
+                    }
+                };
+            }
+        }
         return new LeafBucketCollectorBase(sub, allValues) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
@@ -203,10 +225,17 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
     }
 
     private void precomputeLeafUsingStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
-        AtomicReference<Double> min = new AtomicReference<>(mins.get(0));
-        StarTreeQueryHelper.precomputeLeafUsingStarTree(context, valuesSource, ctx, starTree, MetricStat.MIN.getTypeName(), value -> {
-            min.set(Math.min(min.get(), (NumericUtils.sortableLongToDouble(value))));
-        }, () -> mins.set(0, min.get()));
+        final double[] min = new double[] { mins.get(0) };
+        final BlockReducer reducer = BlockReducerFactory.get();
+        StarTreeQueryHelper.precomputeLeafUsingStarTreeInBlocks(
+            context,
+            valuesSource,
+            ctx,
+            starTree,
+            MetricStat.MIN.getTypeName(),
+            (values, size) -> min[0] = Math.min(min[0], reducer.minSortableDoubles(values, size)),
+            () -> mins.set(0, min[0])
+        );
     }
 
     @Override
@@ -230,6 +259,12 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
         return new InternalMin(name, Double.POSITIVE_INFINITY, format, metadata());
     }
 
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        add.accept("skip_list_collectors_used", skipListCollectorsUsed);
+    }
+
     @Override
     public void doClose() {
         Releasables.close(mins);
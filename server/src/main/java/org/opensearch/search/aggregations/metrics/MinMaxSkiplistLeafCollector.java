@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.index.DocValuesSkipper;
+import org.apache.lucene.search.DocIdStream;
+import org.opensearch.index.fielddata.NumericDoubleValues;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+
+import java.io.IOException;
+
+/**
+ * A {@link LeafBucketCollector} for top level {@code min} and {@code max} aggregations that uses the
+ * {@link DocValuesSkipper} of the field to skip runs of documents whose values can't improve the current result,
+ * without reading their doc values.
+ *
+ * @opensearch.internal
+ */
+abstract class MinMaxSkiplistLeafCollector extends LeafBucketCollector {
+
+    private final NumericDoubleValues values;
+    private final DocValuesSkipper skipper;
+
+    /**
+     * Max doc ID (inclusive) up to which all docs values may be skipped or not.
+     */
+    private int upToInclusive = -1;
+
+    /**
+     * Whether no doc up to {@link #upToInclusive} has a value that can improve the current result.
+     */
+    private boolean upToNonCompetitive;
+
+    MinMaxSkiplistLeafCollector(NumericDoubleValues values, DocValuesSkipper skipper) {
+        this.values = values;
+        this.skipper = skipper;
+    }
+
+    /**
+     * Whether any value within {@code [minValue, maxValue]} may improve the current result.
+     */
+    protected abstract boolean isCompetitive(double minValue, double maxValue);
+
+    /**
+     * Folds the value of a collected doc into the current result.
+     */
+    protected abstract void accept(double value);
+
+    private void advanceSkipper(int doc) throws IOException {
+        if (doc > skipper.maxDocID(0)) {
+            skipper.advance(doc);
+        }
+        upToNonCompetitive = false;
+
+        if (skipper.minDocID(0) > doc) {
+            // `doc` doesn't have a value and is between two intervals of the doc-value skip index.
+            upToInclusive = skipper.minDocID(0) - 1;
+            return;
+        }
+
+        upToInclusive = skipper.maxDocID(0);
+
+        // Now find the highest level where no value can improve the current result.
+        for (int level = 0; level < skipper.numLevels(); ++level) {
+            if (isCompetitive(skipper.minValue(level), skipper.maxValue(level)) == false) {
+                upToInclusive = skipper.maxDocID(level);
+                upToNonCompetitive = true;
+            } else {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void collect(int doc, long owningBucketOrd) throws IOException {
+        assert owningBucketOrd == 0;
+        if (doc > upToInclusive) {
+            advanceSkipper(doc);
+        }
+        if (upToNonCompetitive == false && values.advanceExact(doc)) {
+            accept(values.doubleValue());
+        }
+    }
+
+    @Override
+    public void collect(DocIdStream stream, long owningBucketOrd) throws IOException {
+        assert owningBucketOrd == 0;
+        for (;;) {
+            int upToExclusive = upToInclusive + 1;
+            if (upToExclusive < 0) { // overflow
+                upToExclusive = Integer.MAX_VALUE;
+            }
+
+            if (upToNonCompetitive) {
+                // consume the docs of the block without looking at their values
+                stream.count(upToExclusive);
+            } else {
+                stream.forEach(upToExclusive, doc -> {
+                    if (values.advanceExact(doc)) {
+                        accept(values.doubleValue());
+                    }
+                });
+            }
+
+            if (stream.mayHaveRemaining()) {
+                advanceSkipper(upToExclusive);
+            } else {
+                break;
+            }
+        }
+    }
+
+    @Override
+    public void collectRange(int min, int max) throws IOException {
+        for (int doc = min; doc < max; doc++) {
+            if (doc > upToInclusive) {
+                advanceSkipper(doc);
+            }
+            if (upToNonCompetitive) {
+                // jump to the end of the non-competitive block
+                doc = Math.min(upToInclusive, max - 1);
+            } else if (values.advanceExact(doc)) {
+                accept(values.doubleValue());
+            }
+        }
+    }
+}
@@ -36,6 +36,8 @@ import org.apache.lucene.search.DocIdStream;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.reduce.BlockReducer;
+import org.opensearch.common.reduce.BlockReducerFactory;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
@@ -175,18 +177,20 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue implemen
     }
 
     private void precomputeLeafUsingStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
-        final CompensatedSum kahanSummation = new CompensatedSum(sums.get(0), compensations.get(0));
+        // the reducer carries the sum and its correction term over from one block to the next
+        final double[] sumAndDelta = new double[] { sums.get(0), compensations.get(0) };
+        final BlockReducer reducer = BlockReducerFactory.get();
 
-        StarTreeQueryHelper.precomputeLeafUsingStarTree(
+        StarTreeQueryHelper.precomputeLeafUsingStarTreeInBlocks(
             context,
             valuesSource,
             ctx,
             starTree,
             MetricStat.SUM.getTypeName(),
-            value -> kahanSummation.add(NumericUtils.sortableLongToDouble(value)),
+            (values, size) -> reducer.sumSortableDoubles(values, size, sumAndDelta),
             () -> {
-                sums.set(0, kahanSummation.value());
-                compensations.set(0, kahanSummation.delta());
+                sums.set(0, sumAndDelta[0]);
+                compensations.set(0, sumAndDelta[1]);
             }
         );
     }
@@ -35,6 +35,8 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
 import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.reduce.BlockReducer;
+import org.opensearch.common.reduce.BlockReducerFactory;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.LongArray;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
@@ -152,13 +154,14 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue i
     }
 
     private void precomputeLeafUsingStarTree(LeafReaderContext ctx, CompositeIndexFieldInfo starTree) throws IOException {
-        StarTreeQueryHelper.precomputeLeafUsingStarTree(
+        final BlockReducer reducer = BlockReducerFactory.get();
+        StarTreeQueryHelper.precomputeLeafUsingStarTreeInBlocks(
             context,
             (ValuesSource.Numeric) valuesSource,
             ctx,
             starTree,
             MetricStat.VALUE_COUNT.getTypeName(),
-            value -> counts.increment(0, value),
+            (values, size) -> counts.increment(0, reducer.sum(values, size)),
             () -> {}
         );
     }
@@ -33,6 +33,7 @@ package org.opensearch.search.aggregations.support;
 
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValuesSkipper;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.OrdinalMap;
@@ -464,6 +465,15 @@ public abstract class ValuesSource {
         /** Get the current {@link SortedNumericDoubleValues}. */
         public abstract SortedNumericDoubleValues doubleValues(LeafReaderContext context) throws IOException;
 
+        /**
+         * Get the {@link DocValuesSkipper} of the underlying field if its skip index bounds can be compared directly
+         * with {@link #doubleValues} and {@link #longValues}, that is if the field stores plain integer values.
+         * Returns {@code null} otherwise.
+         */
+        public DocValuesSkipper integerValuesSkipper(LeafReaderContext context) throws IOException {
+            return null;
+        }
+
         @Override
         public DocValueBits docsWithValue(LeafReaderContext context) throws IOException {
             if (isFloatingPoint() || isBigInteger()) {
@@ -645,6 +655,22 @@ public abstract class ValuesSource {
             public String getIndexFieldName() {
                 return indexFieldData.getFieldName();
             }
+
+            @Override
+            public DocValuesSkipper integerValuesSkipper(LeafReaderContext context) throws IOException {
+                switch (indexFieldData.getNumericType()) {
+                    case BYTE:
+                    case SHORT:
+                    case INT:
+                    case LONG:
+                    case DATE:
+                        return context.reader().getDocValuesSkipper(indexFieldData.getFieldName());
+                    default:
+                        // floating point values are stored with a sortable encoding, unsigned longs are shifted and
+                        // date nanos are converted when read, so the skip index bounds can't be used as is
+                        return null;
+                }
+            }
         }
 
         /**
@@ -0,0 +1,221 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.deciders;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.util.automaton.ByteRunAutomaton;
+
+import java.util.function.Supplier;
+
+/**
+ * Cost model used by the auto concurrent segment search mode to decide whether a request should fan out over several slices,
+ * and over how many. The sequential cost of a request is estimated as the number of documents of the shard times the cost of
+ * its query, which is the number of leaf queries (terms, points or doc values lookups) it has, times the observed cost per
+ * document and leaf query on that shard. The concurrent cost is the cost of the largest share of documents a single slice has to
+ * search, which can not be less than the largest unit that can not be split (a segment, or a minimum sized partition of it),
+ * plus a fixed overhead per slice for dispatching it and reducing its results. Concurrent search is used only if the best
+ * slice count yields at least the configured speed-up, and never while the index searcher pool has queued tasks: fanning out
+ * then only takes threads away from other requests.
+ *
+ * @opensearch.internal
+ */
+public final class ConcurrentSearchCostModel {
+
+    /**
+     * Cost per document used when there is no history for the shard yet.
+     */
+    static final double DEFAULT_NANOS_PER_DOC = 50;
+
+    /**
+     * Upper bound of {@link #queryCost}, queries with many terms are cheap per term.
+     */
+    static final int MAX_QUERY_COST = 64;
+
+    /**
+     * Cost of dispatching a slice to the index searcher pool and reducing its results.
+     */
+    static final long SLICE_OVERHEAD_NANOS = 50_000;
+
+    private final double minSpeedup;
+
+    public ConcurrentSearchCostModel(double minSpeedup) {
+        this.minSpeedup = minSpeedup;
+    }
+
+    /**
+     * @param docCount number of documents of the shard
+     * @param largestUnitDocs number of documents of the largest unit of work that can not be split over several slices
+     * @param maxUsefulSlices number of slices beyond which there is nothing left to split
+     * @param targetMaxSlices configured maximum number of slices, {@code 0} if not limited
+     * @param availableThreads number of threads of the index searcher pool that are not busy
+     * @param queuedTasks number of tasks waiting in the queue of the index searcher pool
+     * @param queryCost cost of the query of the request, see {@link #queryCost}
+     * @param nanosPerDoc observed cost per document and unit of query cost on the shard, {@link Double#NaN} if unknown
+     */
+    public Decision evaluate(
+        long docCount,
+        int queryCost,
+        long largestUnitDocs,
+        int maxUsefulSlices,
+        int targetMaxSlices,
+        int availableThreads,
+        int queuedTasks,
+        double nanosPerDoc
+    ) {
+        if (queuedTasks > 0) {
+            return Decision.saturated(queuedTasks);
+        }
+        // the thread executing the request searches slices as well
+        int maxSlices = Math.min(maxUsefulSlices, availableThreads + 1);
+        if (targetMaxSlices > 0) {
+            maxSlices = Math.min(maxSlices, targetMaxSlices);
+        }
+        if (maxSlices < 2 || docCount == 0) {
+            return Decision.sequential(1.0, "no work to split over slices");
+        }
+
+        final double costPerDoc = (Double.isNaN(nanosPerDoc) || nanosPerDoc <= 0 ? DEFAULT_NANOS_PER_DOC : nanosPerDoc) * Math.max(
+            1,
+            queryCost
+        );
+        final double sequentialNanos = docCount * costPerDoc;
+        int bestSlices = 1;
+        double bestNanos = sequentialNanos;
+        for (int slices = 2; slices <= maxSlices; slices++) {
+            final long sliceDocs = Math.max(largestUnitDocs, (docCount + slices - 1) / slices);
+            final double nanos = sliceDocs * costPerDoc + (double) slices * SLICE_OVERHEAD_NANOS;
+            if (nanos < bestNanos) {
+                bestNanos = nanos;
+                bestSlices = slices;
+            }
+        }
+        final double speedup = sequentialNanos / bestNanos;
+        if (bestSlices < 2 || speedup < minSpeedup) {
+            return Decision.sequential(speedup, "estimated speed-up is below " + minSpeedup);
+        }
+        return Decision.concurrent(bestSlices, speedup);
+    }
+
+    /**
+     * Returns the number of leaf queries of the given query, at least {@code 1} and at most {@link #MAX_QUERY_COST}. Each of them
+     * is a term lookup, point tree intersection or doc values iteration that has to be done for every segment, or partition of it.
+     */
+    public static int queryCost(Query query) {
+        if (query == null) {
+            return 1;
+        }
+        final int[] leafQueries = new int[1];
+        query.visit(new QueryVisitor() {
+            @Override
+            public void consumeTerms(Query query, Term... terms) {
+                leafQueries[0] += terms.length;
+            }
+
+            @Override
+            public void consumeTermsMatching(Query query, String field, Supplier<ByteRunAutomaton> automaton) {
+                leafQueries[0]++;
+            }
+
+            @Override
+            public void visitLeaf(Query query) {
+                leafQueries[0]++;
+            }
+        });
+        return Math.max(1, Math.min(leafQueries[0], MAX_QUERY_COST));
+    }
+
+    /**
+     * Outcome of {@link #evaluate}.
+     *
+     * @opensearch.internal
+     */
+    public static final class Decision {
+        private final boolean concurrent;
+        private final boolean saturated;
+        private final boolean sequentialSample;
+        private final int sliceCount;
+        private final double estimatedSpeedup;
+        private final String reason;
+
+        private Decision(
+            boolean concurrent,
+            boolean saturated,
+            boolean sequentialSample,
+            int sliceCount,
+            double estimatedSpeedup,
+            String reason
+        ) {
+            this.concurrent = concurrent;
+            this.saturated = saturated;
+            this.sequentialSample = sequentialSample;
+            this.sliceCount = sliceCount;
+            this.estimatedSpeedup = estimatedSpeedup;
+            this.reason = reason;
+        }
+
+        static Decision concurrent(int sliceCount, double estimatedSpeedup) {
+            return new Decision(true, false, false, sliceCount, estimatedSpeedup, "estimated speed-up of " + estimatedSpeedup);
+        }
+
+        static Decision sequential(double estimatedSpeedup, String reason) {
+            return new Decision(false, false, false, 1, estimatedSpeedup, reason);
+        }
+
+        static Decision saturated(int queuedTasks) {
+            return new Decision(false, true, false, 1, 1.0, "index searcher pool has [" + queuedTasks + "] queued tasks");
+        }
+
+        /**
+         * Returns a decision to search sequentially even though concurrent search is expected to be faster, so that the latency of
+         * sequential searches keeps being sampled for requests the model sends to concurrent search.
+         */
+        public Decision asSequentialSample() {
+            assert concurrent : "only concurrent decisions can be sampled";
+            return new Decision(false, false, true, 1, estimatedSpeedup, "sampling sequential search, " + reason);
+        }
+
+        public boolean isConcurrent() {
+            return concurrent;
+        }
+
+        /**
+         * Whether concurrent search was rejected because the index searcher pool is saturated.
+         */
+        public boolean isSaturated() {
+            return saturated;
+        }
+
+        /**
+         * Whether sequential search was used for a request the model would have sent to concurrent search, see
+         * {@link #asSequentialSample()}.
+         */
+        public boolean isSequentialSample() {
+            return sequentialSample;
+        }
+
+        public int getSliceCount() {
+            return sliceCount;
+        }
+
+        public double getEstimatedSpeedup() {
+            return estimatedSpeedup;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        @Override
+        public String toString() {
+            return "Decision{concurrent=" + concurrent + ", sliceCount=" + sliceCount + ", reason='" + reason + "'}";
+        }
+    }
+}
@@ -64,11 +64,15 @@ import org.opensearch.search.SearchHit;
 import org.opensearch.search.SearchHits;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.fetch.FetchSubPhase.HitContext;
+import org.opensearch.search.fetch.subphase.FetchDocValuesPhase;
+import org.opensearch.search.fetch.subphase.FetchFieldsPhase;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.search.fetch.subphase.FetchSourcePhase;
+import org.opensearch.search.fetch.subphase.FetchVersionPhase;
 import org.opensearch.search.fetch.subphase.InnerHitsContext;
 import org.opensearch.search.fetch.subphase.InnerHitsPhase;
+import org.opensearch.search.fetch.subphase.SeqNoPrimaryTermPhase;
 import org.opensearch.search.internal.SearchContext;
-import org.opensearch.search.lookup.SearchLookup;
 import org.opensearch.search.lookup.SourceLookup;
 import org.opensearch.search.profile.Timer;
 import org.opensearch.search.profile.fetch.FetchProfileBreakdown;
@@ -85,6 +89,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 
 import static java.util.Collections.emptyMap;
@@ -99,6 +104,18 @@ import static java.util.Collections.emptyMap;
 public class FetchPhase {
     private static final Logger LOGGER = LogManager.getLogger(FetchPhase.class);
 
+    // sub phases that process the hits of a segment once all their stored fields are loaded, see #supportsBatches
+    private static final Set<Class<? extends FetchSubPhase>> BATCHED_SUB_PHASES = Set.of(
+        FetchSourcePhase.class,
+        FetchDocValuesPhase.class,
+        FetchFieldsPhase.class,
+        FetchVersionPhase.class,
+        SeqNoPrimaryTermPhase.class
+    );
+
+    // stored fields blocks hold from dozens to hundreds of documents
+    private static final int MAX_DENSE_DOCS_AVERAGE_GAP = 16;
+
     private final FetchSubPhase[] fetchSubPhases;
 
     public FetchPhase(List<FetchSubPhase> fetchSubPhases) {
@@ -171,66 +188,70 @@ public class FetchPhase {
             }
         }
 
-        int currentReaderIndex = -1;
-        LeafReaderContext currentReaderContext = null;
-        CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
-        for (int index = 0; index < context.docIdsToLoadSize(); index++) {
-            if (context.isCancelled()) {
-                throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
-            }
-            int docId = docs[index].docId;
-            try {
-                int readerIndex = ReaderUtil.subIndex(docId, context.searcher().getIndexReader().leaves());
-                if (currentReaderIndex != readerIndex) {
-                    currentReaderContext = profile(
-                        breakdown,
-                        FetchTimingType.GET_NEXT_READER,
-                        () -> context.searcher().getIndexReader().leaves().get(readerIndex)
-                    );
-                    currentReaderIndex = readerIndex;
-                    if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader lf
-                        && hasSequentialDocs
-                        && docs.length >= 10) {
-                        // All the docs to fetch are adjacent but Lucene stored fields are optimized
-                        // for random access and don't optimize for sequential access - except for merging.
-                        // So we do a little hack here and pretend we're going to do merges in order to
-                        // get better sequential access.
-                        fieldReader = lf.getSequentialStoredFieldsReader()::document;
-                    } else {
-                        fieldReader = currentReaderContext.reader().storedFields()::document;
+        if (breakdown == null && supportsBatches(processors)) {
+            fetchInBatches(context, fetchContext, processors, fieldsVisitor, docs, storedToRequestedFields, hits);
+        } else {
+            int currentReaderIndex = -1;
+            LeafReaderContext currentReaderContext = null;
+            CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
+            boolean hasSequentialDocs = hasSequentialDocs(docs);
+            for (int index = 0; index < context.docIdsToLoadSize(); index++) {
+                if (context.isCancelled()) {
+                    throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+                }
+                int docId = docs[index].docId;
+                try {
+                    int readerIndex = ReaderUtil.subIndex(docId, context.searcher().getIndexReader().leaves());
+                    if (currentReaderIndex != readerIndex) {
+                        currentReaderContext = profile(
+                            breakdown,
+                            FetchTimingType.GET_NEXT_READER,
+                            () -> context.searcher().getIndexReader().leaves().get(readerIndex)
+                        );
+                        currentReaderIndex = readerIndex;
+                        if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader lf
+                            && ((hasSequentialDocs && docs.length >= 10)
+                                || hasDenseDocs(docs, index, leafEnd(docs, index, currentReaderContext)))) {
+                            // The docs to fetch from this segment are adjacent or dense but Lucene stored fields are optimized
+                            // for random access and don't optimize for sequential access - except for merging.
+                            // So we do a little hack here and pretend we're going to do merges in order to
+                            // get better sequential access.
+                            fieldReader = lf.getSequentialStoredFieldsReader()::document;
+                        } else {
+                            fieldReader = currentReaderContext.reader().storedFields()::document;
+                        }
+                        for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+                            FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
+                            LeafReaderContext readerCtx = currentReaderContext;
+                            profile(pbd, FetchTimingType.SET_NEXT_READER, () -> {
+                                p.v1().setNextReader(readerCtx);
+                                return null;
+                            });
+                        }
                     }
+                    assert currentReaderContext != null;
+                    HitContext hit = prepareHitContext(
+                        context,
+                        fetchContext.searchLookup().source(),
+                        fieldsVisitor,
+                        docId,
+                        storedToRequestedFields,
+                        currentReaderContext,
+                        fieldReader,
+                        breakdown
+                    );
+
                     for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
                         FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
-                        LeafReaderContext readerCtx = currentReaderContext;
-                        profile(pbd, FetchTimingType.SET_NEXT_READER, () -> {
-                            p.v1().setNextReader(readerCtx);
+                        profile(pbd, FetchTimingType.PROCESS, () -> {
+                            p.v1().process(hit);
                             return null;
                         });
                     }
+                    hits[docs[index].index] = hit.hit();
+                } catch (Exception e) {
+                    throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
                 }
-                assert currentReaderContext != null;
-                HitContext hit = prepareHitContext(
-                    context,
-                    fetchContext.searchLookup(),
-                    fieldsVisitor,
-                    docId,
-                    storedToRequestedFields,
-                    currentReaderContext,
-                    fieldReader,
-                    breakdown
-                );
-
-                for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
-                    FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
-                    profile(pbd, FetchTimingType.PROCESS, () -> {
-                        p.v1().process(hit);
-                        return null;
-                    });
-                }
-                hits[docs[index].index] = hit.hit();
-            } catch (Exception e) {
-                throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
             }
         }
         if (context.isCancelled()) {
@@ -245,6 +266,139 @@ public class FetchPhase {
         }
     }
 
+    /**
+     * Whether all sub phases only depend on the hit context they are given, so that they can process the hits of a segment one
+     * after the other once their stored fields are loaded, and the segments of a shard concurrently.
+     */
+    private static boolean supportsBatches(List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors) {
+        for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+            if (BATCHED_SUB_PHASES.contains(p.v2().getClass()) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fetches the hits segment by segment: the stored fields of all hits of a segment are loaded first, in doc id order and with
+     * a sequential stored fields reader if the hits are dense enough, then each sub phase processes all hits of the segment in turn.
+     * Large fetches load the segments concurrently, on the executor of the index searcher if concurrent search is enabled.
+     */
+    private void fetchInBatches(
+        SearchContext context,
+        FetchContext fetchContext,
+        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors,
+        FieldsVisitor fieldsVisitor,
+        DocIdToIndex[] docs,
+        Map<String, Set<String>> storedToRequestedFields,
+        SearchHit[] hits
+    ) {
+        final List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        final List<int[]> batches = new ArrayList<>();
+        for (int from = 0; from < docs.length;) {
+            final int leafOrd = ReaderUtil.subIndex(docs[from].docId, leaves);
+            final int to = leafEnd(docs, from, leaves.get(leafOrd));
+            batches.add(new int[] { leafOrd, from, to });
+            from = to;
+        }
+
+        final int concurrentFetchMinHits = context.getConcurrentFetchMinHits();
+        if (batches.size() > 1
+            && concurrentFetchMinHits > 0
+            && docs.length >= concurrentFetchMinHits
+            && context instanceof InnerHitsContext.InnerHitSubContext == false) {
+            final List<Callable<Void>> tasks = new ArrayList<>(batches.size());
+            for (int[] batch : batches) {
+                // sub phase processors and stored fields visitors are stateful, so every segment gets its own ones, which are
+                // created upfront as creating them may update the search context
+                final List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> batchProcessors = getProcessors(
+                    context.shardTarget(),
+                    new FetchContext(context)
+                );
+                final FieldsVisitor batchFieldsVisitor = createStoredFieldsVisitor(context, new HashMap<>());
+                final LeafReaderContext readerContext = leaves.get(batch[0]);
+                tasks.add(() -> {
+                    fetchBatch(
+                        context,
+                        batchProcessors,
+                        batchFieldsVisitor,
+                        readerContext,
+                        docs,
+                        batch[1],
+                        batch[2],
+                        storedToRequestedFields,
+                        hits
+                    );
+                    return null;
+                });
+            }
+            try {
+                context.searcher().getTaskExecutor().invokeAll(tasks);
+            } catch (IOException e) {
+                throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase", e);
+            }
+        } else {
+            for (int[] batch : batches) {
+                final LeafReaderContext readerContext = leaves.get(batch[0]);
+                fetchBatch(context, processors, fieldsVisitor, readerContext, docs, batch[1], batch[2], storedToRequestedFields, hits);
+            }
+        }
+    }
+
+    private void fetchBatch(
+        SearchContext context,
+        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors,
+        FieldsVisitor fieldsVisitor,
+        LeafReaderContext readerContext,
+        DocIdToIndex[] docs,
+        int from,
+        int to,
+        Map<String, Set<String>> storedToRequestedFields,
+        SearchHit[] hits
+    ) {
+        final HitContext[] hitContexts = new HitContext[to - from];
+        int docId = docs[from].docId;
+        try {
+            final CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader;
+            if (readerContext.reader() instanceof SequentialStoredFieldsLeafReader lf && hasDenseDocs(docs, from, to)) {
+                fieldReader = lf.getSequentialStoredFieldsReader()::document;
+            } else {
+                fieldReader = readerContext.reader().storedFields()::document;
+            }
+            for (int index = from; index < to; index++) {
+                if (context.isCancelled()) {
+                    throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+                }
+                docId = docs[index].docId;
+                // every hit needs its own source lookup, as the hits of the batch are processed after all of them are loaded
+                hitContexts[index - from] = prepareHitContext(
+                    context,
+                    new SourceLookup(),
+                    fieldsVisitor,
+                    docId,
+                    storedToRequestedFields,
+                    readerContext,
+                    fieldReader,
+                    null
+                );
+            }
+            for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+                p.v1().setNextReader(readerContext);
+                for (HitContext hitContext : hitContexts) {
+                    docId = hitContext.hit().docId();
+                    p.v1().process(hitContext);
+                }
+            }
+        } catch (TaskCancelledException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
+        }
+        for (int index = from; index < to; index++) {
+            hits[docs[index].index] = hitContexts[index - from].hit();
+        }
+    }
+
     List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> getProcessors(SearchShardTarget target, FetchContext context) {
         try {
             List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = new ArrayList<>();
@@ -352,7 +506,7 @@ public class FetchPhase {
 
     private HitContext prepareHitContext(
         SearchContext context,
-        SearchLookup lookup,
+        SourceLookup sourceLookup,
         FieldsVisitor fieldsVisitor,
         int docId,
         Map<String, Set<String>> storedToRequestedFields,
@@ -364,7 +518,7 @@ public class FetchPhase {
         if (rootDocId == -1) {
             return prepareNonNestedHitContext(
                 context,
-                lookup,
+                sourceLookup,
                 fieldsVisitor,
                 docId,
                 storedToRequestedFields,
@@ -394,7 +548,7 @@ public class FetchPhase {
      */
     private HitContext prepareNonNestedHitContext(
         SearchContext context,
-        SearchLookup lookup,
+        SourceLookup sourceLookup,
         FieldsVisitor fieldsVisitor,
         int docId,
         Map<String, Set<String>> storedToRequestedFields,
@@ -406,7 +560,7 @@ public class FetchPhase {
 
         if (fieldsVisitor == null) {
             SearchHit hit = new SearchHit(docId, null, null, null);
-            return new HitContext(hit, subReaderContext, subDocId, lookup.source());
+            return new HitContext(hit, subReaderContext, subDocId, sourceLookup);
         } else {
             SearchHit hit;
             profile(breakdown, FetchTimingType.LOAD_STORED_FIELDS, () -> {
@@ -424,7 +578,7 @@ public class FetchPhase {
                 hit = new SearchHit(docId, id, emptyMap(), emptyMap());
             }
 
-            HitContext hitContext = new HitContext(hit, subReaderContext, subDocId, lookup.source());
+            HitContext hitContext = new HitContext(hit, subReaderContext, subDocId, sourceLookup);
             if (fieldsVisitor.source() != null) {
                 profile(breakdown, FetchTimingType.LOAD_SOURCE, () -> {
                     hitContext.sourceLookup().setSource(fieldsVisitor.source());
@@ -696,6 +850,33 @@ public class FetchPhase {
         }
     }
 
+    /**
+     * Returns the index of the first of the provided <code>docs</code>, starting at <code>from</code>, that
+     * does not belong to the given segment.
+     */
+    static int leafEnd(DocIdToIndex[] docs, int from, LeafReaderContext readerContext) {
+        final int maxDocId = readerContext.docBase + readerContext.reader().maxDoc();
+        int to = from;
+        while (to < docs.length && docs[to].docId < maxDocId) {
+            to++;
+        }
+        return to;
+    }
+
+    /**
+     * Returns <code>true</code> if the provided <code>docs</code> between <code>from</code> and <code>to</code>
+     * are close enough to each other that most of them share stored fields blocks, so that reading them
+     * sequentially decompresses each block once instead of once per document.
+     */
+    static boolean hasDenseDocs(DocIdToIndex[] docs, int from, int to) {
+        final int count = to - from;
+        if (count < 10) {
+            return false;
+        }
+        final long span = (long) docs[to - 1].docId - docs[from].docId + 1;
+        return span <= (long) count * MAX_DENSE_DOCS_AVERAGE_GAP;
+    }
+
     /**
      * Returns <code>true</code> if the provided <code>docs</code> are
      * stored sequentially (Dn = Dn-1 + 1).
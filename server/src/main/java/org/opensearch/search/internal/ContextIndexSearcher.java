@@ -47,6 +47,7 @@ import org.apache.lucene.search.ConjunctionUtils;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.FilterWeight;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Query;
@@ -64,6 +65,7 @@ import org.apache.lucene.search.similarities.Similarity;
 import org.apache.lucene.util.BitSet;
 import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FixedBitSet;
 import org.apache.lucene.util.SparseFixedBitSet;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.lease.Releasable;
@@ -119,6 +121,8 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
     private SearchContext searchContext;
+    // ords of the segments that are split into several partitions by the slices of this searcher, null if there are none
+    private volatile FixedBitSet partitionedLeaves;
 
     public ContextIndexSearcher(
         IndexReader reader,
@@ -347,7 +351,8 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
             }
             weight = wrapWeight(weight);
             // See please https://github.com/apache/lucene/pull/964
-            collector.setWeight(weight);
+            // counts of the whole segment must not be used when only a partition of it is collected
+            collector.setWeight(isSegmentPartitioned(ctx) ? new PartitionWeight(weight) : weight);
             leafCollector = collector.getLeafCollector(ctx);
         } catch (CollectionTerminatedException e) {
             // there is no doc of interest in this reader context
@@ -577,7 +582,22 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      */
     @Override
     protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
-        return slicesInternal(leaves, searchContext.getTargetMaxSliceCount());
+        final int minPartitionSize = searchContext.getMinSegmentPartitionSize();
+        return slicesInternal(
+            leaves,
+            searchContext.getTargetMaxSliceCount(),
+            minPartitionSize > 0 ? IntraSegmentSliceSupplier.minPartitionSize(searchContext.query(), minPartitionSize) : 0
+        );
+    }
+
+    /**
+     * Returns whether the slices of this searcher split the given segment into several doc id range partitions, which are collected
+     * by different collectors. Anything that computes results for the segment as a whole, rather than for the documents that are
+     * collected, must not be used for such segments as the result would be accounted once per partition.
+     */
+    public boolean isSegmentPartitioned(LeafReaderContext ctx) {
+        final FixedBitSet partitioned = partitionedLeaves;
+        return partitioned != null && partitioned.get(ctx.ord);
     }
 
     public DirectoryReader getDirectoryReader() {
@@ -648,11 +668,21 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
 
     // package-private for testing
     LeafSlice[] slicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice) {
+        return slicesInternal(leaves, targetMaxSlice, 0);
+    }
+
+    // package-private for testing
+    LeafSlice[] slicesInternal(List<LeafReaderContext> leaves, int targetMaxSlice, int minPartitionSize) {
         LeafSlice[] leafSlices;
         if (targetMaxSlice == 0) {
             // use the default lucene slice calculation
             leafSlices = super.slices(leaves);
             logger.debug("Slice count using lucene default [{}]", leafSlices.length);
+        } else if (minPartitionSize > 0) {
+            // use the custom slice calculation that splits large segments into partitions
+            leafSlices = IntraSegmentSliceSupplier.getSlices(leaves, targetMaxSlice, minPartitionSize);
+            partitionedLeaves = getPartitionedLeaves(leaves, leafSlices);
+            logger.debug("Slice count using intra segment slice supplier [{}]", leafSlices.length);
         } else {
             // use the custom slice calculation based on targetMaxSlice
             leafSlices = MaxTargetSliceSupplier.getSlices(leaves, targetMaxSlice);
@@ -660,4 +690,35 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
         return leafSlices;
     }
+
+    private static FixedBitSet getPartitionedLeaves(List<LeafReaderContext> leaves, LeafSlice[] leafSlices) {
+        FixedBitSet partitioned = null;
+        for (LeafSlice leafSlice : leafSlices) {
+            for (LeafReaderContextPartition partition : leafSlice.partitions) {
+                if (partition.minDocId != 0 || partition.maxDocId < partition.ctx.reader().maxDoc()) {
+                    if (partitioned == null) {
+                        partitioned = new FixedBitSet(leaves.size());
+                    }
+                    partitioned.set(partition.ctx.ord);
+                }
+            }
+        }
+        return partitioned;
+    }
+
+    /**
+     * Hides {@link Weight#count} from collectors of a partition of a segment, so that they do not add the count of the whole segment
+     * for every partition.
+     */
+    private static final class PartitionWeight extends FilterWeight {
+
+        private PartitionWeight(Weight weight) {
+            super(weight);
+        }
+
+        @Override
+        public int count(LeafReaderContext context) {
+            return -1;
+        }
+    }
 }
@@ -54,6 +54,7 @@ import org.opensearch.search.aggregations.BucketCollectorProcessor;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.SearchContextAggregations;
 import org.opensearch.search.collapse.CollapseContext;
+import org.opensearch.search.deciders.ConcurrentSearchCostModel;
 import org.opensearch.search.dfs.DfsSearchResult;
 import org.opensearch.search.fetch.FetchPhase;
 import org.opensearch.search.fetch.FetchSearchResult;
@@ -578,6 +579,21 @@ public abstract class FilteredSearchContext extends SearchContext {
         return in.getTargetMaxSliceCount();
     }
 
+    @Override
+    public int getMinSegmentPartitionSize() {
+        return in.getMinSegmentPartitionSize();
+    }
+
+    @Override
+    public ConcurrentSearchCostModel.Decision getConcurrentSearchCostDecision() {
+        return in.getConcurrentSearchCostDecision();
+    }
+
+    @Override
+    public int getConcurrentFetchMinHits() {
+        return in.getConcurrentFetchMinHits();
+    }
+
     @Override
     public boolean shouldUseTimeSeriesDescSortOptimization() {
         return in.shouldUseTimeSeriesDescSortOptimization();
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.opensearch.search.deciders.ConcurrentSearchCostModel;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Supplier to compute leaf slices that, unlike {@link MaxTargetSliceSupplier}, may split large segments into doc id range partitions
+ * which are searched by different slices. This keeps all slices busy when a shard consists of a few large segments, e.g. after
+ * a force merge to a single segment.
+ * <p>
+ * The work of a slice is estimated by the number of documents of its partitions. Segments that hold more than the fair share of
+ * documents per slice are split into equally sized partitions, as long as every partition keeps at least the minimum partition
+ * size, which amortizes the cost of setting up the scorers of the query for each partition. Partitions are then assigned, largest
+ * first, to the slice with the least documents that does not search another partition of the same segment yet.
+ *
+ * @opensearch.internal
+ */
+final class IntraSegmentSliceSupplier {
+
+    /**
+     * Upper bound of the factor the minimum partition size is scaled with for queries that are expensive to set up.
+     */
+    static final int MAX_QUERY_COST_FACTOR = 8;
+
+    private IntraSegmentSliceSupplier() {}
+
+    static IndexSearcher.LeafSlice[] getSlices(List<LeafReaderContext> leaves, int targetMaxSlice, int minPartitionSize) {
+        if (targetMaxSlice <= 0) {
+            throw new IllegalArgumentException("IntraSegmentSliceSupplier called with unexpected slice count of " + targetMaxSlice);
+        }
+        if (minPartitionSize <= 0) {
+            throw new IllegalArgumentException("IntraSegmentSliceSupplier called with unexpected partition size of " + minPartitionSize);
+        }
+
+        long totalDocs = 0;
+        for (LeafReaderContext leaf : leaves) {
+            totalDocs += leaf.reader().maxDoc();
+        }
+        // slices with less than the minimum partition size of work do not pay off, but never use fewer slices than the segment
+        // based slicing would
+        final int sliceCount = (int) Math.max(
+            Math.min(targetMaxSlice, leaves.size()),
+            Math.min(targetMaxSlice, totalDocs / minPartitionSize)
+        );
+        if (sliceCount == 0) {
+            return new IndexSearcher.LeafSlice[0];
+        }
+        final long docsPerSlice = Math.max(1, (totalDocs + sliceCount - 1) / sliceCount);
+
+        final List<LeafPartitioning> partitionings = new ArrayList<>(leaves.size());
+        for (LeafReaderContext leaf : leaves) {
+            final int maxDoc = leaf.reader().maxDoc();
+            final long count = Math.min(Math.min((maxDoc + docsPerSlice - 1) / docsPerSlice, maxDoc / minPartitionSize), sliceCount);
+            partitionings.add(new LeafPartitioning(leaf, (int) Math.max(1, count)));
+        }
+        // largest partitions first, so that the small ones can even out the slices at the end
+        partitionings.sort(Comparator.comparingLong(LeafPartitioning::partitionSize).reversed());
+
+        final List<List<IndexSearcher.LeafReaderContextPartition>> groupedPartitions = new ArrayList<>(sliceCount);
+        final PriorityQueue<MaxTargetSliceSupplier.Group> groupQueue = new PriorityQueue<>();
+        for (int i = 0; i < sliceCount; i++) {
+            groupedPartitions.add(new ArrayList<>());
+            groupQueue.offer(new MaxTargetSliceSupplier.Group(i));
+        }
+        final List<MaxTargetSliceSupplier.Group> minGroups = new ArrayList<>();
+        for (LeafPartitioning partitioning : partitionings) {
+            // every partition of a segment goes to a different slice, a slice must not search the same segment twice
+            for (int i = 0; i < partitioning.count; i++) {
+                minGroups.add(groupQueue.poll());
+            }
+            final int maxDoc = partitioning.leaf.reader().maxDoc();
+            for (int i = 0; i < partitioning.count; i++) {
+                final MaxTargetSliceSupplier.Group minGroup = minGroups.get(i);
+                if (partitioning.count == 1) {
+                    groupedPartitions.get(minGroup.index)
+                        .add(IndexSearcher.LeafReaderContextPartition.createForEntireSegment(partitioning.leaf));
+                    minGroup.sum += maxDoc;
+                } else {
+                    final int minDocId = (int) ((long) maxDoc * i / partitioning.count);
+                    final int maxDocId = (int) ((long) maxDoc * (i + 1) / partitioning.count);
+                    groupedPartitions.get(minGroup.index)
+                        .add(IndexSearcher.LeafReaderContextPartition.createFromAndTo(partitioning.leaf, minDocId, maxDocId));
+                    minGroup.sum += maxDocId - minDocId;
+                }
+            }
+            for (MaxTargetSliceSupplier.Group minGroup : minGroups) {
+                groupQueue.offer(minGroup);
+            }
+            minGroups.clear();
+        }
+
+        return groupedPartitions.stream()
+            .filter(partitions -> partitions.isEmpty() == false)
+            .map(IndexSearcher.LeafSlice::new)
+            .toArray(IndexSearcher.LeafSlice[]::new);
+    }
+
+    /**
+     * Scales the minimum partition size with the cost of setting up the query for a partition. Every partition creates its own
+     * scorers, so each term lookup or point tree intersection of the query is repeated once per partition.
+     */
+    static int minPartitionSize(Query query, int minPartitionSize) {
+        final int factor = Math.min(ConcurrentSearchCostModel.queryCost(query), MAX_QUERY_COST_FACTOR);
+        return (int) Math.min((long) minPartitionSize * factor, Integer.MAX_VALUE);
+    }
+
+    private static final class LeafPartitioning {
+        final LeafReaderContext leaf;
+        final int count;
+
+        LeafPartitioning(LeafReaderContext leaf, int count) {
+            this.leaf = leaf;
+            this.count = count;
+        }
+
+        long partitionSize() {
+            return leaf.reader().maxDoc() / count;
+        }
+    }
+}
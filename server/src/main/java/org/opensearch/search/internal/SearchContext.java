@@ -65,6 +65,7 @@ import org.opensearch.search.aggregations.SearchContextAggregations;
 import org.opensearch.search.aggregations.bucket.LocalBucketCountThresholds;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregator;
 import org.opensearch.search.collapse.CollapseContext;
+import org.opensearch.search.deciders.ConcurrentSearchCostModel;
 import org.opensearch.search.dfs.DfsSearchResult;
 import org.opensearch.search.fetch.FetchPhase;
 import org.opensearch.search.fetch.FetchSearchResult;
@@ -521,6 +522,31 @@ public abstract class SearchContext implements Releasable {
 
     public abstract int getTargetMaxSliceCount();
 
+    /**
+     * Returns the minimum number of documents of a doc id range partition when large segments may be split into partitions that
+     * are searched by different slices, or {@code 0} if segments are always searched as a whole.
+     */
+    public int getMinSegmentPartitionSize() {
+        return 0;
+    }
+
+    /**
+     * Returns the decision of the cost based concurrent segment search decider for this request, or {@code null} if it did not
+     * decide whether this request uses concurrent search.
+     */
+    @Nullable
+    public ConcurrentSearchCostModel.Decision getConcurrentSearchCostDecision() {
+        return null;
+    }
+
+    /**
+     * Returns the minimum number of hits for the fetch phase to load the hits of different segments concurrently, or {@code 0}
+     * if hits are always loaded by the calling thread.
+     */
+    public int getConcurrentFetchMinHits() {
+        return 0;
+    }
+
     @ExperimentalApi
     public long getStreamingMaxEstimatedBucketCount() {
         return 100_000L;
@@ -47,6 +47,21 @@ import java.util.function.Consumer;
  */
 public class StarTreeQueryHelper {
 
+    /**
+     * Maximum number of metric values that {@link #precomputeLeafUsingStarTreeInBlocks} hands over at once, small enough
+     * for the block to stay in the CPU cache.
+     */
+    public static final int METRIC_VALUES_BLOCK_SIZE = 1024;
+
+    /**
+     * Consumes a block of raw metric values, read from the first {@code size} elements of the array. The array is reused
+     * for the next block once this method returns.
+     */
+    @FunctionalInterface
+    public interface MetricValuesBlockConsumer {
+        void accept(long[] values, int size) throws IOException;
+    }
+
     /**
      * Checks if the search context can be supported by star-tree
      */
@@ -79,6 +94,31 @@ public class StarTreeQueryHelper {
         String metric,
         Consumer<Long> valueConsumer,
         Runnable finalConsumer
+    ) throws IOException {
+        precomputeLeafUsingStarTreeInBlocks(context, valuesSource, ctx, starTree, metric, (values, size) -> {
+            for (int i = 0; i < size; i++) {
+                valueConsumer.accept(values[i]); // Apply the consumer operation (e.g., max, sum)
+            }
+        }, finalConsumer);
+    }
+
+    /**
+     * Same as {@link #precomputeLeafUsingStarTree}, but gathers the metric values of the matching star-tree entries into
+     * blocks of up to {@link #METRIC_VALUES_BLOCK_SIZE} values, so that the block consumer can reduce a whole block at once
+     * (see {@link org.opensearch.common.reduce.BlockReducer}) instead of being called for every single value.
+     * <p>
+     * This only covers metric aggregations that reduce all matching entries of a segment into a single value. Metrics that
+     * are sub-aggregations of a star-tree bucket aggregation, such as {@code date_histogram}, are collected through
+     * {@link #getStarTreeBucketMetricCollector} instead, which still consumes one value at a time.
+     */
+    public static void precomputeLeafUsingStarTreeInBlocks(
+        SearchContext context,
+        ValuesSource.Numeric valuesSource,
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        String metric,
+        MetricValuesBlockConsumer blockConsumer,
+        Runnable finalConsumer
     ) throws IOException {
         StarTreeValues starTreeValues = getStarTreeValues(ctx, starTree);
         assert starTreeValues != null;
@@ -93,6 +133,8 @@ public class StarTreeQueryHelper {
 
         int numBits = filteredValues.length();  // Get the number of the filtered values (matching docs)
         if (numBits > 0) {
+            long[] block = new long[Math.min(METRIC_VALUES_BLOCK_SIZE, filteredValues.cardinality())];
+            int size = 0;
             // Iterate over the filtered values
             for (int bit = filteredValues.nextSetBit(0); bit != DocIdSetIterator.NO_MORE_DOCS; bit = (bit + 1 < numBits)
                 ? filteredValues.nextSetBit(bit + 1)
@@ -102,12 +144,18 @@ public class StarTreeQueryHelper {
                     continue;  // Skip if no more entries
                 }
 
-                // Iterate over the values for the current entryId
+                // Gather the values for the current entryId, handing over the block whenever it is full
                 for (int i = 0, count = valuesIterator.entryValueCount(); i < count; i++) {
-                    long value = valuesIterator.nextValue();
-                    valueConsumer.accept(value); // Apply the consumer operation (e.g., max, sum)
+                    if (size == block.length) {
+                        blockConsumer.accept(block, size);
+                        size = 0;
+                    }
+                    block[size++] = valuesIterator.nextValue();
                 }
             }
+            if (size > 0) {
+                blockConsumer.accept(block, size);
+            }
         }
 
         // Call the final consumer after processing all entries
@@ -149,6 +197,11 @@ public class StarTreeQueryHelper {
         return matchingDimensions.get(0);
     }
 
+    /**
+     * Returns a collector that adds the metric value of every star-tree entry its parent bucket aggregation collects to the
+     * entry's bucket. Consecutive entries usually fall into different buckets, so the values are not gathered into blocks
+     * for a {@link org.opensearch.common.reduce.BlockReducer}: that would need the entries grouped by bucket first.
+     */
     public static StarTreeBucketCollector getStarTreeBucketMetricCollector(
         CompositeIndexFieldInfo starTree,
         String metric,
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.FilterStreamInput;
+
+import java.io.IOException;
+
+/**
+ * Reads the content of an inbound request, and returns {@link #readZeroCopyBytesReference(int) zero-copy} bytes references
+ * as slices of the content rather than copies. The content, which is usually backed by the network buffers the request was
+ * received with, is retained as soon as a slice is handed out, and must be released through {@link #takeRetainedContent()}
+ * once the response to the request was sent.
+ *
+ * @opensearch.internal
+ */
+final class InboundContentStreamInput extends FilterStreamInput {
+
+    /**
+     * Payloads smaller than this are copied, since pinning the whole message for them is not worth saving a small copy.
+     */
+    static final int MIN_ZERO_COPY_LENGTH = 4 * 1024;
+
+    private final ReleasableBytesReference content;
+    private ReleasableBytesReference retained;
+
+    InboundContentStreamInput(ReleasableBytesReference content) throws IOException {
+        super(content.streamInput());
+        this.content = content;
+    }
+
+    @Override
+    public BytesReference readZeroCopyBytesReference(int length) throws IOException {
+        if (length < MIN_ZERO_COPY_LENGTH) {
+            return readBytesReference(length);
+        }
+        ensureCanReadBytes(length);
+        final int offset = content.length() - available();
+        final BytesReference slice = content.slice(offset, length);
+        final long skipped = delegate.skip(length);
+        assert skipped == length : skipped + " vs " + length;
+        synchronized (this) {
+            if (retained == null) {
+                retained = content.retain();
+            }
+        }
+        return slice;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        return delegate.read(b, off, len);
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        return delegate.skip(n);
+    }
+
+    /**
+     * Returns the content if slices of it were handed out, which the caller must release once they are not used anymore,
+     * or {@code null} otherwise.
+     */
+    synchronized ReleasableBytesReference takeRetainedContent() {
+        final ReleasableBytesReference toRelease = retained;
+        retained = null;
+        return toRelease;
+    }
+}
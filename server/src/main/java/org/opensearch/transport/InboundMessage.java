@@ -54,6 +54,7 @@ public class InboundMessage implements Releasable, ProtocolInboundMessage {
     protected final Exception exception;
     protected final boolean isPing;
     private Releasable breakerRelease;
+    private boolean contentReleaseTaken;
     private StreamInput streamInput;
 
     public InboundMessage(Header header, ReleasableBytesReference content, Releasable breakerRelease) {
@@ -117,29 +118,35 @@ public class InboundMessage implements Releasable, ProtocolInboundMessage {
         return exception != null;
     }
 
+    /**
+     * Takes over the release of the breaker, and of the content if the request read zero-copy slices of it (see
+     * {@link StreamInput#readZeroCopyBytesReference()}). Both must be released once the response was sent.
+     */
     public Releasable takeBreakerReleaseControl() {
         final Releasable toReturn = breakerRelease;
         breakerRelease = null;
-        if (toReturn != null) {
-            return toReturn;
-        } else {
-            return () -> {};
-        }
+        contentReleaseTaken = true;
+        return () -> Releasables.close(toReturn, takeRetainedContent());
     }
 
     public StreamInput openOrGetStreamInput() throws IOException {
         assert isPing == false && content != null;
         if (streamInput == null) {
-            streamInput = content.streamInput();
+            // only requests hand over the release of their content to the response, see takeBreakerReleaseControl
+            streamInput = header.isRequest() ? new InboundContentStreamInput(content) : content.streamInput();
             streamInput.setVersion(header.getVersion());
         }
         return streamInput;
     }
 
+    private ReleasableBytesReference takeRetainedContent() {
+        return streamInput instanceof InboundContentStreamInput ? ((InboundContentStreamInput) streamInput).takeRetainedContent() : null;
+    }
+
     @Override
     public void close() {
         IOUtils.closeWhileHandlingException(streamInput);
-        Releasables.closeWhileHandlingException(content, breakerRelease);
+        Releasables.closeWhileHandlingException(content, breakerRelease, contentReleaseTaken ? null : takeRetainedContent());
     }
 
     @Override
@@ -23,6 +23,7 @@ import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardsIterator;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.support.DefaultShardOperationFailedException;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
@@ -256,6 +257,32 @@ public class TransportSegmentReplicationStatsActionTests extends OpenSearchTestC
         verify(targetService).getOngoingEventSegmentReplicationState(shardId);
     }
 
+    public void testLastCompletedFileTransferStats() {
+        ShardRouting shardRouting = mock(ShardRouting.class);
+        SegmentReplicationState completedSegmentReplicationState = mock(SegmentReplicationState.class);
+        ShardId shardId = new ShardId(new Index("test-index", "test-uuid"), 0);
+        AllocationId allocationId = AllocationId.newInitializing();
+        ReplicationTimer replicationTimerCompleted = mock(ReplicationTimer.class);
+        ReplicationLuceneIndex replicationLuceneIndex = new ReplicationLuceneIndex();
+        replicationLuceneIndex.addFileDetail("name1", 1000, false);
+        replicationLuceneIndex.addFileDetail("name2", 500, true);
+        replicationLuceneIndex.addRecoveredBytesToFile("name1", 1000);
+
+        when(shardRouting.shardId()).thenReturn(shardId);
+        when(shardRouting.allocationId()).thenReturn(allocationId);
+        when(targetService.getlatestCompletedEventSegmentReplicationState(shardId)).thenReturn(completedSegmentReplicationState);
+        when(completedSegmentReplicationState.getTimer()).thenReturn(replicationTimerCompleted);
+        when(completedSegmentReplicationState.getIndex()).thenReturn(replicationLuceneIndex);
+        when(completedSegmentReplicationState.getGetFileStageTime()).thenReturn(TimeValue.timeValueMillis(500));
+
+        SegmentReplicationShardStats segmentReplicationShardStats = action.computeSegmentReplicationShardStats(shardRouting);
+
+        assertEquals(1000, segmentReplicationShardStats.getLastCompletedReplicationBytes());
+        assertEquals(500, segmentReplicationShardStats.getLastCompletedReplicationReusedBytes());
+        assertEquals(500, segmentReplicationShardStats.getLastCompletedFileTransferTimeMillis());
+        assertEquals(2000, segmentReplicationShardStats.getLastCompletedFileTransferBytesPerSecond());
+    }
+
     public void testCalculateBytesRemainingToReplicateWhenNoCompletedAndOngoingState() {
         ShardRouting shardRouting = mock(ShardRouting.class);
         ShardId shardId = new ShardId(new Index("test-index", "test-uuid"), 0);
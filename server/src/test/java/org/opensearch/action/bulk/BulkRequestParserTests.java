@@ -34,11 +34,14 @@ package org.opensearch.action.bulk;
 
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -143,6 +146,73 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
         assertEquals("The bulk request must be terminated by a newline [\\n]", e.getMessage());
     }
 
+    public void testParseChunks() throws IOException {
+        final String body = "{ \"index\":{ \"_id\": \"1\" } }\n{\"field\":\"value1\"}\n"
+            + "{ \"delete\":{ \"_id\": \"2\" } }\n"
+            + "{ \"create\":{ \"_id\": \"3\" } }\n{\"field\":\"value3\"}\n"
+            + "{ \"update\":{ \"_id\": \"4\" } }\n{\"doc\":{\"field\":\"value4\"}}\n";
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        final BulkRequestParser parser = new BulkRequestParser();
+        final List<String> ids = new ArrayList<>();
+        final List<String> sources = new ArrayList<>();
+        // split the body at random positions, possibly in the middle of action or source lines
+        BytesReference pending = BytesArray.EMPTY;
+        int offset = 0;
+        while (offset < bytes.length) {
+            final int length = randomIntBetween(1, bytes.length - offset);
+            final boolean lastChunk = offset + length == bytes.length;
+            final BytesReference chunk = new BytesArray(bytes, offset, length);
+            final BytesReference data = pending.length() == 0 ? chunk : CompositeBytesReference.of(pending, chunk);
+            final int consumed = parser.parse(
+                data,
+                "foo",
+                null,
+                null,
+                null,
+                null,
+                false,
+                MediaTypeRegistry.JSON,
+                lastChunk,
+                indexRequest -> {
+                    ids.add(indexRequest.id());
+                    sources.add(indexRequest.source().utf8ToString());
+                },
+                updateRequest -> ids.add(updateRequest.id()),
+                deleteRequest -> ids.add(deleteRequest.id())
+            );
+            if (lastChunk) {
+                assertEquals(data.length(), consumed);
+            }
+            pending = data.slice(consumed, data.length() - consumed);
+            offset += length;
+        }
+        assertEquals(0, pending.length());
+        assertEquals(List.of("1", "2", "3", "4"), ids);
+        assertEquals(List.of("{\"field\":\"value1\"}", "{\"field\":\"value3\"}"), sources);
+    }
+
+    public void testIncompleteChunkIsNotConsumed() throws IOException {
+        final BytesArray request = new BytesArray("{ \"index\":{ \"_id\": \"1\" } }\n{}\n{ \"index\":{ \"_id\": \"2\" } }\n{\"fi");
+        final BulkRequestParser parser = new BulkRequestParser();
+        final List<String> ids = new ArrayList<>();
+        final int consumed = parser.parse(
+            request,
+            "foo",
+            null,
+            null,
+            null,
+            null,
+            false,
+            MediaTypeRegistry.JSON,
+            false,
+            indexRequest -> ids.add(indexRequest.id()),
+            req -> fail(),
+            req -> fail()
+        );
+        assertEquals(List.of("1"), ids);
+        assertEquals("{ \"index\":{ \"_id\": \"1\" } }\n{}\n".length(), consumed);
+    }
+
     public void testFailOnExplicitIndex() {
         BytesArray request = new BytesArray("{ \"index\":{ \"_index\": \"foo\", \"_id\": \"bar\" } }\n{}\n");
         BulkRequestParser parser = new BulkRequestParser();
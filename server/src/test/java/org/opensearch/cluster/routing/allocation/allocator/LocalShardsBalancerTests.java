@@ -22,6 +22,7 @@ import org.opensearch.cluster.routing.RoutingNodes;
 import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.allocation.AllocationService;
 import org.opensearch.cluster.routing.allocation.RoutingAllocation;
 import org.opensearch.cluster.routing.allocation.decider.AllocationDecider;
 import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
@@ -190,6 +191,68 @@ public class LocalShardsBalancerTests extends OpenSearchAllocationTestCase {
         assertEquals(4, unassignedShards.size());
     }
 
+    public void testBalanceSkipsDecidersForBalancedIndices() {
+        ClusterState state = startedClusterState(DiscoveryNodes.builder().add(node1).add(node2).add(node3));
+        final CountingIndexAllocationDecider decider = new CountingIndexAllocationDecider();
+        RoutingAllocation allocation = rebalanceAllocation(state, decider);
+
+        newBalancer(allocation).balance();
+
+        assertEquals(0, decider.indexDecisions);
+        assertEquals(0, allocation.routingNodes().shardsWithState(ShardRoutingState.RELOCATING).size());
+    }
+
+    public void testBalanceRelocatesShardsOfUnbalancedIndices() {
+        ClusterState state = startedClusterState(DiscoveryNodes.builder().add(node1));
+        state = ClusterState.builder(state).nodes(DiscoveryNodes.builder(state.nodes()).add(node2)).build();
+        final CountingIndexAllocationDecider decider = new CountingIndexAllocationDecider();
+        RoutingAllocation allocation = rebalanceAllocation(state, decider);
+
+        newBalancer(allocation).balance();
+
+        assertTrue(decider.indexDecisions > 0);
+        assertTrue(allocation.routingNodes().shardsWithState(ShardRoutingState.RELOCATING).size() > 0);
+    }
+
+    private ClusterState startedClusterState(DiscoveryNodes.Builder nodes) {
+        Metadata metadata = buildMetadata(Metadata.builder(), 3, 3, 0, 0);
+        ClusterState state = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadata)
+            .routingTable(buildRoutingTable(metadata))
+            .nodes(nodes)
+            .build();
+        AllocationService allocationService = createAllocationService(Settings.EMPTY);
+        state = allocationService.reroute(state, "reroute");
+        while (state.getRoutingNodes().shardsWithState(ShardRoutingState.INITIALIZING).isEmpty() == false) {
+            state = startInitializingShardsAndReroute(allocationService, state);
+        }
+        assertEquals(9, state.getRoutingNodes().shardsWithState(ShardRoutingState.STARTED).size());
+        return state;
+    }
+
+    private RoutingAllocation rebalanceAllocation(ClusterState state, AllocationDecider decider) {
+        return new RoutingAllocation(
+            new AllocationDeciders(Collections.singletonList(decider)),
+            new RoutingNodes(state, false),
+            state,
+            ClusterInfo.EMPTY,
+            null,
+            System.nanoTime()
+        );
+    }
+
+    private LocalShardsBalancer newBalancer(RoutingAllocation allocation) {
+        BalancedShardsAllocator.WeightFunction weightFunction = new BalancedShardsAllocator.WeightFunction(
+            0.55f,
+            0.45f,
+            0.0f,
+            BalancedShardsAllocator.PRIMARY_CONSTRAINT_THRESHOLD_SETTING.get(Settings.EMPTY),
+            false,
+            false
+        );
+        return new LocalShardsBalancer(logger, allocation, null, weightFunction, 1.0f, false, false, false, null);
+    }
+
     private RoutingTable buildRoutingTable(Metadata metadata) {
         RoutingTable.Builder routingTableBuilder = RoutingTable.builder();
         for (Map.Entry<String, IndexMetadata> entry : metadata.getIndices().entrySet()) {
@@ -240,6 +303,17 @@ public class LocalShardsBalancerTests extends OpenSearchAllocationTestCase {
         );
     }
 
+    private static class CountingIndexAllocationDecider extends AllocationDecider {
+
+        private int indexDecisions;
+
+        @Override
+        public Decision canAllocate(IndexMetadata indexMetadata, RoutingNode node, RoutingAllocation allocation) {
+            indexDecisions++;
+            return Decision.YES;
+        }
+    }
+
     public static class TestAllocateDecision extends AllocationDecider {
 
         private final Function<ShardRouting, Decision> decider;
@@ -55,12 +55,18 @@ import java.util.function.Function;
 import static org.opensearch.indices.breaker.HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class BigArraysTests extends OpenSearchTestCase {
 
     private BigArrays randombigArrays() {
-        return new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService());
+        // off-heap pages are randomly enabled, with a limit that is small enough to sometimes exercise the fallback to heap pages
+        final Settings settings = randomBoolean()
+            ? Settings.EMPTY
+            : Settings.builder().put(PageCacheRecycler.LIMIT_OFF_HEAP_SETTING.getKey(), randomFrom("256kb", "1mb", "64mb")).build();
+        return new MockBigArrays(new MockPageCacheRecycler(settings), new NoneCircuitBreakerService());
     }
 
     private BigArrays bigArrays;
@@ -407,6 +413,63 @@ public class BigArraysTests extends OpenSearchTestCase {
         }
     }
 
+    public void testOffHeapPages() {
+        final long limit = ByteSizeUnit.MB.toBytes(1);
+        final PageCacheRecycler recycler = new PageCacheRecycler(
+            Settings.builder().put(PageCacheRecycler.LIMIT_OFF_HEAP_SETTING.getKey(), limit + "b").build()
+        );
+        assertTrue(recycler.hasOffHeapPages());
+        final BigArrays bigArrays = new BigArrays(recycler, null, CircuitBreaker.REQUEST);
+
+        final int size = randomIntBetween(PageCacheRecycler.LONG_PAGE_SIZE + 1, 4 * PageCacheRecycler.LONG_PAGE_SIZE);
+        LongArray longs = bigArrays.newLongArray(size);
+        DoubleArray doubles = bigArrays.newDoubleArray(size);
+        assertThat(longs, instanceOf(OffHeapBigLongArray.class));
+        assertThat(doubles, instanceOf(OffHeapBigDoubleArray.class));
+        // byte arrays always stay on heap
+        assertThat(bigArrays.newByteArray(2 * PageCacheRecycler.BYTE_PAGE_SIZE), instanceOf(BigByteArray.class));
+        for (int i = 0; i < size; i++) {
+            assertEquals(0, longs.get(i));
+            assertEquals(0, doubles.get(i), 0);
+            longs.set(i, i);
+            doubles.increment(i, i / 2d);
+        }
+
+        // growing keeps the array off-heap and its content
+        longs = bigArrays.grow(longs, 2 * size);
+        doubles = bigArrays.grow(doubles, 2 * size);
+        assertThat(longs, instanceOf(OffHeapBigLongArray.class));
+        assertThat(doubles, instanceOf(OffHeapBigDoubleArray.class));
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, longs.get(i));
+            assertEquals(i / 2d, doubles.get(i), 0);
+        }
+        longs.close();
+        doubles.close();
+
+        // pages are recycled and cleared, so the native memory stays within the limit however many arrays get allocated
+        final long allocated = recycler.offHeapBytesAllocated();
+        assertThat(allocated, lessThanOrEqualTo(limit));
+        for (int round = 0; round < 10; round++) {
+            LongArray array = bigArrays.newLongArray(size);
+            for (int i = 0; i < size; i++) {
+                assertEquals(0, array.increment(i, 1) - 1);
+            }
+            array.close();
+        }
+        assertEquals(allocated, recycler.offHeapBytesAllocated());
+
+        // once the limit is reached, arrays are backed by heap pages
+        final int pagesOverLimit = (int) (limit / PageCacheRecycler.PAGE_SIZE_IN_BYTES) + 2;
+        LongArray array = bigArrays.newLongArray((long) pagesOverLimit * PageCacheRecycler.LONG_PAGE_SIZE);
+        array.fill(0, array.size(), 42);
+        for (long i = 0; i < array.size(); i += randomIntBetween(1, 1000)) {
+            assertEquals(42, array.get(i));
+        }
+        assertEquals(limit, recycler.offHeapBytesAllocated());
+        array.close();
+    }
+
     public void testOverSizeUsesMinPageCount() {
         final int pageSize = 1 << (randomIntBetween(2, 16));
         final int minSize = randomIntBetween(1, pageSize) * randomIntBetween(1, 100);
@@ -0,0 +1,108 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.util.concurrent;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class StripedLockTests extends OpenSearchTestCase {
+
+    public void testStripesRoundedToPowerOfTwo() {
+        assertThat(new StripedLock<String>(1).stripes(), equalTo(1));
+        assertThat(new StripedLock<String>(2).stripes(), equalTo(2));
+        assertThat(new StripedLock<String>(3).stripes(), equalTo(4));
+        assertThat(new StripedLock<String>(64).stripes(), equalTo(64));
+        assertThat(new StripedLock<String>(65).stripes(), equalTo(128));
+        expectThrows(IllegalArgumentException.class, () -> new StripedLock<String>(0));
+    }
+
+    public void testHasLockedKeys() {
+        StripedLock<String> lock = new StripedLock<>(randomIntBetween(1, 32));
+        assertFalse(lock.hasLockedKeys());
+        Releasable foo = lock.acquire("foo");
+        assertTrue(lock.hasLockedKeys());
+        assertTrue(lock.isHeldByCurrentThread("foo"));
+        foo.close();
+        // closing twice must not unlock a stripe that another acquisition holds
+        Releasable again = lock.acquire("foo");
+        foo.close();
+        assertTrue(lock.isHeldByCurrentThread("foo"));
+        again.close();
+        assertFalse(lock.hasLockedKeys());
+        assertFalse(lock.isHeldByCurrentThread("foo"));
+    }
+
+    public void testTryAcquire() throws InterruptedException {
+        StripedLock<String> lock = new StripedLock<>(randomIntBetween(1, 32));
+        Releasable foo = lock.tryAcquire("foo");
+        assertNotNull(foo);
+        Releasable reentrant = lock.tryAcquire("foo");
+        assertNotNull(reentrant);
+        reentrant.close();
+        assertTrue(lock.hasLockedKeys());
+
+        final AtomicBoolean acquiredByOther = new AtomicBoolean(true);
+        Thread thread = new Thread(() -> {
+            Releasable other = lock.tryAcquire("foo");
+            acquiredByOther.set(other != null);
+            if (other != null) {
+                other.close();
+            }
+        });
+        thread.start();
+        thread.join();
+        assertFalse(acquiredByOther.get());
+        foo.close();
+        assertFalse(lock.hasLockedKeys());
+    }
+
+    public void testMutualExclusion() throws InterruptedException {
+        StripedLock<String> lock = new StripedLock<>(randomIntBetween(1, 8));
+        String[] keys = new String[randomIntBetween(1, 40)];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = randomAlphaOfLengthBetween(5, 10);
+        }
+        // plain, unsynchronized counters that are only correct if every increment happens under the key's stripe
+        int[] counters = new int[keys.length];
+        int numThreads = randomIntBetween(2, 8);
+        int iterations = randomIntBetween(100, 1000);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < iterations; i++) {
+                    for (int k = 0; k < keys.length; k++) {
+                        try (Releasable ignore = lock.acquire(keys[k])) {
+                            counters[k]++;
+                        }
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int counter : counters) {
+            assertThat(counter, equalTo(numThreads * iterations));
+        }
+        assertFalse(lock.hasLockedKeys());
+    }
+}
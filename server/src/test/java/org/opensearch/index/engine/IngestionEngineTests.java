@@ -14,8 +14,10 @@ import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.service.ClusterApplierService;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.VersionType;
 import org.opensearch.index.mapper.DocumentMapperForType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.seqno.SequenceNumbers;
@@ -40,6 +42,7 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.mockito.Mockito;
 
+import static org.opensearch.action.index.IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
@@ -226,6 +229,50 @@ public class IngestionEngineTests extends EngineTestCase {
         assertFalse(ingestionEngine.shouldPeriodicallyFlush());
     }
 
+    public void testApplyBatch() throws IOException {
+        waitForResults(ingestionEngine, 2);
+        List<IngestionEngine.BatchOperation> operations = List.of(
+            new IngestionEngine.BatchOperation(indexOperation("3", 5, VersionType.EXTERNAL), false),
+            new IngestionEngine.BatchOperation(indexOperation("4", 1, VersionType.EXTERNAL), true),
+            new IngestionEngine.BatchOperation(indexOperation("5", Versions.MATCH_ANY, VersionType.INTERNAL), true),
+            // conflicts with the version of the document created earlier in the same batch
+            new IngestionEngine.BatchOperation(indexOperation("4", 1, VersionType.EXTERNAL), true),
+            new IngestionEngine.BatchOperation(indexOperation("6", Versions.MATCH_ANY, VersionType.INTERNAL), true)
+        );
+
+        IngestionEngine.BatchResult result = ingestionEngine.applyBatch(operations);
+        assertEquals(3, result.appliedCount());
+        assertTrue(result.failure() instanceof VersionConflictEngineException);
+
+        result = ingestionEngine.applyBatch(operations.subList(4, 5));
+        assertEquals(1, result.appliedCount());
+        assertNull(result.failure());
+        waitForResults(ingestionEngine, 6);
+
+        // the version of an earlier batch is resolved from the version map or the index
+        IngestionEngine.BatchOperation staleVersion = new IngestionEngine.BatchOperation(indexOperation("3", 4, VersionType.EXTERNAL), false);
+        result = ingestionEngine.applyBatch(List.of(staleVersion));
+        assertEquals(0, result.appliedCount());
+        assertTrue(result.failure() instanceof VersionConflictEngineException);
+    }
+
+    private static Engine.Index indexOperation(String id, long version, VersionType versionType) {
+        return new Engine.Index(
+            newUid(id),
+            createParsedDoc(id, null),
+            0,
+            1,
+            version,
+            versionType,
+            Engine.Operation.Origin.PRIMARY,
+            System.nanoTime(),
+            UNSET_AUTO_GENERATED_TIMESTAMP,
+            false,
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            0
+        );
+    }
+
     private IngestionEngine buildIngestionEngine(
         AtomicLong globalCheckpoint,
         Store store,
@@ -60,6 +60,7 @@ public class MergedSegmentTransferTrackerTests extends OpenSearchTestCase {
         tracker.addTotalReceiveTimeMillis(300);
         tracker.addTotalBytesSent(1024);
         tracker.addTotalBytesReceived(2048);
+        tracker.addTotalBytesSaved(4096);
 
         MergedSegmentWarmerStats stats = tracker.stats();
         assertEquals(new TimeValue(100), stats.getTotalTime());
@@ -67,6 +68,7 @@ public class MergedSegmentTransferTrackerTests extends OpenSearchTestCase {
         assertEquals(new TimeValue(300), stats.getTotalReceiveTime());
         assertEquals(1024, stats.getTotalSentSize().getBytes());
         assertEquals(2048, stats.getTotalReceivedSize().getBytes());
+        assertEquals(4096, stats.getTotalSavedSize().getBytes());
     }
 
     public void testCumulativeStats() {
@@ -100,7 +100,7 @@ public class MergedSegmentWarmerStatsTests extends OpenSearchTestCase {
 
     public void testSerialization() throws IOException {
         MergedSegmentWarmerStats original = new MergedSegmentWarmerStats();
-        original.add(5, 100, 2, 1024, 2048, 50, 75, 3);
+        original.add(5, 100, 2, 1024, 2048, 50, 75, 3, 4096);
 
         BytesStreamOutput out = new BytesStreamOutput();
         original.writeTo(out);
@@ -117,6 +117,7 @@ public class MergedSegmentWarmerStatsTests extends OpenSearchTestCase {
         assertEquals(original.getTotalSendTime().millis(), deserialized.getTotalSendTime().millis());
         assertEquals(original.getTotalReceiveTime().millis(), deserialized.getTotalReceiveTime().millis());
         assertEquals(original.getOngoingCount(), deserialized.getOngoingCount());
+        assertEquals(original.getTotalSavedSize().getBytes(), deserialized.getTotalSavedSize().getBytes());
     }
 
     public void testToXContent() throws IOException {
@@ -138,6 +139,7 @@ public class MergedSegmentWarmerStatsTests extends OpenSearchTestCase {
         assertTrue(json.contains("total_send_time_millis"));
         assertTrue(json.contains("total_receive_time_millis"));
         assertTrue(json.contains("ongoing_count"));
+        assertTrue(json.contains("total_bytes_saved"));
     }
 
     public void testGetters() {
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.search.stats;
+
+import org.opensearch.search.deciders.ConcurrentSearchCostModel;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ConcurrentSearchHistoryTests extends OpenSearchTestCase {
+
+    public void testSamplesSequentialSearch() {
+        final ConcurrentSearchHistory history = new ConcurrentSearchHistory();
+        final ConcurrentSearchCostModel.Decision decision = new ConcurrentSearchCostModel(1.25).evaluate(
+            10_000_000,
+            1,
+            1_250_000,
+            8,
+            0,
+            8,
+            0,
+            Double.NaN
+        );
+        assertTrue(decision.isConcurrent());
+
+        int samples = 0;
+        for (int i = 0; i < 3 * ConcurrentSearchHistory.SEQUENTIAL_SAMPLE_INTERVAL; i++) {
+            final ConcurrentSearchCostModel.Decision applied = history.onDecision(decision);
+            if (applied.isSequentialSample()) {
+                assertFalse(applied.isConcurrent());
+                samples++;
+            } else {
+                assertSame(decision, applied);
+            }
+        }
+        assertEquals(3, samples);
+        assertEquals(3 * ConcurrentSearchHistory.SEQUENTIAL_SAMPLE_INTERVAL, history.concurrentDecisions.count());
+        assertEquals(0, history.sequentialDecisions.count());
+    }
+
+    public void testRealizedSpeedupOnlyComparesSamples() {
+        final ConcurrentSearchHistory history = new ConcurrentSearchHistory();
+        assertEquals(0, history.realizedSpeedup(), 0d);
+
+        history.onQueryPhase(true, false, 1000, 1, 10_000);
+        // cheap requests that the model kept sequential do not tell anything about the speed-up
+        history.onQueryPhase(false, false, 1000, 1, 1_000);
+        assertEquals(1, history.sequentialNanosPerDoc(), 0d);
+        assertEquals(0, history.realizedSpeedup(), 0d);
+
+        history.onQueryPhase(false, true, 1000, 1, 40_000);
+        assertEquals(4, history.realizedSpeedup(), 0d);
+    }
+
+    public void testNormalizesByQueryCost() {
+        final ConcurrentSearchHistory history = new ConcurrentSearchHistory();
+        history.onQueryPhase(false, false, 1000, 4, 8_000);
+        assertEquals(2, history.sequentialNanosPerDoc(), 0d);
+        history.onQueryPhase(true, false, 1000, 2, 1_000);
+        assertEquals(0.5, history.concurrentNanosPerDoc(), 0d);
+    }
+}
@@ -67,6 +67,10 @@ public class SearchStatsTests extends OpenSearchTestCase implements SearchReques
             .concurrentQueryTimeInMillis(1)
             .concurrentQueryCurrent(1)
             .queryConcurrency(1)
+            .concurrentDecisionYesCount(1)
+            .concurrentDecisionNoCount(1)
+            .concurrentDecisionSaturatedCount(1)
+            .concurrentRealizedSpeedup(2.0)
             .fetchCount(1)
             .fetchTimeInMillis(1)
             .fetchCurrent(1)
@@ -144,6 +148,11 @@ public class SearchStatsTests extends OpenSearchTestCase implements SearchReques
         assertEquals(equalTo, stats.getConcurrentQueryCount());
         assertEquals(equalTo, stats.getConcurrentQueryTimeInMillis());
         assertEquals(equalTo, stats.getConcurrentQueryCurrent());
+        assertEquals(equalTo, stats.getConcurrentDecisionYesCount());
+        assertEquals(equalTo, stats.getConcurrentDecisionNoCount());
+        assertEquals(equalTo, stats.getConcurrentDecisionSaturatedCount());
+        // the realized speed-up is averaged across stats
+        assertEquals(2.0, stats.getConcurrentRealizedSpeedup(), 0);
         assertEquals(equalTo, stats.getStarTreeQueryCount());
         assertEquals(equalTo, stats.getStarTreeQueryTimeInMillis());
         assertEquals(equalTo, stats.getStarTreeQueryCurrent());
@@ -11,6 +11,8 @@ package org.opensearch.index.shard;
 import org.apache.lucene.codecs.Codec;
 import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.admin.indices.flush.FlushRequest;
 import org.opensearch.action.admin.indices.forcemerge.ForceMergeRequest;
@@ -31,6 +33,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.CancellableThreads;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.index.IndexService;
@@ -87,6 +90,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -156,6 +160,81 @@ public class SegmentReplicationIndexShardTests extends OpenSearchIndexLevelRepli
         }
     }
 
+    public void testVerifiedFilesKeptAcrossFailedReplication() throws Exception {
+        try (ReplicationGroup shards = createGroup(1, getIndexSettings(), indexMapping, new NRTReplicationEngineFactory())) {
+            shards.startAll();
+            final IndexShard primaryShard = shards.getPrimary();
+            final IndexShard replicaShard = shards.getReplicas().get(0);
+
+            int numDocs = randomIntBetween(10, 20);
+            shards.indexDocs(numDocs);
+            primaryShard.refresh("test");
+            flushShard(primaryShard);
+
+            // the first round receives all files but the last one completely, then fails or is cancelled
+            final Set<String> filesBefore = Set.of(replicaShard.store().directory().listAll());
+            final List<String> firstRoundFiles = new ArrayList<>();
+            replicateWithCopyingSource(primaryShard, replicaShard, firstRoundFiles, true, randomBoolean());
+            assertTrue(firstRoundFiles.size() > 1);
+            final String partialFile = firstRoundFiles.get(firstRoundFiles.size() - 1);
+            final Set<String> keptFiles = new HashSet<>(firstRoundFiles);
+            keptFiles.remove(partialFile);
+
+            // the verified files are kept under their true name, the partially received file and all temporary files are gone
+            final Set<String> newFiles = new HashSet<>(Arrays.asList(replicaShard.store().directory().listAll()));
+            newFiles.removeAll(filesBefore);
+            assertEquals(keptFiles, newFiles);
+            assertEquals(keptFiles, replicaShard.getReusableReplicationFiles());
+
+            // the next round only copies the file that was not received completely
+            final List<String> secondRoundFiles = new ArrayList<>();
+            final SegmentReplicationTarget target = replicateWithCopyingSource(primaryShard, replicaShard, secondRoundFiles, false, false);
+            assertEquals(List.of(partialFile), secondRoundFiles);
+            for (String keptFile : keptFiles) {
+                assertTrue(target.state().getIndex().getFileDetails(keptFile).reused());
+            }
+            shards.assertAllEqual(numDocs);
+            assertTrue(replicaShard.getReusableReplicationFiles().isEmpty());
+            assertEqualCommittedSegments(primaryShard, replicaShard);
+        }
+    }
+
+    public void testUnreferencedVerifiedFilesCleanedUp() throws Exception {
+        try (ReplicationGroup shards = createGroup(1, getIndexSettings(), indexMapping, new NRTReplicationEngineFactory())) {
+            shards.startAll();
+            final IndexShard primaryShard = shards.getPrimary();
+            final IndexShard replicaShard = shards.getReplicas().get(0);
+
+            int numDocs = randomIntBetween(10, 20);
+            shards.indexDocs(numDocs);
+            primaryShard.refresh("test");
+            flushShard(primaryShard);
+
+            final List<String> firstRoundFiles = new ArrayList<>();
+            replicateWithCopyingSource(primaryShard, replicaShard, firstRoundFiles, true, randomBoolean());
+            final Set<String> keptFiles = Set.copyOf(replicaShard.getReusableReplicationFiles());
+            assertFalse(keptFiles.isEmpty());
+
+            // the primary merges the segments the kept files belong to away before the next round
+            shards.indexDocs(numDocs);
+            primaryShard.refresh("test");
+            flushShard(primaryShard);
+            primaryShard.forceMerge(new ForceMergeRequest("test").maxNumSegments(1));
+            primaryShard.refresh("test");
+            flushShard(primaryShard);
+
+            replicateSegments(primaryShard, List.of(replicaShard));
+            shards.assertAllEqual(2 * numDocs);
+
+            // the completed round doesn't reference the kept files, so they are deleted
+            final Set<String> replicaFiles = Set.of(replicaShard.store().directory().listAll());
+            for (String keptFile : keptFiles) {
+                assertFalse(keptFile + " should have been cleaned up", replicaFiles.contains(keptFile));
+            }
+            assertTrue(replicaShard.getReusableReplicationFiles().isEmpty());
+        }
+    }
+
     @TestLogging(reason = "Getting trace logs from MergedSegmentWarmer", value = "org.opensearch.index.engine.MergedSegmentWarmer:TRACE")
     public void testMergedSegmentReplication() throws Exception {
         // Test that the pre-copy merged segment logic does not block the merge process of the primary shard when there are 1 replica shard.
@@ -337,6 +416,66 @@ public class SegmentReplicationIndexShardTests extends OpenSearchIndexLevelRepli
         }
     }
 
+    public void testPreCopiedMergedSegmentReusedByReplication() throws Exception {
+        final RecoverySettings recoverySettings = new RecoverySettings(
+            Settings.builder().put(RecoverySettings.INDICES_MERGED_SEGMENT_REPLICATION_WARMER_ENABLED_SETTING.getKey(), true).build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        );
+        try (
+            ReplicationGroup shards = createGroup(
+                1,
+                getIndexSettings(),
+                indexMapping,
+                new NRTReplicationEngineFactory(),
+                recoverySettings,
+                MergedSegmentPublisher.EMPTY
+            )
+        ) {
+            shards.startAll();
+            final IndexShard primaryShard = shards.getPrimary();
+            final IndexShard replicaShard = shards.getReplicas().get(0);
+
+            int numDocs = randomIntBetween(10, 20);
+            shards.indexDocs(numDocs);
+            primaryShard.refresh("test");
+            flushShard(primaryShard);
+
+            shards.indexDocs(numDocs);
+            primaryShard.refresh("test");
+            flushShard(primaryShard);
+            replicateSegments(primaryShard, List.of(replicaShard));
+            assertEquals(0L, replicaShard.mergedSegmentTransferTracker().stats().getTotalSavedSize().getBytes());
+
+            // pre-copy the merged segment before the replica catches up with the checkpoint that references it
+            primaryShard.forceMerge(new ForceMergeRequest("test").maxNumSegments(1));
+            primaryShard.refresh("test");
+            replicateMergedSegments(primaryShard, List.of(replicaShard));
+            assertEquals(1, replicaShard.getPendingMergedSegmentCheckpoints().size());
+
+            // all files the replica misses belong to the pre-copied merged segment
+            final Set<String> replicaSegmentFiles = replicaShard.getSegmentMetadataMap().keySet();
+            long expectedSavedBytes = 0;
+            for (StoreFileMetadata file : primaryShard.getLatestReplicationCheckpoint().getMetadataMap().values()) {
+                if (replicaSegmentFiles.contains(file.name()) == false) {
+                    assertTrue(file.name(), replicaShard.isPendingMergedSegmentFile(file.name()));
+                    expectedSavedBytes += file.length();
+                }
+            }
+            assertTrue(expectedSavedBytes > 0);
+
+            final List<SegmentReplicationTarget> targets = replicateSegments(primaryShard, List.of(replicaShard));
+            shards.assertAllEqual(2 * numDocs);
+            assertEquals(1, replicaShard.segments(false).size());
+            assertEquals(0, replicaShard.getPendingMergedSegmentCheckpoints().size());
+
+            // the merged segment was reused rather than copied again, and counted as saved
+            final SegmentReplicationState state = targets.get(0).state();
+            assertEquals(expectedSavedBytes, state.getIndex().reusedBytes());
+            assertEquals(0L, state.getIndex().recoveredBytes());
+            assertEquals(expectedSavedBytes, replicaShard.mergedSegmentTransferTracker().stats().getTotalSavedSize().getBytes());
+        }
+    }
+
     /**
      * Test that latestReplicationCheckpoint returns null only for docrep enabled indices
      */
@@ -1239,6 +1378,89 @@ public class SegmentReplicationIndexShardTests extends OpenSearchIndexLevelRepli
         }
     }
 
+    /**
+     * Runs a replication round on the replica with a source that copies the files from the primary and records their names. A failing
+     * round receives all files but the last one completely, then fails or is cancelled.
+     */
+    private SegmentReplicationTarget replicateWithCopyingSource(
+        IndexShard primary,
+        IndexShard replica,
+        List<String> fetchedFiles,
+        boolean fail,
+        boolean cancel
+    ) {
+        final AtomicReference<SegmentReplicationTarget> targetRef = new AtomicReference<>();
+        final SegmentReplicationSource source = new TestReplicationSource() {
+            @Override
+            public void getCheckpointMetadata(
+                long replicationId,
+                ReplicationCheckpoint checkpoint,
+                ActionListener<CheckpointInfoResponse> listener
+            ) {
+                resolveCheckpointInfoResponseListener(listener, primary);
+            }
+
+            @Override
+            public void getSegmentFiles(
+                long replicationId,
+                ReplicationCheckpoint checkpoint,
+                List<StoreFileMetadata> filesToFetch,
+                IndexShard indexShard,
+                BiConsumer<String, Long> fileProgressTracker,
+                ActionListener<GetSegmentFilesResponse> listener
+            ) {
+                try {
+                    for (int i = 0; i < filesToFetch.size(); i++) {
+                        final StoreFileMetadata md = filesToFetch.get(i);
+                        fetchedFiles.add(md.name());
+                        final boolean partial = fail && i == filesToFetch.size() - 1;
+                        try (IndexInput in = primary.store().directory().openInput(md.name(), IOContext.READONCE)) {
+                            final int length = partial ? Math.toIntExact(md.length() / 2) : Math.toIntExact(md.length());
+                            final byte[] buffer = new byte[length];
+                            in.readBytes(buffer, 0, length);
+                            targetRef.get()
+                                .writeFileChunk(md, 0, new BytesArray(buffer), partial == false, 0, ActionListener.wrap(() -> {}));
+                        }
+                    }
+                } catch (IOException e) {
+                    listener.onFailure(e);
+                    return;
+                }
+                if (fail) {
+                    listener.onFailure(new IOException("simulated failure after copying files"));
+                } else {
+                    listener.onResponse(new GetSegmentFilesResponse(filesToFetch));
+                }
+            }
+        };
+        final SegmentReplicationTarget target = new SegmentReplicationTarget(
+            replica,
+            primary.getLatestReplicationCheckpoint(),
+            source,
+            mock(SegmentReplicationTargetService.SegmentReplicationListener.class)
+        );
+        targetRef.set(target);
+        target.startReplication(new ActionListener<>() {
+            @Override
+            public void onResponse(Void response) {
+                assertFalse("replication should fail", fail);
+                target.markAsDone();
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                assertTrue("replication should not fail: " + e, fail);
+                if (cancel) {
+                    target.cancel("test");
+                } else {
+                    target.fail(new ReplicationFailedException(e), false);
+                }
+            }
+        }, (checkpoint, indexShard) -> {});
+        assertEquals(0, target.refCount());
+        return target;
+    }
+
     protected void startReplicationAndAssertCancellation(
         IndexShard replica,
         IndexShard primary,
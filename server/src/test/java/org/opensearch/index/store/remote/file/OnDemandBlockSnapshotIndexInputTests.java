@@ -32,11 +32,14 @@ import org.junit.Before;
 import java.io.EOFException;
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -102,6 +105,43 @@ public class OnDemandBlockSnapshotIndexInputTests extends OpenSearchTestCase {
         );
     }
 
+    public void testSequentialReadsPrefetchAhead() throws Exception {
+        final int blockSizeShift = 20;
+        final int blockSize = 1 << blockSizeShift;
+        when(transferManager.getPrefetchBlocks()).thenReturn(4);
+        try (OnDemandBlockSnapshotIndexInput indexInput = createOnDemandBlockSnapshotIndexInput(blockSizeShift)) {
+            // a single block is no sequential access yet
+            indexInput.seek(0);
+            verify(transferManager, never()).prefetchBlobs(any());
+
+            // crossing into the next block reads ahead the next four blocks
+            indexInput.seek(blockSize);
+            verify(transferManager).prefetchBlobs(argThat(requests -> isBlockRange(requests, 2, 5)));
+
+            // the window is only topped up once half of it was consumed
+            indexInput.seek(2L * blockSize);
+            verify(transferManager, times(1)).prefetchBlobs(any());
+            indexInput.seek(3L * blockSize);
+            verify(transferManager).prefetchBlobs(argThat(requests -> isBlockRange(requests, 6, 7)));
+
+            // a random seek does not read ahead
+            indexInput.seek(20L * blockSize);
+            verify(transferManager, times(2)).prefetchBlobs(any());
+        }
+    }
+
+    private static boolean isBlockRange(List<BlobFetchRequest> requests, int firstBlockId, int lastBlockId) {
+        if (requests.size() != lastBlockId - firstBlockId + 1) {
+            return false;
+        }
+        for (int i = 0; i < requests.size(); i++) {
+            if (requests.get(i).getFileName().equals(BLOCK_FILE_PREFIX + "_block_" + (firstBlockId + i)) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void verifyChunkedRepository(long blockSize, long repositoryChunkSize, long fileSize) throws IOException {
         when(transferManager.fetchBlob(any())).thenReturn(new ByteArrayIndexInput("test", new byte[(int) blockSize]));
         try (
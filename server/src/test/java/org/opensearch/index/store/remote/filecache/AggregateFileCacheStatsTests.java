@@ -19,6 +19,8 @@ import org.opensearch.index.store.remote.utils.cache.stats.RefCountedCacheStats;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 public class AggregateFileCacheStatsTests extends OpenSearchTestCase {
     private static final long BYTES_IN_GB = 1024 * 1024 * 1024;
@@ -135,10 +137,32 @@ public class AggregateFileCacheStatsTests extends OpenSearchTestCase {
                 stats.hitCount(),
                 stats.missCount(),
                 FileCacheStatsType.PINNED_FILE_STATS
-            )
+            ),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 10000),
+            randomLongBetween(0, 10000),
+            getMockIndexPrefetchStats()
         );
     }
 
+    public static Map<String, IndexPrefetchStats> getMockIndexPrefetchStats() {
+        final Map<String, IndexPrefetchStats> stats = new HashMap<>();
+        final int indexCount = randomIntBetween(0, 3);
+        for (int i = 0; i < indexCount; i++) {
+            stats.put(
+                randomAlphaOfLength(10),
+                new IndexPrefetchStats(
+                    randomLongBetween(0, 10000),
+                    randomLongBetween(0, 10000),
+                    randomLongBetween(0, 10000),
+                    randomLongBetween(0, 10000)
+                )
+            );
+        }
+        return stats;
+    }
+
     public static FileCacheStats getMockFullFileCacheStats() {
         final long active = randomLongBetween(100000, BYTES_IN_GB);
         final long total = randomLongBetween(100000, BYTES_IN_GB);
@@ -175,6 +199,18 @@ public class AggregateFileCacheStatsTests extends OpenSearchTestCase {
         assertEquals(original.getCacheHits(), deserialized.getCacheHits());
         assertEquals(original.getCacheMisses(), deserialized.getCacheMisses());
         assertEquals(original.getTimestamp(), deserialized.getTimestamp());
+        assertEquals(original.getPrefetchedCount(), deserialized.getPrefetchedCount());
+        assertEquals(original.getPrefetchHitCount(), deserialized.getPrefetchHitCount());
+        assertEquals(original.getPrefetchWastedCount(), deserialized.getPrefetchWastedCount());
+        assertEquals(original.getPrefetchRangeReadCount(), deserialized.getPrefetchRangeReadCount());
+        assertEquals(original.getIndexPrefetchStats().keySet(), deserialized.getIndexPrefetchStats().keySet());
+        for (Map.Entry<String, IndexPrefetchStats> entry : original.getIndexPrefetchStats().entrySet()) {
+            final IndexPrefetchStats indexStats = deserialized.getIndexPrefetchStats().get(entry.getKey());
+            assertEquals(entry.getValue().getPrefetchedCount(), indexStats.getPrefetchedCount());
+            assertEquals(entry.getValue().getHitCount(), indexStats.getHitCount());
+            assertEquals(entry.getValue().getWastedCount(), indexStats.getWastedCount());
+            assertEquals(entry.getValue().getRangeReadCount(), indexStats.getRangeReadCount());
+        }
 
         XContentBuilder builder = XContentFactory.jsonBuilder();
         builder.startObject();
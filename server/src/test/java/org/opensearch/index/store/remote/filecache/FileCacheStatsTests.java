@@ -27,6 +27,7 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         final long removed = randomLongBetween(0, 10);
         final long hits = randomLongBetween(0, 10);
         final long misses = randomLongBetween(0, 10);
+        final long admissionRejections = randomLongBetween(0, 10);
 
         return new FileCacheStats(
             active,
@@ -37,6 +38,7 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
             removed,
             hits,
             misses,
+            admissionRejections,
             AggregateFileCacheStats.FileCacheStatsType.OVER_ALL_STATS
         );
     }
@@ -48,6 +50,8 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         assertEquals(expected.getRemoved(), actual.getRemoved());
         assertEquals(expected.getHits(), actual.getHits());
         assertEquals(expected.getCacheMisses(), actual.getCacheMisses());
+        assertEquals(expected.getAdmissionRejections(), actual.getAdmissionRejections());
+        assertEquals(expected.getHitRatio(), actual.getHitRatio(), 0.0);
         assertEquals(expected.getActivePercent(), actual.getActivePercent());
     }
 
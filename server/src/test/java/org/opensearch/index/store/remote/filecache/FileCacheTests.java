@@ -20,6 +20,7 @@ import org.opensearch.env.NodeEnvironment;
 import org.opensearch.index.store.remote.directory.RemoteSnapshotDirectoryFactory;
 import org.opensearch.index.store.remote.file.CleanerDaemonThreadLeakFilter;
 import org.opensearch.index.store.remote.utils.FileTypeUtils;
+import org.opensearch.index.store.remote.utils.PrefetchStats;
 import org.opensearch.node.Node;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
@@ -30,6 +31,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 
@@ -556,6 +558,23 @@ public class FileCacheTests extends OpenSearchTestCase {
         assertEquals(2000, fileCache.size());
     }
 
+    public void testPrefetchStatsPerIndex() {
+        FileCache fileCache = createFileCache(MEGA_BYTES);
+        Path cachePath = path.resolve(NodeEnvironment.CACHE_FOLDER);
+        Path firstShardFile = cachePath.resolve("uuid-1").resolve("0").resolve(RemoteSnapshotDirectoryFactory.LOCAL_STORE_LOCATION);
+        Path secondShardFile = cachePath.resolve("uuid-1").resolve("1").resolve(RemoteSnapshotDirectoryFactory.LOCAL_STORE_LOCATION);
+        Path otherIndexFile = cachePath.resolve("uuid-2").resolve("0").resolve(RemoteSnapshotDirectoryFactory.LOCAL_STORE_LOCATION);
+
+        PrefetchStats indexStats = fileCache.prefetchStats(firstShardFile.resolve("_0.cfs_block_0"));
+        assertSame(indexStats, fileCache.prefetchStats(secondShardFile.resolve("_1.cfs_block_0")));
+        assertNotSame(indexStats, fileCache.prefetchStats(otherIndexFile.resolve("_0.cfs_block_0")));
+        assertNotSame(indexStats, fileCache.prefetchStats());
+        assertEquals(Set.of("uuid-1", "uuid-2"), fileCache.fileCacheStats().getIndexPrefetchStats().keySet());
+
+        fileCache.removePrefetchStats("uuid-1");
+        assertEquals(Set.of("uuid-2"), fileCache.fileCacheStats().getIndexPrefetchStats().keySet());
+    }
+
     public static class StubCachedIndexInput implements CachedIndexInput {
 
         private final long length;
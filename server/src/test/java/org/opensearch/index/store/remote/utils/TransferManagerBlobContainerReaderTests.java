@@ -40,4 +40,11 @@ public class TransferManagerBlobContainerReaderTests extends TransferManagerTest
             return new ByteArrayInputStream(createData());
         }).when(blobContainer).readBlob(eq("blocking-blob"), anyLong(), anyLong());
     }
+
+    protected void mockFailAfterLatchReader(CountDownLatch latch) throws IOException {
+        doAnswer(i -> {
+            latch.await();
+            throw new IOException("Expected test exception");
+        }).doAnswer(i -> new ByteArrayInputStream(createData())).when(blobContainer).readBlob(eq("flaky-blob"), anyLong(), anyLong());
+    }
 }
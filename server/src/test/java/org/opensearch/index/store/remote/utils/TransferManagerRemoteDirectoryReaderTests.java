@@ -53,4 +53,13 @@ public class TransferManagerRemoteDirectoryReaderTests extends TransferManagerTe
             return new ByteArrayIndexInput("blocking-blob", createData());
         }).when(remoteDirectory).openBlockInput(eq("blocking-blob"), anyLong(), anyLong(), anyLong(), any());
     }
+
+    protected void mockFailAfterLatchReader(CountDownLatch latch) throws IOException {
+        doAnswer(i -> {
+            latch.await();
+            throw new IOException("Expected test exception");
+        }).doAnswer(i -> new ByteArrayIndexInput("flaky-blob", createData()))
+            .when(remoteDirectory)
+            .openBlockInput(eq("flaky-blob"), anyLong(), anyLong(), anyLong(), any());
+    }
 }
@@ -23,6 +23,7 @@ import org.junit.After;
 import org.junit.Before;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -336,12 +337,96 @@ public abstract class TransferManagerTestCase extends OpenSearchTestCase {
         assertEquals(Optional.of(1), Optional.of(fileCache.getRef(blobFetchRequest.getFilePath())));
     }
 
+    public void testPrefetchCoalescesAdjacentBlobs() throws Exception {
+        final int halfBlob = EIGHT_MB / 2;
+        final List<BlobFetchRequest> requests = List.of(
+            BlobFetchRequest.builder()
+                .fileName("block-0")
+                .directory(directory)
+                .blobParts(List.of(new BlobFetchRequest.BlobPart("blob", 0, halfBlob)))
+                .build(),
+            BlobFetchRequest.builder()
+                .fileName("block-1")
+                .directory(directory)
+                .blobParts(List.of(new BlobFetchRequest.BlobPart("blob", halfBlob, halfBlob)))
+                .build()
+        );
+        transferManager.prefetchBlobs(requests);
+        assertBusy(() -> {
+            for (BlobFetchRequest request : requests) {
+                assertEquals(Optional.of(0), Optional.ofNullable(fileCache.getRef(request.getFilePath())));
+            }
+        });
+        final PrefetchStats stats = fileCache.prefetchStats();
+        assertEquals(2, stats.getPrefetched());
+        assertEquals(1, stats.getRangeReads());
+        assertEquals(0, stats.getHits());
+
+        // the second block got the second half of the single ranged read
+        try (IndexInput indexInput = transferManager.fetchBlob(requests.get(1))) {
+            indexInput.seek(halfBlob - 1);
+            MatcherAssert.assertThat(indexInput.readByte(), equalTo((byte) 7));
+        }
+        assertEquals(1, stats.getHits());
+
+        // prefetching again is a no-op since both blocks are cached
+        transferManager.prefetchBlobs(requests);
+        assertEquals(2, stats.getPrefetched());
+
+        fileCache.remove(requests.get(0).getFilePath());
+        assertEquals(1, stats.getWasted());
+
+        // the blocks belong to a single index, whose statistics add up to the ones of the whole cache
+        final PrefetchStats indexStats = fileCache.prefetchStats(requests.get(0).getFilePath());
+        assertNotSame(stats, indexStats);
+        assertEquals(2, indexStats.getPrefetched());
+        assertEquals(1, indexStats.getRangeReads());
+        assertEquals(1, indexStats.getHits());
+        assertEquals(1, indexStats.getWasted());
+        assertEquals(1, fileCache.fileCacheStats().getIndexPrefetchStats().size());
+    }
+
+    public void testWaitingReaderFetchesBlobAfterPrefetchFailure() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        mockFailAfterLatchReader(latch);
+        final BlobFetchRequest request = BlobFetchRequest.builder()
+            .fileName("flaky-file")
+            .directory(directory)
+            .blobParts(List.of(new BlobFetchRequest.BlobPart("flaky-blob", 0, EIGHT_MB)))
+            .build();
+        transferManager.prefetchBlobs(List.of(request));
+        // the prefetch claimed the block and is blocked reading it
+        assertBusy(() -> assertEquals(1, fileCache.prefetchStats().getPrefetched()));
+
+        final CompletableFuture<IndexInput> reader = CompletableFuture.supplyAsync(() -> {
+            try {
+                return transferManager.fetchBlob(request);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, executorService);
+        // the reader holds a reference next to the prefetch's one while it waits for the prefetch
+        assertBusy(() -> assertEquals(Integer.valueOf(2), fileCache.getRef(request.getFilePath())));
+
+        latch.countDown();
+        try (IndexInput indexInput = reader.get(10, TimeUnit.SECONDS)) {
+            assertIndexInputIsFunctional(indexInput);
+        }
+        assertEquals(0, fileCache.prefetchStats().getRangeReads());
+        assertBusy(() -> assertEquals(Integer.valueOf(0), fileCache.getRef(request.getFilePath())));
+    }
+
     protected abstract void initializeTransferManager() throws IOException;
 
     protected abstract void mockExceptionWhileReading() throws IOException;
 
     protected abstract void mockWaitForLatchReader(CountDownLatch latch) throws IOException;
 
+    /**
+     * Mocks reads of "flaky-blob" so that the first one fails once the latch is released and the following ones succeed.
+     */
+    protected abstract void mockFailAfterLatchReader(CountDownLatch latch) throws IOException;
+
     private IndexInput fetchBlobWithName(String blobname) throws IOException {
         List<BlobFetchRequest.BlobPart> blobParts = new ArrayList<>();
         blobParts.add(new BlobFetchRequest.BlobPart("blob", 0, EIGHT_MB));
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+public class WTinyLfuCacheTests extends RefCountedCacheTestCase {
+    public WTinyLfuCacheTests() {
+        super(new WTinyLfuCache<>(CAPACITY, n -> {}, value -> value));
+    }
+
+    public void testScanDoesNotEvictFrequentlyUsedEntries() {
+        final WTinyLfuCache<String, Long> cache = new WTinyLfuCache<>(CAPACITY, n -> {}, value -> value);
+        final int hotKeys = 10;
+        for (int i = 0; i < hotKeys; i++) {
+            final String key = "hot-" + i;
+            cache.put(key, 1L);
+            cache.decRef(key);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < hotKeys; i++) {
+                final String key = "hot-" + i;
+                assertNotNull(cache.get(key));
+                cache.decRef(key);
+            }
+        }
+
+        // a scan over ten times as many entries as the cache can hold, each of them used only once
+        for (int i = 0; i < 10 * CAPACITY; i++) {
+            final String key = "scan-" + i;
+            cache.put(key, 1L);
+            cache.decRef(key);
+        }
+
+        for (int i = 0; i < hotKeys; i++) {
+            final String key = "hot-" + i;
+            assertNotNull(key + " should have survived the scan", cache.get(key));
+            cache.decRef(key);
+        }
+        assertTrue(cache.usage() < CAPACITY);
+        assertTrue(cache.admissionRejections() > 0);
+    }
+
+    public void testLruEvictsFrequentlyUsedEntriesOnScan() {
+        // the same workload as above, for contrast
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value);
+        cache.put("hot", 1L);
+        cache.decRef("hot");
+        for (int round = 0; round < 5; round++) {
+            assertNotNull(cache.get("hot"));
+            cache.decRef("hot");
+        }
+        for (int i = 0; i < CAPACITY; i++) {
+            final String key = "scan-" + i;
+            cache.put(key, 1L);
+            cache.decRef(key);
+        }
+        assertNull(cache.get("hot"));
+        assertEquals(0L, cache.admissionRejections());
+    }
+
+    public void testReferencedEntriesAreNotEvicted() {
+        final WTinyLfuCache<String, Long> cache = new WTinyLfuCache<>(CAPACITY, n -> {}, value -> value);
+        cache.put("1", 60L);
+        cache.put("2", 60L);
+        // both entries are still referenced, so the cache has to overflow
+        assertEquals(120L, cache.usage());
+        cache.decRef("1");
+        assertNull(cache.getRef("1"));
+        assertEquals(60L, cache.usage());
+        assertEquals(1, (int) cache.getRef("2"));
+    }
+}
@@ -532,6 +532,7 @@ public class LocalTranslogTests extends OpenSearchTestCase {
                         + 271
                         + ",\"earliest_last_modified_age\":"
                         + stats.getEarliestLastModifiedAge()
+                        + ",\"group_commit\":{\"sync_requests\":0,\"syncs\":0,\"delay_time_in_millis\":0}"
                         + ",\"remote_store\":{\"upload\":{"
                         + "\"total_uploads\":{\"started\":0,\"failed\":0,\"succeeded\":0},"
                         + "\"total_upload_size\":{\"started_bytes\":0,\"failed_bytes\":0,\"succeeded_bytes\":0}"
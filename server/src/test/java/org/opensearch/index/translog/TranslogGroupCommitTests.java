@@ -0,0 +1,141 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TranslogGroupCommitTests extends OpenSearchTestCase {
+
+    public void testNoDelayWhenDisabled() throws IOException {
+        TranslogGroupCommit groupCommit = new TranslogGroupCommit();
+        assertThat(groupCommit.delayNanos(0, randomIntBetween(1, 64)), equalTo(0L));
+        assertTrue(groupCommit.sync(0, () -> true));
+        assertFalse(groupCommit.sync(0, () -> false));
+        assertThat(groupCommit.getSyncRequests(), equalTo(2L));
+        assertThat(groupCommit.getSyncs(), equalTo(1L));
+        assertThat(groupCommit.getDelayInMillis(), equalTo(0L));
+    }
+
+    public void testNoDelayForSingleWriter() throws IOException {
+        TranslogGroupCommit groupCommit = new TranslogGroupCommit();
+        final long maxDelay = TimeUnit.MILLISECONDS.toNanos(randomIntBetween(1, 100));
+        for (int i = 0; i < randomIntBetween(1, 10); i++) {
+            assertThat(groupCommit.delayNanos(maxDelay, 1), equalTo(0L));
+            assertTrue(groupCommit.sync(maxDelay, () -> true));
+        }
+        assertThat(groupCommit.getDelayInMillis(), equalTo(0L));
+    }
+
+    public void testDelayBoundedByMaxDelayAndSyncLatency() throws IOException {
+        TranslogGroupCommit groupCommit = new TranslogGroupCommit();
+        // record a sync that took at least a few millis
+        assertTrue(groupCommit.sync(0, () -> {
+            sleepNanos(TimeUnit.MILLISECONDS.toNanos(5));
+            return true;
+        }));
+        final long smallMaxDelay = TimeUnit.MICROSECONDS.toNanos(100);
+        assertThat(groupCommit.delayNanos(smallMaxDelay, 2), equalTo(smallMaxDelay));
+        final long largeMaxDelay = TimeUnit.SECONDS.toNanos(10);
+        final long delay = groupCommit.delayNanos(largeMaxDelay, 2);
+        assertThat(delay, greaterThan(0L));
+        assertThat(delay, lessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    public void testConcurrentRequestsShareSyncs() throws Exception {
+        TranslogGroupCommit groupCommit = new TranslogGroupCommit();
+        final long maxDelay = TimeUnit.MILLISECONDS.toNanos(randomIntBetween(0, 10));
+        final AtomicInteger pending = new AtomicInteger();
+        final Object syncLock = new Object();
+        final CountDownLatch firstSyncStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirstSync = new CountDownLatch(1);
+        // mimics TranslogWriter#syncUpTo: whoever gets the lock syncs everything that is pending
+        final CheckedSupplier<Boolean, IOException> sync = () -> {
+            synchronized (syncLock) {
+                if (pending.get() == 0) {
+                    return false;
+                }
+                pending.set(0);
+                firstSyncStarted.countDown();
+                try {
+                    releaseFirstSync.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                return true;
+            }
+        };
+
+        pending.incrementAndGet();
+        final AtomicBoolean firstSynced = new AtomicBoolean();
+        final Thread first = new Thread(() -> {
+            try {
+                firstSynced.set(groupCommit.sync(maxDelay, sync));
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        });
+        first.start();
+        assertTrue(firstSyncStarted.await(10, TimeUnit.SECONDS));
+
+        // requests that wrote their operations after the first sync started queue up behind it
+        final int numWaiters = randomIntBetween(2, 8);
+        final Thread[] waiters = new Thread[numWaiters];
+        final AtomicInteger waitersSynced = new AtomicInteger();
+        for (int i = 0; i < numWaiters; i++) {
+            pending.incrementAndGet();
+            waiters[i] = new Thread(() -> {
+                try {
+                    if (groupCommit.sync(maxDelay, sync)) {
+                        waitersSynced.incrementAndGet();
+                    }
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            waiters[i].start();
+        }
+        assertBusy(() -> {
+            for (Thread waiter : waiters) {
+                assertThat(waiter.getState(), equalTo(Thread.State.BLOCKED));
+            }
+        });
+        assertThat(groupCommit.getSyncs(), equalTo(0L));
+
+        releaseFirstSync.countDown();
+        first.join();
+        for (Thread waiter : waiters) {
+            waiter.join();
+        }
+
+        // one more fsync covers all queued requests
+        assertTrue(firstSynced.get());
+        assertThat(waitersSynced.get(), equalTo(1));
+        assertThat(pending.get(), equalTo(0));
+        assertThat(groupCommit.getSyncRequests(), equalTo((long) numWaiters + 1));
+        assertThat(groupCommit.getSyncs(), equalTo(2L));
+    }
+
+    private static void sleepNanos(long nanos) {
+        final long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}
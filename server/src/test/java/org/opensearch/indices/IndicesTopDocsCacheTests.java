@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.cache.request.RequestCacheStats;
+import org.opensearch.index.cache.request.ShardRequestCache;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class IndicesTopDocsCacheTests extends OpenSearchTestCase {
+
+    public void testHitsWithinCachedWindow() throws Exception {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig())) {
+            indexDocs(writer, 20);
+            final IndicesTopDocsCache cache = new IndicesTopDocsCache(Settings.EMPTY);
+            final ShardRequestCache stats = new ShardRequestCache();
+            try (DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1))) {
+                final IndexSearcher searcher = new IndexSearcher(reader);
+                final Query query = new TermQuery(new Term("type", "doc"));
+                final IndicesTopDocsCache.Key key = key(stats, reader, query);
+
+                assertNull(cache.get(key, 10));
+                final TopDocsAndMaxScore topDocs = new TopDocsAndMaxScore(searcher.search(query, 10), Float.NaN);
+                cache.put(key, reader.getReaderCacheHelper(), topDocs, 10);
+                assertEquals(1, cache.count());
+
+                // an equal key, for a shallower page
+                final TopDocsAndMaxScore cached = cache.get(key(stats, reader, query), 5);
+                assertNotNull(cached);
+                assertEquals(5, cached.topDocs.scoreDocs.length);
+                assertEquals(topDocs.topDocs.totalHits, cached.topDocs.totalHits);
+                for (int i = 0; i < 5; i++) {
+                    assertEquals(topDocs.topDocs.scoreDocs[i].doc, cached.topDocs.scoreDocs[i].doc);
+                    assertNotSame(topDocs.topDocs.scoreDocs[i], cached.topDocs.scoreDocs[i]);
+                }
+
+                // deeper pages are not cached yet
+                assertNull(cache.get(key, 15));
+
+                RequestCacheStats requestCacheStats = stats.stats();
+                assertEquals(1, requestCacheStats.getTopDocsHitCount());
+                assertEquals(2, requestCacheStats.getTopDocsMissCount());
+                assertTrue(requestCacheStats.getTopDocsMemorySizeInBytes() > 0);
+                // the regular request cache stats are not affected
+                assertEquals(0, requestCacheStats.getHitCount());
+                assertEquals(0, requestCacheStats.getMemorySizeInBytes());
+            }
+            assertEquals(0, cache.count());
+            assertEquals(0, stats.stats().getTopDocsMemorySizeInBytes());
+            cache.close();
+        }
+    }
+
+    public void testNormalizedQueryShareEntries() throws Exception {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig())) {
+            indexDocs(writer, 5);
+            final IndicesTopDocsCache cache = new IndicesTopDocsCache(Settings.EMPTY);
+            final ShardRequestCache stats = new ShardRequestCache();
+            try (DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1))) {
+                final Query query = new BooleanQuery.Builder().add(new TermQuery(new Term("type", "doc")), BooleanClause.Occur.FILTER)
+                    .add(new TermQuery(new Term("id", "1")), BooleanClause.Occur.SHOULD)
+                    .build();
+                final Query reordered = new BooleanQuery.Builder().add(new TermQuery(new Term("id", "1")), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term("type", "doc")), BooleanClause.Occur.FILTER)
+                    .build();
+                final TopDocsAndMaxScore topDocs = new TopDocsAndMaxScore(new IndexSearcher(reader).search(query, 10), Float.NaN);
+                cache.put(key(stats, reader, query), reader.getReaderCacheHelper(), topDocs, 10);
+                assertNotNull(cache.get(key(stats, reader, reordered), 10));
+            }
+            cache.close();
+        }
+    }
+
+    public void testEntriesAreInvalidatedOnRefresh() throws Exception {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig())) {
+            indexDocs(writer, 5);
+            final IndicesTopDocsCache cache = new IndicesTopDocsCache(Settings.EMPTY);
+            final ShardRequestCache stats = new ShardRequestCache();
+            final Query query = new TermQuery(new Term("type", "doc"));
+            final DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+            final TopDocsAndMaxScore topDocs = new TopDocsAndMaxScore(new IndexSearcher(reader).search(query, 10), Float.NaN);
+            cache.put(key(stats, reader, query), reader.getReaderCacheHelper(), topDocs, 10);
+
+            indexDocs(writer, 1);
+            try (DirectoryReader newReader = DirectoryReader.openIfChanged(reader)) {
+                assertNotNull(newReader);
+                assertNull(cache.get(key(stats, newReader, query), 10));
+            }
+            assertEquals(1, cache.count());
+            reader.close();
+            assertEquals(0, cache.count());
+            assertEquals(0, stats.stats().getTopDocsMemorySizeInBytes());
+            cache.close();
+        }
+    }
+
+    public void testEviction() throws Exception {
+        try (Directory dir = newDirectory(); IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig())) {
+            indexDocs(writer, 5);
+            final IndicesTopDocsCache cache = new IndicesTopDocsCache(
+                Settings.builder().put(IndicesTopDocsCache.INDICES_CACHE_TOP_DOCS_SIZE.getKey(), "2kb").build()
+            );
+            final ShardRequestCache stats = new ShardRequestCache();
+            try (DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1))) {
+                final IndexSearcher searcher = new IndexSearcher(reader);
+                for (int i = 0; i < 10; i++) {
+                    final Query query = new TermQuery(new Term("id", Integer.toString(i)));
+                    final TopDocsAndMaxScore topDocs = new TopDocsAndMaxScore(searcher.search(query, 10), Float.NaN);
+                    cache.put(key(stats, reader, query), reader.getReaderCacheHelper(), topDocs, 10);
+                }
+                assertTrue(stats.stats().getTopDocsEvictions() > 0);
+                assertTrue(cache.count() < 10);
+            }
+            assertEquals(0, cache.count());
+            cache.close();
+        }
+    }
+
+    private static IndicesTopDocsCache.Key key(ShardRequestCache stats, DirectoryReader reader, Query query) {
+        return new IndicesTopDocsCache.Key(stats, reader.getReaderCacheHelper().getKey(), query, null, false, 10_000);
+    }
+
+    private static void indexDocs(IndexWriter writer, int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            final Document doc = new Document();
+            doc.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+            doc.add(new StringField("type", "doc", Field.Store.NO));
+            writer.addDocument(doc);
+        }
+    }
+}
@@ -226,11 +226,15 @@ public abstract class AbstractIndicesClusterStateServiceTestCase extends OpenSea
             List<IndexEventListener> buildInIndexListener,
             boolean writeDanglingIndices
         ) throws IOException {
-            MockIndexService indexService = new MockIndexService(new IndexSettings(indexMetadata, Settings.EMPTY));
+            MockIndexService indexService = newIndexService(new IndexSettings(indexMetadata, Settings.EMPTY));
             indices = newMapBuilder(indices).put(indexMetadata.getIndexUUID(), indexService).immutableMap();
             return indexService;
         }
 
+        protected MockIndexService newIndexService(IndexSettings indexSettings) {
+            return new MockIndexService(indexSettings);
+        }
+
         @Override
         public IndexMetadata verifyIndexIsDeleted(Index index, ClusterState state) {
             return null;
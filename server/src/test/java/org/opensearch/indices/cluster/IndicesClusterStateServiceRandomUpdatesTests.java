@@ -63,6 +63,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.set.Sets;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.seqno.RetentionLeaseSyncer;
 import org.opensearch.index.shard.PrimaryReplicaSyncer;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
@@ -78,6 +79,7 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.Transport;
 import org.opensearch.transport.TransportService;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -105,6 +107,8 @@ public class IndicesClusterStateServiceRandomUpdatesTests extends AbstractIndice
 
     private ThreadPool threadPool;
     private ClusterStateChanges cluster;
+    // whether the services apply index level changes concurrently on the generic pool of a real thread pool
+    private boolean concurrentApply;
 
     @Override
     public void setUp() throws Exception {
@@ -119,6 +123,11 @@ public class IndicesClusterStateServiceRandomUpdatesTests extends AbstractIndice
         terminate(threadPool);
     }
 
+    public void testRandomClusterStateUpdatesWithConcurrentApply() {
+        concurrentApply = true;
+        testRandomClusterStateUpdates();
+    }
+
     public void testRandomClusterStateUpdates() {
         // we have an IndicesClusterStateService per node in the cluster
         final Map<DiscoveryNode, IndicesClusterStateService> clusterStateServiceMap = new HashMap<>();
@@ -328,6 +337,40 @@ public class IndicesClusterStateServiceRandomUpdatesTests extends AbstractIndice
         assertNull(indicesCSSvc.indicesService.getShardOrNull(shardId));
     }
 
+    public void testConcurrentApplyIsolatesFailingIndices() {
+        disableRandomFailures();
+        concurrentApply = true;
+        final DiscoveryNode node = createNode(DiscoveryNodeRole.CLUSTER_MANAGER_ROLE, DiscoveryNodeRole.DATA_ROLE);
+        final ClusterState initialState = ClusterStateCreationUtils.state(node, node, node);
+        ClusterState state = initialState;
+        final int indexCount = randomIntBetween(4, 12);
+        for (int i = 0; i < indexCount; i++) {
+            // the mapping update of every other index fails
+            final String prefix = i % 2 == 0 ? "failing_" : "index_";
+            final String name = prefix + i + "_" + randomAlphaOfLength(8).toLowerCase(Locale.ROOT);
+            final Settings indexSettings = Settings.builder()
+                .put(SETTING_NUMBER_OF_SHARDS, randomIntBetween(1, 3))
+                .put(SETTING_NUMBER_OF_REPLICAS, 0)
+                .build();
+            state = cluster.createIndex(state, new CreateIndexRequest(name, indexSettings).waitForActiveShards(ActiveShardCount.NONE));
+        }
+
+        final IndicesClusterStateService indicesCSSvc = createIndicesClusterStateService(node, FailingMappingIndicesService::new);
+        indicesCSSvc.start();
+        indicesCSSvc.applyClusterState(new ClusterChangedEvent("cluster state change that adds the indices", state, initialState));
+
+        final FailingMappingIndicesService indicesService = (FailingMappingIndicesService) indicesCSSvc.indicesService;
+        for (IndexMetadata indexMetadata : state.metadata()) {
+            final Index index = indexMetadata.getIndex();
+            final boolean failing = index.getName().startsWith("failing_");
+            assertEquals(index.getName(), failing == false, indicesService.indexService(index) != null);
+            for (ShardRouting shardRouting : state.routingTable().allShards(index.getName())) {
+                assertEquals(shardRouting.toString(), failing, indicesCSSvc.failedShardsCache.containsKey(shardRouting.shardId()));
+                assertEquals(shardRouting.toString(), failing == false, indicesService.getShardOrNull(shardRouting.shardId()) != null);
+            }
+        }
+    }
+
     public ClusterState randomInitialClusterState(
         Map<DiscoveryNode, IndicesClusterStateService> clusterStateServiceMap,
         Supplier<MockIndicesService> indicesServiceSupplier
@@ -538,9 +581,20 @@ public class IndicesClusterStateServiceRandomUpdatesTests extends AbstractIndice
         final Supplier<MockIndicesService> indicesServiceSupplier
     ) {
         final ThreadPool threadPool = mock(ThreadPool.class);
-        when(threadPool.generic()).thenReturn(mock(ExecutorService.class));
+        final int applyConcurrency;
+        if (concurrentApply) {
+            when(threadPool.generic()).thenReturn(this.threadPool.generic());
+            applyConcurrency = between(2, 4);
+        } else {
+            // the generic pool never runs the forked work, the applier thread has to apply all index level changes on its own then
+            when(threadPool.generic()).thenReturn(mock(ExecutorService.class));
+            applyConcurrency = between(1, 4);
+        }
         final MockIndicesService indicesService = indicesServiceSupplier.get();
-        final Settings settings = Settings.builder().put("node.name", discoveryNode.getName()).build();
+        final Settings settings = Settings.builder()
+            .put("node.name", discoveryNode.getName())
+            .put(IndicesClusterStateService.INDICES_CLUSTER_APPLY_CONCURRENCY_SETTING.getKey(), applyConcurrency)
+            .build();
         final TransportService transportService = new TransportService(
             settings,
             mock(Transport.class),
@@ -593,6 +647,24 @@ public class IndicesClusterStateServiceRandomUpdatesTests extends AbstractIndice
         );
     }
 
+    /**
+     * Fails the mapping updates of the indices whose name starts with {@code failing_}.
+     */
+    private class FailingMappingIndicesService extends MockIndicesService {
+        @Override
+        protected MockIndexService newIndexService(IndexSettings indexSettings) {
+            return new MockIndexService(indexSettings) {
+                @Override
+                public boolean updateMapping(IndexMetadata currentIndexMetadata, IndexMetadata newIndexMetadata) throws IOException {
+                    if (index().getName().startsWith("failing_")) {
+                        throw new IOException("dummy mapping failure of " + index());
+                    }
+                    return super.updateMapping(currentIndexMetadata, newIndexMetadata);
+                }
+            };
+        }
+    }
+
     private class RecordingIndicesService extends MockIndicesService {
         private Set<Index> deletedIndices = Collections.emptySet();
 
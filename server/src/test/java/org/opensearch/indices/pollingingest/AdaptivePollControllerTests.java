@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.pollingingest;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class AdaptivePollControllerTests extends OpenSearchTestCase {
+
+    public void testDisabledControllerKeepsFixedPollSize() {
+        AdaptivePollController controller = new AdaptivePollController(1000, 100, false);
+        assertFalse(controller.shouldBackOff(1.0));
+        controller.onPoll(1000, 0.0);
+        controller.onPoll(1000, 1.0);
+        controller.onPoll(0, 0.0);
+        assertEquals(1000, controller.pollSize());
+        assertEquals(100, controller.idleSleepMillis());
+        assertEquals(0, controller.getPollSizeIncreaseCount());
+        assertEquals(0, controller.getPollSizeDecreaseCount());
+        assertEquals(0, controller.getBackpressurePauseCount());
+    }
+
+    public void testBackOffShrinksPollSize() {
+        AdaptivePollController controller = new AdaptivePollController(1000, 100, true);
+        assertFalse(controller.shouldBackOff(0.5));
+        assertTrue(controller.shouldBackOff(0.9));
+        assertEquals(500, controller.pollSize());
+        assertEquals(1, controller.getBackpressurePauseCount());
+        assertEquals(1, controller.getPollSizeDecreaseCount());
+
+        for (int i = 0; i < 20; i++) {
+            assertTrue(controller.shouldBackOff(1.0));
+        }
+        assertEquals(AdaptivePollController.MIN_POLL_SIZE, controller.pollSize());
+        assertEquals(21, controller.getBackpressurePauseCount());
+    }
+
+    public void testFullPollsGrowPollSize() {
+        AdaptivePollController controller = new AdaptivePollController(1000, 100, true);
+        controller.onPoll(800, 0.9);
+        assertEquals(500, controller.pollSize());
+        controller.onPoll(500, 0.5);
+        assertEquals(500, controller.pollSize());
+        controller.onPoll(100, 0.0);
+        assertEquals(500, controller.pollSize());
+        controller.onPoll(500, 0.1);
+        assertEquals(1000, controller.pollSize());
+        controller.onPoll(1000, 0.1);
+        assertEquals(1000, controller.pollSize());
+        assertEquals(1, controller.getPollSizeIncreaseCount());
+        assertEquals(1, controller.getPollSizeDecreaseCount());
+    }
+
+    public void testIdleSleepGrowsWhileStreamIsIdle() {
+        AdaptivePollController controller = new AdaptivePollController(1000, 100, true);
+        assertEquals(AdaptivePollController.MIN_SLEEP_PERIOD_MS, controller.idleSleepMillis());
+        controller.onPoll(0, 0.0);
+        assertEquals(20, controller.idleSleepMillis());
+        for (int i = 0; i < 10; i++) {
+            controller.onPoll(0, 0.0);
+        }
+        assertEquals(100, controller.idleSleepMillis());
+        controller.onPoll(1, 0.0);
+        assertEquals(AdaptivePollController.MIN_SLEEP_PERIOD_MS, controller.idleSleepMillis());
+    }
+
+    public void testMinPollSizeBoundedByMaxPollSize() {
+        AdaptivePollController controller = new AdaptivePollController(4, 100, true);
+        assertTrue(controller.shouldBackOff(1.0));
+        assertEquals(4, controller.pollSize());
+        assertEquals(0, controller.getPollSizeDecreaseCount());
+    }
+}
@@ -25,6 +25,7 @@ import org.junit.Before;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.TimeUnit;
 
@@ -200,6 +201,8 @@ public class MessageProcessorTests extends OpenSearchTestCase {
         metrics1.failedMessageCounter().inc(1);
         metrics1.failedMessageDroppedCounter().inc(1);
         metrics1.processorThreadInterruptCounter().inc(0);
+        metrics1.batchCounter().inc(10);
+        metrics1.batchedMessageCounter().inc(100);
 
         MessageProcessorRunnable.MessageProcessorMetrics metrics2 = MessageProcessorRunnable.MessageProcessorMetrics.create();
         metrics2.processedCounter().inc(100);
@@ -208,6 +211,8 @@ public class MessageProcessorTests extends OpenSearchTestCase {
         metrics2.failedMessageCounter().inc(100);
         metrics2.failedMessageDroppedCounter().inc(100);
         metrics2.processorThreadInterruptCounter().inc(1);
+        metrics2.batchCounter().inc(100);
+        metrics2.batchedMessageCounter().inc(100);
 
         MessageProcessorRunnable.MessageProcessorMetrics combinedMetric = metrics1.combine(metrics2);
         assertEquals(200, combinedMetric.processedCounter().count());
@@ -216,6 +221,126 @@ public class MessageProcessorTests extends OpenSearchTestCase {
         assertEquals(101, combinedMetric.failedMessageCounter().count());
         assertEquals(101, combinedMetric.failedMessageDroppedCounter().count());
         assertEquals(1, combinedMetric.processorThreadInterruptCounter().count());
+        assertEquals(110, combinedMetric.batchCounter().count());
+        assertEquals(200, combinedMetric.batchedMessageCounter().count());
+    }
+
+    public void testMessagesProcessedInBatches() throws Exception {
+        MessageProcessorRunnable.MessageProcessor processor = mock(MessageProcessorRunnable.MessageProcessor.class);
+        DropIngestionErrorStrategy errorStrategy = new DropIngestionErrorStrategy("ingestion_source");
+        MessageProcessorRunnable messageProcessorRunnable = new MessageProcessorRunnable(
+            new ArrayBlockingQueue<>(10),
+            processor,
+            errorStrategy,
+            "test_index",
+            0,
+            4
+        );
+        for (int i = 0; i < 6; i++) {
+            messageProcessorRunnable.getBlockingQueue().put(new ShardUpdateMessage(null, null, null, 0));
+        }
+        when(processor.processBatch(any(), any())).thenAnswer(
+            invocation -> new IngestionEngine.BatchResult(((List<?>) invocation.getArgument(0)).size(), null)
+        );
+
+        Thread thread = new Thread(messageProcessorRunnable::run);
+        thread.start();
+        assertBusy(() -> {
+            verify(processor, times(2)).processBatch(any(), any());
+            verify(processor, times(0)).process(any(), any());
+            assertEquals(6, messageProcessorRunnable.getMessageProcessorMetrics().processedCounter().count());
+            assertEquals(2, messageProcessorRunnable.getMessageProcessorMetrics().batchCounter().count());
+            assertEquals(6, messageProcessorRunnable.getMessageProcessorMetrics().batchedMessageCounter().count());
+        }, 1, TimeUnit.MINUTES);
+
+        messageProcessorRunnable.close();
+        thread.interrupt();
+    }
+
+    public void testBatchFailureIsHandledOnItsOwn() throws Exception {
+        MessageProcessorRunnable.MessageProcessor processor = mock(MessageProcessorRunnable.MessageProcessor.class);
+        DropIngestionErrorStrategy errorStrategy = new DropIngestionErrorStrategy("ingestion_source");
+        MessageProcessorRunnable messageProcessorRunnable = new MessageProcessorRunnable(
+            new ArrayBlockingQueue<>(10),
+            processor,
+            errorStrategy,
+            "test_index",
+            0,
+            4
+        );
+        for (int i = 0; i < 3; i++) {
+            messageProcessorRunnable.getBlockingQueue()
+                .put(new ShardUpdateMessage(new FakeIngestionSource.FakeIngestionShardPointer(i), null, Collections.emptyMap(), -1));
+        }
+        // the first message is applied and the second one is invalid, so it is dropped and the third one is applied on its own
+        when(processor.processBatch(any(), any())).thenReturn(new IngestionEngine.BatchResult(1, new IllegalArgumentException("invalid")));
+
+        Thread thread = new Thread(messageProcessorRunnable::run);
+        thread.start();
+        assertBusy(() -> {
+            verify(processor, times(1)).processBatch(any(), any());
+            verify(processor, times(1)).process(any(), any());
+            assertEquals(3, messageProcessorRunnable.getMessageProcessorMetrics().processedCounter().count());
+            assertEquals(1, messageProcessorRunnable.getMessageProcessorMetrics().failedMessageCounter().count());
+            assertEquals(1, messageProcessorRunnable.getMessageProcessorMetrics().failedMessageDroppedCounter().count());
+            assertEquals("2", messageProcessorRunnable.getCurrentShardPointer().asString());
+        }, 1, TimeUnit.MINUTES);
+
+        messageProcessorRunnable.close();
+        thread.interrupt();
+    }
+
+    public void testProcessBatchStopsAtInvalidMessage() {
+        byte[] valid = "{\"_id\":\"1\",\"_source\":{\"name\":\"bob\", \"age\": 24}}".getBytes(StandardCharsets.UTF_8);
+        byte[] missingId = "{\"_source\":{\"name\":\"alice\", \"age\": 20}}".getBytes(StandardCharsets.UTF_8);
+        ParsedDocument parsedDocument = mock(ParsedDocument.class);
+        when(documentMapper.parse(any())).thenReturn(parsedDocument);
+        when(parsedDocument.rootDoc()).thenReturn(new ParseContext.Document());
+        when(ingestionEngine.applyBatch(any())).thenReturn(new IngestionEngine.BatchResult(1, null));
+
+        List<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> messages = List.of(
+            new ShardUpdateMessage<>(
+                new FakeIngestionSource.FakeIngestionShardPointer(0),
+                mock(Message.class),
+                IngestionUtils.getParsedPayloadMap(valid),
+                -1
+            ),
+            new ShardUpdateMessage<>(
+                new FakeIngestionSource.FakeIngestionShardPointer(1),
+                mock(Message.class),
+                IngestionUtils.getParsedPayloadMap(missingId),
+                -1
+            ),
+            new ShardUpdateMessage<>(
+                new FakeIngestionSource.FakeIngestionShardPointer(2),
+                mock(Message.class),
+                IngestionUtils.getParsedPayloadMap(valid),
+                -1
+            )
+        );
+        IngestionEngine.BatchResult result = processor.processBatch(messages, MessageProcessorRunnable.MessageProcessorMetrics.create());
+
+        assertEquals(1, result.appliedCount());
+        assertTrue(result.failure() instanceof IllegalArgumentException);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<IngestionEngine.BatchOperation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(ingestionEngine).applyBatch(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertTrue(captor.getValue().get(0).operation() instanceof Engine.Index);
+    }
+
+    public void testInvalidBatchSize() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> new MessageProcessorRunnable(
+                new ArrayBlockingQueue<>(5),
+                mock(MessageProcessorRunnable.MessageProcessor.class),
+                new DropIngestionErrorStrategy("ingestion_source"),
+                "test_index",
+                0,
+                0
+            )
+        );
     }
 
     public void testMessageRetrySuccess() throws Exception {
@@ -20,6 +20,7 @@ import org.junit.Before;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeoutException;
@@ -103,6 +104,19 @@ public class PartitionedBlockingQueueContainerTests extends OpenSearchTestCase {
         verify(processor, times(2)).process(any(), any());
     }
 
+    public void testMaxQueueUtilization() throws InterruptedException {
+        assertEquals(0.0, blockingQueueContainer.getMaxQueueUtilization(), 0.0);
+
+        // processor threads are not started, so the messages stay in the queue of size 5
+        for (int i = 0; i < 4; i++) {
+            blockingQueueContainer.add(new ShardUpdateMessage(null, null, Map.of("_id", String.valueOf(i)), 0));
+        }
+        assertEquals(0.8, blockingQueueContainer.getMaxQueueUtilization(), 0.0001);
+
+        blockingQueueContainer.clearAllQueues();
+        assertEquals(0.0, blockingQueueContainer.getMaxQueueUtilization(), 0.0);
+    }
+
     public void testUpdateErrorStrategy() {
         assertTrue(processorRunnable.getErrorStrategy() instanceof DropIngestionErrorStrategy);
         blockingQueueContainer.updateErrorStrategy(new BlockIngestionErrorStrategy("source"));
@@ -39,6 +39,12 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
             + stats.getMessageProcessorStats().totalFailuresDroppedCount()
             + ",\"total_processor_thread_interrupt_count\":"
             + stats.getMessageProcessorStats().totalProcessorThreadInterruptCount()
+            + ",\"total_batch_count\":"
+            + stats.getMessageProcessorStats().totalBatchCount()
+            + ",\"total_batched_message_count\":"
+            + stats.getMessageProcessorStats().totalBatchedMessageCount()
+            + ",\"total_batch_processing_time_in_millis\":"
+            + stats.getMessageProcessorStats().totalBatchProcessingTimeInMillis()
             + "},\"consumer_stats\":{\"total_polled_count\":"
             + stats.getConsumerStats().totalPolledCount()
             + ",\"total_consumer_error_count\":"
@@ -53,6 +59,14 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
             + stats.getConsumerStats().lagInMillis()
             + ",\"pointer_based_lag\":"
             + stats.getConsumerStats().pointerBasedLag()
+            + ",\"current_poll_size\":"
+            + stats.getConsumerStats().currentPollSize()
+            + ",\"total_poll_size_increase_count\":"
+            + stats.getConsumerStats().totalPollSizeIncreaseCount()
+            + ",\"total_poll_size_decrease_count\":"
+            + stats.getConsumerStats().totalPollSizeDecreaseCount()
+            + ",\"total_backpressure_pause_count\":"
+            + stats.getConsumerStats().totalBackpressurePauseCount()
             + "}}}";
 
         assertEquals(expected, builder.toString());
@@ -77,6 +91,13 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
             .setTotalInvalidMessageCount(randomNonNegativeLong())
             .setTotalPolledCount(randomNonNegativeLong())
             .setLagInMillis(randomNonNegativeLong())
+            .setTotalBatchCount(randomNonNegativeLong())
+            .setTotalBatchedMessageCount(randomNonNegativeLong())
+            .setTotalBatchProcessingTimeInMillis(randomNonNegativeLong())
+            .setCurrentPollSize(randomNonNegativeLong())
+            .setTotalPollSizeIncreaseCount(randomNonNegativeLong())
+            .setTotalPollSizeDecreaseCount(randomNonNegativeLong())
+            .setTotalBackpressurePauseCount(randomNonNegativeLong())
             .build();
     }
 }
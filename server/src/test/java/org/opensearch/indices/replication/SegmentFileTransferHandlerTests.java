@@ -11,8 +11,10 @@ package org.opensearch.indices.replication;
 import org.apache.lucene.index.CorruptIndexException;
 import org.apache.lucene.index.IndexFileNames;
 import org.opensearch.Version;
+import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.io.IOUtils;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -25,9 +27,13 @@ import org.opensearch.indices.recovery.MultiChunkTransfer;
 import org.junit.Assert;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
@@ -124,6 +130,58 @@ public class SegmentFileTransferHandlerTests extends IndexShardTestCase {
         IOUtils.close(transfer);
     }
 
+    public void testSendFilesOverMultipleStreams() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            indexDoc(shard, "_doc", Integer.toString(i));
+        }
+        flushShard(shard);
+        final StoreFileMetadata[] files = getFilestoSend(shard);
+        assertTrue(files.length > 3);
+
+        final Set<String> receivedFiles = ConcurrentCollections.newConcurrentSet();
+        final FileChunkWriter chunkWriter = new FileChunkWriter() {
+            @Override
+            public void writeFileChunk(
+                StoreFileMetadata fileMetadata,
+                long position,
+                BytesReference content,
+                boolean lastChunk,
+                int totalTranslogOps,
+                ActionListener<Void> listener
+            ) {
+                if (lastChunk) {
+                    receivedFiles.add(fileMetadata.name());
+                }
+                listener.onResponse(null);
+            }
+        };
+        SegmentFileTransferHandler handler = new SegmentFileTransferHandler(
+            shard,
+            targetNode,
+            chunkWriter,
+            logger,
+            shard.getThreadPool(),
+            cancellableThreads,
+            fileChunkSizeInBytes,
+            maxConcurrentFileChunks
+        );
+        final PlainActionFuture<Void> future = new PlainActionFuture<>();
+        final List<MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk>> transfers = handler.createTransfers(
+            shard.store(),
+            files,
+            translogOps,
+            3,
+            future
+        );
+        assertEquals(3, transfers.size());
+        for (MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer : transfers) {
+            transfer.start();
+        }
+        future.actionGet(10, TimeUnit.SECONDS);
+        assertEquals(Arrays.stream(files).map(StoreFileMetadata::name).collect(Collectors.toSet()), receivedFiles);
+        IOUtils.close(transfers);
+    }
+
     public void testSendFiles_cancelThreads_beforeStart() throws IOException, InterruptedException {
         final FileChunkWriter chunkWriter = spy(new FileChunkWriter() {
             @Override
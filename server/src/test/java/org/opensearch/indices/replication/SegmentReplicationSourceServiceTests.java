@@ -22,6 +22,7 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.transport.TransportResponse;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.ReplicationGroup;
@@ -70,6 +71,7 @@ public class SegmentReplicationSourceServiceTests extends OpenSearchTestCase {
         super.setUp();
         // setup mocks
         mockIndexShard = CopyStateTests.createMockIndexShard();
+        when(mockIndexShard.mergedSegmentTransferTracker()).thenReturn(new MergedSegmentTransferTracker());
         ShardId testShardId = mockIndexShard.shardId();
         mockIndicesService = mock(IndicesService.class);
         IndexService mockIndexService = mock(IndexService.class);
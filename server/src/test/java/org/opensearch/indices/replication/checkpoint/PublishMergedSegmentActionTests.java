@@ -26,6 +26,7 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.index.Index;
 import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.index.IndexService;
+import org.opensearch.index.merge.MergedSegmentTransferTracker;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.recovery.RecoverySettings;
@@ -195,6 +196,7 @@ public class PublishMergedSegmentActionTests extends OpenSearchTestCase {
         final int id = randomIntBetween(0, 4);
         final IndexShard indexShard = mock(IndexShard.class);
         when(indexService.getShard(id)).thenReturn(indexShard);
+        when(indexShard.mergedSegmentTransferTracker()).thenReturn(new MergedSegmentTransferTracker());
 
         final ShardId shardId = new ShardId(index, id);
         when(indexShard.shardId()).thenReturn(shardId);
@@ -249,6 +251,7 @@ public class PublishMergedSegmentActionTests extends OpenSearchTestCase {
         final int id = randomIntBetween(0, 4);
         final IndexShard indexShard = mock(IndexShard.class);
         when(indexService.getShard(id)).thenReturn(indexShard);
+        when(indexShard.mergedSegmentTransferTracker()).thenReturn(new MergedSegmentTransferTracker());
 
         final ShardId shardId = new ShardId(index, id);
         when(indexShard.shardId()).thenReturn(shardId);
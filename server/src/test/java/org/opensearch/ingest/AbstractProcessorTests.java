@@ -0,0 +1,162 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.opensearch.ingest.IngestDocumentPreparer.SHOULD_FAIL_KEY;
+
+public class AbstractProcessorTests extends OpenSearchTestCase {
+    private static final String FIELD_KEY = "result";
+    private static final String FIELD_VALUE_PROCESSED = "processed";
+    private static final String DROP_KEY = "drop";
+
+    public void testSynchronousBatchExecuteIsolatesFailures() {
+        SynchronousProcessor processor = new SynchronousProcessor();
+        List<IngestDocumentWrapper> wrapperList = Arrays.asList(
+            IngestDocumentPreparer.createIngestDocumentWrapper(1),
+            IngestDocumentPreparer.createIngestDocumentWrapper(2, true),
+            IngestDocumentPreparer.createIngestDocumentWrapper(3)
+        );
+        List<IngestDocumentWrapper> results = batchExecute(processor, wrapperList);
+        assertEquals(3, results.size());
+        assertEquals(3, processor.invocations.get());
+
+        assertNull(results.get(0).getException());
+        assertEquals(FIELD_VALUE_PROCESSED, results.get(0).getIngestDocument().getFieldValue(FIELD_KEY, String.class));
+        assertNotNull(results.get(1).getException());
+        assertNull(results.get(1).getIngestDocument());
+        assertEquals("fail", results.get(1).getException().getMessage());
+        assertNull(results.get(2).getException());
+        assertEquals(FIELD_VALUE_PROCESSED, results.get(2).getIngestDocument().getFieldValue(FIELD_KEY, String.class));
+    }
+
+    public void testSynchronousBatchExecutePreservesSlots() {
+        SynchronousProcessor processor = new SynchronousProcessor();
+        List<IngestDocumentWrapper> wrapperList = Arrays.asList(
+            IngestDocumentPreparer.createIngestDocumentWrapper(7, 2, false),
+            IngestDocumentPreparer.createIngestDocumentWrapper(3, 1, true),
+            IngestDocumentPreparer.createIngestDocumentWrapper(5, 0, false)
+        );
+        List<IngestDocumentWrapper> results = batchExecute(processor, wrapperList);
+        assertEquals(wrapperList.size(), results.size());
+        for (int i = 0; i < wrapperList.size(); i++) {
+            assertEquals(wrapperList.get(i).getSlot(), results.get(i).getSlot());
+            assertEquals(wrapperList.get(i).getChildSlot(), results.get(i).getChildSlot());
+        }
+    }
+
+    public void testSynchronousBatchExecuteKeepsDroppedDocuments() {
+        SynchronousProcessor processor = new SynchronousProcessor();
+        IngestDocumentWrapper dropped = IngestDocumentPreparer.createIngestDocumentWrapper(2);
+        dropped.getIngestDocument().setFieldValue(DROP_KEY, true);
+        List<IngestDocumentWrapper> wrapperList = Arrays.asList(
+            IngestDocumentPreparer.createIngestDocumentWrapper(1),
+            dropped,
+            IngestDocumentPreparer.createIngestDocumentWrapper(3)
+        );
+        List<IngestDocumentWrapper> results = batchExecute(processor, wrapperList);
+        assertEquals(3, results.size());
+        assertEquals(2, results.get(1).getSlot());
+        assertNull(results.get(1).getIngestDocument());
+        assertNull(results.get(1).getException());
+        assertNotNull(results.get(0).getIngestDocument());
+        assertNotNull(results.get(2).getIngestDocument());
+    }
+
+    public void testSynchronousBatchExecuteEmptyBatch() {
+        SynchronousProcessor processor = new SynchronousProcessor();
+        List<IngestDocumentWrapper> results = batchExecute(processor, Collections.emptyList());
+        assertTrue(results.isEmpty());
+        assertEquals(0, processor.invocations.get());
+    }
+
+    public void testSynchronousBatchExecuteCallsHandlerOnceOnCallingThread() {
+        SynchronousProcessor processor = new SynchronousProcessor();
+        List<IngestDocumentWrapper> wrapperList = Arrays.asList(
+            IngestDocumentPreparer.createIngestDocumentWrapper(1),
+            IngestDocumentPreparer.createIngestDocumentWrapper(2, true)
+        );
+        Thread caller = Thread.currentThread();
+        AtomicInteger handlerCalls = new AtomicInteger();
+        processor.batchExecute(wrapperList, results -> {
+            assertSame(caller, Thread.currentThread());
+            handlerCalls.incrementAndGet();
+        });
+        assertEquals(1, handlerCalls.get());
+    }
+
+    public void testNonSynchronousProcessorUsesDefaultBatchExecute() {
+        SynchronousProcessor processor = new SynchronousProcessor(false);
+        List<IngestDocumentWrapper> wrapperList = Arrays.asList(
+            IngestDocumentPreparer.createIngestDocumentWrapper(1),
+            IngestDocumentPreparer.createIngestDocumentWrapper(2, true)
+        );
+        List<IngestDocumentWrapper> results = batchExecute(processor, wrapperList);
+        assertEquals(2, results.size());
+        assertEquals(1, results.get(0).getSlot());
+        assertNull(results.get(0).getException());
+        assertEquals(2, results.get(1).getSlot());
+        assertNotNull(results.get(1).getException());
+    }
+
+    private static List<IngestDocumentWrapper> batchExecute(Processor processor, List<IngestDocumentWrapper> wrapperList) {
+        List<IngestDocumentWrapper> results = new ArrayList<>();
+        AtomicInteger handlerCalls = new AtomicInteger();
+        processor.batchExecute(wrapperList, batch -> {
+            handlerCalls.incrementAndGet();
+            results.addAll(batch);
+        });
+        assertEquals(1, handlerCalls.get());
+        return results;
+    }
+
+    private static class SynchronousProcessor extends AbstractProcessor {
+        private final boolean synchronous;
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        SynchronousProcessor() {
+            this(true);
+        }
+
+        SynchronousProcessor(boolean synchronous) {
+            super("tag", "description");
+            this.synchronous = synchronous;
+        }
+
+        @Override
+        protected boolean isSynchronous() {
+            return synchronous;
+        }
+
+        @Override
+        public IngestDocument execute(IngestDocument ingestDocument) {
+            invocations.incrementAndGet();
+            if (ingestDocument.hasField(SHOULD_FAIL_KEY) && ingestDocument.getFieldValue(SHOULD_FAIL_KEY, Boolean.class)) {
+                throw new RuntimeException("fail");
+            }
+            if (ingestDocument.hasField(DROP_KEY)) {
+                return null;
+            }
+            ingestDocument.setFieldValue(FIELD_KEY, FIELD_VALUE_PROCESSED);
+            return ingestDocument;
+        }
+
+        @Override
+        public String getType() {
+            return "synchronous";
+        }
+    }
+}
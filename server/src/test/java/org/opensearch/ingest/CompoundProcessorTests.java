@@ -34,6 +34,12 @@ package org.opensearch.ingest;
 
 import org.opensearch.OpenSearchException;
 import org.opensearch.common.metrics.OperationStats;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.script.MockScriptEngine;
+import org.opensearch.script.Script;
+import org.opensearch.script.ScriptModule;
+import org.opensearch.script.ScriptService;
+import org.opensearch.script.ScriptType;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
@@ -50,6 +56,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.LongSupplier;
 
 import static java.util.Collections.singletonList;
@@ -641,6 +648,199 @@ public class CompoundProcessorTests extends OpenSearchTestCase {
         });
     }
 
+    public void testSynchronousProcessors() {
+        SynchronousTestProcessor first = new SynchronousTestProcessor("first", doc -> {
+            doc.setFieldValue("first", "value");
+            return doc;
+        });
+        SynchronousTestProcessor second = new SynchronousTestProcessor("second", doc -> {
+            doc.setFieldValue("second", doc.getFieldValue("first", String.class));
+            return doc;
+        });
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L, TimeUnit.MILLISECONDS.toNanos(1), 0L, TimeUnit.MILLISECONDS.toNanos(2));
+        CompoundProcessor compoundProcessor = new CompoundProcessor(relativeTimeProvider, first, second);
+        assertThat(compoundProcessor.isSynchronous(), is(true));
+
+        IngestDocument[] holder = new IngestDocument[1];
+        compoundProcessor.execute(ingestDocument, (result, e) -> {
+            assertThat(e, nullValue());
+            holder[0] = result;
+        });
+        assertThat(holder[0], sameInstance(ingestDocument));
+        assertThat(ingestDocument.getFieldValue("second", String.class), equalTo("value"));
+        assertThat(first.invokedCounter.get(), equalTo(1));
+        assertThat(second.invokedCounter.get(), equalTo(1));
+        assertStats(0, compoundProcessor, 0, 1, 0, 1);
+        assertStats(1, compoundProcessor, 0, 1, 0, 2);
+    }
+
+    public void testSynchronousProcessorsWithAsyncProcessor() {
+        SynchronousTestProcessor synchronous = new SynchronousTestProcessor("synchronous", doc -> doc);
+        TestProcessor async = new TestProcessor(doc -> {});
+        assertThat(new CompoundProcessor(synchronous, async).isSynchronous(), is(false));
+        assertThat(new CompoundProcessor(false, singletonList(synchronous), singletonList(async)).isSynchronous(), is(false));
+        CompoundProcessor nested = new CompoundProcessor(false, singletonList(synchronous), singletonList(async));
+        assertThat(new CompoundProcessor(synchronous, nested).isSynchronous(), is(false));
+
+        CompoundProcessor compoundProcessor = new CompoundProcessor(synchronous, async);
+        compoundProcessor.execute(ingestDocument, (result, e) -> assertThat(result, sameInstance(ingestDocument)));
+        assertThat(synchronous.invokedCounter.get(), equalTo(1));
+        assertThat(async.getInvokedCounter(), equalTo(1));
+    }
+
+    public void testSynchronousProcessorsWithOnFailure() {
+        SynchronousTestProcessor failing = new SynchronousTestProcessor("first", doc -> { throw new RuntimeException("error"); });
+        SynchronousTestProcessor skipped = new SynchronousTestProcessor("second", doc -> doc);
+        SynchronousTestProcessor onFailure = new SynchronousTestProcessor("on_failure", doc -> {
+            Map<String, Object> ingestMetadata = doc.getIngestMetadata();
+            assertThat(ingestMetadata.get(CompoundProcessor.ON_FAILURE_MESSAGE_FIELD), equalTo("error"));
+            assertThat(ingestMetadata.get(CompoundProcessor.ON_FAILURE_PROCESSOR_TYPE_FIELD), equalTo("synchronous"));
+            assertThat(ingestMetadata.get(CompoundProcessor.ON_FAILURE_PROCESSOR_TAG_FIELD), equalTo("first"));
+            doc.setFieldValue("handled", true);
+            return doc;
+        });
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(
+            false,
+            Arrays.asList(failing, skipped),
+            singletonList(onFailure),
+            relativeTimeProvider
+        );
+        assertThat(compoundProcessor.isSynchronous(), is(true));
+
+        IngestDocument[] holder = new IngestDocument[1];
+        compoundProcessor.execute(ingestDocument, (result, e) -> {
+            assertThat(e, nullValue());
+            holder[0] = result;
+        });
+        assertThat(holder[0], sameInstance(ingestDocument));
+        assertThat(ingestDocument.getFieldValue("handled", Boolean.class), is(true));
+        assertThat(ingestDocument.getIngestMetadata().containsKey(CompoundProcessor.ON_FAILURE_MESSAGE_FIELD), is(false));
+        assertThat(onFailure.invokedCounter.get(), equalTo(1));
+        assertThat(skipped.invokedCounter.get(), equalTo(0));
+        assertStats(0, compoundProcessor, 0, 1, 1, 0);
+        assertStats(1, compoundProcessor, 0, 0, 0, 0);
+    }
+
+    public void testSynchronousProcessorsWithFailingOnFailure() {
+        SynchronousTestProcessor failing = new SynchronousTestProcessor("first", doc -> { throw new RuntimeException("error"); });
+        SynchronousTestProcessor onFailure = new SynchronousTestProcessor("on_failure", doc -> {
+            throw new RuntimeException("on_failure error");
+        });
+        CompoundProcessor compoundProcessor = new CompoundProcessor(false, singletonList(failing), singletonList(onFailure));
+
+        Exception[] holder = new Exception[1];
+        compoundProcessor.execute(ingestDocument, (result, e) -> {
+            assertThat(result, nullValue());
+            holder[0] = e;
+        });
+        IngestProcessorException exception = (IngestProcessorException) holder[0];
+        assertThat(exception.getRootCause().getMessage(), equalTo("on_failure error"));
+        assertThat(exception.getHeader("processor_tag"), equalTo(singletonList("on_failure")));
+        assertThat(ingestDocument.getIngestMetadata().containsKey(CompoundProcessor.ON_FAILURE_MESSAGE_FIELD), is(false));
+    }
+
+    public void testSynchronousProcessorsIgnoreFailureAndDrop() {
+        SynchronousTestProcessor failing = new SynchronousTestProcessor("first", doc -> { throw new RuntimeException("error"); });
+        SynchronousTestProcessor dropping = new SynchronousTestProcessor("second", doc -> null);
+        SynchronousTestProcessor skipped = new SynchronousTestProcessor("third", doc -> doc);
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(
+            true,
+            Arrays.asList(failing, dropping, skipped),
+            Collections.emptyList(),
+            relativeTimeProvider
+        );
+
+        AtomicInteger handlerCalls = new AtomicInteger();
+        compoundProcessor.execute(ingestDocument, (result, e) -> {
+            assertThat(result, nullValue());
+            assertThat(e, nullValue());
+            handlerCalls.incrementAndGet();
+        });
+        assertThat(handlerCalls.get(), equalTo(1));
+        assertThat(dropping.invokedCounter.get(), equalTo(1));
+        assertThat(skipped.invokedCounter.get(), equalTo(0));
+        assertStats(0, compoundProcessor, 0, 1, 1, 0);
+        assertStats(1, compoundProcessor, 0, 1, 0, 0);
+    }
+
+    public void testSynchronousConditionalProcessor() {
+        ScriptService scriptService = new ScriptService(
+            Settings.builder().build(),
+            Collections.singletonMap(
+                Script.DEFAULT_SCRIPT_LANG,
+                new MockScriptEngine(
+                    Script.DEFAULT_SCRIPT_LANG,
+                    Collections.singletonMap("condition", ctx -> "yes".equals(ctx.get("flag"))),
+                    Collections.emptyMap()
+                )
+            ),
+            new HashMap<>(ScriptModule.CORE_CONTEXTS)
+        );
+        SynchronousTestProcessor inner = new SynchronousTestProcessor("inner", doc -> {
+            doc.setFieldValue("foo", "bar");
+            return doc;
+        });
+        ConditionalProcessor conditionalProcessor = new ConditionalProcessor(
+            "conditional",
+            null,
+            new Script(ScriptType.INLINE, Script.DEFAULT_SCRIPT_LANG, "condition", Collections.emptyMap()),
+            scriptService,
+            inner
+        );
+        CompoundProcessor compoundProcessor = new CompoundProcessor(conditionalProcessor);
+        assertThat(compoundProcessor.isSynchronous(), is(true));
+
+        ingestDocument.setFieldValue("flag", "no");
+        compoundProcessor.execute(ingestDocument, (result, e) -> assertThat(result, sameInstance(ingestDocument)));
+        assertThat(ingestDocument.hasField("foo"), is(false));
+        assertThat(conditionalProcessor.getMetric().createStats().getCount(), equalTo(0L));
+
+        ingestDocument.setFieldValue("flag", "yes");
+        compoundProcessor.execute(ingestDocument, (result, e) -> assertThat(result, sameInstance(ingestDocument)));
+        assertThat(ingestDocument.getFieldValue("foo", String.class), equalTo("bar"));
+        assertThat(inner.invokedCounter.get(), equalTo(1));
+        assertThat(conditionalProcessor.getMetric().createStats().getCount(), equalTo(1L));
+        assertThat(compoundProcessor.getProcessorsWithMetrics().get(0).v2().createStats().getCount(), equalTo(2L));
+    }
+
+    public void testSynchronousBatchExecute() {
+        List<IngestDocumentWrapper> wrapperList = Arrays.asList(
+            IngestDocumentPreparer.createIngestDocumentWrapper(1),
+            IngestDocumentPreparer.createIngestDocumentWrapper(2, true),
+            IngestDocumentPreparer.createIngestDocumentWrapper(3)
+        );
+        SynchronousTestProcessor processor = new SynchronousTestProcessor("first", doc -> {
+            if (doc.hasField(SHOULD_FAIL_KEY) && doc.getFieldValue(SHOULD_FAIL_KEY, Boolean.class)) {
+                throw new RuntimeException("fail");
+            }
+            return doc;
+        });
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(relativeTimeProvider, processor);
+
+        AtomicInteger handlerCalls = new AtomicInteger();
+        List<IngestDocumentWrapper> results = new ArrayList<>();
+        compoundProcessor.batchExecute(wrapperList, batch -> {
+            handlerCalls.incrementAndGet();
+            results.addAll(batch);
+        });
+        assertThat(handlerCalls.get(), equalTo(1));
+        assertThat(results, hasSize(3));
+        for (int i = 0; i < wrapperList.size(); ++i) {
+            assertEquals(wrapperList.get(i).getSlot(), results.get(i).getSlot());
+        }
+        assertSame(wrapperList.get(0).getIngestDocument(), results.get(0).getIngestDocument());
+        assertNull(results.get(1).getIngestDocument());
+        assertEquals("fail", results.get(1).getException().getCause().getMessage());
+        assertSame(wrapperList.get(2).getIngestDocument(), results.get(2).getIngestDocument());
+        assertStats(0, compoundProcessor, 0, 3, 1, 0);
+    }
+
     private void assertStats(CompoundProcessor compoundProcessor, long count, long failed, long time) {
         assertStats(0, compoundProcessor, 0L, count, failed, time);
     }
@@ -652,4 +852,30 @@ public class CompoundProcessorTests extends OpenSearchTestCase {
         assertThat(stats.getFailedCount(), equalTo(failed));
         assertThat(stats.getTotalTime(), equalTo(time));
     }
+
+    private static class SynchronousTestProcessor extends AbstractProcessor {
+        private final Function<IngestDocument, IngestDocument> function;
+        private final AtomicInteger invokedCounter = new AtomicInteger();
+
+        SynchronousTestProcessor(String tag, Function<IngestDocument, IngestDocument> function) {
+            super(tag, null);
+            this.function = function;
+        }
+
+        @Override
+        protected boolean isSynchronous() {
+            return true;
+        }
+
+        @Override
+        public IngestDocument execute(IngestDocument ingestDocument) {
+            invokedCounter.incrementAndGet();
+            return function.apply(ingestDocument);
+        }
+
+        @Override
+        public String getType() {
+            return "synchronous";
+        }
+    }
 }
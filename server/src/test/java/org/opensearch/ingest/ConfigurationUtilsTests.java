@@ -266,6 +266,7 @@ public class ConfigurationUtilsTests extends OpenSearchTestCase {
             scriptService
         );
         assertThat(result.newInstance(null).execute(), equalTo(propertyValue));
+        assertThat(ConfigurationUtils.constantTemplateValue(result), equalTo(propertyValue));
         verify(scriptService, times(0)).compile(any(), any());
     }
 
@@ -284,6 +285,7 @@ public class ConfigurationUtilsTests extends OpenSearchTestCase {
             scriptService
         );
         assertThat(result.newInstance(null).execute(), equalTo(compiledValue));
+        assertNull(ConfigurationUtils.constantTemplateValue(result));
         verify(scriptService, times(1)).compile(any(), any());
     }
 }
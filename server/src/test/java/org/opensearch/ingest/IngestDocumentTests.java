@@ -161,6 +161,44 @@ public class IngestDocumentTests extends OpenSearchTestCase {
         }
     }
 
+    public void testCompiledFieldPath() {
+        IngestDocument.CompiledFieldPath foo = IngestDocument.CompiledFieldPath.compile("_source.foo");
+        assertThat(foo.getPath(), equalTo("_source.foo"));
+        assertThat(ingestDocument.getFieldValue(foo, String.class), equalTo("bar"));
+        assertThat(ingestDocument.hasField(foo), equalTo(true));
+
+        IngestDocument.CompiledFieldPath nested = IngestDocument.CompiledFieldPath.compile("fizz.buzz");
+        assertThat(ingestDocument.getFieldValue(nested, String.class), equalTo("hello world"));
+        ingestDocument.setFieldValue(nested, "bye");
+        assertThat(ingestDocument.getFieldValue("fizz.buzz", String.class), equalTo("bye"));
+
+        IngestDocument.CompiledFieldPath ingestTimestamp = IngestDocument.CompiledFieldPath.compile("_ingest.timestamp");
+        assertThat(ingestDocument.getFieldValue(ingestTimestamp, ZonedDateTime.class), not(equalTo(BOGUS_TIMESTAMP)));
+
+        IngestDocument.CompiledFieldPath missing = IngestDocument.CompiledFieldPath.compile("fizz.missing.field");
+        assertThat(ingestDocument.hasField(missing), equalTo(false));
+        assertThat(ingestDocument.getFieldValue(missing, Object.class, true), nullValue());
+        Exception e = expectThrows(IllegalArgumentException.class, () -> ingestDocument.getFieldValue(missing, Object.class, false));
+        assertThat(e.getMessage(), equalTo("field [missing] not present as part of path [fizz.missing.field]"));
+        ingestDocument.setFieldValue(missing, "value");
+        assertThat(ingestDocument.getFieldValue("fizz.missing.field", String.class), equalTo("value"));
+
+        ingestDocument.removeField(foo);
+        assertThat(ingestDocument.hasField("foo"), equalTo(false));
+        e = expectThrows(IllegalArgumentException.class, () -> ingestDocument.removeField(foo));
+        assertThat(e.getMessage(), equalTo("field [foo] not present as part of path [_source.foo]"));
+    }
+
+    public void testCompiledFieldPathInvalidPathFailsOnAccess() {
+        IngestDocument.CompiledFieldPath empty = IngestDocument.CompiledFieldPath.compile("");
+        Exception e = expectThrows(IllegalArgumentException.class, () -> ingestDocument.getFieldValue(empty, Object.class));
+        assertThat(e.getMessage(), equalTo("path cannot be null nor empty"));
+
+        IngestDocument.CompiledFieldPath prefixOnly = IngestDocument.CompiledFieldPath.compile("_source.");
+        e = expectThrows(IllegalArgumentException.class, () -> ingestDocument.setFieldValue(prefixOnly, "value"));
+        assertThat(e.getMessage(), equalTo("path [_source.] is not valid"));
+    }
+
     public void testGetFieldValueNullValue() {
         assertThat(ingestDocument.getFieldValue("fizz.foo_null", Object.class), nullValue());
     }
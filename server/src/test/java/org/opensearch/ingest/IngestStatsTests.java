@@ -71,7 +71,8 @@ public class IngestStatsTests extends OpenSearchTestCase {
         IngestStats.ProcessorStat processor3Stat = new IngestStats.ProcessorStat(
             "processor3",
             "type",
-            new OperationStats(47, 97, 197, 297)
+            new OperationStats(47, 97, 197, 297),
+            Map.of("missed", 3L, "patterns", List.of(Map.of("pattern", "%{WORD:w}", "matched", 44L)))
         );
         // pipeline1 -> processor1,processor2; pipeline2 -> processor3
         return MapBuilder.<String, List<IngestStats.ProcessorStat>>newMapBuilder()
@@ -122,6 +123,7 @@ public class IngestStatsTests extends OpenSearchTestCase {
                             assertEquals("_NOT_AVAILABLE", serializedProcessorStat.getType());
                         }
                         assertStats(ps.getStats(), serializedProcessorStat.getStats());
+                        assertEquals(ps.getExtendedStats(), serializedProcessorStat.getExtendedStats());
                     }
                     assertFalse(it.hasNext());
                 }
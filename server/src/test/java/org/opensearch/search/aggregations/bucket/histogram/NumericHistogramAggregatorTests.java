@@ -33,9 +33,12 @@
 package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -56,11 +59,15 @@ import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
 
 public class NumericHistogramAggregatorTests extends AggregatorTestCase {
@@ -162,6 +169,46 @@ public class NumericHistogramAggregatorTests extends AggregatorTestCase {
         }
     }
 
+    public void testSkiplist() throws Exception {
+        MappedFieldType fieldType = longField("field");
+        Map<Double, Long> expected = new TreeMap<>();
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter w = new IndexWriter(dir, newIndexWriterConfig())) {
+                int numDocs = atLeast(10000);
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    doc.add(SortedNumericDocValuesField.indexedField("field", i));
+                    boolean matches = i % 10 != 0;
+                    doc.add(new LongPoint("filter", matches ? 1 : 0));
+                    if (matches) {
+                        expected.merge(Math.floor(i / 5000d) * 5000, 1L, Long::sum);
+                    }
+                    w.addDocument(doc);
+                }
+            }
+
+            HistogramAggregationBuilder aggBuilder = new HistogramAggregationBuilder("my_agg").field("field").interval(5000);
+            try (IndexReader reader = DirectoryReader.open(dir)) {
+                IndexSearcher searcher = newSearcher(reader, true, true);
+                NumericHistogramAggregator aggregator = createAggregator(aggBuilder, searcher, fieldType);
+                aggregator.preCollection();
+                searcher.search(LongPoint.newExactQuery("filter", 1), aggregator);
+                aggregator.postCollection();
+
+                InternalHistogram histogram = (InternalHistogram) aggregator.buildTopLevel();
+                Map<Double, Long> actual = new TreeMap<>();
+                for (InternalHistogram.Bucket bucket : histogram.getBuckets()) {
+                    actual.put((Double) bucket.getKey(), bucket.getDocCount());
+                }
+                assertEquals(expected, actual);
+
+                Map<String, Object> debugInfo = new HashMap<>();
+                aggregator.collectDebugInfo(debugInfo::put);
+                assertThat((int) debugInfo.get("skip_list_collectors_used"), greaterThan(0));
+            }
+        }
+    }
+
     public void testIrrationalInterval() throws Exception {
         try (Directory dir = newDirectory(); RandomIndexWriter w = new RandomIndexWriter(random(), dir)) {
             for (long value : new long[] { 3, 2, -10, 5, -9 }) {
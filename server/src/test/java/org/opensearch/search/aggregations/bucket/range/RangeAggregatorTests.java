@@ -75,6 +75,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -85,6 +86,7 @@ import java.util.function.Consumer;
 import static java.util.Collections.singleton;
 import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 
 public class RangeAggregatorTests extends AggregatorTestCase {
 
@@ -409,6 +411,52 @@ public class RangeAggregatorTests extends AggregatorTestCase {
         );
     }
 
+    public void testSkiplist() throws IOException {
+        NumberFieldType fieldType = new NumberFieldType(NUMBER_FIELD_NAME, NumberType.LONG);
+        List<Long> matchingValues = new ArrayList<>();
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, newIndexWriterConfig())) {
+                int numDocs = atLeast(10000);
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    doc.add(SortedNumericDocValuesField.indexedField(NUMBER_FIELD_NAME, i));
+                    boolean matches = i % 10 != 0;
+                    doc.add(new IntPoint("filter", matches ? 1 : 0));
+                    if (matches) {
+                        matchingValues.add((long) i);
+                    }
+                    indexWriter.addDocument(doc);
+                }
+            }
+
+            RangeAggregationBuilder aggregationBuilder = new RangeAggregationBuilder("range").field(NUMBER_FIELD_NAME)
+                .addRange(0, 3000)
+                .addRange(2000, 9000)
+                .addUnboundedFrom(9000)
+                .addRange(1_000_000, 2_000_000);
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                RangeAggregator aggregator = createAggregator(aggregationBuilder, indexSearcher, fieldType);
+                aggregator.preCollection();
+                indexSearcher.search(IntPoint.newExactQuery("filter", 1), aggregator);
+                aggregator.postCollection();
+
+                InternalRange<?, ?> range = (InternalRange<?, ?>) aggregator.buildTopLevel();
+                assertEquals(4, range.getBuckets().size());
+                for (InternalRange.Bucket bucket : range.getBuckets()) {
+                    long expectedDocCount = matchingValues.stream()
+                        .filter(value -> value >= (double) bucket.getFrom() && value < (double) bucket.getTo())
+                        .count();
+                    assertEquals(bucket.getKeyAsString(), expectedDocCount, bucket.getDocCount());
+                }
+
+                Map<String, Object> debugInfo = new HashMap<>();
+                aggregator.collectDebugInfo(debugInfo::put);
+                assertThat((int) debugInfo.get("skip_list_collectors_used"), greaterThan(0));
+            }
+        }
+    }
+
     public void testDoubleType() throws IOException {
         testRewriteOptimizationCase(
             new NumberFieldType(NumberType.DOUBLE.typeName(), NumberType.DOUBLE),
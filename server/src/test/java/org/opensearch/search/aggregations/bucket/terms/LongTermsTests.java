@@ -32,10 +32,15 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
+import org.opensearch.core.common.breaker.CircuitBreaker;
+import org.opensearch.core.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.MultiBucketConsumerService;
 import org.opensearch.search.aggregations.ParsedMultiBucketAggregation;
+import org.opensearch.search.aggregations.pipeline.PipelineAggregator;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -44,6 +49,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.IntConsumer;
 
 public class LongTermsTests extends InternalTermsTestCase {
 
@@ -202,4 +208,80 @@ public class LongTermsTests extends InternalTermsTestCase {
             return new UnmappedTerms(name, order, new TermsAggregator.BucketCountThresholds(minDocCount, 0, requiredSize, 0), metadata);
         }
     }
+
+    public void testPartialReduceByKeyStopsAtRequiredSize() {
+        int requiredSize = randomIntBetween(1, 10);
+        int numShards = randomIntBetween(2, 5);
+        List<InternalAggregation> shards = new ArrayList<>();
+        for (int s = 0; s < numShards; s++) {
+            List<LongTerms.Bucket> buckets = new ArrayList<>();
+            for (long term = 0; term < 3 * requiredSize; term++) {
+                buckets.add(new LongTerms.Bucket(term, 1, InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW));
+            }
+            shards.add(newTerms(BucketOrder.key(true), requiredSize, buckets));
+        }
+        InternalAggregation.ReduceContext context = InternalAggregation.ReduceContext.forPartialReduction(
+            null,
+            null,
+            () -> PipelineAggregator.PipelineTree.EMPTY
+        );
+        LongTerms reduced = (LongTerms) shards.get(0).reduce(shards, context);
+        assertEquals(requiredSize, reduced.getBuckets().size());
+        for (int i = 0; i < requiredSize; i++) {
+            assertEquals(i, reduced.getBuckets().get(i).getKeyAsNumber().longValue());
+            assertEquals(numShards, reduced.getBuckets().get(i).getDocCount());
+        }
+    }
+
+    public void testFinalReduceKeepsTopBuckets() {
+        int requiredSize = randomIntBetween(1, 10);
+        int numTerms = requiredSize + randomIntBetween(0, 20);
+        int numShards = randomIntBetween(2, 5);
+        List<InternalAggregation> shards = new ArrayList<>();
+        for (int s = 0; s < numShards; s++) {
+            List<LongTerms.Bucket> buckets = new ArrayList<>();
+            for (long term = 0; term < numTerms; term++) {
+                buckets.add(new LongTerms.Bucket(term, term + 1, InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW));
+            }
+            shards.add(newTerms(BucketOrder.count(false), numTerms, buckets));
+        }
+        IntConsumer bucketConsumer = new MultiBucketConsumerService.MultiBucketConsumer(
+            Integer.MAX_VALUE,
+            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+        );
+        InternalAggregation.ReduceContext context = InternalAggregation.ReduceContext.forFinalReduction(
+            null,
+            null,
+            bucketConsumer,
+            PipelineAggregator.PipelineTree.EMPTY
+        );
+        LongTerms reduced = (LongTerms) newTerms(BucketOrder.count(false), requiredSize, List.of()).reduce(shards, context);
+        assertEquals(requiredSize, reduced.getBuckets().size());
+        long expectedOtherDocCount = 0;
+        for (int term = 0; term < numTerms - requiredSize; term++) {
+            expectedOtherDocCount += (term + 1L) * numShards;
+        }
+        assertEquals(expectedOtherDocCount, reduced.getSumOfOtherDocCounts());
+        for (int i = 0; i < requiredSize; i++) {
+            long term = numTerms - 1 - i;
+            assertEquals(term, reduced.getBuckets().get(i).getKeyAsNumber().longValue());
+            assertEquals((term + 1) * numShards, reduced.getBuckets().get(i).getDocCount());
+        }
+    }
+
+    private static LongTerms newTerms(BucketOrder order, int requiredSize, List<LongTerms.Bucket> buckets) {
+        return new LongTerms(
+            "terms",
+            BucketOrder.key(true),
+            order,
+            Collections.emptyMap(),
+            DocValueFormat.RAW,
+            requiredSize,
+            false,
+            0,
+            buckets,
+            0,
+            new TermsAggregator.BucketCountThresholds(0, 0, requiredSize, requiredSize)
+        );
+    }
 }
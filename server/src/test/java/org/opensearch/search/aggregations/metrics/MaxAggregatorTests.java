@@ -105,6 +105,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singleton;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 
 public class MaxAggregatorTests extends AggregatorTestCase {
 
@@ -243,6 +244,44 @@ public class MaxAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testSkiplist() throws IOException {
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("number", NumberFieldMapper.NumberType.LONG);
+        try (Directory directory = newDirectory()) {
+            long expectedMax = Long.MIN_VALUE;
+            IndexWriterConfig config = newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE);
+            try (IndexWriter indexWriter = new IndexWriter(directory, config)) {
+                int numDocs = atLeast(10000);
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    // decreasing values, so that most skip blocks can't compete with the max of the first ones
+                    long value = numDocs - i + randomIntBetween(0, 100);
+                    doc.add(SortedNumericDocValuesField.indexedField("number", value));
+                    boolean matches = randomBoolean();
+                    doc.add(new LongPoint("filter", matches ? 1 : 0));
+                    if (matches) {
+                        expectedMax = Math.max(expectedMax, value);
+                    }
+                    indexWriter.addDocument(doc);
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                MaxAggregator aggregator = createAggregator(new MaxAggregationBuilder("_name").field("number"), indexSearcher, fieldType);
+                aggregator.preCollection();
+                indexSearcher.search(LongPoint.newExactQuery("filter", 1), aggregator);
+                aggregator.postCollection();
+
+                InternalMax max = (InternalMax) aggregator.buildTopLevel();
+                assertEquals(expectedMax, max.getValue(), 0);
+
+                Map<String, Object> debugInfo = new HashMap<>();
+                aggregator.collectDebugInfo(debugInfo::put);
+                assertThat((int) debugInfo.get("skip_list_collectors_used"), greaterThan(0));
+            }
+        }
+    }
+
     public void testUnmappedField() throws IOException {
         MaxAggregationBuilder aggregationBuilder = new MaxAggregationBuilder("_name").field("number");
         testAggregation(aggregationBuilder, new FieldExistsQuery("number"), iw -> {
@@ -110,6 +110,7 @@ import java.util.function.Supplier;
 import static java.util.Collections.singleton;
 import static org.opensearch.index.query.QueryBuilders.termQuery;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 
 public class MinAggregatorTests extends AggregatorTestCase {
 
@@ -269,6 +270,44 @@ public class MinAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testSkiplist() throws IOException {
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("number", NumberFieldMapper.NumberType.LONG);
+        try (Directory directory = newDirectory()) {
+            long expectedMin = Long.MAX_VALUE;
+            IndexWriterConfig config = newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE);
+            try (IndexWriter indexWriter = new IndexWriter(directory, config)) {
+                int numDocs = atLeast(10000);
+                for (int i = 0; i < numDocs; i++) {
+                    Document doc = new Document();
+                    // increasing values, so that most skip blocks can't compete with the min of the first ones
+                    long value = i + randomIntBetween(0, 100);
+                    doc.add(SortedNumericDocValuesField.indexedField("number", value));
+                    boolean matches = randomBoolean();
+                    doc.add(new LongPoint("filter", matches ? 1 : 0));
+                    if (matches) {
+                        expectedMin = Math.min(expectedMin, value);
+                    }
+                    indexWriter.addDocument(doc);
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                MinAggregator aggregator = createAggregator(new MinAggregationBuilder("_name").field("number"), indexSearcher, fieldType);
+                aggregator.preCollection();
+                indexSearcher.search(LongPoint.newExactQuery("filter", 1), aggregator);
+                aggregator.postCollection();
+
+                InternalMin min = (InternalMin) aggregator.buildTopLevel();
+                assertEquals(expectedMin, min.getValue(), 0);
+
+                Map<String, Object> debugInfo = new HashMap<>();
+                aggregator.collectDebugInfo(debugInfo::put);
+                assertThat((int) debugInfo.get("skip_list_collectors_used"), greaterThan(0));
+            }
+        }
+    }
+
     public void testIpField() throws IOException {
         final String fieldName = "IP_field";
         MinAggregationBuilder aggregationBuilder = new MinAggregationBuilder("min").field(fieldName);
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.deciders;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.TermQuery;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class ConcurrentSearchCostModelTests extends OpenSearchTestCase {
+
+    private final ConcurrentSearchCostModel costModel = new ConcurrentSearchCostModel(1.25);
+
+    public void testLargeShardUsesConcurrentSearch() {
+        ConcurrentSearchCostModel.Decision decision = costModel.evaluate(10_000_000, 1, 1_250_000, 8, 0, 8, 0, Double.NaN);
+        assertTrue(decision.isConcurrent());
+        assertFalse(decision.isSaturated());
+        assertEquals(8, decision.getSliceCount());
+        assertTrue(decision.getEstimatedSpeedup() > 7);
+    }
+
+    public void testSliceCountIsLimited() {
+        // by the configured max slice count
+        ConcurrentSearchCostModel.Decision decision = costModel.evaluate(10_000_000, 1, 1_250_000, 8, 4, 8, 0, Double.NaN);
+        assertTrue(decision.isConcurrent());
+        assertEquals(4, decision.getSliceCount());
+
+        // by the idle threads, the thread executing the request searches a slice as well
+        decision = costModel.evaluate(10_000_000, 1, 1_250_000, 8, 0, 1, 0, Double.NaN);
+        assertTrue(decision.isConcurrent());
+        assertEquals(2, decision.getSliceCount());
+    }
+
+    public void testSingleSegmentUsesSequentialSearch() {
+        ConcurrentSearchCostModel.Decision decision = costModel.evaluate(10_000_000, 1, 10_000_000, 1, 0, 8, 0, Double.NaN);
+        assertFalse(decision.isConcurrent());
+        assertFalse(decision.isSaturated());
+        assertEquals(1, decision.getSliceCount());
+    }
+
+    public void testSmallShardUsesSequentialSearch() {
+        ConcurrentSearchCostModel.Decision decision = costModel.evaluate(1_000, 1, 250, 4, 0, 8, 0, Double.NaN);
+        assertFalse(decision.isConcurrent());
+        assertTrue(decision.getEstimatedSpeedup() < 1.25);
+
+        // unless documents are expensive to search
+        decision = costModel.evaluate(1_000, 1, 250, 4, 0, 8, 0, 100_000);
+        assertTrue(decision.isConcurrent());
+        assertEquals(4, decision.getSliceCount());
+
+        // or the query is
+        decision = costModel.evaluate(1_000, ConcurrentSearchCostModel.MAX_QUERY_COST, 250, 4, 0, 8, 0, Double.NaN);
+        assertTrue(decision.isConcurrent());
+        assertEquals(4, decision.getSliceCount());
+    }
+
+    public void testSaturatedPoolUsesSequentialSearch() {
+        ConcurrentSearchCostModel.Decision decision = costModel.evaluate(10_000_000, 1, 1_250_000, 8, 0, 0, randomIntBetween(1, 100), 50);
+        assertFalse(decision.isConcurrent());
+        assertTrue(decision.isSaturated());
+        assertEquals(1, decision.getSliceCount());
+    }
+
+    public void testMinSpeedup() {
+        // two equally sized segments halve the latency at best
+        ConcurrentSearchCostModel.Decision decision = new ConcurrentSearchCostModel(2.5).evaluate(
+            10_000_000,
+            1,
+            5_000_000,
+            2,
+            0,
+            8,
+            0,
+            Double.NaN
+        );
+        assertFalse(decision.isConcurrent());
+        assertTrue(decision.getEstimatedSpeedup() < 2);
+    }
+
+    public void testQueryCost() {
+        assertEquals(1, ConcurrentSearchCostModel.queryCost(null));
+        assertEquals(1, ConcurrentSearchCostModel.queryCost(new MatchAllDocsQuery()));
+        assertEquals(1, ConcurrentSearchCostModel.queryCost(new TermQuery(new Term("field", "value"))));
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (int i = 0; i < 3; i++) {
+            builder.add(new TermQuery(new Term("field", "value" + i)), BooleanClause.Occur.SHOULD);
+        }
+        assertEquals(3, ConcurrentSearchCostModel.queryCost(builder.build()));
+
+        builder = new BooleanQuery.Builder();
+        for (int i = 0; i < ConcurrentSearchCostModel.MAX_QUERY_COST + 10; i++) {
+            builder.add(new TermQuery(new Term("field", "value" + i)), BooleanClause.Occur.SHOULD);
+        }
+        assertEquals(ConcurrentSearchCostModel.MAX_QUERY_COST, ConcurrentSearchCostModel.queryCost(builder.build()));
+    }
+
+    public void testSequentialSample() {
+        ConcurrentSearchCostModel.Decision decision = costModel.evaluate(10_000_000, 1, 1_250_000, 8, 0, 8, 0, Double.NaN);
+        ConcurrentSearchCostModel.Decision sample = decision.asSequentialSample();
+        assertFalse(sample.isConcurrent());
+        assertTrue(sample.isSequentialSample());
+        assertEquals(1, sample.getSliceCount());
+        assertEquals(decision.getEstimatedSpeedup(), sample.getEstimatedSpeedup(), 0d);
+    }
+}
@@ -77,6 +77,25 @@ public class FetchPhaseTests extends OpenSearchTestCase {
         assertFalse(FetchPhase.hasSequentialDocs(docs));
     }
 
+    public void testDenseDocs() {
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[20];
+        int start = randomIntBetween(0, Short.MAX_VALUE);
+        for (int i = 0; i < 20; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(start, i);
+            start += randomIntBetween(1, 16);
+        }
+        assertTrue(FetchPhase.hasDenseDocs(docs, 0, 20));
+        assertTrue(FetchPhase.hasDenseDocs(docs, 5, 15));
+        // too few docs to pay off
+        assertFalse(FetchPhase.hasDenseDocs(docs, 0, 9));
+
+        for (int i = 0; i < 20; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(start, i);
+            start += randomIntBetween(100, 1000);
+        }
+        assertFalse(FetchPhase.hasDenseDocs(docs, 0, 20));
+    }
+
     public void testFieldsVisitorsInFetchPhase() {
 
         FetchPhase fetchPhase = new FetchPhase(new ArrayList<>());
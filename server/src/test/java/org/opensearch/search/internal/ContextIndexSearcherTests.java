@@ -369,6 +369,16 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
                 assertEquals(2, slices[1].partitions.length);
                 assertEquals(2, slices[2].partitions.length);
                 assertEquals(3, slices[3].partitions.length);
+                assertFalse(searcher.isSegmentPartitioned(leaves.get(0)));
+
+                // Case 3: Verify large segments are split into partitions when intra segment slicing is used
+                final List<LeafReaderContext> largeLeaves = getLeaves(1, 1000);
+                slices = searcher.slicesInternal(largeLeaves, expectedSliceCount, 100);
+                assertEquals(expectedSliceCount, slices.length);
+                for (int i = 0; i < expectedSliceCount; ++i) {
+                    assertEquals(1, slices[i].partitions.length);
+                }
+                assertTrue(searcher.isSegmentPartitioned(largeLeaves.get(0)));
             }
         }
     }
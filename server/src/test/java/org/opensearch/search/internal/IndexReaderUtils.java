@@ -31,6 +31,16 @@ public class IndexReaderUtils {
      * @return created leaves
      */
     public static List<LeafReaderContext> getLeaves(int leafCount) throws Exception {
+        return getLeaves(leafCount, 1);
+    }
+
+    /**
+     * Utility to create leafCount number of {@link LeafReaderContext} with docsPerLeaf documents each
+     * @param leafCount count of leaves to create
+     * @param docsPerLeaf count of documents per leaf
+     * @return created leaves
+     */
+    public static List<LeafReaderContext> getLeaves(int leafCount, int docsPerLeaf) throws Exception {
         try (
             final Directory directory = newDirectory();
             final IndexWriter iw = new IndexWriter(
@@ -39,11 +49,13 @@ public class IndexReaderUtils {
             )
         ) {
             for (int i = 0; i < leafCount; ++i) {
-                Document document = new Document();
-                final String fieldValue = "value" + i;
-                document.add(new StringField("field1", fieldValue, Field.Store.NO));
-                document.add(new StringField("field2", fieldValue, Field.Store.NO));
-                iw.addDocument(document);
+                for (int j = 0; j < docsPerLeaf; ++j) {
+                    Document document = new Document();
+                    final String fieldValue = "value" + i;
+                    document.add(new StringField("field1", fieldValue, Field.Store.NO));
+                    document.add(new StringField("field2", fieldValue, Field.Store.NO));
+                    iw.addDocument(document);
+                }
                 iw.commit();
             }
             try (DirectoryReader directoryReader = DirectoryReader.open(directory)) {
@@ -0,0 +1,131 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.internal;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.TermQuery;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.opensearch.search.internal.IndexReaderUtils.getLeaves;
+
+public class IntraSegmentSliceSupplierTests extends OpenSearchTestCase {
+
+    public void testInvalidArguments() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> IntraSegmentSliceSupplier.getSlices(new ArrayList<>(), randomIntBetween(-3, 0), randomIntBetween(1, 100))
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> IntraSegmentSliceSupplier.getSlices(new ArrayList<>(), randomIntBetween(1, 10), randomIntBetween(-3, 0))
+        );
+    }
+
+    public void testSingleSegmentIsPartitioned() throws Exception {
+        List<LeafReaderContext> leaves = getLeaves(1, 1000);
+        IndexSearcher.LeafSlice[] slices = IntraSegmentSliceSupplier.getSlices(leaves, 4, 100);
+        assertEquals(4, slices.length);
+        for (int i = 0; i < slices.length; i++) {
+            assertEquals(1, slices[i].partitions.length);
+            assertEquals(250, slices[i].partitions[0].maxDocId - slices[i].partitions[0].minDocId);
+        }
+        assertPartitionsCoverLeaves(leaves, slices);
+    }
+
+    public void testMinPartitionSizeLimitsPartitions() throws Exception {
+        List<LeafReaderContext> leaves = getLeaves(1, 1000);
+        IndexSearcher.LeafSlice[] slices = IntraSegmentSliceSupplier.getSlices(leaves, 8, 300);
+        assertEquals(3, slices.length);
+        assertPartitionsCoverLeaves(leaves, slices);
+
+        // the segment is smaller than two partitions
+        slices = IntraSegmentSliceSupplier.getSlices(leaves, 8, 600);
+        assertEquals(1, slices.length);
+        assertEquals(1, slices[0].partitions.length);
+        assertEquals(0, slices[0].partitions[0].minDocId);
+        assertEquals(DocIdSetIterator.NO_MORE_DOCS, slices[0].partitions[0].maxDocId);
+    }
+
+    public void testSmallSegmentsAreNotPartitioned() throws Exception {
+        List<LeafReaderContext> leaves = getLeaves(4, 10);
+        IndexSearcher.LeafSlice[] slices = IntraSegmentSliceSupplier.getSlices(leaves, 2, 100);
+        assertEquals(2, slices.length);
+        for (IndexSearcher.LeafSlice slice : slices) {
+            assertEquals(2, slice.partitions.length);
+        }
+        assertPartitionsCoverLeaves(leaves, slices);
+    }
+
+    public void testRandomSlices() throws Exception {
+        List<LeafReaderContext> leaves = getLeaves(randomIntBetween(1, 5), randomIntBetween(100, 500));
+        int targetMaxSlice = randomIntBetween(1, 8);
+        IndexSearcher.LeafSlice[] slices = IntraSegmentSliceSupplier.getSlices(leaves, targetMaxSlice, randomIntBetween(10, 200));
+        assertTrue(slices.length <= targetMaxSlice);
+        assertPartitionsCoverLeaves(leaves, slices);
+    }
+
+    public void testMinPartitionSizeScalesWithQueryCost() {
+        assertEquals(1000, IntraSegmentSliceSupplier.minPartitionSize(null, 1000));
+        assertEquals(1000, IntraSegmentSliceSupplier.minPartitionSize(new MatchAllDocsQuery(), 1000));
+        assertEquals(1000, IntraSegmentSliceSupplier.minPartitionSize(new TermQuery(new Term("field", "value")), 1000));
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (int i = 0; i < 3; i++) {
+            builder.add(new TermQuery(new Term("field", "value" + i)), BooleanClause.Occur.SHOULD);
+        }
+        assertEquals(3000, IntraSegmentSliceSupplier.minPartitionSize(builder.build(), 1000));
+
+        builder = new BooleanQuery.Builder();
+        for (int i = 0; i < 20; i++) {
+            builder.add(new TermQuery(new Term("field", "value" + i)), BooleanClause.Occur.SHOULD);
+        }
+        assertEquals(
+            IntraSegmentSliceSupplier.MAX_QUERY_COST_FACTOR * 1000,
+            IntraSegmentSliceSupplier.minPartitionSize(builder.build(), 1000)
+        );
+    }
+
+    private static void assertPartitionsCoverLeaves(List<LeafReaderContext> leaves, IndexSearcher.LeafSlice[] slices) {
+        List<List<IndexSearcher.LeafReaderContextPartition>> partitionsPerLeaf = new ArrayList<>();
+        for (int i = 0; i < leaves.size(); i++) {
+            partitionsPerLeaf.add(new ArrayList<>());
+        }
+        for (IndexSearcher.LeafSlice slice : slices) {
+            assertTrue(slice.partitions.length > 0);
+            Set<Integer> leafOrds = new HashSet<>();
+            for (IndexSearcher.LeafReaderContextPartition partition : slice.partitions) {
+                // a slice must not search several partitions of the same segment
+                assertTrue(leafOrds.add(partition.ctx.ord));
+                partitionsPerLeaf.get(partition.ctx.ord).add(partition);
+            }
+        }
+        for (int i = 0; i < leaves.size(); i++) {
+            List<IndexSearcher.LeafReaderContextPartition> partitions = partitionsPerLeaf.get(i);
+            partitions.sort((a, b) -> Integer.compare(a.minDocId, b.minDocId));
+            int maxDoc = leaves.get(i).reader().maxDoc();
+            int next = 0;
+            for (IndexSearcher.LeafReaderContextPartition partition : partitions) {
+                assertEquals(next, partition.minDocId);
+                next = Math.min(partition.maxDocId, maxDoc);
+            }
+            assertEquals(maxDoc, next);
+        }
+    }
+}
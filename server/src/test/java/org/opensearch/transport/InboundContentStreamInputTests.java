@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class InboundContentStreamInputTests extends OpenSearchTestCase {
+
+    public void testLargePayloadIsRetainedUntilResponseIsSent() throws IOException {
+        final BytesArray payload = new BytesArray(randomByteArrayOfLength(randomIntBetween(4 * 1024, 64 * 1024)));
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference content = new ReleasableBytesReference(serialize(payload), () -> released.set(true));
+        final InboundMessage message = new InboundMessage(header(true), content, () -> {});
+
+        final Releasable breakerRelease = message.takeBreakerReleaseControl();
+        final StreamInput in = message.openOrGetStreamInput();
+        assertEquals("before", in.readString());
+        final BytesReference slice = in.readZeroCopyBytesReference();
+        assertEquals("after", in.readString());
+        assertEquals(payload, slice);
+
+        // the handler is done with the message, but the response was not sent yet
+        message.close();
+        assertFalse(released.get());
+        assertEquals(payload, slice);
+
+        breakerRelease.close();
+        assertTrue(released.get());
+    }
+
+    public void testSmallPayloadIsCopied() throws IOException {
+        final BytesArray payload = new BytesArray(randomByteArrayOfLength(randomIntBetween(0, 4 * 1024 - 1)));
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference content = new ReleasableBytesReference(serialize(payload), () -> released.set(true));
+        final InboundMessage message = new InboundMessage(header(true), content, () -> {});
+
+        final Releasable breakerRelease = message.takeBreakerReleaseControl();
+        final StreamInput in = message.openOrGetStreamInput();
+        assertEquals("before", in.readString());
+        assertEquals(payload, in.readZeroCopyBytesReference());
+        assertEquals("after", in.readString());
+
+        message.close();
+        assertTrue(released.get());
+        breakerRelease.close();
+    }
+
+    public void testResponsePayloadIsCopied() throws IOException {
+        final BytesArray payload = new BytesArray(randomByteArrayOfLength(randomIntBetween(4 * 1024, 64 * 1024)));
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference content = new ReleasableBytesReference(serialize(payload), () -> released.set(true));
+        final InboundMessage message = new InboundMessage(header(false), content, () -> {});
+
+        final StreamInput in = message.openOrGetStreamInput();
+        assertEquals("before", in.readString());
+        final BytesReference copy = in.readZeroCopyBytesReference();
+        assertEquals("after", in.readString());
+
+        message.close();
+        assertTrue(released.get());
+        assertEquals(payload, copy);
+    }
+
+    public void testRetainedContentIsReleasedWithoutTakingControl() throws IOException {
+        final BytesArray payload = new BytesArray(randomByteArrayOfLength(randomIntBetween(4 * 1024, 64 * 1024)));
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference content = new ReleasableBytesReference(serialize(payload), () -> released.set(true));
+        final InboundMessage message = new InboundMessage(header(true), content, () -> {});
+
+        final StreamInput in = message.openOrGetStreamInput();
+        in.readString();
+        in.readZeroCopyBytesReference();
+
+        message.close();
+        assertTrue(released.get());
+    }
+
+    private static BytesReference serialize(BytesReference payload) throws IOException {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeString("before");
+            out.writeBytesReference(payload);
+            out.writeString("after");
+            return new BytesArray(BytesReference.toBytes(out.bytes()));
+        }
+    }
+
+    private static Header header(boolean request) {
+        final byte status = request ? TransportStatus.setRequest((byte) 0) : 0;
+        return new Header(TransportProtocol.NATIVE, randomInt(), randomNonNegativeLong(), status, Version.CURRENT);
+    }
+}
@@ -38,6 +38,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.set.Sets;
 
 import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -112,6 +113,8 @@ public class MockPageCacheRecycler extends PageCacheRecycler {
                     Arrays.fill((double[]) ref, 0, Array.getLength(ref), random.nextDouble() - 0.5);
                 } else if (ref instanceof float[]) {
                     Arrays.fill((float[]) ref, 0, Array.getLength(ref), random.nextFloat() - 0.5f);
+                } else if (ref instanceof ByteBuffer) {
+                    fill((ByteBuffer) ref);
                 } else {
                     for (int i = 0; i < Array.getLength(ref); ++i) {
                         Array.set(ref, i, (byte) random.nextInt(256));
@@ -165,4 +168,19 @@ public class MockPageCacheRecycler extends PageCacheRecycler {
         return wrap(super.objectPage());
     }
 
+    @Override
+    public V<ByteBuffer> offHeapPage(boolean clear) {
+        final V<ByteBuffer> page = super.offHeapPage(clear);
+        if (!clear) {
+            fill(page.v());
+        }
+        return wrap(page);
+    }
+
+    private void fill(ByteBuffer page) {
+        for (int i = 0; i < page.capacity(); ++i) {
+            page.put(i, (byte) random.nextInt(1 << 8));
+        }
+    }
+
 }